@@ -0,0 +1,68 @@
+package com.study.ticket;
+
+import com.study.ticket.domain.order.domain.entity.Order;
+import com.study.ticket.domain.order.domain.entity.OrderItem;
+import com.study.ticket.domain.order.domain.enums.OrderStatus;
+import com.study.ticket.domain.screening.domain.entity.Screening;
+import com.study.ticket.domain.user.domain.entity.User;
+
+import java.time.LocalDateTime;
+
+/**
+ * 벤치마크 공통 데이터
+ */
+public final class BenchmarkFixtures {
+
+    public static final int SEAT_PRICE = 12000;
+    public static final int TOTAL_SEATS = 200;
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * 상영 정보를 생성합니다.
+     * @param screeningId 상영 ID
+     * @return 상영
+     */
+    public static Screening screening(Long screeningId) {
+        LocalDateTime startTime = LocalDateTime.now().plusDays(1);
+        return Screening.builder()
+                .id(screeningId)
+                .screenName("1관")
+                .startTime(startTime)
+                .endTime(startTime.plusHours(2))
+                .totalSeats(TOTAL_SEATS)
+                .availableSeats(TOTAL_SEATS)
+                .price(SEAT_PRICE)
+                .build();
+    }
+
+    /**
+     * 좌석 2개를 예약한 주문을 생성합니다.
+     * @param orderId 주문 ID
+     * @return 주문
+     */
+    public static Order order(Long orderId) {
+        User user = User.builder()
+                .id(1L)
+                .email("bench@ticket.com")
+                .name("벤치마크")
+                .role("USER")
+                .enabled(true)
+                .build();
+
+        Order order = Order.builder()
+                .id(orderId)
+                .orderNumber("ORD-BENCH-" + orderId)
+                .user(user)
+                .screening(screening(1L))
+                .seatCount(2)
+                .totalAmount(SEAT_PRICE * 2)
+                .status(OrderStatus.CREATED)
+                .paymentDeadline(LocalDateTime.now().plusMinutes(10))
+                .build();
+        order.addOrderItem(OrderItem.builder().seatNumber("A1").price(SEAT_PRICE).build());
+        order.addOrderItem(OrderItem.builder().seatNumber("A2").price(SEAT_PRICE).build());
+        return order;
+    }
+}
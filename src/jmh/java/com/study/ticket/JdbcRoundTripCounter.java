@@ -0,0 +1,102 @@
+package com.study.ticket;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+
+/**
+ * JDBC 왕복 횟수 측정기
+ * DataSource 빈을 감싸 DB로 실제 전송되는 실행 호출(execute*, executeBatch) 수와 전송된 행(배치 항목 포함) 수를 셉니다.
+ * Hibernate와 JdbcTemplate 경로를 모두 같은 기준으로 비교하기 위해 사용합니다.
+ */
+public final class JdbcRoundTripCounter implements BeanPostProcessor {
+
+    private final LongAdder roundTrips = new LongAdder();
+    private final LongAdder statements = new LongAdder();
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource) {
+            return proxy(DataSource.class, dataSource, this::wrapConnection);
+        }
+        return bean;
+    }
+
+    /**
+     * DB 왕복 횟수 (배치 실행은 한 번)
+     * @return 왕복 횟수
+     */
+    public long roundTrips() {
+        return roundTrips.sum();
+    }
+
+    /**
+     * 실행된 SQL 문 수 (배치 항목을 각각 센 값)
+     * @return SQL 문 수
+     */
+    public long statements() {
+        return statements.sum();
+    }
+
+    private Object wrapConnection(Object result) {
+        if (result instanceof Connection connection) {
+            return proxy(Connection.class, connection, this::wrapStatement);
+        }
+        return result;
+    }
+
+    private Object wrapStatement(Object result) {
+        if (result instanceof CallableStatement statement) {
+            return proxy(CallableStatement.class, statement, this::count, value -> value);
+        }
+        if (result instanceof PreparedStatement statement) {
+            return proxy(PreparedStatement.class, statement, this::count, value -> value);
+        }
+        if (result instanceof Statement statement) {
+            return proxy(Statement.class, statement, this::count, value -> value);
+        }
+        return result;
+    }
+
+    private void count(String methodName) {
+        switch (methodName) {
+            case "addBatch" -> statements.increment();
+            case "executeBatch", "executeLargeBatch" -> roundTrips.increment();
+            case "execute", "executeQuery", "executeUpdate", "executeLargeUpdate" -> {
+                roundTrips.increment();
+                statements.increment();
+            }
+            default -> {
+            }
+        }
+    }
+
+    private static <T> T proxy(Class<T> type, T target, UnaryOperator<Object> resultWrapper) {
+        return proxy(type, target, methodName -> {
+        }, resultWrapper);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, Consumer<String> onInvoke,
+                               UnaryOperator<Object> resultWrapper) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            onInvoke.accept(method.getName());
+            try {
+                return resultWrapper.apply(method.invoke(target, args));
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        };
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+}
@@ -0,0 +1,182 @@
+package com.study.ticket.domain.order;
+
+import com.study.ticket.BenchmarkFixtures;
+import com.study.ticket.JdbcRoundTripCounter;
+import com.study.ticket.TicketApplication;
+import com.study.ticket.domain.order.domain.entity.Order;
+import com.study.ticket.domain.order.domain.entity.OrderItem;
+import com.study.ticket.domain.order.domain.enums.OrderStatus;
+import com.study.ticket.domain.order.domain.repository.OrderRepository;
+import com.study.ticket.domain.order.event.OrderCreatedEvent;
+import com.study.ticket.domain.outbox.service.OutboxEventService;
+import com.study.ticket.domain.payment.domain.entity.Payment;
+import com.study.ticket.domain.payment.domain.enums.PaymentMethod;
+import com.study.ticket.domain.payment.domain.enums.PaymentStatus;
+import com.study.ticket.domain.payment.domain.repository.PaymentRepository;
+import com.study.ticket.domain.screening.domain.entity.Screening;
+import com.study.ticket.domain.screening.domain.repository.ScreeningRepository;
+import com.study.ticket.domain.ticket.domain.entity.MovieTicket;
+import com.study.ticket.domain.ticket.domain.enums.TicketStatus;
+import com.study.ticket.domain.ticket.domain.repository.MovieTicketRepository;
+import com.study.ticket.domain.ticket.event.TicketIssuedEvent;
+import com.study.ticket.domain.user.domain.entity.User;
+import com.study.ticket.domain.user.domain.repository.UserRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 저장 벤치마크
+ * 6좌석 주문(주문 + 주문 항목 6 + 주문 생성 이벤트), 결제, 티켓 6장과 티켓 발급 이벤트 6개를 한 트랜잭션으로 저장하는 지연 시간과
+ * 주문당 JDBC 왕복 횟수/SQL 문 수를 ID 생성 방식별로 비교합니다.
+ * - identity: 이전 방식, META-INF/identity-ids-orm.xml 로 시퀀스 ID 엔티티를 IDENTITY로 되돌려 JDBC 배치가 비활성화된 상태
+ * - pooled: 현재 방식, pooled-lo 시퀀스 + JDBC 배치
+ * 왕복 횟수는 트라이얼 종료 시 출력합니다. 좌석 선점은 측정 대상이 아니므로 SeatMapEngine을 거치지 않고 저장합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class OrderInsertBenchmark {
+
+    private static final int SEAT_COUNT = 6;
+    private static final String ORDER_TOPIC = "order-events";
+    private static final String TICKET_TOPIC = "ticket-events";
+
+    /**
+     * ID 생성 방식
+     */
+    @Param({"identity", "pooled"})
+    private String idMode;
+
+    private final JdbcRoundTripCounter counter = new JdbcRoundTripCounter();
+    private ConfigurableApplicationContext context;
+    private TransactionTemplate transactionTemplate;
+    private OrderRepository orderRepository;
+    private PaymentRepository paymentRepository;
+    private MovieTicketRepository movieTicketRepository;
+    private OutboxEventService outboxEventService;
+    private UserRepository userRepository;
+    private ScreeningRepository screeningRepository;
+    private Long userId;
+    private Long screeningId;
+
+    private long orders;
+    private long roundTrips;
+    private long statements;
+
+    @Setup
+    public void setUp() {
+        List<String> properties = new ArrayList<>(List.of(
+                "outbox.relay.enabled=false",
+                "outbox.retention.enabled=false",
+                "outbox.scheduler.publish.interval=3600000",
+                "outbox.scheduler.retry.interval=3600000",
+                "spring.kafka.admin.auto-create=false",
+                "spring.jpa.properties.hibernate.show_sql=false",
+                "spring.jpa.properties.hibernate.format_sql=false",
+                "spring.jpa.properties.hibernate.use_sql_comments=false",
+                "logging.level.root=WARN"));
+        if ("identity".equals(idMode)) {
+            properties.add("spring.jpa.mapping-resources=META-INF/identity-ids-orm.xml");
+        }
+
+        context = new SpringApplicationBuilder(TicketApplication.class)
+                .web(WebApplicationType.NONE)
+                .initializers(applicationContext -> applicationContext.getBeanFactory().addBeanPostProcessor(counter))
+                .properties(properties.toArray(new String[0]))
+                .run();
+        context.getBean(KafkaListenerEndpointRegistry.class).stop();
+
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        orderRepository = context.getBean(OrderRepository.class);
+        paymentRepository = context.getBean(PaymentRepository.class);
+        movieTicketRepository = context.getBean(MovieTicketRepository.class);
+        outboxEventService = context.getBean(OutboxEventService.class);
+        userRepository = context.getBean(UserRepository.class);
+        screeningRepository = context.getBean(ScreeningRepository.class);
+        userId = userRepository.findAll().get(0).getId();
+        screeningId = screeningRepository.findAll().get(0).getId();
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (orders > 0) {
+            System.out.printf("%n[%s] 주문당 JDBC 왕복 %.1f 회, SQL 문 %.1f 개 (주문 %d 건)%n",
+                    idMode, (double) roundTrips / orders, (double) statements / orders, orders);
+        }
+        context.close();
+    }
+
+    /**
+     * 6좌석 주문, 결제, 티켓과 Outbox 이벤트 저장
+     */
+    @Benchmark
+    public Long saveSixSeatOrder() {
+        long roundTripsBefore = counter.roundTrips();
+        long statementsBefore = counter.statements();
+
+        Long orderId = transactionTemplate.execute(status -> {
+            User user = userRepository.getReferenceById(userId);
+            Screening screening = screeningRepository.getReferenceById(screeningId);
+
+            Order order = Order.builder()
+                    .user(user)
+                    .screening(screening)
+                    .seatCount(SEAT_COUNT)
+                    .totalAmount(BenchmarkFixtures.SEAT_PRICE * SEAT_COUNT)
+                    .status(OrderStatus.CREATED)
+                    .build();
+            for (int seat = 1; seat <= SEAT_COUNT; seat++) {
+                order.addOrderItem(OrderItem.builder().seatNumber("A" + seat).price(BenchmarkFixtures.SEAT_PRICE).build());
+            }
+            orderRepository.save(order);
+            outboxEventService.saveEvent(new OrderCreatedEvent(order), "ORDER", order.getId().toString(), ORDER_TOPIC);
+
+            paymentRepository.save(Payment.builder()
+                    .order(order)
+                    .amount(order.getTotalAmount())
+                    .method(PaymentMethod.CREDIT_CARD)
+                    .status(PaymentStatus.PENDING)
+                    .build());
+
+            LocalDateTime issueTime = LocalDateTime.now();
+            List<MovieTicket> tickets = new ArrayList<>(SEAT_COUNT);
+            for (OrderItem orderItem : order.getOrderItems()) {
+                tickets.add(MovieTicket.builder()
+                        .order(order)
+                        .user(user)
+                        .screening(screening)
+                        .seatNumber(orderItem.getSeatNumber())
+                        .status(TicketStatus.ISSUED)
+                        .issueTime(issueTime)
+                        .build());
+            }
+            movieTicketRepository.saveAll(tickets);
+            List<TicketIssuedEvent> events = tickets.stream().map(TicketIssuedEvent::new).toList();
+            outboxEventService.saveEvents(events, "TICKET", event -> event.getTicketId().toString(), TICKET_TOPIC);
+            return order.getId();
+        });
+
+        orders++;
+        roundTrips += counter.roundTrips() - roundTripsBefore;
+        statements += counter.statements() - statementsBefore;
+        return orderId;
+    }
+}
@@ -0,0 +1,140 @@
+package com.study.ticket.domain.outbox;
+
+import com.study.ticket.TicketApplication;
+import com.study.ticket.domain.outbox.domain.entity.OutboxEvent;
+import com.study.ticket.domain.outbox.domain.enums.EventStatus;
+import com.study.ticket.domain.outbox.domain.enums.EventType;
+import com.study.ticket.domain.outbox.domain.repository.OutboxEventRepository;
+import com.study.ticket.domain.outbox.service.OutboxEventService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Outbox 이벤트 선점 벤치마크
+ * H2(MySQL 모드) 위에서 OutboxEventService.claimEvents(SKIP LOCKED 조회 + 일괄 선점 UPDATE) 지연 시간을 측정합니다.
+ * 선점 유지 시간을 0으로 두어 선점한 이벤트가 바로 다시 선점 가능한 상태가 되므로 반복 중 대상 이벤트 수가 유지됩니다.
+ * 발행 완료 이벤트를 rowCount만큼 먼저 채우고 대기 이벤트는 고정 건수(집계 1000개 x 5건)로 두어,
+ * (STATUS, NEXT_ATTEMPT_AT, EVENT_ID) 인덱스 범위 조회 덕분에 테이블이 커져도 선점 지연 시간이 일정한지 확인합니다.
+ * 스케줄러, 릴레이, 리스너는 측정에 끼어들지 않도록 끕니다. 실제 MySQL 수치는 datasource 설정을 바꿔 측정합니다.
+ * 1000만 건은 H2 메모리 DB에서 수 GB를 사용하므로 힙을 늘리거나 MySQL로 측정합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class OutboxClaimBenchmark {
+
+    private static final String OWNER = "outbox-claim-benchmark";
+    private static final String TOPIC = "order-events";
+    private static final int AGGREGATE_COUNT = 1000;
+    private static final int EVENTS_PER_AGGREGATE = 5;
+    private static final int INSERT_BATCH_SIZE = 10_000;
+    private static final String INSERT_PUBLISHED_SQL = "INSERT INTO OUTBOX_EVENTS (AGGREGATE_ID, AGGREGATE_TYPE, EVENT_TYPE, " +
+            "EVENT_KEY, PAYLOAD, STATUS, TOPIC, PARTITION_KEY, PUBLISHED_AT, RETRY_COUNT, NEXT_ATTEMPT_AT, CREATED_AT, UPDATED_AT) " +
+            "VALUES (?, 'ORDER', ?, ?, ?, ?, ?, ?, ?, 0, ?, ?, ?)";
+
+    /**
+     * 한 번에 선점할 이벤트 수
+     */
+    @Param({"100", "500"})
+    private int batchSize;
+
+    /**
+     * 대기 이벤트 앞에 미리 채울 발행 완료 이벤트 수
+     */
+    @Param({"10000", "100000", "1000000", "10000000"})
+    private int rowCount;
+
+    private ConfigurableApplicationContext context;
+    private OutboxEventService outboxEventService;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(TicketApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "outbox.relay.enabled=false",
+                        "outbox.retention.enabled=false",
+                        "outbox.scheduler.publish.interval=3600000",
+                        "outbox.scheduler.retry.interval=3600000",
+                        "spring.kafka.admin.auto-create=false",
+                        "spring.jpa.properties.hibernate.show_sql=false",
+                        "spring.jpa.properties.hibernate.format_sql=false",
+                        "spring.jpa.properties.hibernate.use_sql_comments=false",
+                        "logging.level.root=WARN")
+                .run();
+        context.getBean(KafkaListenerEndpointRegistry.class).stop();
+        outboxEventService = context.getBean(OutboxEventService.class);
+
+        // 발행 완료 이벤트를 먼저 채워 대기 이벤트보다 작은 EVENT_ID를 갖도록 함
+        insertPublishedEvents(context.getBean(JdbcTemplate.class));
+
+        // 집계별 이벤트를 섞어서 저장
+        List<OutboxEvent> events = new ArrayList<>();
+        for (int seq = 0; seq < EVENTS_PER_AGGREGATE; seq++) {
+            for (int aggregate = 0; aggregate < AGGREGATE_COUNT; aggregate++) {
+                String aggregateId = "claim-bench-" + aggregate;
+                events.add(OutboxEvent.builder()
+                        .aggregateType("ORDER")
+                        .aggregateId(aggregateId)
+                        .eventType(EventType.ORDER_CREATED)
+                        .eventKey(aggregateId + "-" + seq)
+                        .payload("{\"seq\":" + seq + "}")
+                        .status(EventStatus.CREATED)
+                        .topic(TOPIC)
+                        .partitionKey(aggregateId)
+                        .build());
+            }
+        }
+        context.getBean(OutboxEventRepository.class).saveAll(events);
+    }
+
+    // 발행 완료 이벤트 일괄 저장 (엔티티 저장으로는 수백만 건을 채우기 어려우므로 JDBC 배치 사용)
+    private void insertPublishedEvents(JdbcTemplate jdbcTemplate) {
+        Timestamp publishedAt = Timestamp.valueOf(LocalDateTime.now().minusDays(1));
+        List<Object[]> batchArgs = new ArrayList<>(INSERT_BATCH_SIZE);
+        for (int i = 0; i < rowCount; i++) {
+            String aggregateId = "published-bench-" + (i / EVENTS_PER_AGGREGATE);
+            batchArgs.add(new Object[]{aggregateId, EventType.ORDER_CREATED.name(), "published-bench-" + i,
+                    "{\"seq\":" + (i % EVENTS_PER_AGGREGATE) + "}", EventStatus.PUBLISHED.name(), TOPIC, aggregateId,
+                    publishedAt, publishedAt, publishedAt, publishedAt});
+            if (batchArgs.size() == INSERT_BATCH_SIZE) {
+                jdbcTemplate.batchUpdate(INSERT_PUBLISHED_SQL, batchArgs);
+                batchArgs.clear();
+            }
+        }
+        if (!batchArgs.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_PUBLISHED_SQL, batchArgs);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    /**
+     * 발행 가능한 이벤트 선점
+     */
+    @Benchmark
+    public List<OutboxEvent> claimEvents() {
+        return outboxEventService.claimEvents(OWNER, batchSize, 0L);
+    }
+}
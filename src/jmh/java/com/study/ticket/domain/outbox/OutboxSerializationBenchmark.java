@@ -0,0 +1,61 @@
+package com.study.ticket.domain.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.ticket.BenchmarkFixtures;
+import com.study.ticket.domain.order.event.OrderCreatedEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Outbox 이벤트 저장 직렬화 벤치마크
+ * OutboxEventService.saveEvent에서 이벤트를 JSON 페이로드로 변환하는 비용을 측정합니다.
+ * ObjectMapper는 애플리케이션과 같은 기본 설정(JavaTimeModule, 날짜 문자열 출력)으로 생성합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class OutboxSerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private OrderCreatedEvent event;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        event = new OrderCreatedEvent(BenchmarkFixtures.order(1L));
+    }
+
+    /**
+     * 이벤트 JSON 문자열 직렬화 (saveEvent 경로)
+     */
+    @Benchmark
+    public String writeValueAsString() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(event);
+    }
+
+    /**
+     * 이벤트 JSON 문자열 직렬화 후 발행용 바이트 변환 (saveEvent + 릴레이 발행 경로)
+     */
+    @Benchmark
+    public byte[] writeValueAsStringThenBytes() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(event).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 이벤트 바이트 직접 직렬화 (비교 기준)
+     */
+    @Benchmark
+    public byte[] writeValueAsBytes() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(event);
+    }
+}
@@ -0,0 +1,82 @@
+package com.study.ticket.domain.screening;
+
+import com.study.ticket.BenchmarkFixtures;
+import com.study.ticket.domain.screening.domain.entity.Screening;
+import com.study.ticket.domain.screening.seat.SeatMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 좌석 예약 경합 벤치마크
+ * 여러 스레드가 같은 상영의 좌석을 동시에 예약/취소할 때 처리량을 비교합니다.
+ * - Screening.reserve: 상영 행 하나의 잔여 좌석 수를 락으로 직렬화하여 변경 (비관적 락 경로 재현)
+ * - SeatMap.claim: 좌석 비트를 CAS로 선점 (좌석 맵 엔진 경로)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Threads(8)
+public class SeatContentionBenchmark {
+
+    /**
+     * 한 번에 예약할 좌석 수
+     */
+    @Param({"1", "4"})
+    private int seatCount;
+
+    private Screening screening;
+    private ReentrantLock screeningLock;
+    private SeatMap seatMap;
+
+    @Setup
+    public void setUp() {
+        screening = BenchmarkFixtures.screening(1L);
+        screeningLock = new ReentrantLock();
+        seatMap = new SeatMap(BenchmarkFixtures.TOTAL_SEATS);
+    }
+
+    /**
+     * 상영 잔여 좌석 수 차감 후 취소 (상영 단위 락)
+     */
+    @Benchmark
+    public boolean screeningReserve() {
+        screeningLock.lock();
+        try {
+            boolean reserved = screening.reserve(seatCount);
+            if (reserved) {
+                screening.cancelReservation(seatCount);
+            }
+            return reserved;
+        } finally {
+            screeningLock.unlock();
+        }
+    }
+
+    /**
+     * 임의의 연속 좌석 선점 후 해제 (좌석 단위 CAS)
+     */
+    @Benchmark
+    public boolean seatMapClaim() {
+        int first = ThreadLocalRandom.current().nextInt(BenchmarkFixtures.TOTAL_SEATS - seatCount + 1);
+        int[] seatIndexes = new int[seatCount];
+        for (int i = 0; i < seatCount; i++) {
+            seatIndexes[i] = first + i;
+        }
+        boolean claimed = seatMap.claim(seatIndexes);
+        if (claimed) {
+            seatMap.release(seatIndexes);
+        }
+        return claimed;
+    }
+}
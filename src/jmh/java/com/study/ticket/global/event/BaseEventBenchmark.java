@@ -0,0 +1,138 @@
+package com.study.ticket.global.event;
+
+import com.study.ticket.BenchmarkFixtures;
+import com.study.ticket.domain.event.filter.BinaryEventKey;
+import com.study.ticket.domain.order.domain.entity.Order;
+import com.study.ticket.domain.order.event.OrderCreatedEvent;
+import com.study.ticket.global.id.IdGenerators;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이벤트 생성 비용 벤치마크
+ * 이벤트 생성 전체와, 그중 이벤트 ID / 이벤트 키 / 발생 시간 생성 비용을 이전 방식과 나누어 측정합니다.
+ * - 이벤트 ID: UUID.randomUUID() (이전) / IdGenerators.nextKey() (현재)
+ * - 이벤트 키: String.format (이전) / 문자열 연결 (현재)
+ * - 발생 시간: LocalDateTime.now() (이전) / 캐시된 Clock (현재)
+ * - 멱등성 필터 키: 문자열 연결 (이전) / BinaryEventKey (현재)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class BaseEventBenchmark {
+
+    private static final Clock CLOCK = Clock.systemDefaultZone();
+    private static final String CONSUMER_GROUP = "ticket-service";
+
+    private Order order;
+    private String eventId;
+    private String eventKey;
+
+    @Setup
+    public void setUp() {
+        order = BenchmarkFixtures.order(1L);
+        eventId = IdGenerators.nextKey();
+        eventKey = "ORDER:" + order.getId() + ":ORDER_CREATED:" + eventId;
+    }
+
+    /**
+     * 주문 생성 이벤트 생성 (BaseEvent 생성자 + generateEventKey)
+     */
+    @Benchmark
+    public OrderCreatedEvent orderCreatedEvent() {
+        return new OrderCreatedEvent(order);
+    }
+
+    /**
+     * 이벤트 ID 생성
+     */
+    @Benchmark
+    public String randomUuid() {
+        return UUID.randomUUID().toString();
+    }
+
+    /**
+     * 이벤트 ID 생성 (여러 컨슈머/요청 스레드에서 동시에 생성)
+     */
+    @Benchmark
+    @Threads(8)
+    public String randomUuidContended() {
+        return UUID.randomUUID().toString();
+    }
+
+    /**
+     * 이벤트 ID 생성 (시간 순서 ID)
+     */
+    @Benchmark
+    public String timeOrderedKey() {
+        return IdGenerators.nextKey();
+    }
+
+    /**
+     * 이벤트 ID 생성 (시간 순서 ID, 여러 스레드에서 동시에 생성)
+     */
+    @Benchmark
+    @Threads(8)
+    public String timeOrderedKeyContended() {
+        return IdGenerators.nextKey();
+    }
+
+    /**
+     * 이벤트 키 생성 (이전 방식)
+     */
+    @Benchmark
+    public String formatEventKey() {
+        return String.format("%s:%s:%s:%s", "ORDER", order.getId().toString(), "ORDER_CREATED", eventId);
+    }
+
+    /**
+     * 이벤트 키 생성 (BaseEvent.generateEventKey와 같은 문자열 연결)
+     */
+    @Benchmark
+    public String concatEventKey() {
+        return "ORDER" + ':' + order.getId() + ':' + "ORDER_CREATED" + ':' + eventId;
+    }
+
+    /**
+     * 이벤트 발생 시간 생성 (이전 방식, 호출마다 기본 시간대 조회)
+     */
+    @Benchmark
+    public LocalDateTime occurredAt() {
+        return LocalDateTime.now();
+    }
+
+    /**
+     * 이벤트 발생 시간 생성 (캐시된 Clock)
+     */
+    @Benchmark
+    public LocalDateTime occurredAtCachedClock() {
+        return LocalDateTime.now(CLOCK);
+    }
+
+    /**
+     * 멱등성 필터 키 생성 (이전 방식, 문자열 연결)
+     */
+    @Benchmark
+    public String stringFilterKey() {
+        return CONSUMER_GROUP + ":" + eventKey;
+    }
+
+    /**
+     * 멱등성 필터 키 생성 (128비트 바이너리 키)
+     */
+    @Benchmark
+    public BinaryEventKey binaryFilterKey() {
+        return BinaryEventKey.of(eventKey, CONSUMER_GROUP);
+    }
+}
@@ -0,0 +1,248 @@
+package com.study.ticket.global.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.ticket.BenchmarkFixtures;
+import com.study.ticket.domain.event.filter.BinaryEventKey;
+import com.study.ticket.domain.event.filter.ProcessedEventFilter;
+import com.study.ticket.domain.order.event.OrderCreatedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이벤트 리스너 수신 경로 벤치마크
+ * AbstractEventListener.processRecords의 역직렬화와 DB 조회 앞단의 메모리 멱등성 검사(ProcessedEventFilter) 비용을 측정합니다.
+ *
+ * DB를 포함한 수신 처리량은 PROCESSED_EVENTS와 같은 유니크 인덱스를 가진 테이블로 비교합니다.
+ * - 기존: 이벤트마다 처리 여부 조회(exists) 후 INSERT (중복 이벤트도 조회 1회)
+ * - 현재: 메모리 필터 판단 후 INSERT IGNORE 1회 (중복 이벤트는 LRU 적중 시 DB 접근 없음, deserializeAndDedupDuplicate)
+ * 기본은 H2(MySQL 모드) 메모리 DB이며, 실제 InnoDB 수치는 JDBC 드라이버를 jmh 클래스패스에 추가하고
+ * -Devent.bench.jdbc-url, -Devent.bench.user, -Devent.bench.password 로 MySQL에 연결해 측정합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class EventListenerBenchmark {
+
+    private static final String CONSUMER_GROUP = "ticket-service";
+    private static final int PAYLOAD_COUNT = 1024;
+
+    private ObjectMapper objectMapper;
+    private ProcessedEventFilter processedEventFilter;
+    private String[] payloads;
+    private int cursor;
+    private long sequence;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        payloads = new String[PAYLOAD_COUNT];
+        for (int i = 0; i < PAYLOAD_COUNT; i++) {
+            payloads[i] = objectMapper.writeValueAsString(new OrderCreatedEvent(BenchmarkFixtures.order((long) i + 1)));
+        }
+    }
+
+    /**
+     * 반복마다 페이로드 키만 기록된 필터로 시작 (워밍업 없이 블룸 필터 판단 사용)
+     * 새 이벤트 벤치마크는 반복당 수백만 건을 기록하므로 예상 건수를 운영 기본값보다 크게 잡습니다.
+     */
+    @Setup(Level.Iteration)
+    public void resetFilter() {
+        processedEventFilter = new ProcessedEventFilter(new SimpleMeterRegistry(), 10_000_000L, 0.01, 3_600_000L, 100_000L, 0L);
+        for (String payload : payloads) {
+            processedEventFilter.recordProcessed(ProcessedEventFilter.filterKey(readEvent(payload).getEventKey(), CONSUMER_GROUP));
+        }
+    }
+
+    /**
+     * 페이로드 역직렬화
+     */
+    @Benchmark
+    public OrderCreatedEvent deserialize() throws Exception {
+        return objectMapper.readValue(nextPayload(), OrderCreatedEvent.class);
+    }
+
+    /**
+     * 역직렬화 + 중복 수신 이벤트 판단 (LRU 적중)
+     */
+    @Benchmark
+    public boolean deserializeAndDedupDuplicate() throws Exception {
+        OrderCreatedEvent event = objectMapper.readValue(nextPayload(), OrderCreatedEvent.class);
+        return processedEventFilter.isRecentlyProcessed(ProcessedEventFilter.filterKey(event.getEventKey(), CONSUMER_GROUP));
+    }
+
+    /**
+     * 역직렬화 + 새 이벤트 판단 (LRU 미적중, 블룸 필터 음성) 후 처리 완료 기록
+     */
+    @Benchmark
+    public boolean deserializeAndDedupNew() throws Exception {
+        OrderCreatedEvent event = objectMapper.readValue(nextPayload(), OrderCreatedEvent.class);
+        // 매번 새 이벤트가 되도록 키에 순번을 붙임
+        BinaryEventKey filterKey = ProcessedEventFilter.filterKey(event.getEventKey() + ":" + sequence++, CONSUMER_GROUP);
+        boolean definitelyNew = !processedEventFilter.isRecentlyProcessed(filterKey) && processedEventFilter.isDefinitelyNew(filterKey);
+        processedEventFilter.recordProcessed(filterKey);
+        return definitelyNew;
+    }
+
+    /**
+     * [기존] 역직렬화 + 처리 여부 조회 + 처리 기록 INSERT (새 이벤트)
+     */
+    @Benchmark
+    public boolean existsThenInsertNew(ProcessedEventTable table) throws Exception {
+        OrderCreatedEvent event = objectMapper.readValue(nextPayload(), OrderCreatedEvent.class);
+        String eventKey = event.getEventKey() + ":" + sequence++;
+        boolean processed = table.exists(eventKey);
+        if (!processed) {
+            table.insert(eventKey, event.getEventType());
+        }
+        table.commit();
+        return processed;
+    }
+
+    /**
+     * [기존] 역직렬화 + 처리 여부 조회 (중복 이벤트)
+     */
+    @Benchmark
+    public boolean existsDuplicate(ProcessedEventTable table) throws Exception {
+        OrderCreatedEvent event = objectMapper.readValue(nextPayload(), OrderCreatedEvent.class);
+        boolean processed = table.exists(event.getEventKey());
+        table.commit();
+        return processed;
+    }
+
+    /**
+     * [현재] 역직렬화 + 메모리 필터 판단 + INSERT IGNORE (새 이벤트, 처리 여부 조회 없음)
+     */
+    @Benchmark
+    public boolean filterThenInsertIgnoreNew(ProcessedEventTable table) throws Exception {
+        OrderCreatedEvent event = objectMapper.readValue(nextPayload(), OrderCreatedEvent.class);
+        String eventKey = event.getEventKey() + ":" + sequence++;
+        BinaryEventKey filterKey = ProcessedEventFilter.filterKey(eventKey, CONSUMER_GROUP);
+        if (processedEventFilter.isRecentlyProcessed(filterKey)) {
+            return false;
+        }
+        boolean inserted = table.insertIgnore(eventKey, event.getEventType()) > 0;
+        table.commit();
+        processedEventFilter.recordProcessed(filterKey);
+        return inserted;
+    }
+
+    private String nextPayload() {
+        String payload = payloads[cursor];
+        cursor = (cursor + 1) & (PAYLOAD_COUNT - 1);
+        return payload;
+    }
+
+    private OrderCreatedEvent readEvent(String payload) {
+        try {
+            return objectMapper.readValue(payload, OrderCreatedEvent.class);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 처리된 이벤트 테이블 (PROCESSED_EVENTS와 같은 유니크 인덱스)
+     * 반복마다 비우고 페이로드 키만 기록된 상태로 시작합니다.
+     */
+    @State(Scope.Benchmark)
+    public static class ProcessedEventTable {
+
+        private static final String TABLE = "PROCESSED_EVENTS_BENCH";
+
+        private Connection connection;
+        private PreparedStatement existsStatement;
+        private PreparedStatement insertStatement;
+        private PreparedStatement insertIgnoreStatement;
+
+        @Setup(Level.Trial)
+        public void setUp() throws SQLException {
+            connection = DriverManager.getConnection(
+                    System.getProperty("event.bench.jdbc-url", "jdbc:h2:mem:event-listener-bench;MODE=MYSQL;DB_CLOSE_DELAY=-1"),
+                    System.getProperty("event.bench.user", "sa"),
+                    System.getProperty("event.bench.password", ""));
+            connection.setAutoCommit(false);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("DROP TABLE IF EXISTS " + TABLE);
+                statement.execute("CREATE TABLE " + TABLE + " (PROCESSED_EVENT_ID BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                        + "EVENT_KEY VARCHAR(255) NOT NULL, EVENT_TYPE VARCHAR(255) NOT NULL, CONSUMER_GROUP VARCHAR(255) NOT NULL, "
+                        + "PROCESSED_AT TIMESTAMP(6) NOT NULL, "
+                        + "CONSTRAINT UK_PROCESSED_EVENTS_BENCH UNIQUE (EVENT_KEY, CONSUMER_GROUP))");
+            }
+            connection.commit();
+
+            existsStatement = connection.prepareStatement(
+                    "SELECT 1 FROM " + TABLE + " WHERE EVENT_KEY = ? AND CONSUMER_GROUP = ? LIMIT 1");
+            insertStatement = connection.prepareStatement(
+                    "INSERT INTO " + TABLE + " (EVENT_KEY, EVENT_TYPE, CONSUMER_GROUP, PROCESSED_AT) VALUES (?, ?, ?, ?)");
+            insertIgnoreStatement = connection.prepareStatement(
+                    "INSERT IGNORE INTO " + TABLE + " (EVENT_KEY, EVENT_TYPE, CONSUMER_GROUP, PROCESSED_AT) VALUES (?, ?, ?, ?)");
+        }
+
+        @Setup(Level.Iteration)
+        public void reset(EventListenerBenchmark benchmark) throws Exception {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("DELETE FROM " + TABLE);
+            }
+            for (String payload : benchmark.payloads) {
+                OrderCreatedEvent event = benchmark.readEvent(payload);
+                insert(event.getEventKey(), event.getEventType());
+            }
+            commit();
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws SQLException {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("DROP TABLE IF EXISTS " + TABLE);
+            }
+            connection.commit();
+            connection.close();
+        }
+
+        boolean exists(String eventKey) throws SQLException {
+            existsStatement.setString(1, eventKey);
+            existsStatement.setString(2, CONSUMER_GROUP);
+            try (ResultSet resultSet = existsStatement.executeQuery()) {
+                return resultSet.next();
+            }
+        }
+
+        int insert(String eventKey, String eventType) throws SQLException {
+            return execute(insertStatement, eventKey, eventType);
+        }
+
+        int insertIgnore(String eventKey, String eventType) throws SQLException {
+            return execute(insertIgnoreStatement, eventKey, eventType);
+        }
+
+        void commit() throws SQLException {
+            connection.commit();
+        }
+
+        private int execute(PreparedStatement statement, String eventKey, String eventType) throws SQLException {
+            statement.setString(1, eventKey);
+            statement.setString(2, eventType);
+            statement.setString(3, CONSUMER_GROUP);
+            statement.setTimestamp(4, new Timestamp(System.currentTimeMillis()));
+            return statement.executeUpdate();
+        }
+    }
+}
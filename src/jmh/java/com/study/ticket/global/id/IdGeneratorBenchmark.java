@@ -0,0 +1,59 @@
+package com.study.ticket.global.id;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ID 생성기 벤치마크
+ * 생성기 종류별 키 생성 비용을 단일 스레드와 8 스레드 동시 생성으로 측정합니다.
+ * RANDOM_UUID는 SecureRandom 락 경합, SNOWFLAKE/UUID_V7은 CAS 재시도 비용이 동시 생성에서 드러납니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class IdGeneratorBenchmark {
+
+    @Param({"RANDOM_UUID", "UUID_V7", "SNOWFLAKE"})
+    private IdGeneratorType type;
+
+    private IdGenerator idGenerator;
+
+    @Setup
+    public void setUp() {
+        idGenerator = create(type);
+    }
+
+    /**
+     * 키 생성
+     */
+    @Benchmark
+    public String nextKey() {
+        return idGenerator.nextKey();
+    }
+
+    /**
+     * 키 생성 (여러 요청/컨슈머 스레드에서 동시에 생성)
+     */
+    @Benchmark
+    @Threads(8)
+    public String nextKeyContended() {
+        return idGenerator.nextKey();
+    }
+
+    static IdGenerator create(IdGeneratorType type) {
+        return switch (type) {
+            case SNOWFLAKE -> new SnowflakeIdGenerator(1);
+            case UUID_V7 -> new UuidV7IdGenerator();
+            case RANDOM_UUID -> new RandomUuidIdGenerator();
+        };
+    }
+}
@@ -0,0 +1,99 @@
+package com.study.ticket.global.id;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 유니크 인덱스 삽입 속도 벤치마크
+ * 주문/결제/티켓 테이블처럼 IDENTITY 기본 키와 유니크 VARCHAR 키 컬럼을 가진 테이블에
+ * 생성기 종류별 키를 미리 채운 뒤, 1000행 배치 INSERT 속도(행/초)를 측정합니다.
+ * 무작위 UUID는 인덱스 전체에 흩어져 삽입되고, 시간 순서 키는 인덱스 오른쪽 끝에 추가됩니다.
+ *
+ * 기본은 H2(MySQL 모드) 메모리 DB이며, 실제 InnoDB 수치는 JDBC 드라이버를 jmh 클래스패스에 추가하고
+ * -Did.bench.jdbc-url, -Did.bench.user, -Did.bench.password 로 MySQL에 연결해 측정합니다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class IdIndexInsertBenchmark {
+
+    private static final int BATCH_SIZE = 1000;
+    private static final String TABLE = "ID_INDEX_BENCH";
+
+    @Param({"RANDOM_UUID", "UUID_V7", "SNOWFLAKE"})
+    private IdGeneratorType type;
+
+    /**
+     * 측정 전에 미리 채울 행 수
+     */
+    @Param({"500000"})
+    private int preloadRows;
+
+    private IdGenerator idGenerator;
+    private Connection connection;
+    private PreparedStatement insert;
+
+    @Setup
+    public void setUp() throws SQLException {
+        idGenerator = IdGeneratorBenchmark.create(type);
+        connection = DriverManager.getConnection(
+                System.getProperty("id.bench.jdbc-url", "jdbc:h2:mem:id-index-bench;MODE=MYSQL;DB_CLOSE_DELAY=-1"),
+                System.getProperty("id.bench.user", "sa"),
+                System.getProperty("id.bench.password", ""));
+        connection.setAutoCommit(false);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + TABLE);
+            statement.execute("CREATE TABLE " + TABLE + " (ID BIGINT AUTO_INCREMENT PRIMARY KEY, " +
+                    "ID_KEY VARCHAR(64) NOT NULL, CREATED_AT TIMESTAMP NOT NULL, CONSTRAINT UK_ID_INDEX_BENCH UNIQUE (ID_KEY))");
+        }
+        connection.commit();
+
+        insert = connection.prepareStatement("INSERT INTO " + TABLE + " (ID_KEY, CREATED_AT) VALUES (?, ?)");
+        for (int i = 0; i < preloadRows; i += BATCH_SIZE) {
+            insertBatch();
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + TABLE);
+        }
+        connection.commit();
+        insert.close();
+        connection.close();
+    }
+
+    /**
+     * 1000행 배치 INSERT (결과는 행/초)
+     */
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public int[] insertBatch() throws SQLException {
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            insert.setString(1, idGenerator.nextKey());
+            insert.setTimestamp(2, now);
+            insert.addBatch();
+        }
+        int[] counts = insert.executeBatch();
+        connection.commit();
+        return counts;
+    }
+}
@@ -0,0 +1,44 @@
+package com.study.ticket.load;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+/**
+ * 커밋 시간을 기록하는 트랜잭션 매니저
+ * 커밋을 실행한 스레드로 API 요청 / 이벤트 컨슈머 / 기타(릴레이, 스케줄러)를 구분하여 DB 커밋 지연 시간을 기록합니다.
+ */
+public class CommitTimingTransactionManager extends JpaTransactionManager {
+
+    public static final String STAGE_COMMIT_API = "db_commit.api";
+    public static final String STAGE_COMMIT_CONSUMER = "db_commit.consumer";
+    public static final String STAGE_COMMIT_OTHER = "db_commit.other";
+
+    private final transient LatencyRecorder latencyRecorder;
+
+    public CommitTimingTransactionManager(EntityManagerFactory entityManagerFactory, LatencyRecorder latencyRecorder) {
+        super(entityManagerFactory);
+        this.latencyRecorder = latencyRecorder;
+    }
+
+    @Override
+    protected void doCommit(DefaultTransactionStatus status) {
+        long startNanos = System.nanoTime();
+        try {
+            super.doCommit(status);
+        } finally {
+            latencyRecorder.recordNanos(stageOf(Thread.currentThread().getName()), startNanos, System.nanoTime());
+        }
+    }
+
+    // Tomcat 요청 스레드(플랫폼: http-nio-*, 가상: tomcat-handler-*), 키 순서 병렬 처리 레인/리스너 스레드(플랫폼: *ntainer#*, 가상: kafka-*listener-*)
+    private static String stageOf(String threadName) {
+        if (threadName.startsWith("http-nio") || threadName.startsWith("tomcat-handler")) {
+            return STAGE_COMMIT_API;
+        }
+        if (threadName.startsWith("event-lane-") || threadName.contains("ntainer#") || threadName.startsWith("kafka-")) {
+            return STAGE_COMMIT_CONSUMER;
+        }
+        return STAGE_COMMIT_OTHER;
+    }
+}
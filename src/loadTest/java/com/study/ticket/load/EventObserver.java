@@ -0,0 +1,178 @@
+package com.study.ticket.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.common.errors.WakeupException;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 이벤트 관찰자
+ * 애플리케이션과 별도의 컨슈머 그룹으로 결제/티켓 토픽을 구독하여
+ * 주문별 결제 승인 이벤트와 티켓 발급 이벤트의 Kafka 타임스탬프(전송 시각)와 수신 시각을 기록합니다.
+ */
+public class EventObserver implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(EventObserver.class);
+
+    private static final String PAYMENT_APPROVED = "PAYMENT_APPROVED";
+    private static final String TICKET_ISSUED = "TICKET_ISSUED";
+
+    private final KafkaConsumer<String, String> consumer;
+    private final ObjectMapper objectMapper;
+    private final int ticketsPerOrder;
+    private final Map<Long, ObservedFlow> flows = new ConcurrentHashMap<>();
+    private final Thread pollThread;
+    private volatile boolean running = true;
+    private volatile boolean partitionsAssigned;
+
+    /**
+     * 주문별 관찰 결과
+     */
+    public static class ObservedFlow {
+        private final CompletableFuture<ObservedFlow> completion = new CompletableFuture<>();
+        private final List<String> ticketEventKeys = new ArrayList<>();
+        private String paymentEventKey;
+        private long paymentRecordTimestampMillis;
+        private long lastTicketRecordTimestampMillis;
+        private long completedAtMicros;
+
+        public CompletableFuture<ObservedFlow> completion() {
+            return completion;
+        }
+
+        public String paymentEventKey() {
+            return paymentEventKey;
+        }
+
+        public long paymentRecordTimestampMillis() {
+            return paymentRecordTimestampMillis;
+        }
+
+        public List<String> ticketEventKeys() {
+            return ticketEventKeys;
+        }
+
+        public long lastTicketRecordTimestampMillis() {
+            return lastTicketRecordTimestampMillis;
+        }
+
+        public long completedAtMicros() {
+            return completedAtMicros;
+        }
+    }
+
+    public EventObserver(String bootstrapServers, ObjectMapper objectMapper, int ticketsPerOrder, Collection<String> topics) {
+        this.objectMapper = objectMapper;
+        this.ticketsPerOrder = ticketsPerOrder;
+        this.consumer = new KafkaConsumer<>(Map.<String, Object>of(
+                ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers,
+                ConsumerConfig.GROUP_ID_CONFIG, "load-test-observer-" + UUID.randomUUID(),
+                ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest",
+                ConsumerConfig.ISOLATION_LEVEL_CONFIG, "read_committed",
+                ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class,
+                ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class
+        ));
+        this.consumer.subscribe(topics);
+        this.pollThread = Thread.ofPlatform().name("load-test-observer").daemon(true).unstarted(this::pollLoop);
+    }
+
+    /**
+     * 관찰을 시작하고 파티션이 할당될 때까지 기다립니다.
+     */
+    public void start() {
+        pollThread.start();
+        long deadline = System.currentTimeMillis() + 30_000L;
+        while (!partitionsAssigned && System.currentTimeMillis() < deadline) {
+            sleep(100);
+        }
+    }
+
+    /**
+     * 주문을 관찰 대상으로 등록합니다. 결제 승인 요청 전에 호출합니다.
+     * @param orderId 주문 ID
+     * @return 관찰 결과
+     */
+    public ObservedFlow register(Long orderId) {
+        return flows.computeIfAbsent(orderId, key -> new ObservedFlow());
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        consumer.wakeup();
+        try {
+            pollThread.join(5_000L);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void pollLoop() {
+        try {
+            while (running) {
+                for (ConsumerRecord<String, String> record : consumer.poll(Duration.ofMillis(100))) {
+                    handle(record);
+                }
+                if (!partitionsAssigned && !consumer.assignment().isEmpty()) {
+                    partitionsAssigned = true;
+                }
+            }
+        } catch (WakeupException e) {
+            // 종료
+        } finally {
+            consumer.close();
+        }
+    }
+
+    private void handle(ConsumerRecord<String, String> record) {
+        long receivedAtMicros = LoadClock.nowMicros();
+        try {
+            JsonNode payload = objectMapper.readTree(record.value());
+            String eventType = payload.path("eventType").asText();
+            if (!PAYMENT_APPROVED.equals(eventType) && !TICKET_ISSUED.equals(eventType)) {
+                return;
+            }
+            ObservedFlow flow = flows.get(payload.path("orderId").asLong());
+            if (flow == null) {
+                return;
+            }
+
+            if (PAYMENT_APPROVED.equals(eventType)) {
+                flow.paymentEventKey = payload.path("eventKey").asText();
+                flow.paymentRecordTimestampMillis = record.timestamp();
+                return;
+            }
+
+            flow.ticketEventKeys.add(payload.path("eventKey").asText());
+            flow.lastTicketRecordTimestampMillis = Math.max(flow.lastTicketRecordTimestampMillis, record.timestamp());
+            if (flow.ticketEventKeys.size() == ticketsPerOrder) {
+                flow.completedAtMicros = receivedAtMicros;
+                flow.completion.complete(flow);
+            }
+        } catch (Exception e) {
+            log.warn("관찰 이벤트 처리 실패: {}", e.getMessage());
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.study.ticket.load;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 단계별 지연 시간 기록기
+ * 단계마다 HdrHistogram(마이크로초, 유효숫자 3자리)에 기록하고 백분위수로 요약합니다.
+ */
+public class LatencyRecorder {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(10);
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final Map<String, Histogram> histograms = new ConcurrentHashMap<>();
+
+    /**
+     * 지연 시간을 기록합니다. 음수(시계 해상도 차이)는 0으로 기록합니다.
+     * @param stage 단계 이름
+     * @param micros 지연 시간 (마이크로초)
+     */
+    public void record(String stage, long micros) {
+        histograms.computeIfAbsent(stage, key -> new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS))
+                .recordValue(Math.min(Math.max(micros, 0L), HIGHEST_TRACKABLE_MICROS));
+    }
+
+    /**
+     * 나노초 구간을 마이크로초로 기록합니다.
+     * @param stage 단계 이름
+     * @param startNanos 시작 시각 (System.nanoTime)
+     * @param endNanos 종료 시각 (System.nanoTime)
+     */
+    public void recordNanos(String stage, long startNanos, long endNanos) {
+        record(stage, TimeUnit.NANOSECONDS.toMicros(endNanos - startNanos));
+    }
+
+    /**
+     * 기록을 모두 지웁니다. (워밍업 구간 제외용)
+     */
+    public void reset() {
+        histograms.values().forEach(Histogram::reset);
+    }
+
+    /**
+     * 단계별 백분위수 요약 (밀리초)
+     * @param stageOrder 출력 순서 (목록에 없는 단계는 뒤에 추가)
+     * @return 단계별 요약
+     */
+    public Map<String, Map<String, Object>> summarize(String... stageOrder) {
+        Map<String, Map<String, Object>> summary = new LinkedHashMap<>();
+        for (String stage : stageOrder) {
+            Histogram histogram = histograms.get(stage);
+            if (histogram != null) {
+                summary.put(stage, summarize(histogram));
+            }
+        }
+        histograms.forEach((stage, histogram) -> summary.computeIfAbsent(stage, key -> summarize(histogram)));
+        return summary;
+    }
+
+    private Map<String, Object> summarize(Histogram histogram) {
+        Map<String, Object> percentiles = new LinkedHashMap<>();
+        percentiles.put("count", histogram.getTotalCount());
+        percentiles.put("mean", toMillis(histogram.getMean()));
+        percentiles.put("p50", toMillis(histogram.getValueAtPercentile(50)));
+        percentiles.put("p90", toMillis(histogram.getValueAtPercentile(90)));
+        percentiles.put("p99", toMillis(histogram.getValueAtPercentile(99)));
+        percentiles.put("p99.9", toMillis(histogram.getValueAtPercentile(99.9)));
+        percentiles.put("max", toMillis(histogram.getMaxValue()));
+        return percentiles;
+    }
+
+    private static double toMillis(double micros) {
+        return Math.round(micros) / 1000.0;
+    }
+}
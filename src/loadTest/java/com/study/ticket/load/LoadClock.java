@@ -0,0 +1,44 @@
+package com.study.ticket.load;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 부하 테스트 시각 변환
+ * 애플리케이션은 LocalDateTime(시스템 기본 시간대), Kafka는 epoch 밀리초를 사용하므로 모두 epoch 마이크로초로 맞춥니다.
+ */
+public final class LoadClock {
+
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    private LoadClock() {
+    }
+
+    /**
+     * 현재 시각 (epoch 마이크로초)
+     * @return epoch 마이크로초
+     */
+    public static long nowMicros() {
+        return ChronoUnit.MICROS.between(Instant.EPOCH, Instant.now());
+    }
+
+    /**
+     * LocalDateTime을 epoch 마이크로초로 변환합니다.
+     * @param dateTime 시각
+     * @return epoch 마이크로초
+     */
+    public static long toMicros(LocalDateTime dateTime) {
+        return ChronoUnit.MICROS.between(Instant.EPOCH, dateTime.atZone(ZONE).toInstant());
+    }
+
+    /**
+     * epoch 밀리초를 epoch 마이크로초로 변환합니다.
+     * @param epochMillis epoch 밀리초
+     * @return epoch 마이크로초
+     */
+    public static long millisToMicros(long epochMillis) {
+        return epochMillis * 1000L;
+    }
+}
@@ -0,0 +1,132 @@
+package com.study.ticket.load;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 부하 테스트 리포트
+ * 단계별 백분위수를 JSON으로 저장하고, 비교 기준 리포트와 p50/p99를 비교한 회귀 리포트(Markdown)를 생성합니다.
+ */
+public class LoadReport {
+
+    private static final String[] COMPARED_PERCENTILES = {"p50", "p99"};
+    private static final DateTimeFormatter FILE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    /**
+     * 회귀로 판단하지 않는 최소 증가량 (ms), 측정 잡음 제외
+     */
+    private static final double NOISE_FLOOR_MILLIS = 1.0;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private final LoadTestSettings settings;
+    private final Map<String, Object> report = new LinkedHashMap<>();
+    private final List<String> regressions = new ArrayList<>();
+
+    public LoadReport(LoadTestSettings settings, Map<String, Object> run, Map<String, Map<String, Object>> stages) {
+        this.settings = settings;
+        report.put("run", run);
+        report.put("stages", stages);
+    }
+
+    /**
+     * 리포트를 저장하고 비교 기준과 비교합니다.
+     * @return 회귀 리포트 (Markdown)
+     */
+    public String writeAndCompare() throws IOException {
+        Files.createDirectories(settings.reportDir());
+        String fileName = "load-" + settings.threadMode() + "-" + LocalDateTime.now().format(FILE_TIME_FORMAT) + ".json";
+        objectMapper.writeValue(settings.reportDir().resolve(fileName).toFile(), report);
+        objectMapper.writeValue(settings.reportDir().resolve("latest.json").toFile(), report);
+
+        String comparison = compare();
+        Files.writeString(settings.reportDir().resolve("regression.md"), comparison);
+
+        if (settings.saveBaseline()) {
+            objectMapper.writeValue(settings.baseline().toFile(), report);
+        }
+        return comparison;
+    }
+
+    /**
+     * 비교 기준보다 느려진 단계 목록
+     * @return 회귀 항목
+     */
+    public List<String> getRegressions() {
+        return regressions;
+    }
+
+    @SuppressWarnings("unchecked")
+    private String compare() throws IOException {
+        Map<String, Map<String, Object>> current = (Map<String, Map<String, Object>>) report.get("stages");
+        StringBuilder markdown = new StringBuilder("# 부하 테스트 결과\n\n")
+                .append(toMarkdownRun((Map<String, Object>) report.get("run")))
+                .append('\n');
+
+        Path baselinePath = settings.baseline();
+        if (!Files.exists(baselinePath)) {
+            markdown.append("| 단계 | count | p50 | p90 | p99 | p99.9 | max |\n|---|---|---|---|---|---|---|\n");
+            current.forEach((stage, values) -> markdown.append("| ").append(stage)
+                    .append(" | ").append(values.get("count"))
+                    .append(" | ").append(values.get("p50"))
+                    .append(" | ").append(values.get("p90"))
+                    .append(" | ").append(values.get("p99"))
+                    .append(" | ").append(values.get("p99.9"))
+                    .append(" | ").append(values.get("max"))
+                    .append(" |\n"));
+            markdown.append("\n비교 기준 리포트가 없습니다: ").append(baselinePath)
+                    .append(" (-Pload.save-baseline=true 로 저장)\n");
+            return markdown.toString();
+        }
+
+        Map<String, Object> baselineReport = objectMapper.readValue(baselinePath.toFile(), new TypeReference<Map<String, Object>>() {
+        });
+        Map<String, Map<String, Object>> baseline = (Map<String, Map<String, Object>>) baselineReport.get("stages");
+        markdown.append("비교 기준: ").append(baselinePath)
+                .append(" (").append(((Map<String, Object>) baselineReport.get("run")).get("threadMode")).append(")\n\n")
+                .append("| 단계 | 백분위 | 기준 (ms) | 현재 (ms) | 변화 | 판정 |\n|---|---|---|---|---|---|\n");
+
+        current.forEach((stage, values) -> {
+            Map<String, Object> baselineValues = baseline.get(stage);
+            if (baselineValues == null) {
+                return;
+            }
+            for (String percentile : COMPARED_PERCENTILES) {
+                double before = ((Number) baselineValues.get(percentile)).doubleValue();
+                double after = ((Number) values.get(percentile)).doubleValue();
+                double change = before > 0 ? (after - before) / before : 0.0;
+                boolean regressed = after - before > NOISE_FLOOR_MILLIS && change > settings.regressionThreshold();
+                if (regressed) {
+                    regressions.add(stage + " " + percentile + ": " + before + "ms → " + after + "ms");
+                }
+                markdown.append("| ").append(stage)
+                        .append(" | ").append(percentile)
+                        .append(" | ").append(before)
+                        .append(" | ").append(after)
+                        .append(" | ").append(String.format("%+.1f%%", change * 100))
+                        .append(" | ").append(regressed ? "회귀" : "-")
+                        .append(" |\n");
+            }
+        });
+        markdown.append("\n회귀 기준: ").append(Math.round(settings.regressionThreshold() * 100))
+                .append("% 이상 그리고 ").append(NOISE_FLOOR_MILLIS).append("ms 이상 증가, 회귀 ")
+                .append(regressions.size()).append(" 건\n");
+        return markdown.toString();
+    }
+
+    private static String toMarkdownRun(Map<String, Object> run) {
+        StringBuilder markdown = new StringBuilder();
+        run.forEach((key, value) -> markdown.append("- ").append(key).append(": ").append(value).append('\n'));
+        return markdown.toString();
+    }
+}
@@ -0,0 +1,67 @@
+package com.study.ticket.load;
+
+import java.nio.file.Path;
+
+/**
+ * 부하 테스트 설정
+ * Gradle 프로퍼티(-Pload.*)가 시스템 프로퍼티로 전달됩니다.
+ *
+ * @param rate 초당 주문 흐름 시작 수
+ * @param orders 전체 주문 흐름 수
+ * @param warmupOrders 측정에서 제외할 앞부분 주문 흐름 수
+ * @param seatsPerOrder 주문당 좌석 수
+ * @param timeoutSeconds 모든 티켓 발급 이벤트를 기다리는 최대 시간 (초)
+ * @param virtualThreads 가상 스레드 실행 모드 사용 여부
+ * @param dbPoolSize 커넥션 풀 크기
+ * @param reportDir 리포트 저장 디렉토리
+ * @param baseline 비교 기준 리포트 경로 (없으면 reportDir/baseline.json)
+ * @param regressionThreshold 회귀로 판단할 지연 시간 증가율 (0.1 = 10%)
+ * @param failOnRegression 회귀가 있으면 테스트를 실패시킬지 여부
+ * @param saveBaseline 이번 결과를 비교 기준 리포트로 저장할지 여부
+ */
+public record LoadTestSettings(
+        int rate,
+        int orders,
+        int warmupOrders,
+        int seatsPerOrder,
+        long timeoutSeconds,
+        boolean virtualThreads,
+        int dbPoolSize,
+        Path reportDir,
+        Path baseline,
+        double regressionThreshold,
+        boolean failOnRegression,
+        boolean saveBaseline
+) {
+
+    /**
+     * 시스템 프로퍼티에서 설정을 읽습니다.
+     * @return 부하 테스트 설정
+     */
+    public static LoadTestSettings fromSystemProperties() {
+        Path reportDir = Path.of(System.getProperty("load.report-dir", "build/reports/load"));
+        String baseline = System.getProperty("load.baseline");
+        return new LoadTestSettings(
+                Integer.getInteger("load.rate", 50),
+                Integer.getInteger("load.orders", 2000),
+                Integer.getInteger("load.warmup-orders", 200),
+                Integer.getInteger("load.seats-per-order", 2),
+                Long.getLong("load.timeout-seconds", 300L),
+                Boolean.parseBoolean(System.getProperty("load.virtual-threads", "false")),
+                Integer.getInteger("load.db-pool-size", 20),
+                reportDir,
+                baseline != null ? Path.of(baseline) : reportDir.resolve("baseline.json"),
+                Double.parseDouble(System.getProperty("load.regression-threshold", "0.1")),
+                Boolean.parseBoolean(System.getProperty("load.fail-on-regression", "false")),
+                Boolean.parseBoolean(System.getProperty("load.save-baseline", "false"))
+        );
+    }
+
+    /**
+     * 실행 모드 이름 (리포트 구분용)
+     * @return platform 또는 virtual
+     */
+    public String threadMode() {
+        return virtualThreads ? "virtual" : "platform";
+    }
+}
@@ -0,0 +1,107 @@
+package com.study.ticket.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 주문 흐름 API 클라이언트
+ * 주문 생성 → 결제 생성 → 결제 승인 API를 호출하고 단계별 응답 시간을 기록합니다.
+ * 생성 API는 ID를 반환하지 않으므로 조회 API로 생성된 주문/결제 ID를 찾습니다.
+ */
+public class OrderFlowClient {
+
+    public static final String STAGE_CREATE_ORDER = "api.create_order";
+    public static final String STAGE_CREATE_PAYMENT = "api.create_payment";
+    public static final String STAGE_APPROVE_PAYMENT = "api.approve_payment";
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final String baseUrl;
+
+    public OrderFlowClient(int port, ObjectMapper objectMapper) {
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(REQUEST_TIMEOUT)
+                .build();
+        this.objectMapper = objectMapper;
+        this.baseUrl = "http://localhost:" + port;
+    }
+
+    /**
+     * 주문을 생성하고 생성된 주문 ID를 반환합니다.
+     * @param userId 사용자 ID (흐름마다 다른 사용자)
+     * @param screeningId 상영 ID
+     * @param seatNumbers 좌석 번호 목록
+     * @param recorder 응답 시간 기록기 (워밍업 중이면 null)
+     * @return 주문 ID
+     */
+    public Long createOrder(Long userId, Long screeningId, List<String> seatNumbers, LatencyRecorder recorder) throws IOException, InterruptedException {
+        long startNanos = System.nanoTime();
+        send("POST", "/api/orders", Map.of("userId", userId, "screeningId", screeningId, "seatNumbers", seatNumbers), 201);
+        record(recorder, STAGE_CREATE_ORDER, startNanos);
+
+        JsonNode orders = send("GET", "/api/orders/user/" + userId + "?cursor=&size=1", null, 200);
+        return orders.path("data").path("content").path(0).path("id").asLong();
+    }
+
+    /**
+     * 결제를 생성하고 생성된 결제 ID를 반환합니다.
+     * @param orderId 주문 ID
+     * @param recorder 응답 시간 기록기 (워밍업 중이면 null)
+     * @return 결제 ID
+     */
+    public Long createPayment(Long orderId, LatencyRecorder recorder) throws IOException, InterruptedException {
+        long startNanos = System.nanoTime();
+        send("POST", "/api/payments", Map.of("orderId", orderId, "method", "CREDIT_CARD"), 201);
+        record(recorder, STAGE_CREATE_PAYMENT, startNanos);
+
+        JsonNode payment = send("GET", "/api/payments/order/" + orderId, null, 200);
+        return payment.path("data").path("id").asLong();
+    }
+
+    /**
+     * 결제를 승인합니다.
+     * @param paymentId 결제 ID
+     * @param recorder 응답 시간 기록기 (워밍업 중이면 null)
+     */
+    public void approvePayment(Long paymentId, LatencyRecorder recorder) throws IOException, InterruptedException {
+        long startNanos = System.nanoTime();
+        send("POST", "/api/payments/" + paymentId + "/approve", Map.of("paymentKey", "load-test-" + paymentId), 200);
+        record(recorder, STAGE_APPROVE_PAYMENT, startNanos);
+    }
+
+    private JsonNode send(String method, String path, Object body, int expectedStatus) throws IOException, InterruptedException {
+        HttpRequest.BodyPublisher publisher = body == null
+                ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body));
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .method(method, publisher)
+                .build();
+
+        HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != expectedStatus) {
+            throw new IllegalStateException(method + " " + path + " 응답 코드 " + response.statusCode() + ": "
+                    + new String(response.body()));
+        }
+        return objectMapper.readTree(response.body());
+    }
+
+    private static void record(LatencyRecorder recorder, String stage, long startNanos) {
+        if (recorder != null) {
+            recorder.recordNanos(stage, startNanos, System.nanoTime());
+        }
+    }
+}
@@ -0,0 +1,360 @@
+package com.study.ticket.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.ticket.domain.movie.domain.entity.Movie;
+import com.study.ticket.domain.movie.domain.enums.Genre;
+import com.study.ticket.domain.movie.domain.enums.Rating;
+import com.study.ticket.domain.movie.domain.repository.MovieRepository;
+import com.study.ticket.domain.screening.domain.entity.Screening;
+import com.study.ticket.domain.screening.domain.repository.ScreeningRepository;
+import com.study.ticket.domain.user.domain.entity.User;
+import com.study.ticket.domain.user.domain.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주문 → 결제 → 티켓 발급 부하 테스트
+ * 내장 Kafka와 H2로 애플리케이션을 띄우고 설정한 속도(load.rate)로 주문 흐름을 시작하여
+ * 결제 승인 요청부터 TicketIssuedEvent 수신까지의 지연 시간을 단계별로 측정합니다.
+ *
+ * 단계 (결제 승인 이벤트 → 티켓 발급 이벤트 경로)
+ * - saga.outbox_dwell: 결제 승인 Outbox 저장 → Kafka 전송 (레코드 타임스탬프)
+ * - saga.kafka_transit: Kafka 전송 → payment-service 컨슈머 처리 시작 (PROCESSED_EVENTS.PROCESSED_AT)
+ * - saga.consumer_processing: 컨슈머 처리 시작 → 마지막 티켓 발급 Outbox 저장
+ * - saga.ticket_publish: 마지막 티켓 발급 Outbox 저장 → Kafka 전송 (컨슈머 트랜잭션 커밋 + Outbox 대기 포함)
+ * - saga.end_to_end: 결제 승인 요청 시작 → 모든 티켓 발급 이벤트 수신
+ * - db_commit.*: 커밋 실행 스레드별 DB 커밋 시간
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.kafka.bootstrap-servers=${spring.embedded.kafka.brokers}",
+                "spring.jpa.properties.hibernate.show_sql=false",
+                "spring.jpa.properties.hibernate.format_sql=false",
+                "spring.jpa.properties.hibernate.use_sql_comments=false",
+                "outbox.retention.enabled=false",
+                "logging.level.root=WARN",
+                "logging.level.com.study.ticket.load=INFO"
+        }
+)
+@EmbeddedKafka(partitions = 3, topics = {"order-events", "payment-events", "ticket-events", "movie-events", "screening-events"})
+@Import(OrderSagaLoadTest.LoadTestConfiguration.class)
+class OrderSagaLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderSagaLoadTest.class);
+
+    private static final LoadTestSettings SETTINGS = LoadTestSettings.fromSystemProperties();
+    private static final String PAYMENT_CONSUMER_GROUP = "payment-service";
+    private static final int SCREENING_TOTAL_SEATS = 200;
+    private static final int SEATS_PER_ROW = 10;
+
+    private static final String STAGE_OUTBOX_DWELL = "saga.outbox_dwell";
+    private static final String STAGE_KAFKA_TRANSIT = "saga.kafka_transit";
+    private static final String STAGE_CONSUMER_PROCESSING = "saga.consumer_processing";
+    private static final String STAGE_TICKET_PUBLISH = "saga.ticket_publish";
+    private static final String STAGE_END_TO_END = "saga.end_to_end";
+
+    @TestConfiguration
+    static class LoadTestConfiguration {
+
+        @Bean
+        LatencyRecorder latencyRecorder() {
+            return new LatencyRecorder();
+        }
+
+        @Bean
+        PlatformTransactionManager transactionManager(EntityManagerFactory entityManagerFactory, LatencyRecorder latencyRecorder) {
+            return new CommitTimingTransactionManager(entityManagerFactory, latencyRecorder);
+        }
+    }
+
+    @DynamicPropertySource
+    static void loadTestProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.threads.virtual.enabled", SETTINGS::virtualThreads);
+        registry.add("spring.datasource.hikari.maximum-pool-size", SETTINGS::dbPoolSize);
+        registry.add("spring.datasource.hikari.minimum-idle", SETTINGS::dbPoolSize);
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private EmbeddedKafkaBroker embeddedKafkaBroker;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private LatencyRecorder latencyRecorder;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    @Autowired
+    private ScreeningRepository screeningRepository;
+
+    /**
+     * 한 번 실행한 주문 흐름
+     */
+    private record FlowResult(int index, long approveStartMicros, EventObserver.ObservedFlow observed) {
+    }
+
+    @Test
+    void orderPaymentTicketFlow() throws Exception {
+        List<Long> userIds = createUsers(SETTINGS.orders());
+        List<Long> screeningIds = createScreenings(SETTINGS.orders());
+        int ordersPerScreening = SCREENING_TOTAL_SEATS / SETTINGS.seatsPerOrder();
+
+        OrderFlowClient client = new OrderFlowClient(port, objectMapper);
+        Map<Integer, String> failures = new ConcurrentHashMap<>();
+        List<CompletableFuture<FlowResult>> flows = new ArrayList<>();
+        AtomicInteger started = new AtomicInteger();
+        int timedOut = 0;
+
+        try (EventObserver observer = new EventObserver(embeddedKafkaBroker.getBrokersAsString(), objectMapper,
+                SETTINGS.seatsPerOrder(), List.of("payment-events", "ticket-events"));
+             ExecutorService flowExecutor = Executors.newVirtualThreadPerTaskExecutor()) {
+            observer.start();
+            log.info("부하 테스트 시작: {}", SETTINGS);
+
+            // 설정한 속도로 주문 흐름 시작 (응답을 기다리지 않는 개방형 부하)
+            ScheduledExecutorService ticker = Executors.newSingleThreadScheduledExecutor();
+            long startedAtNanos = System.nanoTime();
+            CompletableFuture<Void> allStarted = new CompletableFuture<>();
+            ticker.scheduleAtFixedRate(() -> {
+                int index = started.getAndIncrement();
+                if (index >= SETTINGS.orders()) {
+                    allStarted.complete(null);
+                    return;
+                }
+                if (index == SETTINGS.warmupOrders()) {
+                    // 워밍업 구간의 커밋 시간 제외
+                    latencyRecorder.reset();
+                }
+                Long userId = userIds.get(index);
+                Long screeningId = screeningIds.get(index / ordersPerScreening);
+                List<String> seatNumbers = seatNumbers(index % ordersPerScreening);
+                synchronized (flows) {
+                    flows.add(CompletableFuture.supplyAsync(() -> runFlow(client, observer, index, userId, screeningId, seatNumbers, failures), flowExecutor)
+                            .thenCompose(result -> result == null ? CompletableFuture.completedFuture(null) : result));
+                }
+            }, 0L, TimeUnit.SECONDS.toNanos(1) / SETTINGS.rate(), TimeUnit.NANOSECONDS);
+
+            allStarted.get(SETTINGS.timeoutSeconds(), TimeUnit.SECONDS);
+            ticker.shutdownNow();
+
+            // 모든 흐름의 티켓 발급 이벤트 대기
+            List<FlowResult> results = new ArrayList<>();
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(SETTINGS.timeoutSeconds());
+            List<CompletableFuture<FlowResult>> startedFlows;
+            synchronized (flows) {
+                startedFlows = new ArrayList<>(flows);
+            }
+            for (CompletableFuture<FlowResult> flow : startedFlows) {
+                try {
+                    FlowResult result = flow.get(Math.max(deadline - System.nanoTime(), 0L), TimeUnit.NANOSECONDS);
+                    if (result != null) {
+                        results.add(result);
+                    }
+                } catch (TimeoutException e) {
+                    timedOut++;
+                }
+            }
+            long elapsedNanos = System.nanoTime() - startedAtNanos;
+
+            recordSagaStages(results);
+            report(results, failures, timedOut, elapsedNanos);
+        }
+    }
+
+    // 주문 생성 → 결제 생성 → 결제 승인, 완료 Future 반환 (실패하면 null)
+    private CompletableFuture<FlowResult> runFlow(OrderFlowClient client, EventObserver observer, int index, Long userId,
+                                                  Long screeningId, List<String> seatNumbers, Map<Integer, String> failures) {
+        LatencyRecorder recorder = index >= SETTINGS.warmupOrders() ? latencyRecorder : null;
+        try {
+            Long orderId = client.createOrder(userId, screeningId, seatNumbers, recorder);
+            Long paymentId = client.createPayment(orderId, recorder);
+
+            EventObserver.ObservedFlow observed = observer.register(orderId);
+            long approveStartMicros = LoadClock.nowMicros();
+            client.approvePayment(paymentId, recorder);
+            return observed.completion().thenApply(flow -> new FlowResult(index, approveStartMicros, flow));
+        } catch (Exception e) {
+            failures.put(index, e.getMessage());
+            return null;
+        }
+    }
+
+    // Outbox/처리 이벤트 테이블의 시각과 관찰한 Kafka 타임스탬프로 단계별 지연 시간 계산
+    private void recordSagaStages(List<FlowResult> results) {
+        Map<String, Long> outboxCreatedAt = new HashMap<>();
+        jdbcTemplate.query("SELECT EVENT_KEY, CREATED_AT FROM OUTBOX_EVENTS WHERE EVENT_TYPE IN ('PAYMENT_APPROVED', 'TICKET_ISSUED')",
+                rs -> {
+                    // 시각이 기록되지 않은 행은 해당 단계 지연 시간에서 제외
+                    Timestamp createdAt = rs.getTimestamp(2);
+                    if (createdAt != null) {
+                        outboxCreatedAt.put(rs.getString(1), LoadClock.toMicros(createdAt.toLocalDateTime()));
+                    }
+                });
+        Map<String, Long> processedAt = new HashMap<>();
+        jdbcTemplate.query("SELECT EVENT_KEY, PROCESSED_AT FROM PROCESSED_EVENTS WHERE CONSUMER_GROUP = ?",
+                rs -> {
+                    Timestamp eventProcessedAt = rs.getTimestamp(2);
+                    if (eventProcessedAt != null) {
+                        processedAt.put(rs.getString(1), LoadClock.toMicros(eventProcessedAt.toLocalDateTime()));
+                    }
+                }, PAYMENT_CONSUMER_GROUP);
+
+        for (FlowResult result : results) {
+            if (result.index() < SETTINGS.warmupOrders()) {
+                continue;
+            }
+            EventObserver.ObservedFlow observed = result.observed();
+            Long paymentOutboxMicros = outboxCreatedAt.get(observed.paymentEventKey());
+            Long paymentProcessedMicros = processedAt.get(observed.paymentEventKey());
+            long ticketOutboxMicros = observed.ticketEventKeys().stream()
+                    .map(outboxCreatedAt::get)
+                    .filter(value -> value != null)
+                    .mapToLong(Long::longValue)
+                    .max()
+                    .orElse(0L);
+            long paymentRecordMicros = LoadClock.millisToMicros(observed.paymentRecordTimestampMillis());
+            long ticketRecordMicros = LoadClock.millisToMicros(observed.lastTicketRecordTimestampMillis());
+
+            if (paymentOutboxMicros != null && observed.paymentRecordTimestampMillis() > 0) {
+                latencyRecorder.record(STAGE_OUTBOX_DWELL, paymentRecordMicros - paymentOutboxMicros);
+            }
+            if (paymentProcessedMicros != null && observed.paymentRecordTimestampMillis() > 0) {
+                latencyRecorder.record(STAGE_KAFKA_TRANSIT, paymentProcessedMicros - paymentRecordMicros);
+            }
+            if (paymentProcessedMicros != null && ticketOutboxMicros > 0) {
+                latencyRecorder.record(STAGE_CONSUMER_PROCESSING, ticketOutboxMicros - paymentProcessedMicros);
+            }
+            if (ticketOutboxMicros > 0) {
+                latencyRecorder.record(STAGE_TICKET_PUBLISH, ticketRecordMicros - ticketOutboxMicros);
+            }
+            latencyRecorder.record(STAGE_END_TO_END, observed.completedAtMicros() - result.approveStartMicros());
+        }
+    }
+
+    private void report(List<FlowResult> results, Map<Integer, String> failures, int timedOut, long elapsedNanos) throws Exception {
+        Map<String, Object> run = new LinkedHashMap<>();
+        run.put("threadMode", SETTINGS.threadMode());
+        run.put("rate", SETTINGS.rate());
+        run.put("orders", SETTINGS.orders());
+        run.put("warmupOrders", SETTINGS.warmupOrders());
+        run.put("seatsPerOrder", SETTINGS.seatsPerOrder());
+        run.put("dbPoolSize", SETTINGS.dbPoolSize());
+        run.put("completed", results.size());
+        run.put("failed", failures.size());
+        run.put("timedOut", timedOut);
+        run.put("elapsedSeconds", Math.round(elapsedNanos / 1_000_000.0) / 1000.0);
+        run.put("throughputPerSecond", Math.round(results.size() / (elapsedNanos / 1_000_000_000.0) * 10) / 10.0);
+
+        LoadReport loadReport = new LoadReport(SETTINGS, run, latencyRecorder.summarize(
+                STAGE_END_TO_END, STAGE_OUTBOX_DWELL, STAGE_KAFKA_TRANSIT, STAGE_CONSUMER_PROCESSING, STAGE_TICKET_PUBLISH,
+                OrderFlowClient.STAGE_CREATE_ORDER, OrderFlowClient.STAGE_CREATE_PAYMENT, OrderFlowClient.STAGE_APPROVE_PAYMENT,
+                CommitTimingTransactionManager.STAGE_COMMIT_API, CommitTimingTransactionManager.STAGE_COMMIT_CONSUMER,
+                CommitTimingTransactionManager.STAGE_COMMIT_OTHER));
+        log.info("\n{}", loadReport.writeAndCompare());
+        failures.entrySet().stream().limit(10).forEach(failure -> log.warn("흐름 실패 #{}: {}", failure.getKey(), failure.getValue()));
+
+        assertThat(results).as("완료된 주문 흐름").isNotEmpty();
+        if (SETTINGS.failOnRegression()) {
+            assertThat(loadReport.getRegressions()).as("비교 기준 대비 회귀").isEmpty();
+        }
+    }
+
+    private List<Long> createUsers(int count) {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            users.add(User.builder()
+                    .email("load-" + i + "@ticket.com")
+                    .password("password")
+                    .name("부하테스트" + i)
+                    .phone("010-0000-0000")
+                    .role("USER")
+                    .enabled(true)
+                    .build());
+        }
+        return userRepository.saveAll(users).stream().map(User::getId).toList();
+    }
+
+    private List<Long> createScreenings(int orders) {
+        Movie movie = movieRepository.save(Movie.builder()
+                .title("부하 테스트 영화")
+                .director("부하 테스트")
+                .runningTime(120)
+                .releaseDate(LocalDate.now().minusDays(1))
+                .endDate(LocalDate.now().plusDays(30))
+                .genre(Genre.ACTION)
+                .rating(Rating.ALL)
+                .build());
+
+        int ordersPerScreening = SCREENING_TOTAL_SEATS / SETTINGS.seatsPerOrder();
+        int screeningCount = (orders + ordersPerScreening - 1) / ordersPerScreening;
+        LocalDateTime startTime = LocalDateTime.now().plusDays(1);
+        List<Screening> screenings = new ArrayList<>();
+        for (int i = 0; i < screeningCount; i++) {
+            screenings.add(Screening.builder()
+                    .movie(movie)
+                    .screenName("부하테스트관 " + i)
+                    .startTime(startTime.plusHours(i))
+                    .endTime(startTime.plusHours(i + 2L))
+                    .totalSeats(SCREENING_TOTAL_SEATS)
+                    .availableSeats(SCREENING_TOTAL_SEATS)
+                    .price(10000)
+                    .build());
+        }
+        return screeningRepository.saveAll(screenings).stream().map(Screening::getId).toList();
+    }
+
+    // 상영 내 n번째 주문의 좌석 (A1, A2 ... T10)
+    private static List<String> seatNumbers(int orderInScreening) {
+        List<String> seatNumbers = new ArrayList<>();
+        for (int i = 0; i < SETTINGS.seatsPerOrder(); i++) {
+            int seatIndex = orderInScreening * SETTINGS.seatsPerOrder() + i;
+            seatNumbers.add(String.valueOf((char) ('A' + seatIndex / SEATS_PER_ROW)) + (seatIndex % SEATS_PER_ROW + 1));
+        }
+        return seatNumbers;
+    }
+}
@@ -13,20 +13,21 @@ import java.time.LocalDateTime;
  */
 @Entity
 @Table(name = "PROCESSED_EVENTS", indexes = {
-    @Index(name = "idx_processed_events_event_key", columnList = "EVENT_KEY", unique = true)
+    @Index(name = "idx_processed_events_event_key_consumer_group", columnList = "EVENT_KEY, CONSUMER_GROUP", unique = true)
 })
 @Builder
 @Getter @Setter
 @AllArgsConstructor @NoArgsConstructor
 public class ProcessedEvent extends BaseEntity {
 
+    // JdbcTemplate INSERT IGNORE 배치가 ID를 지정하지 않고 저장하므로 자동 증가(IDENTITY) 유지
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "PROCESSED_EVENT_ID")
     @Comment("처리된 이벤트 ID")
     private Long id;
 
-    @Column(name = "EVENT_KEY", nullable = false, unique = true)
+    @Column(name = "EVENT_KEY", nullable = false)
     @Comment("이벤트 키 (멱등성 보장용)")
     private String eventKey;
 
@@ -47,6 +48,7 @@ public class ProcessedEvent extends BaseEntity {
      */
     @PrePersist
     public void prePersist() {
+        super.prePersist();
         if (processedAt == null) {
             processedAt = LocalDateTime.now();
         }
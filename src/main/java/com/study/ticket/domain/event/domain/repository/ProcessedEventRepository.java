@@ -2,10 +2,13 @@ package com.study.ticket.domain.event.domain.repository;
 
 import com.study.ticket.domain.event.domain.entity.ProcessedEvent;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -29,11 +32,36 @@ public interface ProcessedEventRepository extends JpaRepository<ProcessedEvent,
      */
     boolean existsByEventKeyAndConsumerGroup(String eventKey, String consumerGroup);
 
+    /**
+     * 컨슈머 그룹에서 이미 처리된 이벤트 키를 한 번의 IN 조회로 찾습니다.
+     * @param eventKeys 이벤트 키 목록
+     * @param consumerGroup 컨슈머 그룹
+     * @return 처리된 이벤트 키 목록
+     */
+    @Query("SELECT p.eventKey FROM ProcessedEvent p WHERE p.consumerGroup = :consumerGroup AND p.eventKey IN :eventKeys")
+    List<String> findProcessedEventKeys(@Param("eventKeys") Collection<String> eventKeys, @Param("consumerGroup") String consumerGroup);
+
     /**
      * 특정 기간 이전에 처리된 이벤트를 삭제합니다.
      * @param before 기준 시간
      * @return 삭제된 이벤트 수
      */
+    @Modifying
     @Query("DELETE FROM ProcessedEvent p WHERE p.processedAt < :before")
     int deleteProcessedEventsBefore(@Param("before") LocalDateTime before);
+
+    /**
+     * 처리된 이벤트가 없으면 기록합니다.
+     * (EVENT_KEY, CONSUMER_GROUP) 유니크 인덱스에 걸리는 중복 행은 한 번의 INSERT IGNORE로 무시합니다.
+     * @param eventKey 이벤트 키
+     * @param eventType 이벤트 타입
+     * @param consumerGroup 컨슈머 그룹
+     * @param processedAt 처리 시간
+     * @return 기록되었으면 1, 이미 처리된 이벤트면 0
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO PROCESSED_EVENTS (EVENT_KEY, EVENT_TYPE, CONSUMER_GROUP, PROCESSED_AT, CREATED_AT, UPDATED_AT) " +
+            "VALUES (:eventKey, :eventType, :consumerGroup, :processedAt, :processedAt, :processedAt)", nativeQuery = true)
+    int insertIfAbsent(@Param("eventKey") String eventKey, @Param("eventType") String eventType,
+                       @Param("consumerGroup") String consumerGroup, @Param("processedAt") LocalDateTime processedAt);
 }
@@ -0,0 +1,66 @@
+package com.study.ticket.domain.event.filter;
+
+/**
+ * 이진 이벤트 키
+ * 컨슈머 그룹과 이벤트 키 문자열을 128비트 해시 두 개의 long으로 표현한 멱등성 필터 키입니다.
+ * "그룹:이벤트키" 문자열(80자 내외)을 만들지 않고 문자를 바로 해시하므로 조회마다 문자열/바이트 배열을 할당하지 않으며,
+ * LRU 캐시 항목이 고정 크기(객체 헤더 + 16바이트)라 같은 메모리에 더 많은 키를 보관합니다.
+ * 블룸 필터는 하위 64비트를 그대로 해시 값으로 사용합니다.
+ *
+ * 해시 충돌 시 새 이벤트를 처리됨으로 판단할 수 있으나, 128비트에서 LRU 크기(10만 개) 기준 충돌 확률은 무시할 수준입니다.
+ * DB 처리 기록은 여전히 원래 문자열 키로 저장/조회합니다.
+ *
+ * @param high 상위 64비트
+ * @param low 하위 64비트
+ */
+public record BinaryEventKey(long high, long low) {
+
+    private static final long SEED_HIGH = 0x9E3779B97F4A7C15L;
+    private static final long SEED_LOW = 0xcbf29ce484222325L;
+    private static final char SEPARATOR = ':';
+
+    /**
+     * 컨슈머 그룹과 이벤트 키로 이진 키를 생성합니다.
+     * @param eventKey 이벤트 키
+     * @param consumerGroup 컨슈머 그룹
+     * @return 이진 키
+     */
+    public static BinaryEventKey of(String eventKey, String consumerGroup) {
+        long high = SEED_HIGH;
+        long low = SEED_LOW;
+        for (int i = 0, length = consumerGroup.length(); i < length; i++) {
+            char c = consumerGroup.charAt(i);
+            high = mixHigh(high, c);
+            low = mixLow(low, c);
+        }
+        high = mixHigh(high, SEPARATOR);
+        low = mixLow(low, SEPARATOR);
+        for (int i = 0, length = eventKey.length(); i < length; i++) {
+            char c = eventKey.charAt(i);
+            high = mixHigh(high, c);
+            low = mixLow(low, c);
+        }
+        int totalLength = consumerGroup.length() + 1 + eventKey.length();
+        return new BinaryEventKey(fmix64(high ^ totalLength), fmix64(low ^ totalLength));
+    }
+
+    private static long mixHigh(long hash, char c) {
+        return Long.rotateLeft(hash ^ (c * 0x87c37b91114253d5L), 31) * 0x4cf5ad432745937fL;
+    }
+
+    private static long mixLow(long hash, char c) {
+        return (hash ^ c) * 0x100000001b3L;
+    }
+
+    /**
+     * murmur3 64비트 finalizer
+     */
+    private static long fmix64(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
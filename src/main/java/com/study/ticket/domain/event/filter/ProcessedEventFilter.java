@@ -0,0 +1,153 @@
+package com.study.ticket.domain.event.filter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 처리된 이벤트 필터
+ * 처리된 이벤트 DB 조회 앞단에서 멱등성 검사를 메모리로 먼저 처리합니다.
+ * 1단계: 최근 처리한 키의 LRU 캐시로 "이미 처리됨"을 DB 조회 없이 판단합니다.
+ * 2단계: 시간 윈도우 블룸 필터로 "확실히 새 이벤트"를 DB 조회 없이 판단합니다.
+ * 그 외의 불확실한 경우에는 DB가 최종 판단합니다.
+ * 확실히 새 이벤트로 판단해 DB 조회를 생략한 이벤트도 처리 기록 INSERT IGNORE 결과로 한 번 더 걸러냅니다.
+ *
+ * 블룸 필터에는 이 인스턴스가 처리한 키만 들어 있으므로, 기동 직후와 파티션 재할당 직후에는
+ * 다른 인스턴스가 처리한 이벤트가 재전달될 수 있어 워밍업 시간 동안 블룸 필터 판단을 사용하지 않습니다.
+ *
+ * 단계별 판단 수는 event.dedup.lookups, DB 조회 없이 메모리로 판단한 비율은 event.dedup.hit.ratio 메트릭으로 기록합니다.
+ */
+@Component
+@Slf4j
+public class ProcessedEventFilter {
+
+    private final TimeWindowedBloomFilter bloomFilter;
+    private final Cache<BinaryEventKey, Boolean> recentKeys;
+    private final long warmupNanos;
+    private volatile long warmupUntilNanos;
+
+    private final Counter lruHitCounter;
+    private final Counter bloomNegativeCounter;
+    private final Counter dbProcessedCounter;
+    private final Counter dbNewCounter;
+
+    public ProcessedEventFilter(
+            MeterRegistry meterRegistry,
+            @Value("${event.dedup.bloom.expected-insertions:1000000}") long expectedInsertions,
+            @Value("${event.dedup.bloom.false-positive-rate:0.01}") double falsePositiveRate,
+            @Value("${event.dedup.bloom.window:3600000}") long windowMillis,
+            @Value("${event.dedup.lru.maximum-size:100000}") long lruMaximumSize,
+            @Value("${event.dedup.warmup:30000}") long warmupMillis
+    ) {
+        this.bloomFilter = new TimeWindowedBloomFilter(expectedInsertions, falsePositiveRate, windowMillis);
+        this.recentKeys = Caffeine.newBuilder()
+                .maximumSize(lruMaximumSize)
+                .expireAfterWrite(Duration.ofMillis(windowMillis))
+                .build();
+        this.warmupNanos = warmupMillis * 1_000_000L;
+        startWarmup();
+
+        this.lruHitCounter = lookupCounter(meterRegistry, "lru", "processed");
+        this.bloomNegativeCounter = lookupCounter(meterRegistry, "bloom", "new");
+        this.dbProcessedCounter = lookupCounter(meterRegistry, "db", "processed");
+        this.dbNewCounter = lookupCounter(meterRegistry, "db", "new");
+        Gauge.builder("event.dedup.hit.ratio", this, ProcessedEventFilter::memoryHitRatio)
+                .description("DB 조회 없이 메모리 필터로 판단한 멱등성 검사 비율")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 최근에 처리된 이벤트인지 확인합니다.
+     * @param key 필터 키
+     * @return true이면 이미 처리됨
+     */
+    public boolean isRecentlyProcessed(BinaryEventKey key) {
+        if (recentKeys.getIfPresent(key) == null) {
+            return false;
+        }
+        lruHitCounter.increment();
+        return true;
+    }
+
+    /**
+     * 확실히 처리되지 않은 이벤트인지 확인합니다.
+     * 워밍업 중에는 항상 false를 반환하여 DB로 확인하게 합니다.
+     * @param key 필터 키
+     * @return true이면 처리된 적 없음
+     */
+    public boolean isDefinitelyNew(BinaryEventKey key) {
+        if (System.nanoTime() - warmupUntilNanos < 0 || bloomFilter.mightContain(key.low())) {
+            return false;
+        }
+        bloomNegativeCounter.increment();
+        return true;
+    }
+
+    /**
+     * DB 조회 결과를 기록합니다.
+     * @param processedCount 이미 처리된 이벤트 수
+     * @param newCount 처리되지 않은 이벤트 수
+     */
+    public void recordDbLookups(int processedCount, int newCount) {
+        if (processedCount > 0) {
+            dbProcessedCounter.increment(processedCount);
+        }
+        if (newCount > 0) {
+            dbNewCounter.increment(newCount);
+        }
+    }
+
+    /**
+     * 처리된 이벤트를 필터에 추가합니다.
+     * @param key 필터 키
+     */
+    public void recordProcessed(BinaryEventKey key) {
+        bloomFilter.put(key.low());
+        recentKeys.put(key, Boolean.TRUE);
+    }
+
+    /**
+     * 워밍업을 시작합니다.
+     * 파티션이 재할당되면 호출합니다.
+     */
+    public void startWarmup() {
+        warmupUntilNanos = System.nanoTime() + warmupNanos;
+        log.debug("처리된 이벤트 필터 워밍업 시작: {}ms", warmupNanos / 1_000_000L);
+    }
+
+    /**
+     * 필터 키를 생성합니다.
+     * 문자열을 이어 붙이지 않고 128비트 이진 키로 해시합니다.
+     * @param eventKey 이벤트 키
+     * @param consumerGroup 컨슈머 그룹
+     * @return 필터 키
+     */
+    public static BinaryEventKey filterKey(String eventKey, String consumerGroup) {
+        return BinaryEventKey.of(eventKey, consumerGroup);
+    }
+
+    /**
+     * 전체 멱등성 검사 중 메모리 필터(LRU, 블룸 필터)로 판단한 비율
+     * @return 0.0 ~ 1.0, 검사가 없으면 0.0
+     */
+    private double memoryHitRatio() {
+        double memoryHits = lruHitCounter.count() + bloomNegativeCounter.count();
+        double total = memoryHits + dbProcessedCounter.count() + dbNewCounter.count();
+        return total == 0 ? 0.0 : memoryHits / total;
+    }
+
+    private static Counter lookupCounter(MeterRegistry meterRegistry, String tier, String result) {
+        return Counter.builder("event.dedup.lookups")
+                .description("멱등성 검사 단계별 판단 수")
+                .tag("tier", tier)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
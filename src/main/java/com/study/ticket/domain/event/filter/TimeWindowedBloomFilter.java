@@ -0,0 +1,142 @@
+package com.study.ticket.domain.event.filter;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * 시간 윈도우 블룸 필터
+ * 현재/이전 두 세대의 비트 배열을 유지하고 윈도우가 지나면 세대를 교체하여 메모리 사용량을 고정합니다.
+ * 조회는 두 세대를 모두 확인하므로 마지막으로 추가된 키는 최소 한 윈도우 동안 유지됩니다.
+ * mightContain이 false이면 해당 키는 윈도우 내에 추가된 적이 없습니다.
+ */
+public class TimeWindowedBloomFilter {
+
+    private final int numBits;
+    private final int numHashes;
+    private final long windowNanos;
+    private final LongSupplier nanoTime;
+
+    /**
+     * 세대 교체 잠금 (가상 스레드 고정 방지를 위해 synchronized 대신 사용)
+     */
+    private final ReentrantLock rotateLock = new ReentrantLock();
+
+    private volatile Generation current;
+    private volatile Generation previous;
+
+    /**
+     * @param expectedInsertions 윈도우당 예상 삽입 수
+     * @param falsePositiveRate 허용 오탐률
+     * @param windowMillis 세대 교체 주기 (ms)
+     */
+    public TimeWindowedBloomFilter(long expectedInsertions, double falsePositiveRate, long windowMillis) {
+        this(expectedInsertions, falsePositiveRate, windowMillis, System::nanoTime);
+    }
+
+    /**
+     * @param expectedInsertions 윈도우당 예상 삽입 수
+     * @param falsePositiveRate 허용 오탐률
+     * @param windowMillis 세대 교체 주기 (ms)
+     * @param nanoTime 단조 시계 (ns) 공급자, 테스트에서 시계를 고정할 때 사용
+     */
+    TimeWindowedBloomFilter(long expectedInsertions, double falsePositiveRate, long windowMillis, LongSupplier nanoTime) {
+        long bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        // long 단위로 정렬
+        this.numBits = (int) Math.min((Integer.MAX_VALUE >>> 6) << 6, Math.max(64, (bits + 63) & ~63L));
+        this.numHashes = Math.max(1, (int) Math.round((double) numBits / expectedInsertions * Math.log(2)));
+        this.windowNanos = windowMillis * 1_000_000L;
+        this.nanoTime = nanoTime;
+        this.current = new Generation(numBits, nanoTime.getAsLong());
+        this.previous = new Generation(numBits, nanoTime.getAsLong());
+    }
+
+    /**
+     * 미리 계산된 64비트 해시로 키를 추가합니다.
+     * @param hash 키의 64비트 해시 (비트가 고르게 분포해야 함)
+     */
+    public void put(long hash) {
+        Generation generation = currentGeneration();
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= numHashes; i++) {
+            generation.set(index(h1 + i * h2));
+        }
+    }
+
+    /**
+     * 미리 계산된 64비트 해시로 키가 추가되었을 가능성이 있는지 확인합니다.
+     * @param hash 키의 64비트 해시 (비트가 고르게 분포해야 함)
+     * @return false이면 추가된 적 없음, true이면 추가되었을 수 있음
+     */
+    public boolean mightContain(long hash) {
+        Generation generation = currentGeneration();
+        Generation previousGeneration = previous;
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+
+        boolean inCurrent = true;
+        boolean inPrevious = true;
+        for (int i = 1; i <= numHashes && (inCurrent || inPrevious); i++) {
+            int index = index(h1 + i * h2);
+            inCurrent = inCurrent && generation.get(index);
+            inPrevious = inPrevious && previousGeneration.get(index);
+        }
+        return inCurrent || inPrevious;
+    }
+
+    /**
+     * 윈도우가 지났으면 세대를 교체한 뒤 현재 세대를 반환합니다.
+     * @return 현재 세대
+     */
+    private Generation currentGeneration() {
+        Generation generation = current;
+        if (nanoTime.getAsLong() - generation.createdAt < windowNanos) {
+            return generation;
+        }
+        rotateLock.lock();
+        try {
+            if (current == generation) {
+                previous = generation;
+                current = new Generation(numBits, nanoTime.getAsLong());
+            }
+            return current;
+        } finally {
+            rotateLock.unlock();
+        }
+    }
+
+    private int index(int combinedHash) {
+        return (combinedHash & Integer.MAX_VALUE) % numBits;
+    }
+
+    /**
+     * 블룸 필터 한 세대의 비트 배열
+     */
+    private static final class Generation {
+
+        private final AtomicLongArray bits;
+        private final long createdAt;
+
+        private Generation(int numBits, long createdAt) {
+            this.bits = new AtomicLongArray(numBits >>> 6);
+            this.createdAt = createdAt;
+        }
+
+        private boolean get(int index) {
+            return (bits.get(index >>> 6) & (1L << index)) != 0;
+        }
+
+        private void set(int index) {
+            long mask = 1L << index;
+            int word = index >>> 6;
+            long value;
+            do {
+                value = bits.get(word);
+                if ((value & mask) != 0) {
+                    return;
+                }
+            } while (!bits.compareAndSet(word, value, value | mask));
+        }
+    }
+}
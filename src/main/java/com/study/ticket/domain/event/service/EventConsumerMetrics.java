@@ -0,0 +1,71 @@
+package com.study.ticket.domain.event.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이벤트 컨슈머 메트릭
+ * - event.consumer.processing: 이벤트 타입/컨슈머 그룹별 핸들러 처리 시간과 결과
+ * - event.consumer.duplicates: 처리 기록 조회로 걸러진 중복 이벤트 수 (메모리 필터 판단은 event.dedup.lookups)
+ * - event.consumer.dlt: 재시도 후 DLT로 보낸 레코드 수
+ */
+@Component
+@RequiredArgsConstructor
+public class EventConsumerMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 이벤트 핸들러 처리 시간을 기록합니다.
+     * @param eventType 이벤트 타입
+     * @param consumerGroup 컨슈머 그룹
+     * @param success 처리 성공 여부
+     * @param elapsedNanos 처리 시간 (ns)
+     */
+    public void recordProcessing(String eventType, String consumerGroup, boolean success, long elapsedNanos) {
+        Timer.builder("event.consumer.processing")
+                .description("이벤트 핸들러 처리 시간")
+                .tag("eventType", eventType)
+                .tag("consumerGroup", consumerGroup)
+                .tag("outcome", success ? "success" : "failure")
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 중복 수신으로 무시한 이벤트 수를 기록합니다.
+     * @param consumerGroup 컨슈머 그룹
+     * @param count 이벤트 수
+     */
+    public void recordDuplicates(String consumerGroup, int count) {
+        if (count <= 0) {
+            return;
+        }
+        Counter.builder("event.consumer.duplicates")
+                .description("처리 기록 조회로 걸러진 중복 이벤트 수")
+                .tag("consumerGroup", consumerGroup)
+                .register(meterRegistry)
+                .increment(count);
+    }
+
+    /**
+     * DLT로 보낸 레코드를 기록합니다.
+     * @param topic 원본 토픽
+     * @param exception 실패 원인
+     */
+    public void recordDeadLetter(String topic, Exception exception) {
+        Throwable cause = exception.getCause() != null ? exception.getCause() : exception;
+        Counter.builder("event.consumer.dlt")
+                .description("재시도 후 DLT로 보낸 레코드 수")
+                .tag("topic", topic)
+                .tag("exception", cause.getClass().getSimpleName())
+                .register(meterRegistry)
+                .increment();
+    }
+}
@@ -1,14 +1,25 @@
 package com.study.ticket.domain.event.service;
 
-import com.study.ticket.domain.event.domain.entity.ProcessedEvent;
 import com.study.ticket.domain.event.domain.repository.ProcessedEventRepository;
+import com.study.ticket.domain.event.filter.BinaryEventKey;
+import com.study.ticket.domain.event.filter.ProcessedEventFilter;
+import com.study.ticket.global.event.Event;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * 처리된 이벤트 서비스
@@ -20,57 +31,116 @@ import java.time.LocalDateTime;
 public class ProcessedEventService {
 
     private final ProcessedEventRepository processedEventRepository;
+    private final ProcessedEventFilter processedEventFilter;
+    private final JdbcTemplate jdbcTemplate;
+    private final EventConsumerMetrics eventConsumerMetrics;
 
     /**
-     * 이벤트가 이미 처리되었는지 확인합니다.
+     * 처리된 이벤트 일괄 기록 SQL
+     */
+    private static final String INSERT_IF_ABSENT_SQL = "INSERT IGNORE INTO PROCESSED_EVENTS " +
+            "(EVENT_KEY, EVENT_TYPE, CONSUMER_GROUP, PROCESSED_AT, CREATED_AT, UPDATED_AT) VALUES (?, ?, ?, ?, ?, ?)";
+
+    /**
+     * 최근에 처리된 이벤트인지 메모리로만 확인합니다.
+     * DB를 조회하지 않으므로 false는 처리되지 않았음을 보장하지 않습니다.
      * @param eventKey 이벤트 키
      * @param consumerGroup 컨슈머 그룹
-     * @return 이미 처리되었는지 여부
+     * @return 최근에 처리되었는지 여부
      */
-    @Transactional(readOnly = true)
-    public boolean isEventProcessed(String eventKey, String consumerGroup) {
-        return processedEventRepository.existsByEventKeyAndConsumerGroup(eventKey, consumerGroup);
+    public boolean isRecentlyProcessed(String eventKey, String consumerGroup) {
+        return processedEventFilter.isRecentlyProcessed(ProcessedEventFilter.filterKey(eventKey, consumerGroup));
     }
 
     /**
-     * 이벤트를 처리된 상태로 기록합니다.
-     * 현재 트랜잭션에 참여합니다(REQUIRED).
+     * 이벤트가 처리되지 않았으면 처리된 상태로 기록하고 핸들러를 실행합니다.
+     * 기록과 핸들러가 같은 트랜잭션에서 실행되므로 핸들러가 실패하면 기록도 롤백되어 재전달 시 다시 처리됩니다.
+     * 동시에 같은 이벤트가 들어오면 유니크 인덱스에서 대기한 뒤 한쪽만 처리합니다.
+     * 핸들러 처리 시간은 이벤트 타입별로 {@link EventConsumerMetrics}에 기록합니다.
      * @param eventKey 이벤트 키
      * @param eventType 이벤트 타입
      * @param consumerGroup 컨슈머 그룹
-     * @return 처리된 이벤트
+     * @param handler 이벤트 핸들러
+     * @return 처리했으면 true, 이미 처리된 이벤트면 false
+     * @throws Exception 핸들러에서 발생한 예외
      */
-    @Transactional(propagation = Propagation.REQUIRED)
-    public ProcessedEvent markEventAsProcessed(String eventKey, String eventType, String consumerGroup) {
-        // 이미 처리된 이벤트인지 확인
-        if (isEventProcessed(eventKey, consumerGroup)) {
-            log.debug("이벤트가 이미 처리됨: {}, 컨슈머 그룹: {}", eventKey, consumerGroup);
-            return processedEventRepository.findByEventKeyAndConsumerGroup(eventKey, consumerGroup).orElse(null);
+    @Transactional(rollbackFor = Exception.class)
+    public boolean processIfAbsent(String eventKey, String eventType, String consumerGroup, EventHandler handler) throws Exception {
+        BinaryEventKey filterKey = ProcessedEventFilter.filterKey(eventKey, consumerGroup);
+        boolean inserted = processedEventRepository.insertIfAbsent(eventKey, eventType, consumerGroup, LocalDateTime.now()) > 0;
+        processedEventFilter.recordDbLookups(inserted ? 0 : 1, inserted ? 1 : 0);
+        if (!inserted) {
+            processedEventFilter.recordProcessed(filterKey);
+            eventConsumerMetrics.recordDuplicates(consumerGroup, 1);
+            return false;
         }
-
-        // 처리된 이벤트 생성
-        ProcessedEvent processedEvent = ProcessedEvent.builder()
-                .eventKey(eventKey)
-                .eventType(eventType)
-                .consumerGroup(consumerGroup)
-                .processedAt(LocalDateTime.now())
-                .build();
-
-        // 처리된 이벤트 저장
-        return processedEventRepository.save(processedEvent);
+        handle(eventType, consumerGroup, handler);
+        registerAfterCommit(List.of(filterKey));
+        return true;
     }
 
     /**
-     * 이벤트를 처리된 상태로 기록합니다.
-     * 새로운 트랜잭션에서 실행됩니다(REQUIRES_NEW).
-     * @param eventKey 이벤트 키
-     * @param eventType 이벤트 타입
+     * 처리되지 않은 이벤트만 골라 처리된 상태로 일괄 기록하고 핸들러를 실행합니다.
+     * 최근에 처리한 이벤트(LRU)는 바로 걸러내고, 블룸 필터로 확실히 새 이벤트라고 판단한 이벤트는 DB 조회 없이 기록합니다.
+     * 나머지만 한 번의 IN 조회로 확인하며, 처리 기록은 한 번의 JDBC 배치 INSERT IGNORE로 저장합니다.
+     * INSERT되지 않은 행(다른 인스턴스나 트랜잭션이 먼저 기록한 이벤트)은 핸들러를 실행하지 않습니다.
+     * 모든 이벤트가 한 트랜잭션에서 처리되므로 하나라도 실패하면 전체가 롤백됩니다.
+     * @param events 이벤트 목록
      * @param consumerGroup 컨슈머 그룹
-     * @return 처리된 이벤트
+     * @param handler 이벤트 핸들러
+     * @param <T> 이벤트 타입
+     * @return 처리된 이벤트 목록
+     * @throws Exception 핸들러에서 발생한 예외
      */
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public ProcessedEvent markEventAsProcessedInNewTransaction(String eventKey, String eventType, String consumerGroup) {
-        return markEventAsProcessed(eventKey, eventType, consumerGroup);
+    @Transactional(rollbackFor = Exception.class)
+    public <T extends Event> List<T> processAllIfAbsent(List<T> events, String consumerGroup, BatchEventHandler<T> handler) throws Exception {
+        if (events.isEmpty()) {
+            return events;
+        }
+
+        // 메모리 필터로 먼저 판단 (배치 내 중복 포함)
+        Map<String, BinaryEventKey> filterKeys = new HashMap<>();
+        Set<String> uncertainKeys = new HashSet<>();
+        List<T> candidates = new ArrayList<>();
+        for (T event : events) {
+            String eventKey = event.getEventKey();
+            if (filterKeys.containsKey(eventKey)) {
+                continue;
+            }
+            BinaryEventKey filterKey = ProcessedEventFilter.filterKey(eventKey, consumerGroup);
+            filterKeys.put(eventKey, filterKey);
+            if (processedEventFilter.isRecentlyProcessed(filterKey)) {
+                continue;
+            }
+            if (!processedEventFilter.isDefinitelyNew(filterKey)) {
+                uncertainKeys.add(eventKey);
+            }
+            candidates.add(event);
+        }
+
+        // 불확실한 이벤트만 이미 처리되었는지 조회
+        if (!uncertainKeys.isEmpty()) {
+            Set<String> processedKeys = new HashSet<>(processedEventRepository.findProcessedEventKeys(uncertainKeys, consumerGroup));
+            processedEventFilter.recordDbLookups(processedKeys.size(), uncertainKeys.size() - processedKeys.size());
+            if (!processedKeys.isEmpty()) {
+                candidates.removeIf(event -> processedKeys.contains(event.getEventKey()));
+                processedKeys.forEach(eventKey -> processedEventFilter.recordProcessed(filterKeys.get(eventKey)));
+            }
+        }
+
+        List<T> newEvents = candidates.isEmpty() ? candidates : insertIfAbsent(candidates, consumerGroup, filterKeys);
+        eventConsumerMetrics.recordDuplicates(consumerGroup, events.size() - newEvents.size());
+        if (newEvents.isEmpty()) {
+            return newEvents;
+        }
+
+        // 이벤트 처리
+        for (T event : newEvents) {
+            handle(event.getEventType(), consumerGroup, () -> handler.handle(event));
+        }
+
+        registerAfterCommit(newEvents.stream().map(event -> filterKeys.get(event.getEventKey())).toList());
+        return newEvents;
     }
 
     /**
@@ -85,4 +155,104 @@ public class ProcessedEventService {
         log.info("삭제된 처리 이벤트 수: {}", deletedCount);
         return deletedCount;
     }
+
+    /**
+     * 처리 기록을 한 번의 JDBC 배치 INSERT IGNORE로 저장하고, 실제로 INSERT된 이벤트만 반환합니다.
+     * 이미 기록된 행은 0건으로 반환되므로, 블룸 필터 판단이 틀렸거나 조회 이후 다른 트랜잭션이 먼저 기록한 이벤트를 걸러냅니다.
+     * 드라이버가 배치를 재작성하면 행별 결과 대신 SUCCESS_NO_INFO(-2)를 반환하므로 INSERT된 것으로 봅니다.
+     * @param events 기록할 이벤트 목록
+     * @param consumerGroup 컨슈머 그룹
+     * @param filterKeys 이벤트 키별 필터 키
+     * @param <T> 이벤트 타입
+     * @return INSERT된 이벤트 목록
+     */
+    private <T extends Event> List<T> insertIfAbsent(List<T> events, String consumerGroup, Map<String, BinaryEventKey> filterKeys) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int[][] counts = jdbcTemplate.batchUpdate(INSERT_IF_ABSENT_SQL, events, events.size(), (ps, event) -> {
+            ps.setString(1, event.getEventKey());
+            ps.setString(2, event.getEventType());
+            ps.setString(3, consumerGroup);
+            ps.setTimestamp(4, now);
+            ps.setTimestamp(5, now);
+            ps.setTimestamp(6, now);
+        });
+
+        List<T> inserted = new ArrayList<>(events.size());
+        int index = 0;
+        for (int[] batchCounts : counts) {
+            for (int count : batchCounts) {
+                T event = events.get(index++);
+                if (count == 0) {
+                    processedEventFilter.recordProcessed(filterKeys.get(event.getEventKey()));
+                } else {
+                    inserted.add(event);
+                }
+            }
+        }
+        return inserted;
+    }
+
+    /**
+     * 핸들러를 실행하고 처리 시간을 기록합니다.
+     * @param eventType 이벤트 타입
+     * @param consumerGroup 컨슈머 그룹
+     * @param handler 이벤트 핸들러
+     * @throws Exception 핸들러에서 발생한 예외
+     */
+    private void handle(String eventType, String consumerGroup, EventHandler handler) throws Exception {
+        long startNanos = System.nanoTime();
+        boolean success = false;
+        try {
+            handler.handle();
+            success = true;
+        } finally {
+            eventConsumerMetrics.recordProcessing(eventType, consumerGroup, success, System.nanoTime() - startNanos);
+        }
+    }
+
+    /**
+     * 트랜잭션이 커밋되면 처리된 이벤트를 필터에 추가합니다.
+     * 트랜잭션이 없으면 즉시 추가합니다.
+     * @param filterKeys 필터 키 목록
+     */
+    private void registerAfterCommit(List<BinaryEventKey> filterKeys) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            filterKeys.forEach(processedEventFilter::recordProcessed);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                filterKeys.forEach(processedEventFilter::recordProcessed);
+            }
+        });
+    }
+
+    /**
+     * 이벤트 핸들러
+     */
+    @FunctionalInterface
+    public interface EventHandler {
+
+        /**
+         * 이벤트를 처리합니다.
+         * @throws Exception 이벤트 처리 중 발생한 예외
+         */
+        void handle() throws Exception;
+    }
+
+    /**
+     * 배치 이벤트 핸들러
+     * @param <T> 이벤트 타입
+     */
+    @FunctionalInterface
+    public interface BatchEventHandler<T extends Event> {
+
+        /**
+         * 이벤트를 처리합니다.
+         * @param event 이벤트
+         * @throws Exception 이벤트 처리 중 발생한 예외
+         */
+        void handle(T event) throws Exception;
+    }
 }
@@ -7,7 +7,6 @@ import com.study.ticket.domain.movie.service.MovieService;
 import com.study.ticket.global.common.response.ResponseDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
@@ -106,16 +105,25 @@ public class MovieController {
      * 영화 목록을 조회합니다.
      * @param movieCondDto 영화 검색 조건
      * @param pageable 페이지 정보
+     * @param cursor 커서 토큰 (파라미터가 있으면 커서 기반으로 조회, 빈 값이면 첫 페이지)
+     * @param withCount 커서 조회 시 전체 건수 조회 여부
      * @return 영화 목록
      */
     @GetMapping("/list")
-    public ResponseEntity<ResponseDto<Page<MovieListDto>>> findMovieListWithPaging(@ModelAttribute MovieCondDto movieCondDto, @PageableDefault Pageable pageable) {
+    public ResponseEntity<ResponseDto<?>> findMovieListWithPaging(
+            @ModelAttribute MovieCondDto movieCondDto,
+            @PageableDefault Pageable pageable,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean withCount
+    ) {
         try {
             log.info("영화 목록 조회 요청: {}", movieCondDto.toString());
             
-            Page<MovieListDto> list = movieService.findMovieListWithPaging(movieCondDto, pageable);
+            Object list = (cursor != null)
+                ? movieService.findMovieListWithCursor(movieCondDto, cursor, pageable.getPageSize(), withCount)
+                : movieService.findMovieListWithPaging(movieCondDto, pageable);
             
-            ResponseDto<Page<MovieListDto>> response = ResponseDto.<Page<MovieListDto>>builder()
+            ResponseDto<?> response = ResponseDto.builder()
                 .responseCode(MOVIE_LIST_SUCCESS)
                 .responseMessage("영화 목록 조회에 성공했습니다.")
                 .data(list)
@@ -125,7 +133,7 @@ public class MovieController {
         } catch (Exception e) {
             log.error("영화 목록 조회 실패: {}", e.getMessage(), e);
             
-            ResponseDto<Page<MovieListDto>> errorResponse = ResponseDto.<Page<MovieListDto>>builder()
+            ResponseDto<?> errorResponse = ResponseDto.builder()
                 .responseCode(MOVIE_LIST_FAILED)
                 .responseMessage("영화 목록 조회에 실패했습니다: " + e.getMessage())
                 .build();
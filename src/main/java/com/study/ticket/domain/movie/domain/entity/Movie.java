@@ -13,7 +13,9 @@ import java.time.LocalDate;
  * 영화 엔티티
  */
 @Entity
-@Table(name = "MOVIES")
+@Table(name = "MOVIES", indexes = {
+    @Index(name = "idx_movies_created_at", columnList = "CREATED_AT, MOVIE_ID")
+})
 @Builder
 @Getter @Setter
 @AllArgsConstructor @NoArgsConstructor
@@ -3,15 +3,22 @@ package com.study.ticket.domain.movie.domain.repository;
 import com.study.ticket.domain.movie.dto.MovieCondDto;
 import com.study.ticket.domain.movie.dto.MovieDetailDto;
 import com.study.ticket.domain.movie.dto.MovieListDto;
+import com.study.ticket.global.common.cursor.Cursor;
+import com.study.ticket.global.common.cursor.CursorPage;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface MovieDslRepository {
 
     Page<MovieListDto> findMovieListWithPaging(MovieCondDto movieCondDto, Pageable pageable);
 
+    CursorPage<MovieListDto> findMovieListWithCursor(MovieCondDto movieCondDto, Cursor cursor, int size, boolean withCount);
+
+    List<MovieListDto> findMovieListByIds(List<Long> movieIds);
+
 
     Optional<MovieDetailDto> findMovieDetail(Long id);
 }
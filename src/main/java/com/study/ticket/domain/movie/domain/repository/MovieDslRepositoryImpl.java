@@ -4,6 +4,8 @@ import com.querydsl.core.types.Predicate;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.study.ticket.domain.movie.dto.*;
+import com.study.ticket.global.common.cursor.Cursor;
+import com.study.ticket.global.common.cursor.CursorPage;
 import com.study.ticket.global.util.QueryUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -45,6 +47,29 @@ public class MovieDslRepositoryImpl implements MovieDslRepository {
 
     }
 
+    @Override
+    public CursorPage<MovieListDto> findMovieListWithCursor(MovieCondDto movieCondDto, Cursor cursor, int size, boolean withCount) {
+        // 전체 카운트 조회 (요청한 경우에만)
+        final Long totalCount = withCount ? findMovieListCount(movieCondDto).fetchOne() : null;
+
+        // 커서 이후 데이터 조회 (다음 페이지 존재 여부 확인을 위해 1개 더 조회)
+        final List<MovieListDto> rows = findMovieList(movieCondDto)
+                .where(QueryUtils.afterCursor(cursor, movie.createdAt, movie.id))
+                .orderBy(movie.createdAt.desc(), movie.id.desc())
+                .limit(size + 1L)
+                .fetch();
+
+        return CursorPage.of(rows, size, row -> new Cursor(row.getCreatedAt(), row.getId()), totalCount);
+    }
+
+    @Override
+    public List<MovieListDto> findMovieListByIds(List<Long> movieIds) {
+        // 검색 인덱스에서 조건 필터와 페이징을 마친 페이지의 영화만 조회 (순서는 호출자가 맞춤)
+        return selectMovieList()
+                .where(movie.id.in(movieIds))
+                .fetch();
+    }
+
     // findMovieListWithPaging 전체 카운트 조회
     private JPAQuery<Long> findMovieListCount(MovieCondDto movieCondDto){
         return queryFactory
@@ -55,6 +80,12 @@ public class MovieDslRepositoryImpl implements MovieDslRepository {
 
     // findMovieListWithPaging 목록 조회
     private JPAQuery<MovieListDto> findMovieList(MovieCondDto movieCondDto){
+        return selectMovieList()
+                .where(movieListSearchCondition(movieCondDto));
+    }
+
+    // 영화 목록 조회 항목
+    private JPAQuery<MovieListDto> selectMovieList(){
         return queryFactory
                 .select(new QMovieListDto(
                         movie.id,
@@ -66,13 +97,14 @@ public class MovieDslRepositoryImpl implements MovieDslRepository {
                         movie.releaseDate,
                         movie.endDate,
                         movie.genre,
-                        movie.rating
+                        movie.rating,
+                        movie.createdAt
                 ))
-                .from(movie)
-                .where(movieListSearchCondition(movieCondDto));
+                .from(movie);
     }
 
     // findMovieListWithPaging 조회 조건
+    // 검색 인덱스(MovieSearchIndex)의 조건 필터와 같은 조건을 유지해야 함
     private Predicate[] movieListSearchCondition(MovieCondDto movieCondDto){
         List<Predicate> predicates = new ArrayList<>();
 
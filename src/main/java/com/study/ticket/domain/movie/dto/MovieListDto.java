@@ -10,6 +10,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 /**
  * 영화 목록 응답 DTO
@@ -69,8 +70,13 @@ public class MovieListDto {
      */
     private Rating rating;
 
+    /**
+     * 생성 시간
+     */
+    private LocalDateTime createdAt;
+
     @QueryProjection
-    public MovieListDto(Long id, String title, String description, String director, String actors, Integer runningTime, LocalDate releaseDate, LocalDate endDate, Genre genre, Rating rating){
+    public MovieListDto(Long id, String title, String description, String director, String actors, Integer runningTime, LocalDate releaseDate, LocalDate endDate, Genre genre, Rating rating, LocalDateTime createdAt){
         this.id = id;
         this.title = title;
         this.description = description;
@@ -81,5 +87,6 @@ public class MovieListDto {
         this.endDate = endDate;
         this.genre = genre;
         this.rating = rating;
+        this.createdAt = createdAt;
     }
 }
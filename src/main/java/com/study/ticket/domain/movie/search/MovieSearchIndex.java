@@ -0,0 +1,463 @@
+package com.study.ticket.domain.movie.search;
+
+import com.study.ticket.domain.movie.domain.entity.Movie;
+import com.study.ticket.domain.movie.domain.enums.Genre;
+import com.study.ticket.domain.movie.domain.repository.MovieRepository;
+import com.study.ticket.domain.movie.dto.MovieCondDto;
+import com.study.ticket.global.common.cursor.Cursor;
+import com.study.ticket.global.util.QueryUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 영화 검색 인덱스
+ * 제목, 감독, 출연진을 문자 단위 n-gram(1-gram, 2-gram) 역색인으로 메모리에 유지하여
+ * LIKE '%검색어%' 전체 스캔 없이 검색어를 포함하는 영화를 찾고 관련도 순으로 정렬합니다.
+ * 한글은 음절 하나가 문자 하나이므로 음절 단위 n-gram으로 색인되며, 공백은 무시하고 대소문자는 구분하지 않습니다.
+ * 장르, 개봉/종료일, 등록 시간도 함께 보관하여 나머지 조건 필터, 정렬, 페이징까지 인덱스에서 처리하므로
+ * 호출자는 한 페이지의 영화 ID만 DB에서 조회합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MovieSearchIndex {
+
+    /**
+     * 필드별 관련도 점수
+     */
+    private static final int TITLE_EQUALS_SCORE = 100;
+    private static final int TITLE_PREFIX_SCORE = 50;
+    private static final int TITLE_CONTAINS_SCORE = 30;
+    private static final int DIRECTOR_CONTAINS_SCORE = 10;
+    private static final int ACTORS_CONTAINS_SCORE = 5;
+
+    private final MovieRepository movieRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * 재색인 동시 실행 방지 (기동 시 재색인과 주기 재색인)
+     */
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    /**
+     * n-gram별 영화 ID 목록
+     */
+    private Map<String, Set<Long>> postings = new HashMap<>();
+
+    /**
+     * 영화 ID별 색인 문서
+     */
+    private Map<Long, Document> documents = new HashMap<>();
+
+    /**
+     * 최초 인덱스 생성 완료 여부
+     */
+    private volatile boolean ready;
+
+    /**
+     * 재색인 중 발생한 변경 (영화 ID별 색인 문서, 제거는 null)
+     * 재색인 중이 아니면 null이며 쓰기 락을 잡은 상태에서만 접근합니다.
+     */
+    private Map<Long, Document> rebuildUpdates;
+
+    /**
+     * 색인 문서 (정규화된 필드, 조건 필터/커서 정렬용 필드와 생성된 n-gram)
+     */
+    private record Document(Long id, String title, String director, String actors, Genre genre,
+                            LocalDate releaseDate, LocalDate endDate, LocalDateTime createdAt, Set<String> grams) {
+    }
+
+    /**
+     * 검색 결과 항목
+     * @param movieId 영화 ID
+     * @param createdAt 등록 시간 (커서 생성용)
+     */
+    public record SearchHit(Long movieId, LocalDateTime createdAt) {
+    }
+
+    /**
+     * 검색 결과 페이지
+     * @param hits 페이지 항목 (정렬 순서)
+     * @param totalCount 조건을 만족하는 전체 영화 수
+     */
+    public record SearchPage(List<SearchHit> hits, long totalCount) {
+
+        /**
+         * 페이지 항목의 영화 ID 목록을 정렬 순서대로 반환합니다.
+         * @return 영화 ID 목록
+         */
+        public List<Long> movieIds() {
+            return hits.stream().map(SearchHit::movieId).toList();
+        }
+    }
+
+    /**
+     * 애플리케이션 기동 완료 후 전체 영화로 인덱스를 생성합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * 전체 영화로 인덱스를 다시 생성합니다.
+     * 다른 인스턴스에서 변경된 영화를 반영하기 위해 주기적으로 실행되며, 새 인덱스를 만든 뒤 한 번에 교체합니다.
+     * 전체 조회는 락 없이 수행하므로 그동안 색인/제거된 영화는 따로 기록해 두었다가 교체할 때 새 인덱스에 다시 반영합니다.
+     */
+    @Scheduled(fixedDelayString = "${movie.search.rebuild-interval:600000}", initialDelayString = "${movie.search.rebuild-interval:600000}")
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            // 전체 조회 이전에 기록을 시작해야 조회 결과에 포함되지 않은 변경을 놓치지 않음
+            recordRebuildUpdates(new HashMap<>());
+            Map<String, Set<Long>> newPostings = new HashMap<>();
+            Map<Long, Document> newDocuments = new HashMap<>();
+            try {
+                for (Movie movie : movieRepository.findAll()) {
+                    addDocument(newPostings, newDocuments, toDocument(movie));
+                }
+            } catch (RuntimeException e) {
+                recordRebuildUpdates(null);
+                throw e;
+            }
+
+            int replayedCount;
+            lock.writeLock().lock();
+            try {
+                // 재색인 중 발생한 변경이 조회 결과보다 최신이므로 덮어씀
+                rebuildUpdates.forEach((movieId, document) -> {
+                    removeDocument(newPostings, newDocuments, movieId);
+                    if (document != null) {
+                        addDocument(newPostings, newDocuments, document);
+                    }
+                });
+                replayedCount = rebuildUpdates.size();
+                rebuildUpdates = null;
+                postings = newPostings;
+                documents = newDocuments;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            ready = true;
+            log.info("영화 검색 인덱스 생성 완료: {} 건, n-gram {} 개, 재색인 중 변경 {} 건",
+                    newDocuments.size(), newPostings.size(), replayedCount);
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * 영화를 색인합니다. 이미 색인된 영화는 기존 n-gram을 제거한 뒤 다시 색인합니다.
+     * @param movie 영화
+     */
+    public void index(Movie movie) {
+        Document document = toDocument(movie);
+        lock.writeLock().lock();
+        try {
+            removeDocument(postings, documents, document.id());
+            addDocument(postings, documents, document);
+            if (rebuildUpdates != null) {
+                rebuildUpdates.put(document.id(), document);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 영화를 인덱스에서 제거합니다.
+     * @param movieId 영화 ID
+     */
+    public void remove(Long movieId) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(postings, documents, movieId);
+            if (rebuildUpdates != null) {
+                rebuildUpdates.put(movieId, null);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어를 제목, 감독, 출연진 중 하나 이상에 포함하고 나머지 조건을 만족하는 영화를 관련도 순으로 한 페이지 조회합니다.
+     * 제목 일치 > 제목 접두 일치 > 제목 포함 > 감독 포함 > 출연진 포함 순으로 점수를 매기고,
+     * 같은 점수는 제목이 짧은 순, 최근 등록 순으로 정렬합니다.
+     * @param movieCondDto 검색 정보 (제목 검색어, 장르, 개봉 예정/상영 여부)
+     * @param today 개봉 예정/상영 여부 기준일
+     * @param offset 건너뛸 항목 수
+     * @param limit 조회할 항목 수
+     * @return 관련도 순 검색 결과 페이지
+     */
+    public SearchPage search(MovieCondDto movieCondDto, LocalDate today, long offset, int limit) {
+        String query = normalize(movieCondDto.getTitle());
+        if (query.isEmpty()) {
+            return new SearchPage(Collections.emptyList(), 0);
+        }
+
+        lock.readLock().lock();
+        try {
+            Map<Long, Integer> scores = new HashMap<>();
+            List<Document> matched = findMatches(query, movieCondDto, today, scores);
+
+            List<SearchHit> hits = matched.stream()
+                    .sorted(Comparator.<Document>comparingInt(document -> scores.get(document.id())).reversed()
+                            .thenComparingInt(document -> document.title().length())
+                            .thenComparing(Document::id, Comparator.reverseOrder()))
+                    .skip(offset)
+                    .limit(limit)
+                    .map(MovieSearchIndex::toHit)
+                    .toList();
+            return new SearchPage(hits, matched.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어를 제목, 감독, 출연진 중 하나 이상에 포함하고 나머지 조건을 만족하는 영화를
+     * DB 커서 조회와 같은 (등록 시간, ID) 내림차순으로 커서 이후부터 조회합니다.
+     * 등록 시간이 없는 영화는 가장 뒤에 오며, 전체 건수는 커서와 무관하게 조건을 만족하는 영화 수입니다.
+     * @param movieCondDto 검색 정보 (제목 검색어, 장르, 개봉 예정/상영 여부)
+     * @param today 개봉 예정/상영 여부 기준일
+     * @param cursor 커서 (첫 페이지이면 null)
+     * @param limit 조회할 항목 수
+     * @return 등록 순 검색 결과 페이지
+     */
+    public SearchPage searchAfter(MovieCondDto movieCondDto, LocalDate today, Cursor cursor, int limit) {
+        String query = normalize(movieCondDto.getTitle());
+        if (query.isEmpty()) {
+            return new SearchPage(Collections.emptyList(), 0);
+        }
+
+        lock.readLock().lock();
+        try {
+            List<Document> matched = findMatches(query, movieCondDto, today, new HashMap<>());
+
+            List<SearchHit> hits = matched.stream()
+                    .filter(document -> isAfter(document, cursor))
+                    .sorted(Comparator.<Document, LocalDateTime>comparing(Document::createdAt, Comparator.nullsFirst(Comparator.naturalOrder()))
+                            .thenComparing(Document::id)
+                            .reversed())
+                    .limit(limit)
+                    .map(MovieSearchIndex::toHit)
+                    .toList();
+            return new SearchPage(hits, matched.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 최초 인덱스 생성이 완료되었는지 확인합니다.
+     * 생성 전에는 호출자가 DB 검색으로 대체해야 합니다.
+     * @return 인덱스 사용 가능 여부
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 색인된 영화 수를 반환합니다.
+     * @return 색인된 영화 수
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 검색어의 모든 n-gram을 포함하는 영화 ID (가장 짧은 목록부터 교집합)
+    private Set<Long> findCandidates(String query) {
+        List<Set<Long>> lists = new ArrayList<>();
+        for (String gram : queryGrams(query)) {
+            Set<Long> ids = postings.get(gram);
+            if (ids == null) {
+                return Collections.emptySet();
+            }
+            lists.add(ids);
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+
+        Set<Long> candidates = new HashSet<>(lists.get(0));
+        for (int i = 1; i < lists.size() && !candidates.isEmpty(); i++) {
+            candidates.retainAll(lists.get(i));
+        }
+        return candidates;
+    }
+
+    // 검색어를 포함하고 나머지 조건을 만족하는 문서 (읽기 락을 잡은 상태에서 호출, 점수는 scores에 기록)
+    private List<Document> findMatches(String query, MovieCondDto movieCondDto, LocalDate today, Map<Long, Integer> scores) {
+        List<Document> matched = new ArrayList<>();
+        for (Long movieId : findCandidates(query)) {
+            Document document = documents.get(movieId);
+            if (!matchesCondition(document, movieCondDto, today)) {
+                continue;
+            }
+            // n-gram 교집합 후보 중 실제로 검색어를 포함하는 영화만 점수 계산
+            int score = score(document, query);
+            if (score > 0) {
+                matched.add(document);
+                scores.put(movieId, score);
+            }
+        }
+        return matched;
+    }
+
+    // 장르, 개봉 예정/상영 여부 조건 (MovieDslRepositoryImpl의 조회 조건과 같아야 함)
+    private static boolean matchesCondition(Document document, MovieCondDto movieCondDto, LocalDate today) {
+        if (movieCondDto.getGenre() != null && movieCondDto.getGenre() != document.genre()) {
+            return false;
+        }
+        if (QueryUtils.isYes(movieCondDto.getUpComingFlag())
+                && (document.releaseDate() == null || !document.releaseDate().isAfter(today))) {
+            return false;
+        }
+        if (QueryUtils.isYes(movieCondDto.getNowPlayingFlag())
+                && (document.releaseDate() == null || document.endDate() == null
+                    || document.releaseDate().isAfter(today) || document.endDate().isBefore(today))) {
+            return false;
+        }
+        return true;
+    }
+
+    // (등록 시간, ID) 내림차순에서 커서 이후 문서인지 확인 (QueryUtils.afterCursor와 같은 조건)
+    private static boolean isAfter(Document document, Cursor cursor) {
+        if (cursor == null) {
+            return true;
+        }
+        if (cursor.createdAt() == null) {
+            return document.createdAt() == null && document.id() < cursor.id();
+        }
+        return document.createdAt() == null
+                || document.createdAt().isBefore(cursor.createdAt())
+                || (document.createdAt().isEqual(cursor.createdAt()) && document.id() < cursor.id());
+    }
+
+    private static SearchHit toHit(Document document) {
+        return new SearchHit(document.id(), document.createdAt());
+    }
+
+    // 관련도 점수 (검색어를 포함하지 않으면 0)
+    private int score(Document document, String query) {
+        int score = 0;
+        if (document.title().equals(query)) {
+            score += TITLE_EQUALS_SCORE;
+        } else if (document.title().startsWith(query)) {
+            score += TITLE_PREFIX_SCORE;
+        } else if (document.title().contains(query)) {
+            score += TITLE_CONTAINS_SCORE;
+        }
+        if (document.director().contains(query)) {
+            score += DIRECTOR_CONTAINS_SCORE;
+        }
+        if (document.actors().contains(query)) {
+            score += ACTORS_CONTAINS_SCORE;
+        }
+        return score;
+    }
+
+    // 재색인 중 변경 기록 시작(빈 맵)/중단(null)
+    private void recordRebuildUpdates(Map<Long, Document> updates) {
+        lock.writeLock().lock();
+        try {
+            rebuildUpdates = updates;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 쓰기 락을 잡은 상태 또는 교체 전 새 인덱스에 호출
+    private static void addDocument(Map<String, Set<Long>> postings, Map<Long, Document> documents, Document document) {
+        documents.put(document.id(), document);
+        document.grams().forEach(gram -> postings.computeIfAbsent(gram, key -> new HashSet<>()).add(document.id()));
+    }
+
+    // 쓰기 락을 잡은 상태 또는 교체 전 새 인덱스에 호출
+    private static void removeDocument(Map<String, Set<Long>> postings, Map<Long, Document> documents, Long movieId) {
+        Document previous = documents.remove(movieId);
+        if (previous == null) {
+            return;
+        }
+        for (String gram : previous.grams()) {
+            Set<Long> ids = postings.get(gram);
+            if (ids != null) {
+                ids.remove(movieId);
+                if (ids.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    private Document toDocument(Movie movie) {
+        String title = normalize(movie.getTitle());
+        String director = normalize(movie.getDirector());
+        String actors = normalize(movie.getActors());
+
+        Set<String> grams = new HashSet<>();
+        addGrams(title, grams);
+        addGrams(director, grams);
+        addGrams(actors, grams);
+        return new Document(movie.getId(), title, director, actors, movie.getGenre(),
+                movie.getReleaseDate(), movie.getEndDate(), movie.getCreatedAt(), grams);
+    }
+
+    // 필드의 1-gram, 2-gram 추가 (1글자 검색어도 색인으로 찾을 수 있도록 1-gram 포함)
+    private void addGrams(String text, Set<String> grams) {
+        for (int i = 0; i < text.length(); i++) {
+            grams.add(text.substring(i, i + 1));
+            if (i + 1 < text.length()) {
+                grams.add(text.substring(i, i + 2));
+            }
+        }
+    }
+
+    // 검색어 n-gram (1글자면 1-gram, 그 외에는 2-gram)
+    private Set<String> queryGrams(String query) {
+        Set<String> grams = new LinkedHashSet<>();
+        if (query.length() == 1) {
+            grams.add(query);
+            return grams;
+        }
+        for (int i = 0; i + 1 < query.length(); i++) {
+            grams.add(query.substring(i, i + 2));
+        }
+        return grams;
+    }
+
+    // NFC 정규화, 소문자 변환, 공백 제거
+    private static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFC)
+                .toLowerCase(Locale.ROOT)
+                .replaceAll("\\s+", "");
+    }
+}
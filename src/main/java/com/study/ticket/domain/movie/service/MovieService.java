@@ -5,15 +5,25 @@ import com.study.ticket.domain.movie.domain.enums.Genre;
 import com.study.ticket.domain.movie.domain.enums.Rating;
 import com.study.ticket.domain.movie.domain.repository.MovieRepository;
 import com.study.ticket.domain.movie.dto.*;
+import com.study.ticket.domain.movie.search.MovieSearchIndex;
+import com.study.ticket.global.common.cursor.Cursor;
+import com.study.ticket.global.common.cursor.CursorPage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
 
 import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Movie 서비스
@@ -24,6 +34,7 @@ import java.util.List;
 public class MovieService {
 
     private final MovieRepository movieRepository;
+    private final MovieSearchIndex movieSearchIndex;
 
     /**
      * 영화를 생성합니다.
@@ -36,7 +47,11 @@ public class MovieService {
         Movie movie = movieSaveDto.toEntity();
         
         // 영화 저장
-        return movieRepository.save(movie);
+        Movie savedMovie = movieRepository.save(movie);
+
+        // 커밋 후 검색 인덱스에 반영
+        afterCommit(() -> movieSearchIndex.index(savedMovie));
+        return savedMovie;
     }
 
     /**
@@ -52,15 +67,64 @@ public class MovieService {
 
     /**
     * 영화 목록을 검색합니다.
+    * 제목 검색어가 있으면 검색 인덱스에서 나머지 조건 필터, 관련도 정렬, 페이징까지 마친 뒤 해당 페이지의 영화만 조회합니다.
     * @param MovieCondDto movieCondDt 검색 정보
     * @param pageable 페이지 정보
     * @return 영화 페이지
     */
    @Transactional(readOnly = true)
    public Page<MovieListDto> findMovieListWithPaging(MovieCondDto movieCondDto, Pageable pageable) {
-       return movieRepository.findMovieListWithPaging(movieCondDto, pageable);
+       if (!useSearchIndex(movieCondDto)) {
+           return movieRepository.findMovieListWithPaging(movieCondDto, pageable);
+       }
+
+       MovieSearchIndex.SearchPage searchPage = movieSearchIndex.search(movieCondDto, LocalDate.now(), pageable.getOffset(), pageable.getPageSize());
+       return new PageImpl<>(findMovieListInOrder(searchPage.movieIds()), pageable, searchPage.totalCount());
    }
 
+    /**
+     * 영화 목록을 커서 기반으로 검색합니다.
+     * 제목 검색어가 있으면 검색 인덱스에서 커서 이후 한 페이지를 (등록 시간, ID) 순으로 고른 뒤 해당 영화만 조회합니다.
+     * @param movieCondDto 검색 정보
+     * @param cursor 커서 토큰 (비어 있으면 첫 페이지)
+     * @param size 페이지 크기
+     * @param withCount 전체 건수 조회 여부
+     * @return 영화 커서 페이지
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<MovieListDto> findMovieListWithCursor(MovieCondDto movieCondDto, String cursor, int size, boolean withCount) {
+        int pageSize = CursorPage.normalizeSize(size);
+        if (!useSearchIndex(movieCondDto)) {
+            return movieRepository.findMovieListWithCursor(movieCondDto, Cursor.decode(cursor), pageSize, withCount);
+        }
+
+        // 다음 페이지 존재 여부 확인을 위해 1개 더 조회, 커서는 인덱스의 등록 시간으로 생성
+        MovieSearchIndex.SearchPage searchPage = movieSearchIndex.searchAfter(movieCondDto, LocalDate.now(), Cursor.decode(cursor), pageSize + 1);
+        Map<Long, Cursor> cursors = new HashMap<>();
+        searchPage.hits().forEach(hit -> cursors.put(hit.movieId(), new Cursor(hit.createdAt(), hit.movieId())));
+        return CursorPage.of(findMovieListInOrder(searchPage.movieIds()), pageSize,
+                row -> cursors.get(row.getId()), withCount ? searchPage.totalCount() : null);
+    }
+
+    // 검색 인덱스가 고른 영화 ID 순서대로 영화 목록 조회 (IN 조회는 순서를 보장하지 않음)
+    private List<MovieListDto> findMovieListInOrder(List<Long> movieIds) {
+        if (movieIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Integer> positions = new HashMap<>();
+        for (int i = 0; i < movieIds.size(); i++) {
+            positions.put(movieIds.get(i), i);
+        }
+        return movieRepository.findMovieListByIds(movieIds).stream()
+                .sorted(Comparator.comparingInt(row -> positions.get(row.getId())))
+                .toList();
+    }
+
+    // 제목 검색어가 있고 검색 인덱스 생성이 끝났으면 LIKE 검색 대신 검색 인덱스 사용
+    private boolean useSearchIndex(MovieCondDto movieCondDto) {
+        return StringUtils.hasText(movieCondDto.getTitle()) && movieSearchIndex.isReady();
+    }
+
 
 
 
@@ -79,7 +143,11 @@ public class MovieService {
         movieUpdateDto.toEntity(movie);
 
         // 영화 저장
-        return movieRepository.save(movie);
+        Movie savedMovie = movieRepository.save(movie);
+
+        // 커밋 후 검색 인덱스에 반영
+        afterCommit(() -> movieSearchIndex.index(savedMovie));
+        return savedMovie;
     }
 
     /**
@@ -93,5 +161,18 @@ public class MovieService {
 
         // 영화 삭제
         movieRepository.delete(movie);
+
+        // 커밋 후 검색 인덱스에서 제거
+        afterCommit(() -> movieSearchIndex.remove(movieId));
+    }
+
+    // 트랜잭션 커밋 후 실행 (롤백된 변경은 검색 인덱스에 반영하지 않음)
+    private void afterCommit(Runnable action) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
     }
 }
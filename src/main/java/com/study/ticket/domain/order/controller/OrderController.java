@@ -3,13 +3,11 @@ package com.study.ticket.domain.order.controller;
 import com.study.ticket.domain.order.domain.entity.Order;
 import com.study.ticket.domain.order.dto.OrderCondDto;
 import com.study.ticket.domain.order.dto.OrderDetailDto;
-import com.study.ticket.domain.order.dto.OrderListDto;
 import com.study.ticket.domain.order.dto.OrderSaveDto;
 import com.study.ticket.domain.order.service.OrderService;
 import com.study.ticket.global.common.response.ResponseDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
@@ -136,29 +134,35 @@ public class OrderController {
      * @param userId 사용자 ID
      * @param OrderCondDto orderCondDto
      * @param pageable page 정보
+     * @param cursor 커서 토큰 (파라미터가 있으면 커서 기반으로 조회, 빈 값이면 첫 페이지)
+     * @param withCount 커서 조회 시 전체 건수 조회 여부
      * @return 주문 목록
      */
     @GetMapping("/user/{userId}")
-    public ResponseEntity<ResponseDto<Page<OrderListDto>>> getUserOrders(
+    public ResponseEntity<ResponseDto<?>> getUserOrders(
             @PathVariable Long userId,
             @ModelAttribute OrderCondDto orderCondDto,
-            @PageableDefault Pageable pageable
+            @PageableDefault Pageable pageable,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean withCount
     ) {
         try {
 
-            Page<OrderListDto> page = orderService.findOrderListWithPaging(userId, orderCondDto, pageable);
+            Object data = (cursor != null)
+                ? orderService.findOrderListWithCursor(userId, orderCondDto, cursor, pageable.getPageSize(), withCount)
+                : orderService.findOrderListWithPaging(userId, orderCondDto, pageable);
 
-            ResponseDto<Page<OrderListDto>> responseDto = ResponseDto.<Page<OrderListDto>>builder()
+            ResponseDto<?> responseDto = ResponseDto.builder()
                 .responseCode(ORDER_LIST_SUCCESS)
                 .responseMessage("주문 목록 조회에 성공했습니다.")
-                .data(page)
+                .data(data)
                 .build();
             
             return ResponseEntity.ok(responseDto);
         } catch (Exception e) {
             log.error("주문 목록 조회 실패: {}", e.getMessage(), e);
             
-            ResponseDto<Page<OrderListDto>> errorResponse = ResponseDto.<Page<OrderListDto>>builder()
+            ResponseDto<?> errorResponse = ResponseDto.builder()
                 .responseCode(ORDER_LIST_FAILED)
                 .responseMessage("주문 목록 조회에 실패했습니다: " + e.getMessage())
                 .build();
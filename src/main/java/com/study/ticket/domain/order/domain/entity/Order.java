@@ -4,6 +4,7 @@ import com.study.ticket.domain.order.domain.enums.OrderStatus;
 import com.study.ticket.domain.screening.domain.entity.Screening;
 import com.study.ticket.domain.user.domain.entity.User;
 import com.study.ticket.global.entity.BaseEntity;
+import com.study.ticket.global.id.IdGenerators;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.Comment;
@@ -11,20 +12,22 @@ import org.hibernate.annotations.Comment;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.UUID;
 
 /**
  * 주문 엔티티
  */
 @Entity
-@Table(name = "ORDERS")
+@Table(name = "ORDERS", indexes = {
+    @Index(name = "idx_orders_user_created_at", columnList = "USER_ID, CREATED_AT, ORDER_ID")
+})
 @Builder
 @Getter @Setter
 @AllArgsConstructor @NoArgsConstructor
 public class Order extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "orderIdGenerator")
+    @SequenceGenerator(name = "orderIdGenerator", sequenceName = "ORDERS_SEQ", allocationSize = 50)
     @Column(name = "ORDER_ID")
     @Comment("주문 ID")
     private Long id;
@@ -75,8 +78,9 @@ public class Order extends BaseEntity {
      */
     @PrePersist
     public void prePersist() {
+        super.prePersist();
         if (orderNumber == null) {
-            orderNumber = UUID.randomUUID().toString();
+            orderNumber = IdGenerators.nextKey();
         }
         if (status == null) {
             status = OrderStatus.CREATED;
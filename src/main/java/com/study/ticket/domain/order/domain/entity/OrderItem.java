@@ -16,7 +16,8 @@ import org.hibernate.annotations.Comment;
 public class OrderItem extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "orderItemIdGenerator")
+    @SequenceGenerator(name = "orderItemIdGenerator", sequenceName = "ORDER_ITEMS_SEQ", allocationSize = 50)
     @Column(name = "ORDER_ITEM_ID")
     @Comment("주문 항목 ID")
     private Long id;
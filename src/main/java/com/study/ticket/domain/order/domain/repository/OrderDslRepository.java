@@ -6,6 +6,8 @@ import com.study.ticket.domain.movie.dto.MovieListDto;
 import com.study.ticket.domain.order.dto.OrderCondDto;
 import com.study.ticket.domain.order.dto.OrderDetailDto;
 import com.study.ticket.domain.order.dto.OrderListDto;
+import com.study.ticket.global.common.cursor.Cursor;
+import com.study.ticket.global.common.cursor.CursorPage;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -15,6 +17,8 @@ public interface OrderDslRepository {
 
     Page<OrderListDto> findOrderListWithPaging(Long userId, OrderCondDto orderCondDto, Pageable pageable);
 
+    CursorPage<OrderListDto> findOrderListWithCursor(Long userId, OrderCondDto orderCondDto, Cursor cursor, int size, boolean withCount);
+
     Optional<OrderDetailDto> findOrderDetailByOrderId(Long id);
 
     Optional<OrderDetailDto> findOrderDetailByOrderNumber(String orderNumber);
@@ -5,6 +5,8 @@ import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.study.ticket.domain.movie.dto.*;
 import com.study.ticket.domain.order.dto.*;
+import com.study.ticket.global.common.cursor.Cursor;
+import com.study.ticket.global.common.cursor.CursorPage;
 import com.study.ticket.global.util.QueryUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -48,6 +50,21 @@ public class OrderDslRepositoryImpl implements OrderDslRepository {
 
     }
 
+    @Override
+    public CursorPage<OrderListDto> findOrderListWithCursor(Long userId, OrderCondDto orderCondDto, Cursor cursor, int size, boolean withCount) {
+        // 전체 카운트 조회 (요청한 경우에만)
+        final Long totalCount = withCount ? findOrderListCount(userId, orderCondDto).fetchOne() : null;
+
+        // 커서 이후 데이터 조회 (다음 페이지 존재 여부 확인을 위해 1개 더 조회)
+        final List<OrderListDto> rows = findOrderList(userId, orderCondDto)
+                .where(QueryUtils.afterCursor(cursor, order.createdAt, order.id))
+                .orderBy(order.createdAt.desc(), order.id.desc())
+                .limit(size + 1L)
+                .fetch();
+
+        return CursorPage.of(rows, size, row -> new Cursor(row.getCreatedAt(), row.getId()), totalCount);
+    }
+
     // findOrderListWithPaging 전체 카운트 조회
     private JPAQuery<Long> findOrderListCount(Long userId, OrderCondDto orderCondDto){
         return queryFactory
@@ -2,6 +2,7 @@ package com.study.ticket.domain.order.domain.repository;
 
 import com.study.ticket.domain.order.domain.entity.Order;
 import com.study.ticket.domain.order.domain.enums.OrderStatus;
+import com.study.ticket.domain.order.hold.SeatHold;
 import com.study.ticket.domain.user.domain.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -52,6 +53,19 @@ public interface OrderRepository extends JpaRepository<Order, Long>, OrderDslRep
     @Query("SELECT o FROM Order o WHERE o.status = 'PAYMENT_PENDING' AND o.paymentDeadline < :now")
     List<Order> findExpiredPaymentPendingOrders(@Param("now") LocalDateTime now);
 
+    /**
+     * 좌석 홀드 대상 주문(생성, 결제 대기)을 ID 순으로 조회합니다.
+     * 기동 시 좌석 홀드를 복구할 때 afterId 이후부터 나누어 조회합니다.
+     * @param afterId 이전 페이지의 마지막 주문 ID
+     * @param pageable 페이지 정보
+     * @return 좌석 홀드 목록
+     */
+    @Query("SELECT new com.study.ticket.domain.order.hold.SeatHold(o.id, o.paymentDeadline) FROM Order o " +
+            "WHERE o.status IN (com.study.ticket.domain.order.domain.enums.OrderStatus.CREATED, " +
+            "com.study.ticket.domain.order.domain.enums.OrderStatus.PAYMENT_PENDING) " +
+            "AND o.id > :afterId ORDER BY o.id")
+    List<SeatHold> findSeatHolds(@Param("afterId") Long afterId, Pageable pageable);
+
     /**
      * 주문을 비관적 락으로 조회합니다.
      * @param id 주문 ID
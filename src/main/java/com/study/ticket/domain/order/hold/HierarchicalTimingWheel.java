@@ -0,0 +1,196 @@
+package com.study.ticket.domain.order.hold;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * 계층형 타이밍 휠
+ * 만료 시각이 있는 항목을 tick 단위 슬롯에 보관하고, 시계를 전진시키며 만료된 항목을 꺼냅니다.
+ * 상위 휠은 하위 휠 한 바퀴를 한 슬롯으로 표현하며, 하위 휠이 한 바퀴 돌 때마다 상위 슬롯을 하위 휠로 내려보냅니다.
+ * 등록/취소는 O(1)이고 만료 비용은 만료되는 항목 수에만 비례합니다.
+ * 가상 스레드가 캐리어 스레드에 고정되지 않도록 synchronized 대신 ReentrantLock을 사용합니다.
+ * @param <T> 항목 타입
+ */
+public class HierarchicalTimingWheel<T> {
+
+    private final long tickMs;
+    private final int wheelSize;
+    private final long[] levelSpans;
+    private final ArrayDeque<Timeout<T>>[][] wheels;
+    private final ReentrantLock lock = new ReentrantLock();
+    private long currentTick;
+    private int size;
+
+    /**
+     * @param tickMs 슬롯 하나의 시간 (ms)
+     * @param wheelSize 휠당 슬롯 수
+     * @param levels 휠 단계 수
+     * @param startMs 시작 시각 (epoch ms)
+     */
+    @SuppressWarnings("unchecked")
+    public HierarchicalTimingWheel(long tickMs, int wheelSize, int levels, long startMs) {
+        if (tickMs <= 0 || wheelSize < 2 || levels < 1) {
+            throw new IllegalArgumentException("잘못된 타이밍 휠 설정");
+        }
+        this.tickMs = tickMs;
+        this.wheelSize = wheelSize;
+        this.levelSpans = new long[levels];
+        this.wheels = new ArrayDeque[levels][wheelSize];
+        long span = 1;
+        for (int level = 0; level < levels; level++) {
+            levelSpans[level] = span;
+            span = Math.multiplyExact(span, wheelSize);
+            for (int slot = 0; slot < wheelSize; slot++) {
+                wheels[level][slot] = new ArrayDeque<>();
+            }
+        }
+        this.currentTick = startMs / tickMs;
+    }
+
+    /**
+     * 항목을 등록합니다.
+     * 이미 만료 시각이 지났다면 등록하지 않고 null을 반환합니다.
+     * @param item 항목
+     * @param expirationMs 만료 시각 (epoch ms)
+     * @return 취소용 핸들, 이미 만료된 경우 null
+     */
+    public Timeout<T> add(T item, long expirationMs) {
+        Timeout<T> timeout = new Timeout<>(item, expirationMs, Math.ceilDiv(expirationMs, tickMs));
+        lock.lock();
+        try {
+            if (!place(timeout)) {
+                return null;
+            }
+            size++;
+            return timeout;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 시계를 전진시키고 만료된 항목을 전달합니다.
+     * 취소된 항목은 전달하지 않습니다.
+     * @param nowMs 현재 시각 (epoch ms)
+     * @param expired 만료 항목 처리기
+     * @return 만료된 항목 수
+     */
+    public int advance(long nowMs, Consumer<T> expired) {
+        lock.lock();
+        try {
+            long targetTick = nowMs / tickMs;
+            int expiredCount = 0;
+            while (currentTick < targetTick) {
+                currentTick++;
+
+                // 하위 휠이 한 바퀴 돌았으면 상위 슬롯을 하위 휠로 내려보냄
+                for (int level = 1; level < wheels.length && currentTick % levelSpans[level] == 0; level++) {
+                    ArrayDeque<Timeout<T>> bucket = wheels[level][slotIndex(level, currentTick)];
+                    for (int i = bucket.size(); i > 0; i--) {
+                        Timeout<T> timeout = bucket.poll();
+                        if (!timeout.cancelled && !place(timeout)) {
+                            expiredCount += expire(timeout, expired);
+                        } else if (timeout.cancelled) {
+                            size--;
+                        }
+                    }
+                }
+
+                ArrayDeque<Timeout<T>> bucket = wheels[0][slotIndex(0, currentTick)];
+                Timeout<T> timeout;
+                while ((timeout = bucket.poll()) != null) {
+                    if (timeout.cancelled) {
+                        size--;
+                    } else {
+                        expiredCount += expire(timeout, expired);
+                    }
+                }
+            }
+            return expiredCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 등록된 항목 수를 반환합니다. 취소되었지만 아직 슬롯에 남아 있는 항목을 포함합니다.
+     * @return 항목 수
+     */
+    public int size() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int expire(Timeout<T> timeout, Consumer<T> expired) {
+        size--;
+        expired.accept(timeout.item);
+        return 1;
+    }
+
+    /**
+     * 남은 tick 수에 맞는 휠 단계의 슬롯에 항목을 배치합니다.
+     * 최상위 휠 범위를 넘는 항목은 최상위 휠의 가장 먼 슬롯에 두었다가 내려올 때 다시 배치합니다.
+     * @return 배치 여부 (만료 시각이 지났으면 false)
+     */
+    private boolean place(Timeout<T> timeout) {
+        long remainingTicks = timeout.deadlineTick - currentTick;
+        if (remainingTicks <= 0) {
+            return false;
+        }
+        for (int level = 0; level < wheels.length; level++) {
+            if (remainingTicks < levelSpans[level] * wheelSize) {
+                wheels[level][slotIndex(level, timeout.deadlineTick)].add(timeout);
+                return true;
+            }
+        }
+        int top = wheels.length - 1;
+        wheels[top][slotIndex(top, currentTick + levelSpans[top] * (wheelSize - 1))].add(timeout);
+        return true;
+    }
+
+    private int slotIndex(int level, long tick) {
+        return (int) ((tick / levelSpans[level]) % wheelSize);
+    }
+
+    /**
+     * 타이밍 휠에 등록된 항목의 핸들
+     * @param <T> 항목 타입
+     */
+    public static final class Timeout<T> {
+
+        private final T item;
+        private final long expirationMs;
+        private final long deadlineTick;
+        private volatile boolean cancelled;
+
+        private Timeout(T item, long expirationMs, long deadlineTick) {
+            this.item = item;
+            this.expirationMs = expirationMs;
+            this.deadlineTick = deadlineTick;
+        }
+
+        /**
+         * 항목을 취소합니다. 슬롯에서는 만료 시점에 제거됩니다.
+         */
+        public void cancel() {
+            cancelled = true;
+        }
+
+        public T getItem() {
+            return item;
+        }
+
+        public long getExpirationMs() {
+            return expirationMs;
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.study.ticket.domain.order.hold;
+
+import java.time.LocalDateTime;
+
+/**
+ * 좌석 홀드
+ * 결제 마감 시간까지 주문의 좌석을 점유합니다.
+ * @param orderId 주문 ID
+ * @param paymentDeadline 결제 마감 시간
+ */
+public record SeatHold(Long orderId, LocalDateTime paymentDeadline) {
+}
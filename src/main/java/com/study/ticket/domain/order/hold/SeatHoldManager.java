@@ -0,0 +1,143 @@
+package com.study.ticket.domain.order.hold;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 좌석 홀드 관리자
+ * 결제 대기 중인 주문의 좌석 홀드를 타이밍 휠에 등록하고, 결제 마감 시간이 지난 홀드를 꺼냅니다.
+ * DB를 반복 조회하지 않고 메모리에서 만료를 판단하므로 홀드 수와 관계없이 만료 비용이 일정합니다.
+ */
+@Component
+@Slf4j
+public class SeatHoldManager {
+
+    /**
+     * 타이밍 휠 슬롯 하나의 시간 (ms)
+     */
+    @Value("${seat.hold.tick:1000}")
+    private long tickMs;
+
+    /**
+     * 휠당 슬롯 수
+     */
+    @Value("${seat.hold.wheel-size:64}")
+    private int wheelSize;
+
+    /**
+     * 휠 단계 수
+     */
+    @Value("${seat.hold.levels:4}")
+    private int levels;
+
+    private final Clock clock;
+    private HierarchicalTimingWheel<SeatHold> timingWheel;
+    private final ConcurrentHashMap<Long, HierarchicalTimingWheel.Timeout<SeatHold>> holds = new ConcurrentHashMap<>();
+
+    public SeatHoldManager() {
+        this(Clock.systemDefaultZone());
+    }
+
+    /**
+     * @param clock 만료 판단 기준 시계 (테스트에서 시간을 직접 전진시킬 때 사용)
+     */
+    SeatHoldManager(Clock clock) {
+        this.clock = clock;
+    }
+
+    @PostConstruct
+    public void init() {
+        timingWheel = new HierarchicalTimingWheel<>(tickMs, wheelSize, levels, clock.millis());
+    }
+
+    /**
+     * 좌석 홀드를 등록합니다.
+     * 트랜잭션 안에서 호출하면 커밋된 뒤에 등록합니다.
+     * 이미 결제 마감 시간이 지났다면 다음 만료 처리 때 바로 만료되도록 등록합니다.
+     * @param orderId 주문 ID
+     * @param paymentDeadline 결제 마감 시간
+     */
+    public void hold(Long orderId, LocalDateTime paymentDeadline) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    register(orderId, paymentDeadline);
+                }
+            });
+        } else {
+            register(orderId, paymentDeadline);
+        }
+    }
+
+    /**
+     * 좌석 홀드를 해제합니다. 결제 완료나 취소로 더 이상 만료 처리할 필요가 없을 때 호출합니다.
+     * 트랜잭션 안에서 호출하면 커밋된 뒤에 해제합니다.
+     * @param orderId 주문 ID
+     */
+    public void release(Long orderId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    unregister(orderId);
+                }
+            });
+        } else {
+            unregister(orderId);
+        }
+    }
+
+    /**
+     * 현재 시각까지 만료된 좌석 홀드를 꺼냅니다.
+     * @return 만료된 좌석 홀드 목록
+     */
+    public List<SeatHold> pollExpired() {
+        List<SeatHold> expiredHolds = new ArrayList<>();
+        timingWheel.advance(clock.millis(), seatHold -> {
+            holds.computeIfPresent(seatHold.orderId(), (orderId, timeout) -> timeout.getItem() == seatHold ? null : timeout);
+            expiredHolds.add(seatHold);
+        });
+        return expiredHolds;
+    }
+
+    /**
+     * 등록된 좌석 홀드 수를 반환합니다.
+     * @return 좌석 홀드 수
+     */
+    public int getHoldCount() {
+        return holds.size();
+    }
+
+    private void unregister(Long orderId) {
+        HierarchicalTimingWheel.Timeout<SeatHold> timeout = holds.remove(orderId);
+        if (timeout != null) {
+            timeout.cancel();
+        }
+    }
+
+    private void register(Long orderId, LocalDateTime paymentDeadline) {
+        long expirationMs = Math.max(
+                paymentDeadline.atZone(clock.getZone()).toInstant().toEpochMilli(),
+                clock.millis() + tickMs
+        );
+        HierarchicalTimingWheel.Timeout<SeatHold> timeout = timingWheel.add(new SeatHold(orderId, paymentDeadline), expirationMs);
+        if (timeout == null) {
+            return;
+        }
+        HierarchicalTimingWheel.Timeout<SeatHold> previous = holds.put(orderId, timeout);
+        if (previous != null) {
+            previous.cancel();
+        }
+    }
+}
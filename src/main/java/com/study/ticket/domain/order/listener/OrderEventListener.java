@@ -5,6 +5,7 @@ import com.study.ticket.domain.event.service.ProcessedEventService;
 import com.study.ticket.domain.order.event.OrderCreatedEvent;
 import com.study.ticket.global.event.AbstractEventListener;
 import com.study.ticket.global.event.Event;
+import com.study.ticket.global.event.KeyOrderedEventExecutor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.support.Acknowledgment;
@@ -13,6 +14,8 @@ import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 /**
  * 주문 이벤트 리스너
  * Kafka에서 주문 관련 이벤트를 수신하고 처리하는 역할을 담당합니다.
@@ -23,32 +26,32 @@ public class OrderEventListener extends AbstractEventListener {
 
     private static final String CONSUMER_GROUP = "order-service";
 
-    public OrderEventListener(ProcessedEventService processedEventService, ObjectMapper objectMapper) {
-        super(processedEventService, objectMapper);
+    public OrderEventListener(ProcessedEventService processedEventService, ObjectMapper objectMapper,
+                              KeyOrderedEventExecutor keyOrderedEventExecutor) {
+        super(processedEventService, objectMapper, keyOrderedEventExecutor);
     }
 
     /**
-     * 주문 생성 이벤트를 수신합니다.
-     * @param payload 이벤트 페이로드
-     * @param key 메시지 키
-     * @param partition 파티션
-     * @param topic 토픽
+     * 주문 이벤트를 배치로 수신합니다.
+     * 한 번의 poll로 받은 주문 이벤트를 메시지 키(주문 ID)별 레인으로 나누어 병렬로 처리합니다.
+     * @param payloads 이벤트 페이로드 목록
+     * @param keys 메시지 키 목록
+     * @param partitions 파티션 목록
      * @param acknowledgment 확인자
      */
     @KafkaListener(
             topics = "${kafka.topics.order-events}",
             groupId = CONSUMER_GROUP,
-            containerFactory = "errorHandlingKafkaListenerContainerFactory"
+            containerFactory = "batchErrorHandlingKafkaListenerContainerFactory"
     )
-    public void consumeOrderCreatedEvent(
-            @Payload String payload,
-            @Header(KafkaHeaders.RECEIVED_KEY) String key,
-            @Header(KafkaHeaders.RECEIVED_PARTITION) int partition,
-            @Header(KafkaHeaders.RECEIVED_TOPIC) String topic,
+    public void consumeOrderEvents(
+            @Payload List<String> payloads,
+            @Header(KafkaHeaders.RECEIVED_KEY) List<String> keys,
+            @Header(KafkaHeaders.RECEIVED_PARTITION) List<Integer> partitions,
             Acknowledgment acknowledgment
     ) {
-        log.info("주문 이벤트 수신: topic={}, partition={}, key={}", topic, partition, key);
-        processEvent(payload, OrderCreatedEvent.class, CONSUMER_GROUP, acknowledgment);
+        log.info("주문 이벤트 수신: {} 개, partitions={}", payloads.size(), partitions.stream().distinct().toList());
+        processEventsInKeyOrder(payloads, keys, OrderCreatedEvent.class, CONSUMER_GROUP, acknowledgment);
     }
 
     /**
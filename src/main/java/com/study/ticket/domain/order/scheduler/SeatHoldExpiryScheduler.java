@@ -0,0 +1,79 @@
+package com.study.ticket.domain.order.scheduler;
+
+import com.study.ticket.domain.order.domain.repository.OrderRepository;
+import com.study.ticket.domain.order.hold.SeatHold;
+import com.study.ticket.domain.order.hold.SeatHoldManager;
+import com.study.ticket.domain.order.service.OrderService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 좌석 홀드 만료 스케줄러
+ * 결제 마감 시간이 지난 좌석 홀드의 주문을 취소하고 좌석을 해제합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SeatHoldExpiryScheduler {
+
+    private final SeatHoldManager seatHoldManager;
+    private final OrderService orderService;
+    private final OrderRepository orderRepository;
+
+    @Value("${seat.hold.restore-batch-size:1000}")
+    private int restoreBatchSize;
+
+    /**
+     * 기동 시 결제 대기 중인 주문의 좌석 홀드를 복구합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void restoreHolds() {
+        int restoredCount = 0;
+        long afterId = 0L;
+        while (true) {
+            List<SeatHold> seatHolds = orderRepository.findSeatHolds(afterId, PageRequest.of(0, restoreBatchSize));
+            for (SeatHold seatHold : seatHolds) {
+                seatHoldManager.hold(seatHold.orderId(), seatHold.paymentDeadline());
+            }
+            restoredCount += seatHolds.size();
+            if (seatHolds.size() < restoreBatchSize) {
+                break;
+            }
+            afterId = seatHolds.get(seatHolds.size() - 1).orderId();
+        }
+        log.info("좌석 홀드 복구 완료: {} 개", restoredCount);
+    }
+
+    /**
+     * 1초마다 만료된 좌석 홀드를 처리합니다.
+     */
+    @Scheduled(fixedDelayString = "${seat.hold.tick:1000}")
+    public void expireHolds() {
+        List<SeatHold> expiredHolds = seatHoldManager.pollExpired();
+        if (expiredHolds.isEmpty()) {
+            return;
+        }
+
+        int cancelledCount = 0;
+        for (SeatHold seatHold : expiredHolds) {
+            try {
+                if (orderService.expireOrder(seatHold)) {
+                    cancelledCount++;
+                }
+            } catch (Exception e) {
+                // 결제와 동시에 변경된 경우 등, 다음 주기에 다시 확인
+                log.warn("좌석 홀드 만료 처리 실패: 주문 ID {}, {}", seatHold.orderId(), e.getMessage());
+                seatHoldManager.hold(seatHold.orderId(), seatHold.paymentDeadline());
+            }
+        }
+        log.info("좌석 홀드 만료 처리: {} 개 중 {} 개 주문 취소", expiredHolds.size(), cancelledCount);
+    }
+}
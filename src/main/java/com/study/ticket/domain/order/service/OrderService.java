@@ -10,11 +10,20 @@ import com.study.ticket.domain.order.dto.OrderListDto;
 import com.study.ticket.domain.order.dto.OrderSaveDto;
 import com.study.ticket.domain.order.event.OrderCancelledEvent;
 import com.study.ticket.domain.order.event.OrderCreatedEvent;
+import com.study.ticket.domain.order.hold.SeatHold;
+import com.study.ticket.domain.order.hold.SeatHoldManager;
 import com.study.ticket.domain.outbox.service.OutboxEventService;
+import com.study.ticket.domain.saga.domain.enums.SagaType;
+import com.study.ticket.domain.saga.service.SagaMetrics;
+import com.study.ticket.domain.saga.service.SagaOrchestrator;
 import com.study.ticket.domain.screening.domain.entity.Screening;
 import com.study.ticket.domain.screening.domain.repository.ScreeningRepository;
+import com.study.ticket.domain.screening.seat.SeatMapEngine;
+import com.study.ticket.domain.screening.seat.SeatReservation;
 import com.study.ticket.domain.user.domain.entity.User;
 import com.study.ticket.domain.user.domain.repository.UserRepository;
+import com.study.ticket.global.common.cursor.Cursor;
+import com.study.ticket.global.common.cursor.CursorPage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -38,6 +47,10 @@ public class OrderService {
     private final UserRepository userRepository;
     private final ScreeningRepository screeningRepository;
     private final OutboxEventService outboxEventService;
+    private final SeatMapEngine seatMapEngine;
+    private final SeatHoldManager seatHoldManager;
+    private final SagaMetrics sagaMetrics;
+    private final SagaOrchestrator sagaOrchestrator;
     
     @Value("${kafka.topics.order-events}")
     private String orderEventsTopic;
@@ -49,6 +62,8 @@ public class OrderService {
      */
     @Transactional
     public void createOrder(OrderSaveDto orderSaveDto) {
+        sagaMetrics.startStep(SagaType.ORDER_PROCESSING, "create_order");
+
         // 사용자 조회
         User user = userRepository.findById(orderSaveDto.getUserId())
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없음: " + orderSaveDto.getUserId()));
@@ -57,17 +72,12 @@ public class OrderService {
         Screening screening = screeningRepository.findById(orderSaveDto.getScreeningId())
                 .orElseThrow(() -> new RuntimeException("상영을 찾을 수 없음: " + orderSaveDto.getScreeningId()));
         
-        // 좌석 예약 가능 여부 확인
-        if (!screening.isAvailable(orderSaveDto.getSeatNumbers().size())) {
-            throw new RuntimeException("좌석 예약 불가: 잔여 좌석 부족");
-        }
+        // 좌석 선점 (트랜잭션 롤백 시 자동 해제)
+        SeatReservation seatReservation = seatMapEngine.reserve(screening, orderSaveDto.getSeatNumbers());
         
         // 주문 생성
         Order order = orderSaveDto.toEntity(user, screening);
         
-        // 좌석 예약
-        screening.reserve(orderSaveDto.getSeatNumbers().size());
-        
         // 주문 항목 추가
         for (String seatNumber : orderSaveDto.getSeatNumbers()) {
             OrderItem orderItem = OrderItem.builder()
@@ -79,6 +89,14 @@ public class OrderService {
         
         // 주문 저장
         Order savedOrder = orderRepository.save(order);
+        // 좌석 행 기록 (다른 주문이 먼저 예약한 좌석이면 실패하여 롤백)
+        seatMapEngine.confirm(seatReservation, savedOrder.getId());
+        
+        // 결제 마감 시간까지 좌석 홀드 (트랜잭션 커밋 후 등록)
+        seatHoldManager.hold(savedOrder.getId(), savedOrder.getPaymentDeadline());
+
+        // 주문 처리 Saga 시작 (주문 생성 단계 완료)
+        sagaOrchestrator.start(SagaType.ORDER_PROCESSING, savedOrder.getId().toString());
         
         // 주문 생성 이벤트 발행
         OrderCreatedEvent event = new OrderCreatedEvent(savedOrder);
@@ -128,6 +146,22 @@ public class OrderService {
         return orderRepository.findOrderListWithPaging(userId, orderCondDto, pageable);
     }
 
+    /**
+     * 사용자의 주문 목록을 커서 기반으로 조회합니다.
+     * @param userId 사용자 ID
+     * @param orderCondDto 조회 조건
+     * @param cursor 커서 토큰 (비어 있으면 첫 페이지)
+     * @param size 페이지 크기
+     * @param withCount 전체 건수 조회 여부
+     * @return 주문 커서 페이지
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<OrderListDto> findOrderListWithCursor(Long userId, OrderCondDto orderCondDto, String cursor, int size, boolean withCount) {
+        userRepository.findById(userId).orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없음: " + userId));
+
+        return orderRepository.findOrderListWithCursor(userId, orderCondDto, Cursor.decode(cursor), CursorPage.normalizeSize(size), withCount);
+    }
+
     /**
      * 주문을 취소합니다.
      * @param orderId 주문 ID
@@ -135,6 +169,8 @@ public class OrderService {
      */
     @Transactional
     public void cancelOrder(Long orderId) {
+        sagaMetrics.startStep(SagaType.ORDER_CANCELLATION, "cancel_order");
+
         Order order = orderRepository.findById(orderId)
                 .orElseThrow(() -> new RuntimeException("주문 정보를 찾을 수 없음: " + orderId));
 
@@ -148,26 +184,91 @@ public class OrderService {
             throw new RuntimeException("완료된 주문은 취소할 수 없습니다: " + orderId);
         }
 
+        cancel(order, new OrderCancelledEvent(order));
+
+        // 주문 처리 Saga 보상 (결제가 승인된 주문이면 환불)
+        sagaOrchestrator.compensate(SagaType.ORDER_PROCESSING, orderId.toString(), "주문 취소");
+
+        log.info("주문 취소 완료: {}", order.getOrderNumber());
+        orderRepository.save(order);
+    }
+
+    /**
+     * 결제 마감 시간이 지난 좌석 홀드의 주문을 취소합니다.
+     * 이미 결제가 진행되었거나 취소된 주문은 건너뛰고, 결제 마감 시간이 연장된 주문은 다시 홀드합니다.
+     * @param seatHold 만료된 좌석 홀드
+     * @return 취소 여부
+     */
+    @Transactional
+    public boolean expireOrder(SeatHold seatHold) {
+        Optional<Order> optionalOrder = orderRepository.findById(seatHold.orderId());
+        if (optionalOrder.isEmpty()) {
+            return false;
+        }
+
+        Order order = optionalOrder.get();
+        if (order.getStatus() != OrderStatus.CREATED && order.getStatus() != OrderStatus.PAYMENT_PENDING) {
+            return false;
+        }
+        if (!order.isPaymentDeadlineExpired()) {
+            seatHoldManager.hold(order.getId(), order.getPaymentDeadline());
+            return false;
+        }
+
+        sagaMetrics.startStep(SagaType.ORDER_CANCELLATION, "expire_order");
+        cancel(order, new OrderCancelledEvent(order, "결제 시간 만료"));
+        sagaOrchestrator.compensate(SagaType.ORDER_PROCESSING, order.getId().toString(), "결제 시간 만료");
+
+        log.info("결제 시간 만료로 주문 취소: {}", order.getOrderNumber());
+        return true;
+    }
+
+    /**
+     * 주문 처리 Saga의 보상으로 주문을 취소합니다.
+     * 이미 취소된 주문은 건너뛰고, 완료된 주문은 취소하지 않습니다.
+     * @param orderId 주문 ID
+     * @param reason 취소 사유
+     */
+    @Transactional
+    public void compensateOrder(Long orderId, String reason) {
+        Order order = orderRepository.findById(orderId)
+                .orElseThrow(() -> new RuntimeException("주문 정보를 찾을 수 없음: " + orderId));
+        if (order.getStatus() == OrderStatus.CANCELLED) {
+            return;
+        }
+        if (order.getStatus() == OrderStatus.COMPLETED) {
+            throw new RuntimeException("완료된 주문은 취소할 수 없습니다: " + orderId);
+        }
+
+        cancel(order, new OrderCancelledEvent(order, reason));
+        log.info("주문 처리 Saga 보상으로 주문 취소: {}, {}", order.getOrderNumber(), reason);
+    }
+
+    /**
+     * 주문을 취소하고 좌석을 해제한 뒤 주문 취소 이벤트를 발행합니다.
+     * @param order 주문
+     * @param event 주문 취소 이벤트
+     */
+    private void cancel(Order order, OrderCancelledEvent event) {
         // 주문 취소
         order.cancel();
 
-        // 좌석 예약 취소
-        Screening screening = order.getScreening();
-        screening.cancelReservation(order.getSeatCount());
+        // 좌석 예약 취소 (좌석 행 삭제, 좌석 맵은 트랜잭션 커밋 후 해제)
+        seatMapEngine.release(
+                order.getScreening(),
+                order.getId(),
+                order.getOrderItems().stream().map(OrderItem::getSeatNumber).toList()
+        );
+        seatHoldManager.release(order.getId());
 
         // 주문 취소 이벤트 발행
-        OrderCancelledEvent event = new OrderCancelledEvent(order);
         outboxEventService.saveEvent(
                 event,
                 "ORDER",
                 order.getId().toString(),
                 orderEventsTopic
         );
-
-        log.info("주문 취소 완료: {}", order.getOrderNumber());
-        orderRepository.save(order);
     }
-
     
     /**
      * 주문을 결제 대기 상태로 변경합니다.
@@ -192,7 +293,17 @@ public class OrderService {
     public void completeOrder(Long orderId) {
         Order order = orderRepository.findById(orderId)
                 .orElseThrow(() -> new RuntimeException("주문 정보를 찾을 수 없음: " + orderId));;
+        completeOrder(order);
+    }
+
+    /**
+     * 이미 조회한 주문을 완료 상태로 변경합니다.
+     * 현재 트랜잭션의 영속 상태 주문을 변경하므로 다시 조회하지 않고 커밋 시 UPDATE 됩니다.
+     * @param order 주문
+     */
+    @Transactional
+    public void completeOrder(Order order) {
         order.complete();
-        orderRepository.save(order);
+        seatHoldManager.release(order.getId());
     }
 }
@@ -14,12 +14,19 @@ import java.time.LocalDateTime;
  * 트랜잭션 내에서 이벤트를 저장하고, 별도 프로세스가 Kafka로 발행하는 Outbox 패턴을 위한 엔티티
  */
 @Entity
-@Table(name = "OUTBOX_EVENTS")
+@Table(name = "OUTBOX_EVENTS", indexes = {
+    @Index(name = "idx_outbox_events_status_next_attempt", columnList = "STATUS, NEXT_ATTEMPT_AT, EVENT_ID"),
+    @Index(name = "idx_outbox_events_partition_key", columnList = "PARTITION_KEY, EVENT_ID"),
+    @Index(name = "idx_outbox_events_status_published_at", columnList = "STATUS, PUBLISHED_AT"),
+    @Index(name = "idx_outbox_events_event_key", columnList = "EVENT_KEY", unique = true)
+})
 @Builder
 @Getter @Setter
 @AllArgsConstructor @NoArgsConstructor
 public class OutboxEvent extends BaseEntity {
 
+    // 릴레이가 파티션 키별로 EVENT_ID 순서대로 발행하므로 저장 순서대로 증가하는 IDENTITY 유지
+    // (여러 노드가 시퀀스 블록을 나눠 받으면 ID 순서와 저장 순서가 달라짐), 일괄 저장은 JDBC 배치로 처리
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "EVENT_ID")
@@ -72,67 +79,32 @@ public class OutboxEvent extends BaseEntity {
     @Comment("오류 메시지")
     private String errorMessage;
 
+    @Column(name = "NEXT_ATTEMPT_AT", nullable = false)
+    @Comment("다음 발행 시도 가능 시간")
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "LOCKED_BY")
+    @Comment("발행 선점 릴레이 ID")
+    private String lockedBy;
+
+    @Column(name = "LOCKED_UNTIL")
+    @Comment("발행 선점 만료 시간")
+    private LocalDateTime lockedUntil;
+
     /**
      * 이벤트를 생성합니다.
      */
     @PrePersist
     public void prePersist() {
+        super.prePersist();
         if (status == null) {
             status = EventStatus.CREATED;
         }
         if (retryCount == null) {
             retryCount = 0;
         }
-    }
-
-    /**
-     * 이벤트를 발행 대기 상태로 변경합니다.
-     */
-    public void markAsReady() {
-        this.status = EventStatus.READY;
-    }
-
-    /**
-     * 이벤트를 발행 중 상태로 변경합니다.
-     */
-    public void markAsPublishing() {
-        this.status = EventStatus.PUBLISHING;
-    }
-
-    /**
-     * 이벤트를 발행 완료 상태로 변경합니다.
-     */
-    public void markAsPublished() {
-        this.status = EventStatus.PUBLISHED;
-        this.publishedAt = LocalDateTime.now();
-    }
-
-    /**
-     * 이벤트를 실패 상태로 변경합니다.
-     * @param errorMessage 오류 메시지
-     */
-    public void markAsFailed(String errorMessage) {
-        this.status = EventStatus.FAILED;
-        this.errorMessage = errorMessage;
-        this.retryCount++;
-    }
-
-    /**
-     * 이벤트를 DLQ(Dead Letter Queue) 상태로 변경합니다.
-     * @param errorMessage 오류 메시지
-     */
-    public void markAsDlq(String errorMessage) {
-        this.status = EventStatus.DLQ;
-        this.errorMessage = errorMessage;
-    }
-
-    /**
-     * 이벤트가 발행 가능한지 확인합니다.
-     * @return 발행 가능 여부
-     */
-    public boolean isPublishable() {
-        return this.status == EventStatus.CREATED || 
-               this.status == EventStatus.READY || 
-               (this.status == EventStatus.FAILED && this.retryCount < 3);
+        if (nextAttemptAt == null) {
+            nextAttemptAt = LocalDateTime.now();
+        }
     }
 }
@@ -0,0 +1,65 @@
+package com.study.ticket.domain.outbox.domain.entity;
+
+import com.study.ticket.domain.outbox.domain.enums.EventType;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Comment;
+
+import java.time.LocalDateTime;
+
+/**
+ * Outbox 이벤트 아카이브 엔티티
+ * 보존 기간이 지난 발행 완료 이벤트를 보관합니다.
+ * MySQL에서는 ARCHIVED_AT 기준 월별 RANGE 파티션으로 운영하여 오래된 파티션을 통째로 삭제합니다.
+ */
+@Entity
+@Table(name = "OUTBOX_EVENTS_ARCHIVE", indexes = {
+    @Index(name = "idx_outbox_events_archive_archived_at", columnList = "ARCHIVED_AT")
+})
+@Builder
+@Getter @Setter
+@AllArgsConstructor @NoArgsConstructor
+public class OutboxEventArchive {
+
+    @Id
+    @Column(name = "EVENT_ID")
+    @Comment("이벤트 ID")
+    private Long id;
+
+    @Column(name = "AGGREGATE_ID", nullable = false)
+    @Comment("집계 ID (주문 ID, 결제 ID 등)")
+    private String aggregateId;
+
+    @Column(name = "AGGREGATE_TYPE", nullable = false)
+    @Comment("집계 타입 (ORDER, PAYMENT 등)")
+    private String aggregateType;
+
+    @Column(name = "EVENT_TYPE", nullable = false)
+    @Comment("이벤트 타입")
+    @Enumerated(EnumType.STRING)
+    private EventType eventType;
+
+    @Column(name = "EVENT_KEY", nullable = false)
+    @Comment("이벤트 키")
+    private String eventKey;
+
+    @Column(name = "PAYLOAD", nullable = false, columnDefinition = "TEXT")
+    @Comment("이벤트 페이로드 (JSON)")
+    private String payload;
+
+    @Column(name = "TOPIC", nullable = false)
+    @Comment("대상 Kafka 토픽")
+    private String topic;
+
+    @Column(name = "PARTITION_KEY")
+    @Comment("파티션 키")
+    private String partitionKey;
+
+    @Column(name = "PUBLISHED_AT")
+    @Comment("발행 시간")
+    private LocalDateTime publishedAt;
+
+    @Column(name = "ARCHIVED_AT", nullable = false)
+    @Comment("아카이브 시간")
+    private LocalDateTime archivedAt;
+}
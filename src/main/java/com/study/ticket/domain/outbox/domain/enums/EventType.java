@@ -25,5 +25,6 @@ public enum EventType {
     // 상영 관련 이벤트
     SCREENING_CREATED,
     SCREENING_UPDATED,
+    SCREENING_DELETED,
     SCREENING_CANCELLED
 }
@@ -0,0 +1,16 @@
+package com.study.ticket.domain.outbox.domain.enums;
+
+/**
+ * 발행 완료 이벤트 보존 정책을 나타내는 열거형
+ */
+public enum RetentionMode {
+    /**
+     * 보존 기간이 지난 이벤트를 삭제함
+     */
+    DELETE,
+
+    /**
+     * 보존 기간이 지난 이벤트를 아카이브 테이블로 옮긴 뒤 삭제함
+     */
+    ARCHIVE
+}
@@ -0,0 +1,48 @@
+package com.study.ticket.domain.outbox.domain.repository;
+
+import com.study.ticket.domain.outbox.domain.entity.OutboxEventArchive;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Outbox 이벤트 아카이브 리포지토리 인터페이스
+ */
+public interface OutboxEventArchiveRepository extends JpaRepository<OutboxEventArchive, Long> {
+
+    /**
+     * Outbox 이벤트를 한 번의 INSERT ... SELECT로 아카이브 테이블에 복사합니다.
+     * @param ids 이벤트 ID 목록
+     * @param archivedAt 아카이브 시간
+     * @return 복사된 이벤트 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "INSERT INTO OUTBOX_EVENTS_ARCHIVE " +
+            "(EVENT_ID, AGGREGATE_ID, AGGREGATE_TYPE, EVENT_TYPE, EVENT_KEY, PAYLOAD, TOPIC, PARTITION_KEY, PUBLISHED_AT, ARCHIVED_AT) " +
+            "SELECT EVENT_ID, AGGREGATE_ID, AGGREGATE_TYPE, EVENT_TYPE, EVENT_KEY, PAYLOAD, TOPIC, PARTITION_KEY, PUBLISHED_AT, :archivedAt " +
+            "FROM OUTBOX_EVENTS WHERE EVENT_ID IN (:ids)", nativeQuery = true)
+    int archiveByIds(@Param("ids") Collection<Long> ids, @Param("archivedAt") LocalDateTime archivedAt);
+
+    /**
+     * 특정 시간 이전에 아카이브된 이벤트 ID를 조회합니다.
+     * @param before 기준 시간
+     * @param limit 조회할 최대 이벤트 수
+     * @return 이벤트 ID 목록
+     */
+    @Query("SELECT a.id FROM OutboxEventArchive a WHERE a.archivedAt < :before ORDER BY a.id ASC LIMIT :limit")
+    List<Long> findIdsArchivedBefore(@Param("before") LocalDateTime before, @Param("limit") int limit);
+
+    /**
+     * 아카이브된 이벤트를 한 번의 DELETE로 삭제합니다.
+     * @param ids 이벤트 ID 목록
+     * @return 삭제된 이벤트 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM OutboxEventArchive a WHERE a.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+}
@@ -7,10 +7,17 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.LockOptions;
+import org.hibernate.cfg.AvailableSettings;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -34,23 +41,6 @@ public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long>
      */
     Page<OutboxEvent> findByStatus(EventStatus status, Pageable pageable);
 
-    /**
-     * 발행 가능한 이벤트를 조회합니다.
-     * @param limit 조회할 이벤트 수
-     * @return 이벤트 목록
-     */
-    @Query("SELECT e FROM OutboxEvent e WHERE e.status IN ('CREATED', 'READY') OR (e.status = 'FAILED' AND e.retryCount < 3) ORDER BY e.createdAt ASC LIMIT :limit")
-    List<OutboxEvent> findPublishableEvents(@Param("limit") int limit);
-
-    /**
-     * 발행 가능한 이벤트를 비관적 락으로 조회합니다.
-     * @param limit 조회할 이벤트 수
-     * @return 이벤트 목록
-     */
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @Query("SELECT e FROM OutboxEvent e WHERE e.status IN ('CREATED', 'READY') OR (e.status = 'FAILED' AND e.retryCount < 3) ORDER BY e.createdAt ASC LIMIT :limit")
-    List<OutboxEvent> findPublishableEventsWithLock(@Param("limit") int limit);
-
     /**
      * 집계 ID와 이벤트 타입으로 이벤트를 조회합니다.
      * @param aggregateId 집계 ID
@@ -74,4 +64,151 @@ public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long>
      * @return 이벤트 페이지
      */
     Page<OutboxEvent> findByTopic(String topic, Pageable pageable);
+
+    /**
+     * 선점 가능한 이벤트를 SKIP LOCKED 비관적 락으로 조회합니다.
+     * 다른 릴레이가 잠근 행은 건너뛰므로 여러 릴레이가 서로 다른 이벤트를 병렬로 선점합니다.
+     * 파티션 키별 순서를 보장하기 위해 같은 파티션 키에서 아직 발행되지 않은 가장 오래된 이벤트만 조회합니다.
+     * 발행 중 이벤트는 선점 시 다음 시도 시간을 선점 만료 시간으로 기록하므로, 만료된 경우에만 다시 선점됩니다.
+     * 실패 이벤트는 재시도 대기 시간이 지나 발행 준비 상태로 재등록된 뒤 선점됩니다.
+     * (STATUS, NEXT_ATTEMPT_AT, EVENT_ID) 인덱스 범위 조회로 발행 완료 이벤트 수와 무관하게 대기 이벤트만 읽습니다.
+     * @param maxRetries 최대 재시도 횟수
+     * @param now 현재 시간
+     * @param limit 조회할 이벤트 수
+     * @return 이벤트 목록
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = AvailableSettings.JAKARTA_LOCK_TIMEOUT, value = "" + LockOptions.SKIP_LOCKED))
+    @Query("SELECT e FROM OutboxEvent e " +
+            "WHERE e.status IN (com.study.ticket.domain.outbox.domain.enums.EventStatus.CREATED, com.study.ticket.domain.outbox.domain.enums.EventStatus.READY, " +
+            "   com.study.ticket.domain.outbox.domain.enums.EventStatus.PUBLISHING) " +
+            "AND e.nextAttemptAt <= :now AND e.retryCount < :maxRetries " +
+            "AND NOT EXISTS (SELECT p.id FROM OutboxEvent p WHERE p.partitionKey = e.partitionKey AND p.id < e.id " +
+            "   AND p.status NOT IN (com.study.ticket.domain.outbox.domain.enums.EventStatus.PUBLISHED, com.study.ticket.domain.outbox.domain.enums.EventStatus.DLQ)) " +
+            "ORDER BY e.id ASC LIMIT :limit")
+    List<OutboxEvent> findClaimableEventsSkipLocked(@Param("maxRetries") int maxRetries, @Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * 여러 이벤트를 한 번의 UPDATE로 발행 중 상태로 선점합니다.
+     * @param ids 이벤트 ID 목록
+     * @param owner 선점 릴레이 ID
+     * @param lockedUntil 선점 만료 시간
+     * @param now 수정 시간
+     * @return 변경된 이벤트 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE OutboxEvent e SET e.status = com.study.ticket.domain.outbox.domain.enums.EventStatus.PUBLISHING, " +
+            "e.lockedBy = :owner, e.lockedUntil = :lockedUntil, e.nextAttemptAt = :lockedUntil, e.updatedAt = :now WHERE e.id IN :ids")
+    int claimByIds(@Param("ids") Collection<Long> ids, @Param("owner") String owner,
+                   @Param("lockedUntil") LocalDateTime lockedUntil, @Param("now") LocalDateTime now);
+
+    /**
+     * 선점한 이벤트를 한 번의 UPDATE로 발행 완료 상태로 변경합니다.
+     * 선점이 만료되어 다른 릴레이가 가져간 이벤트는 변경하지 않습니다.
+     * @param ids 이벤트 ID 목록
+     * @param owner 선점 릴레이 ID
+     * @param now 발행 시간
+     * @return 변경된 이벤트 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE OutboxEvent e SET e.status = com.study.ticket.domain.outbox.domain.enums.EventStatus.PUBLISHED, " +
+            "e.publishedAt = :now, e.lockedBy = null, e.lockedUntil = null, e.updatedAt = :now " +
+            "WHERE e.id IN :ids AND e.lockedBy = :owner")
+    int markAsPublishedByIds(@Param("ids") Collection<Long> ids, @Param("owner") String owner, @Param("now") LocalDateTime now);
+
+    /**
+     * 선점한 이벤트를 한 번의 UPDATE로 실패 상태로 변경하고 재시도 횟수를 증가시킵니다.
+     * 선점이 만료되어 다른 릴레이가 가져간 이벤트는 변경하지 않습니다.
+     * @param ids 이벤트 ID 목록
+     * @param owner 선점 릴레이 ID
+     * @param errorMessage 오류 메시지
+     * @param nextAttemptAt 다음 재시도 가능 시간
+     * @param now 수정 시간
+     * @return 변경된 이벤트 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE OutboxEvent e SET e.status = com.study.ticket.domain.outbox.domain.enums.EventStatus.FAILED, " +
+            "e.errorMessage = :errorMessage, e.retryCount = e.retryCount + 1, " +
+            "e.nextAttemptAt = :nextAttemptAt, e.lockedBy = null, e.lockedUntil = null, e.updatedAt = :now " +
+            "WHERE e.id IN :ids AND e.lockedBy = :owner")
+    int markAsFailedByIds(@Param("ids") Collection<Long> ids, @Param("owner") String owner, @Param("errorMessage") String errorMessage,
+                          @Param("nextAttemptAt") LocalDateTime nextAttemptAt, @Param("now") LocalDateTime now);
+
+    /**
+     * 재시도 대기 시간이 지난 실패 이벤트 ID를 조회합니다.
+     * (STATUS, NEXT_ATTEMPT_AT, EVENT_ID) 인덱스 범위 조회로 재시도 대상만 읽습니다.
+     * @param maxRetries 최대 재시도 횟수
+     * @param now 현재 시간
+     * @param limit 조회할 최대 이벤트 수
+     * @return 이벤트 ID 목록
+     */
+    @Query("SELECT e.id FROM OutboxEvent e WHERE e.status = com.study.ticket.domain.outbox.domain.enums.EventStatus.FAILED " +
+            "AND e.nextAttemptAt <= :now AND e.retryCount < :maxRetries ORDER BY e.nextAttemptAt ASC LIMIT :limit")
+    List<Long> findRetryableFailedIds(@Param("maxRetries") int maxRetries, @Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * 실패 이벤트를 한 번의 UPDATE로 발행 준비 상태로 재등록합니다.
+     * @param ids 이벤트 ID 목록
+     * @param now 수정 시간
+     * @return 변경된 이벤트 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE OutboxEvent e SET e.status = com.study.ticket.domain.outbox.domain.enums.EventStatus.READY, e.updatedAt = :now " +
+            "WHERE e.id IN :ids AND e.status = com.study.ticket.domain.outbox.domain.enums.EventStatus.FAILED")
+    int rearmFailedByIds(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    /**
+     * 최대 재시도 횟수를 초과한 실패 이벤트를 한 번의 UPDATE로 DLQ 상태로 변경합니다.
+     * @param ids 이벤트 ID 목록
+     * @param maxRetries 최대 재시도 횟수
+     * @param now 수정 시간
+     * @return 변경된 이벤트 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE OutboxEvent e SET e.status = com.study.ticket.domain.outbox.domain.enums.EventStatus.DLQ, e.updatedAt = :now " +
+            "WHERE e.id IN :ids AND e.status = com.study.ticket.domain.outbox.domain.enums.EventStatus.FAILED AND e.retryCount >= :maxRetries")
+    int markAsDlqByIdsExceedingRetries(@Param("ids") Collection<Long> ids, @Param("maxRetries") int maxRetries, @Param("now") LocalDateTime now);
+
+    /**
+     * 특정 시간 이전에 발행 완료된 이벤트를 SKIP LOCKED로 조회합니다.
+     * 선점 조회와 같이 다른 트랜잭션이 잠근 행은 건너뛰므로, 여러 노드의 정리 작업이 같은 배치를 두고 기다리거나
+     * 한쪽이 이미 아카이브/삭제한 행을 다시 복사하지 않습니다.
+     * @param before 기준 시간
+     * @param limit 조회할 최대 이벤트 수
+     * @return 이벤트 목록
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = AvailableSettings.JAKARTA_LOCK_TIMEOUT, value = "" + LockOptions.SKIP_LOCKED))
+    @Query("SELECT e FROM OutboxEvent e WHERE e.status = com.study.ticket.domain.outbox.domain.enums.EventStatus.PUBLISHED " +
+            "AND e.publishedAt < :before ORDER BY e.publishedAt ASC LIMIT :limit")
+    List<OutboxEvent> findPublishedEventsBeforeSkipLocked(@Param("before") LocalDateTime before, @Param("limit") int limit);
+
+    /**
+     * 발행 완료가 아닌 이벤트 수를 상태별로 조회합니다.
+     * STATUS 인덱스 범위 조회로 발행 완료 이벤트 수와 무관하게 대기 이벤트만 읽습니다.
+     * @return [상태, 이벤트 수] 목록
+     */
+    @Query("SELECT e.status, COUNT(e) FROM OutboxEvent e " +
+            "WHERE e.status <> com.study.ticket.domain.outbox.domain.enums.EventStatus.PUBLISHED GROUP BY e.status")
+    List<Object[]> countUnpublishedByStatus();
+
+    /**
+     * 발행 대기 중인 이벤트 중 가장 오래된 생성 시간을 조회합니다.
+     * @return 가장 오래된 생성 시간 (대기 이벤트가 없으면 null)
+     */
+    @Query("SELECT MIN(e.createdAt) FROM OutboxEvent e WHERE e.status IN (" +
+            "com.study.ticket.domain.outbox.domain.enums.EventStatus.CREATED, " +
+            "com.study.ticket.domain.outbox.domain.enums.EventStatus.READY, " +
+            "com.study.ticket.domain.outbox.domain.enums.EventStatus.PUBLISHING, " +
+            "com.study.ticket.domain.outbox.domain.enums.EventStatus.FAILED)")
+    LocalDateTime findOldestPendingCreatedAt();
+
+    /**
+     * 여러 이벤트를 한 번의 DELETE로 삭제합니다.
+     * @param ids 이벤트 ID 목록
+     * @return 삭제된 이벤트 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM OutboxEvent e WHERE e.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
 }
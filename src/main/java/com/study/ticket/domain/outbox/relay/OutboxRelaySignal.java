@@ -0,0 +1,68 @@
+package com.study.ticket.domain.outbox.relay;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Outbox 릴레이 신호
+ * Outbox 이벤트가 커밋되면 릴레이 워커를 즉시 깨우는 프로세스 내 신호를 담당합니다.
+ */
+@Component
+@Slf4j
+public class OutboxRelaySignal {
+
+    /**
+     * 대기 중인 신호 (여러 번 발생해도 한 번으로 합쳐짐)
+     */
+    private final Semaphore signal = new Semaphore(0);
+
+    /**
+     * 커밋 후 신호를 보내는 트랜잭션 동기화
+     * 동일한 인스턴스를 등록하므로 한 트랜잭션에서 여러 이벤트를 저장해도 한 번만 등록됩니다.
+     */
+    private final TransactionSynchronization afterCommitSignal = new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+            signal();
+        }
+    };
+
+    /**
+     * 현재 트랜잭션이 커밋된 후 릴레이 워커를 깨웁니다.
+     * 트랜잭션 동기화가 활성화되어 있지 않으면 즉시 깨웁니다.
+     */
+    public void signalAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(afterCommitSignal);
+        } else {
+            signal();
+        }
+    }
+
+    /**
+     * 릴레이 워커를 즉시 깨웁니다.
+     */
+    public void signal() {
+        if (signal.availablePermits() == 0) {
+            signal.release();
+        }
+    }
+
+    /**
+     * 신호가 오거나 최대 대기 시간이 지날 때까지 대기합니다.
+     * @param timeoutMs 최대 대기 시간 (ms)
+     * @return 신호 수신 여부
+     * @throws InterruptedException 대기 중 인터럽트 발생 시
+     */
+    public boolean await(long timeoutMs) throws InterruptedException {
+        boolean signalled = signal.tryAcquire(timeoutMs, TimeUnit.MILLISECONDS);
+        // 대기 중 누적된 신호는 한 번의 발행으로 처리
+        signal.drainPermits();
+        return signalled;
+    }
+}
@@ -0,0 +1,99 @@
+package com.study.ticket.domain.outbox.relay;
+
+import com.study.ticket.domain.outbox.service.OutboxEventPublisher;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * Outbox 릴레이 워커
+ * 커밋 신호를 받으면 전용 스레드에서 즉시 Outbox 이벤트를 Kafka로 발행합니다.
+ * 주기적인 발행은 {@link com.study.ticket.domain.outbox.scheduler.OutboxEventScheduler}가 누락분 보정용으로만 수행합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelayWorker implements SmartLifecycle {
+
+    private final OutboxEventPublisher outboxEventPublisher;
+    private final OutboxRelaySignal outboxRelaySignal;
+
+    @Value("${outbox.publisher.batch-size:100}")
+    private int batchSize;
+
+    /**
+     * 신호가 없을 때 최대 대기 시간 (ms), 지나면 신호가 없어도 한 번 선점을 시도
+     */
+    @Value("${outbox.relay.idle-timeout:1000}")
+    private long idleTimeoutMs;
+
+    /**
+     * 가상 스레드 실행 모드 여부
+     */
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreadsEnabled;
+
+    private volatile boolean running = false;
+    private Thread workerThread;
+
+    @Override
+    public void start() {
+        running = true;
+        Thread.Builder threadBuilder = virtualThreadsEnabled ? Thread.ofVirtual() : Thread.ofPlatform().daemon(true);
+        workerThread = threadBuilder
+                .name("outbox-relay")
+                .start(this::runLoop);
+        log.info("Outbox 릴레이 워커 시작");
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        outboxRelaySignal.signal();
+        if (workerThread != null) {
+            try {
+                workerThread.join(idleTimeoutMs * 2);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        log.info("Outbox 릴레이 워커 종료");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 신호를 기다렸다가 선점할 이벤트가 남지 않을 때까지 배치 발행을 반복합니다.
+     * 같은 파티션 키의 앞선 이벤트가 발행 중이면 뒤 이벤트는 선점되지 않으므로, 배치 크기보다 적게 발행했더라도
+     * 발행한 이벤트가 있으면 다시 선점하여 앞선 이벤트의 발행 완료로 선점 가능해진 이벤트를 바로 발행합니다.
+     * 신호 없이 최대 대기 시간이 지나도 한 번 선점을 시도하여, 다른 노드가 앞선 이벤트를 발행하느라 선점되지 않았던 이벤트를
+     * 누락분 보정 주기까지 기다리지 않고 발행합니다.
+     */
+    private void runLoop() {
+        while (running) {
+            try {
+                outboxRelaySignal.await(idleTimeoutMs);
+                if (!running) {
+                    break;
+                }
+
+                int publishedCount;
+                do {
+                    publishedCount = outboxEventPublisher.publishEvents(batchSize);
+                } while (running && publishedCount > 0);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                log.error("Outbox 릴레이 발행 중 오류 발생: {}", e.getMessage(), e);
+            }
+        }
+    }
+}
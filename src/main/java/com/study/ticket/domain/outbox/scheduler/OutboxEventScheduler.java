@@ -3,12 +3,15 @@ package com.study.ticket.domain.outbox.scheduler;
 import com.study.ticket.domain.outbox.service.OutboxEventPublisher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 /**
  * Outbox 이벤트 스케줄러
  * 주기적으로 이벤트를 발행하는 역할을 담당합니다.
+ * 실시간 발행은 커밋 신호를 받는 {@link com.study.ticket.domain.outbox.relay.OutboxRelayWorker}가 담당하고,
+ * 스케줄러는 신호가 누락되거나 발행에 실패한 이벤트를 보정 발행합니다.
  */
 @Component
 @RequiredArgsConstructor
@@ -16,15 +19,24 @@ import org.springframework.stereotype.Component;
 public class OutboxEventScheduler {
 
     private final OutboxEventPublisher outboxEventPublisher;
+
+    @Value("${outbox.publisher.batch-size:100}")
+    private int publishBatchSize;
+
+    @Value("${outbox.retry.batch-size:500}")
+    private int retryBatchSize;
+
+    @Value("${outbox.retry.max-batches:20}")
+    private int retryMaxBatches;
     
     /**
-     * 5초마다 이벤트를 발행합니다.
+     * 5초마다 릴레이 워커가 놓친 이벤트를 보정 발행합니다.
      */
     @Scheduled(fixedDelayString = "${outbox.scheduler.publish.interval:5000}")
     public void publishEvents() {
         try {
             log.debug("이벤트 발행 스케줄러 실행");
-            int publishedCount = outboxEventPublisher.publishEvents(100);
+            int publishedCount = outboxEventPublisher.publishEvents(publishBatchSize);
             if (publishedCount > 0) {
                 log.info("스케줄러에 의해 발행된 이벤트: {} 개", publishedCount);
             }
@@ -34,13 +46,13 @@ public class OutboxEventScheduler {
     }
     
     /**
-     * 1분마다 실패한 이벤트를 재시도합니다.
+     * 1초마다 재시도 대기 시간이 지난 실패 이벤트를 재등록합니다.
      */
-    @Scheduled(fixedDelayString = "${outbox.scheduler.retry.interval:60000}")
+    @Scheduled(fixedDelayString = "${outbox.scheduler.retry.interval:1000}")
     public void retryFailedEvents() {
         try {
             log.debug("실패한 이벤트 재시도 스케줄러 실행");
-            int retriedCount = outboxEventPublisher.retryFailedEvents(3);
+            int retriedCount = outboxEventPublisher.retryFailedEvents(retryBatchSize, retryMaxBatches);
             if (retriedCount > 0) {
                 log.info("스케줄러에 의해 재시도된 이벤트: {} 개", retriedCount);
             }
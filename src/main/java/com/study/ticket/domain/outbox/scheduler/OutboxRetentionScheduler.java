@@ -0,0 +1,148 @@
+package com.study.ticket.domain.outbox.scheduler;
+
+import com.study.ticket.domain.outbox.domain.enums.RetentionMode;
+import com.study.ticket.domain.outbox.service.OutboxArchivePartitionManager;
+import com.study.ticket.domain.outbox.service.OutboxRetentionService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+/**
+ * Outbox 보존 정책 스케줄러
+ * 보존 기간이 지난 발행 완료 이벤트를 주기적으로 삭제하거나 아카이브합니다.
+ * 정리된 이벤트 수와 소요 시간은 outbox.retention.purged, outbox.retention.purge 메트릭으로 기록합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "outbox.retention.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRetentionScheduler {
+
+    private static final String OUTBOX_TABLE = "OUTBOX_EVENTS";
+    private static final String ARCHIVE_TABLE = "OUTBOX_EVENTS_ARCHIVE";
+
+    private final OutboxRetentionService outboxRetentionService;
+    private final ObjectProvider<OutboxArchivePartitionManager> partitionManagerProvider;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${outbox.retention.mode:DELETE}")
+    private RetentionMode mode;
+
+    /**
+     * 발행 완료 이벤트 보존 기간 (일)
+     */
+    @Value("${outbox.retention.retention-days:7}")
+    private int retentionDays;
+
+    /**
+     * 아카이브 이벤트 보존 기간 (일)
+     */
+    @Value("${outbox.retention.archive-retention-days:90}")
+    private int archiveRetentionDays;
+
+    @Value("${outbox.retention.batch-size:1000}")
+    private int batchSize;
+
+    /**
+     * 한 번 실행할 때 처리할 최대 배치 수
+     */
+    @Value("${outbox.retention.max-batches:100}")
+    private int maxBatches;
+
+    /**
+     * 배치 사이 대기 시간 (ms)
+     */
+    @Value("${outbox.retention.batch-pause:50}")
+    private long batchPauseMs;
+
+    /**
+     * 1시간마다 보존 기간이 지난 이벤트를 정리합니다.
+     */
+    @Scheduled(fixedDelayString = "${outbox.retention.interval:3600000}", initialDelayString = "${outbox.retention.initial-delay:60000}")
+    public void purgeExpiredEvents() {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime publishedBefore = now.minusDays(retentionDays);
+            purgeInBatches(OUTBOX_TABLE, () -> outboxRetentionService.purgePublishedEvents(publishedBefore, batchSize, mode));
+
+            if (mode == RetentionMode.ARCHIVE) {
+                purgeArchive(now.minusDays(archiveRetentionDays));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("Outbox 보존 정책 스케줄러 실행 중 오류 발생: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 아카이브 이벤트를 정리합니다.
+     * 파티션을 사용하면 만료된 파티션을 삭제하고, 아니면 배치 단위로 삭제합니다.
+     * @param archivedBefore 기준 시간
+     * @throws InterruptedException 배치 사이 대기 중 인터럽트 발생 시
+     */
+    private void purgeArchive(LocalDateTime archivedBefore) throws InterruptedException {
+        OutboxArchivePartitionManager partitionManager = partitionManagerProvider.getIfAvailable();
+        if (partitionManager == null) {
+            purgeInBatches(ARCHIVE_TABLE, () -> outboxRetentionService.purgeArchivedEvents(archivedBefore, batchSize));
+            return;
+        }
+
+        partitionManager.createPartitionsUntil(YearMonth.now().plusMonths(1));
+        int droppedCount = partitionManager.dropPartitionsBefore(archivedBefore.toLocalDate());
+        Counter.builder("outbox.retention.partitions.dropped")
+                .description("삭제된 Outbox 아카이브 파티션 수")
+                .register(meterRegistry)
+                .increment(droppedCount);
+    }
+
+    /**
+     * 정리할 이벤트가 없거나 최대 배치 수에 도달할 때까지 배치 정리를 반복하고 결과를 기록합니다.
+     * @param table 대상 테이블
+     * @param batch 한 배치를 정리하고 정리된 수를 반환하는 작업
+     * @throws InterruptedException 배치 사이 대기 중 인터럽트 발생 시
+     */
+    private void purgeInBatches(String table, IntSupplier batch) throws InterruptedException {
+        long startNanos = System.nanoTime();
+        int purgedCount = 0;
+
+        for (int i = 0; i < maxBatches; i++) {
+            int count = batch.getAsInt();
+            purgedCount += count;
+            if (count < batchSize) {
+                break;
+            }
+            // 다른 트랜잭션이 락을 얻을 수 있도록 배치 사이에 대기
+            TimeUnit.MILLISECONDS.sleep(batchPauseMs);
+        }
+
+        long elapsedNanos = System.nanoTime() - startNanos;
+        Counter.builder("outbox.retention.purged")
+                .description("보존 기간이 지나 정리된 Outbox 이벤트 수")
+                .tag("table", table)
+                .tag("mode", mode.name())
+                .register(meterRegistry)
+                .increment(purgedCount);
+        Timer.builder("outbox.retention.purge")
+                .description("Outbox 보존 정리 소요 시간")
+                .tag("table", table)
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        if (purgedCount > 0) {
+            log.info("Outbox 보존 정리 완료: table={}, {} 개, {}ms", table, purgedCount, TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.study.ticket.domain.outbox.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Outbox 아카이브 테이블 파티션 관리자
+ * OUTBOX_EVENTS_ARCHIVE 테이블을 ARCHIVED_AT 기준 월별 RANGE 파티션(pYYYYMM)으로 운영하는 MySQL 환경에서 사용합니다.
+ * 보존 기간이 지난 파티션은 행 단위 삭제 대신 DROP PARTITION으로 제거합니다.
+ * 초기 파티션 구성은 db/mysql/outbox_events_archive_partition.sql 을 참고합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "outbox.retention.partition.enabled", havingValue = "true")
+public class OutboxArchivePartitionManager {
+
+    private static final String TABLE_NAME = "OUTBOX_EVENTS_ARCHIVE";
+    private static final String FUTURE_PARTITION = "p_future";
+    private static final DateTimeFormatter PARTITION_NAME_FORMAT = DateTimeFormatter.ofPattern("'p'yyyyMM");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 기준 월까지의 월별 파티션이 없으면 p_future 파티션을 분할하여 생성합니다.
+     * @param until 생성할 마지막 월
+     * @return 생성된 파티션 수
+     */
+    public int createPartitionsUntil(YearMonth until) {
+        List<String> partitionNames = findPartitionNames();
+        int createdCount = 0;
+
+        for (YearMonth month = YearMonth.now(); !month.isAfter(until); month = month.plusMonths(1)) {
+            String partitionName = month.format(PARTITION_NAME_FORMAT);
+            if (partitionNames.contains(partitionName)) {
+                continue;
+            }
+            jdbcTemplate.execute("ALTER TABLE " + TABLE_NAME + " REORGANIZE PARTITION " + FUTURE_PARTITION + " INTO (" +
+                    "PARTITION " + partitionName + " VALUES LESS THAN (TO_DAYS('" + month.plusMonths(1).atDay(1) + "')), " +
+                    "PARTITION " + FUTURE_PARTITION + " VALUES LESS THAN MAXVALUE)");
+            log.info("Outbox 아카이브 파티션 생성: {}", partitionName);
+            createdCount++;
+        }
+        return createdCount;
+    }
+
+    /**
+     * 모든 행이 기준 날짜 이전인 월별 파티션을 삭제합니다.
+     * @param before 기준 날짜
+     * @return 삭제된 파티션 수
+     */
+    public int dropPartitionsBefore(LocalDate before) {
+        int droppedCount = 0;
+        for (String partitionName : findPartitionNames()) {
+            if (FUTURE_PARTITION.equals(partitionName)) {
+                continue;
+            }
+
+            YearMonth month;
+            try {
+                month = YearMonth.parse(partitionName, PARTITION_NAME_FORMAT);
+            } catch (Exception e) {
+                log.warn("알 수 없는 Outbox 아카이브 파티션, 무시: {}", partitionName);
+                continue;
+            }
+
+            // 다음 달 1일 이전 행만 포함하므로 기준 날짜보다 이르면 삭제
+            if (month.plusMonths(1).atDay(1).isAfter(before)) {
+                continue;
+            }
+            jdbcTemplate.execute("ALTER TABLE " + TABLE_NAME + " DROP PARTITION " + partitionName);
+            log.info("Outbox 아카이브 파티션 삭제: {}", partitionName);
+            droppedCount++;
+        }
+        return droppedCount;
+    }
+
+    /**
+     * 아카이브 테이블의 파티션 이름 목록을 조회합니다.
+     * @return 파티션 이름 목록
+     */
+    private List<String> findPartitionNames() {
+        return jdbcTemplate.queryForList(
+                "SELECT PARTITION_NAME FROM information_schema.PARTITIONS " +
+                        "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL " +
+                        "ORDER BY PARTITION_ORDINAL_POSITION",
+                String.class, TABLE_NAME);
+    }
+}
@@ -1,18 +1,27 @@
 package com.study.ticket.domain.outbox.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.study.ticket.domain.outbox.domain.entity.OutboxEvent;
-import com.study.ticket.domain.outbox.domain.repository.OutboxEventRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
+import org.springframework.kafka.support.mapping.AbstractJavaTypeMapper;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * Outbox 이벤트 발행자
@@ -23,20 +32,55 @@ import java.util.concurrent.CompletableFuture;
 @Slf4j
 public class OutboxEventPublisher {
 
-    private final OutboxEventRepository outboxEventRepository;
     private final OutboxEventService outboxEventService;
-    private final KafkaTemplate<String, Object> kafkaTemplate;
-    private final ObjectMapper objectMapper;
+    private final KafkaTemplate<String, byte[]> byteArrayKafkaTemplate;
+    private final OutboxMetrics outboxMetrics;
 
     /**
-     * 발행 가능한 이벤트를 조회하여 Kafka로 발행합니다.
+     * 이벤트 타입 헤더명
+     */
+    public static final String EVENT_TYPE_HEADER = "eventType";
+
+    /**
+     * 이벤트 키 헤더명
+     */
+    public static final String EVENT_KEY_HEADER = "eventKey";
+
+    /**
+     * JsonDeserializer 타입 헤더 값
+     * 기존 JsonSerializer 발행 메시지와 동일하게 Map으로 역직렬화되도록 지정합니다.
+     */
+    private static final byte[] PAYLOAD_TYPE_ID = LinkedHashMap.class.getName().getBytes(StandardCharsets.UTF_8);
+
+    /**
+     * 배치 전송 결과 최대 대기 시간 (ms)
+     */
+    @Value("${outbox.publisher.send-timeout:10000}")
+    private long sendTimeoutMs;
+
+    /**
+     * 이벤트 선점 유지 시간 (ms)
+     * 릴레이가 비정상 종료되면 이 시간이 지난 뒤 다른 릴레이가 이벤트를 다시 선점합니다.
+     */
+    @Value("${outbox.publisher.lease-timeout:30000}")
+    private long leaseTimeoutMs;
+
+    /**
+     * 이 인스턴스의 선점 릴레이 ID
+     */
+    private final String ownerId = ManagementFactory.getRuntimeMXBean().getName() + "-" + UUID.randomUUID();
+
+    /**
+     * 발행 가능한 이벤트를 선점하여 Kafka로 일괄 발행합니다.
+     * 선점은 짧은 트랜잭션으로 먼저 커밋하므로 여러 릴레이 인스턴스가 서로 겹치지 않는 이벤트를 병렬로 발행합니다.
+     * 결과를 기다리지 않고 모두 전송한 뒤 전송 결과를 한 번에 대기하여 성공/실패별로 한 번씩 상태를 일괄 변경합니다.
+     * 배치 크기, 배치 발행 소요 시간, 이벤트 대기 시간과 전송 실패 수는 {@link OutboxMetrics}로 기록합니다.
      * @param batchSize 한 번에 처리할 이벤트 수
      * @return 발행된 이벤트 수
      */
-    @Transactional
     public int publishEvents(int batchSize) {
-        // 발행 가능한 이벤트 조회
-        List<OutboxEvent> events = outboxEventRepository.findPublishableEventsWithLock(batchSize);
+        // 발행할 이벤트 선점
+        List<OutboxEvent> events = outboxEventService.claimEvents(ownerId, batchSize, leaseTimeoutMs);
         
         if (events.isEmpty()) {
             log.debug("발행할 이벤트가 없습니다.");
@@ -44,103 +88,112 @@ public class OutboxEventPublisher {
         }
         
         log.info("이벤트 발행 시작: {} 개", events.size());
-        int publishedCount = 0;
-        
+        long startNanos = System.nanoTime();
+
+        // 결과를 기다리지 않고 배치 전체를 전송
+        Map<OutboxEvent, CompletableFuture<SendResult<String, byte[]>>> futures = new LinkedHashMap<>();
+        Map<Long, String> errorMessages = new LinkedHashMap<>();
+        List<OutboxEvent> failedEvents = new ArrayList<>();
         for (OutboxEvent event : events) {
             try {
-                // 이벤트 상태를 발행 중으로 변경
-                outboxEventService.markAsPublishing(event.getId());
-                
-                // 이벤트 발행
-                publishEvent(event);
-                
-                publishedCount++;
+                futures.put(event, publishEvent(event));
             } catch (Exception e) {
                 log.error("이벤트 발행 실패: {}, 이벤트 ID: {}", e.getMessage(), event.getId(), e);
-                outboxEventService.markAsFailed(event.getId(), e.getMessage());
-                
-                // 재시도 횟수가 3회 이상이면 DLQ로 이동
-                if (event.getRetryCount() >= 3) {
-                    outboxEventService.markAsDlq(event.getId(), "최대 재시도 횟수 초과: " + e.getMessage());
-                }
+                outboxMetrics.recordSendError(event, e);
+                failedEvents.add(event);
+                errorMessages.put(event.getId(), e.getMessage());
             }
         }
-        
-        log.info("이벤트 발행 완료: {} 개", publishedCount);
-        return publishedCount;
+
+        // 배치 전체의 전송 결과를 한 번만 대기
+        awaitAll(futures.values());
+
+        List<OutboxEvent> publishedEvents = new ArrayList<>();
+        List<Long> publishedIds = new ArrayList<>();
+        futures.forEach((event, future) -> {
+            if (future.isDone() && !future.isCompletedExceptionally()) {
+                publishedEvents.add(event);
+                publishedIds.add(event.getId());
+            } else {
+                Throwable cause = future.isDone() ? future.exceptionNow() : null;
+                String errorMessage = cause != null ? cause.getMessage() : "발행 결과 대기 시간 초과";
+                log.error("이벤트 발행 실패: {}, 이벤트 ID: {}", errorMessage, event.getId());
+                outboxMetrics.recordSendError(event, cause);
+                failedEvents.add(event);
+                errorMessages.put(event.getId(), errorMessage);
+            }
+        });
+
+        // 결과별로 상태 일괄 변경
+        outboxEventService.markAllAsPublished(ownerId, publishedIds);
+        outboxEventService.markAllAsFailed(ownerId, failedEvents, errorMessages);
+        outboxMetrics.recordPublished(publishedEvents);
+        outboxMetrics.recordBatch(events.size(), System.nanoTime() - startNanos);
+
+        log.info("이벤트 발행 완료: 성공 {} 개, 실패 {} 개", publishedIds.size(), failedEvents.size());
+        return publishedIds.size();
     }
     
     /**
-     * 단일 이벤트를 Kafka로 발행합니다.
+     * 단일 이벤트를 Kafka로 전송합니다.
+     * 저장된 JSON 페이로드를 다시 파싱/직렬화하지 않고 바이트 그대로 전송하며, 이벤트 타입과 키는 헤더로 전달합니다.
+     * 전송 결과는 기다리지 않고 Future로 반환합니다.
      * @param event Outbox 이벤트
+     * @return 전송 결과 Future
+     */
+    private CompletableFuture<SendResult<String, byte[]>> publishEvent(OutboxEvent event) {
+        ProducerRecord<String, byte[]> record = new ProducerRecord<>(
+                event.getTopic(),
+                event.getPartitionKey(),
+                event.getPayload().getBytes(StandardCharsets.UTF_8)
+        );
+        record.headers()
+                .add(EVENT_TYPE_HEADER, event.getEventType().name().getBytes(StandardCharsets.UTF_8))
+                .add(EVENT_KEY_HEADER, event.getEventKey().getBytes(StandardCharsets.UTF_8))
+                .add(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME, PAYLOAD_TYPE_ID);
+
+        // Kafka로 이벤트 발행
+        return byteArrayKafkaTemplate.send(record);
+    }
+
+    /**
+     * 모든 전송 결과를 최대 대기 시간까지 한 번에 기다립니다.
+     * 개별 전송의 성공 여부는 호출자가 각 Future로 판단합니다.
+     * @param futures 전송 결과 Future 목록
      */
-    private void publishEvent(OutboxEvent event) {
+    private void awaitAll(Collection<CompletableFuture<SendResult<String, byte[]>>> futures) {
+        if (futures.isEmpty()) {
+            return;
+        }
         try {
-            // 이벤트 페이로드를 Object로 변환
-            Object payload = objectMapper.readValue(event.getPayload(), Object.class);
-            
-            // Kafka로 이벤트 발행
-            CompletableFuture<SendResult<String, Object>> future = kafkaTemplate.send(
-                    event.getTopic(),
-                    event.getPartitionKey(),
-                    payload
-            );
-            
-            // 비동기 콜백 처리
-            future.whenComplete((result, ex) -> {
-                if (ex == null) {
-                    // 발행 성공
-                    log.debug("이벤트 발행 성공: {}, 토픽: {}, 파티션: {}, 오프셋: {}",
-                            event.getId(),
-                            result.getRecordMetadata().topic(),
-                            result.getRecordMetadata().partition(),
-                            result.getRecordMetadata().offset());
-                    
-                    outboxEventService.markAsPublished(event.getId());
-                } else {
-                    // 발행 실패
-                    log.error("이벤트 발행 실패: {}, 이벤트 ID: {}", ex.getMessage(), event.getId(), ex);
-                    outboxEventService.markAsFailed(event.getId(), ex.getMessage());
-                }
-            });
-            
-            // 비동기 처리이므로 여기서는 결과를 기다리지 않음
-        } catch (JsonProcessingException e) {
-            log.error("이벤트 역직렬화 실패: {}, 이벤트 ID: {}", e.getMessage(), event.getId(), e);
-            throw new RuntimeException("이벤트 역직렬화 실패", e);
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                    .get(sendTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("이벤트 발행 결과 대기 중 인터럽트 발생");
+        } catch (ExecutionException e) {
+            // 일부 전송 실패, 개별 Future에서 처리
+        } catch (TimeoutException e) {
+            log.warn("이벤트 발행 결과 대기 시간 초과: {}ms", sendTimeoutMs);
         }
     }
     
     /**
-     * 실패한 이벤트를 재시도합니다.
-     * @param maxRetries 최대 재시도 횟수
-     * @return 재시도된 이벤트 수
+     * 재시도 대기 시간이 지난 실패 이벤트를 발행 준비 상태로 재등록합니다.
+     * 재등록할 이벤트가 없거나 최대 배치 수에 도달할 때까지 batchSize 단위로 반복합니다.
+     * @param batchSize 한 번에 재등록할 이벤트 수
+     * @param maxBatches 최대 배치 수
+     * @return 재등록된 이벤트 수
      */
-    @Transactional
-    public int retryFailedEvents(int maxRetries) {
-        // 실패한 이벤트 중 재시도 횟수가 maxRetries 미만인 이벤트 조회
-        List<OutboxEvent> failedEvents = outboxEventRepository.findAll().stream()
-                .filter(e -> e.getStatus().equals(com.study.ticket.domain.outbox.domain.enums.EventStatus.FAILED))
-                .filter(e -> e.getRetryCount() < maxRetries)
-                .toList();
-        
-        if (failedEvents.isEmpty()) {
-            return 0;
-        }
-        
-        log.info("실패한 이벤트 재시도: {} 개", failedEvents.size());
+    public int retryFailedEvents(int batchSize, int maxBatches) {
         int retriedCount = 0;
-        
-        for (OutboxEvent event : failedEvents) {
-            try {
-                // 이벤트 상태를 발행 준비로 변경
-                outboxEventService.markAsReady(event.getId());
-                retriedCount++;
-            } catch (Exception e) {
-                log.error("이벤트 재시도 실패: {}, 이벤트 ID: {}", e.getMessage(), event.getId(), e);
+        for (int i = 0; i < maxBatches; i++) {
+            int rearmedCount = outboxEventService.rearmFailedEvents(batchSize);
+            retriedCount += rearmedCount;
+            if (rearmedCount < batchSize) {
+                break;
             }
         }
-        
         return retriedCount;
     }
 }
@@ -6,13 +6,26 @@ import com.study.ticket.domain.outbox.domain.entity.OutboxEvent;
 import com.study.ticket.domain.outbox.domain.enums.EventStatus;
 import com.study.ticket.domain.outbox.domain.enums.EventType;
 import com.study.ticket.domain.outbox.domain.repository.OutboxEventRepository;
+import com.study.ticket.domain.outbox.relay.OutboxRelaySignal;
 import com.study.ticket.global.event.Event;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 /**
  * Outbox 이벤트 서비스
  * 이벤트를 Outbox 테이블에 저장하는 역할을 담당합니다.
@@ -22,12 +35,30 @@ import org.springframework.transaction.annotation.Transactional;
 @Slf4j
 public class OutboxEventService {
 
+    /**
+     * ERROR_MESSAGE 컬럼 최대 길이
+     */
+    private static final int MAX_ERROR_MESSAGE_LENGTH = 255;
+
+    /**
+     * Outbox 이벤트 일괄 저장 SQL
+     * 이벤트 키 유니크 인덱스로 이미 저장된 이벤트는 건너뜁니다.
+     */
+    private static final String INSERT_IF_ABSENT_SQL = "INSERT IGNORE INTO OUTBOX_EVENTS " +
+            "(AGGREGATE_ID, AGGREGATE_TYPE, EVENT_TYPE, EVENT_KEY, PAYLOAD, STATUS, TOPIC, PARTITION_KEY, RETRY_COUNT, NEXT_ATTEMPT_AT, CREATED_AT, UPDATED_AT) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
     private final OutboxEventRepository outboxEventRepository;
     private final ObjectMapper objectMapper;
+    private final OutboxRelaySignal outboxRelaySignal;
+    private final OutboxRetryPolicy outboxRetryPolicy;
+    private final OutboxMetrics outboxMetrics;
+    private final JdbcTemplate jdbcTemplate;
 
     /**
      * 이벤트를 Outbox 테이블에 저장합니다.
      * 현재 트랜잭션에 참여합니다(REQUIRED).
+     * 트랜잭션이 커밋되면 릴레이 워커를 즉시 깨워 이벤트를 발행합니다.
      * 
      * @param event 이벤트
      * @param aggregateType 집계 타입 (ORDER, PAYMENT 등)
@@ -63,13 +94,79 @@ public class OutboxEventService {
                     .build();
             
             // Outbox 이벤트 저장
-            return outboxEventRepository.save(outboxEvent);
+            OutboxEvent savedEvent = outboxEventRepository.save(outboxEvent);
+
+            // 커밋 후 릴레이 워커 호출
+            outboxRelaySignal.signalAfterCommit();
+
+            return savedEvent;
         } catch (JsonProcessingException e) {
             log.error("이벤트 직렬화 실패: {}", e.getMessage(), e);
             throw new RuntimeException("이벤트 직렬화 실패", e);
         }
     }
 
+    /**
+     * 같은 집계 타입의 여러 이벤트를 한 번의 JDBC 배치 INSERT로 Outbox 테이블에 저장합니다.
+     * 이벤트별 중복 조회 대신 이벤트 키 유니크 인덱스로 이미 저장된 이벤트를 건너뛰므로, 이벤트 수와 무관하게 왕복 횟수가 일정합니다.
+     * 이벤트 ID는 IDENTITY로 저장 순서대로 증가하므로 파티션 키별 발행 순서가 유지됩니다.
+     * 현재 트랜잭션에 참여합니다(REQUIRED).
+     *
+     * @param events 이벤트 목록
+     * @param aggregateType 집계 타입 (ORDER, PAYMENT 등)
+     * @param aggregateIdMapper 이벤트별 집계 ID (파티션 키로도 사용)
+     * @param topic 카프카 토픽
+     * @param <E> 이벤트 타입
+     * @return 저장된 이벤트 수
+     */
+    @Transactional(propagation = Propagation.REQUIRED)
+    public <E extends Event> int saveEvents(List<E> events, String aggregateType, Function<E, String> aggregateIdMapper, String topic) {
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batchArgs = new ArrayList<>(events.size());
+        for (E event : events) {
+            String aggregateId = aggregateIdMapper.apply(event);
+            try {
+                batchArgs.add(new Object[]{
+                        aggregateId,
+                        aggregateType,
+                        EventType.valueOf(event.getEventType()).name(),
+                        event.getEventKey(),
+                        objectMapper.writeValueAsString(event),
+                        EventStatus.CREATED.name(),
+                        topic,
+                        aggregateId, // 파티션 키로 집계 ID 사용
+                        0,
+                        now,
+                        now,
+                        now
+                });
+            } catch (JsonProcessingException e) {
+                log.error("이벤트 직렬화 실패: {}", e.getMessage(), e);
+                throw new RuntimeException("이벤트 직렬화 실패", e);
+            }
+        }
+
+        int savedCount = 0;
+        for (int count : jdbcTemplate.batchUpdate(INSERT_IF_ABSENT_SQL, batchArgs)) {
+            // 드라이버가 배치를 재작성하면 행별 결과 대신 SUCCESS_NO_INFO(-2)를 반환
+            if (count != 0) {
+                savedCount++;
+            }
+        }
+        if (savedCount < events.size()) {
+            log.warn("이벤트 키 중복: {} 개", events.size() - savedCount);
+        }
+
+        // 커밋 후 릴레이 워커 호출
+        outboxRelaySignal.signalAfterCommit();
+
+        return savedCount;
+    }
+
     /**
      * 이벤트를 Outbox 테이블에 저장합니다.
      * 새로운 트랜잭션에서 실행됩니다(REQUIRES_NEW).
@@ -86,74 +183,111 @@ public class OutboxEventService {
     }
 
     /**
-     * 이벤트를 발행 준비 상태로 변경합니다.
-     * 
-     * @param eventId 이벤트 ID
-     * @return 업데이트된 Outbox 이벤트
+     * 발행할 이벤트를 선점합니다.
+     * SKIP LOCKED로 다른 릴레이가 잠근 행을 건너뛰어 조회하고, 한 번의 UPDATE로 발행 중 상태와 선점 정보를 기록한 뒤 즉시 커밋합니다.
+     * 선점이 만료되기 전까지 다른 릴레이는 해당 이벤트와 같은 파티션 키의 이후 이벤트를 선점할 수 없습니다.
+     *
+     * @param owner 선점 릴레이 ID
+     * @param batchSize 선점할 최대 이벤트 수
+     * @param leaseTimeoutMs 선점 유지 시간 (ms)
+     * @return 선점한 이벤트 목록 (ID 순)
      */
-    @Transactional
-    public OutboxEvent markAsReady(Long eventId) {
-        OutboxEvent event = outboxEventRepository.findById(eventId)
-                .orElseThrow(() -> new RuntimeException("이벤트를 찾을 수 없음: " + eventId));
-        event.markAsReady();
-        return outboxEventRepository.save(event);
-    }
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public List<OutboxEvent> claimEvents(String owner, int batchSize, long leaseTimeoutMs) {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEvent> events = outboxEventRepository.findClaimableEventsSkipLocked(outboxRetryPolicy.getMaxRetries(), now, batchSize);
+        if (events.isEmpty()) {
+            return events;
+        }
 
-    /**
-     * 이벤트를 발행 중 상태로 변경합니다.
-     * 
-     * @param eventId 이벤트 ID
-     * @return 업데이트된 Outbox 이벤트
-     */
-    @Transactional
-    public OutboxEvent markAsPublishing(Long eventId) {
-        OutboxEvent event = outboxEventRepository.findById(eventId)
-                .orElseThrow(() -> new RuntimeException("이벤트를 찾을 수 없음: " + eventId));
-        event.markAsPublishing();
-        return outboxEventRepository.save(event);
+        List<Long> eventIds = events.stream().map(OutboxEvent::getId).toList();
+        outboxEventRepository.claimByIds(eventIds, owner, now.plus(leaseTimeoutMs, ChronoUnit.MILLIS), now);
+        return events;
     }
 
     /**
-     * 이벤트를 발행 완료 상태로 변경합니다.
-     * 
-     * @param eventId 이벤트 ID
-     * @return 업데이트된 Outbox 이벤트
+     * 선점한 이벤트를 한 번의 UPDATE로 발행 완료 상태로 변경합니다.
+     *
+     * @param owner 선점 릴레이 ID
+     * @param eventIds 이벤트 ID 목록
+     * @return 변경된 이벤트 수
      */
     @Transactional
-    public OutboxEvent markAsPublished(Long eventId) {
-        OutboxEvent event = outboxEventRepository.findById(eventId)
-                .orElseThrow(() -> new RuntimeException("이벤트를 찾을 수 없음: " + eventId));
-        event.markAsPublished();
-        return outboxEventRepository.save(event);
+    public int markAllAsPublished(String owner, Collection<Long> eventIds) {
+        if (eventIds.isEmpty()) {
+            return 0;
+        }
+        int publishedCount = outboxEventRepository.markAsPublishedByIds(eventIds, owner, LocalDateTime.now());
+        if (publishedCount < eventIds.size()) {
+            log.warn("선점이 만료되어 발행 완료 처리되지 않은 이벤트: {} 개", eventIds.size() - publishedCount);
+        }
+        return publishedCount;
     }
 
     /**
-     * 이벤트를 실패 상태로 변경합니다.
-     * 
-     * @param eventId 이벤트 ID
-     * @param errorMessage 오류 메시지
-     * @return 업데이트된 Outbox 이벤트
+     * 선점한 이벤트를 실패 상태로 변경하고, 최대 재시도 횟수에 도달한 이벤트는 DLQ 상태로 변경합니다.
+     * 다음 재시도 시간은 재시도 정책에 따라 지수적으로 늘어나며, 오류 메시지와 재시도 횟수별로 한 번의 UPDATE를 실행합니다.
+     *
+     * @param owner 선점 릴레이 ID
+     * @param failedEvents 실패한 이벤트 목록
+     * @param errorMessages 이벤트 ID별 오류 메시지
+     * @return 실패 처리된 이벤트 수
      */
     @Transactional
-    public OutboxEvent markAsFailed(Long eventId, String errorMessage) {
-        OutboxEvent event = outboxEventRepository.findById(eventId)
-                .orElseThrow(() -> new RuntimeException("이벤트를 찾을 수 없음: " + eventId));
-        event.markAsFailed(errorMessage);
-        return outboxEventRepository.save(event);
+    public int markAllAsFailed(String owner, List<OutboxEvent> failedEvents, Map<Long, String> errorMessages) {
+        if (failedEvents.isEmpty()) {
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+
+        // 오류 메시지와 증가될 재시도 횟수별로 묶어서 UPDATE
+        Map<String, Map<Integer, List<Long>>> idsByMessage = failedEvents.stream()
+                .collect(Collectors.groupingBy(
+                        event -> StringUtils.abbreviate(StringUtils.defaultString(errorMessages.get(event.getId())), MAX_ERROR_MESSAGE_LENGTH),
+                        Collectors.groupingBy(
+                                event -> event.getRetryCount() + 1,
+                                Collectors.mapping(OutboxEvent::getId, Collectors.toList())
+                        )
+                ));
+
+        int failedCount = 0;
+        for (Map.Entry<String, Map<Integer, List<Long>>> messageEntry : idsByMessage.entrySet()) {
+            for (Map.Entry<Integer, List<Long>> retryEntry : messageEntry.getValue().entrySet()) {
+                LocalDateTime nextAttemptAt = outboxRetryPolicy.nextAttemptAt(retryEntry.getKey(), now);
+                failedCount += outboxEventRepository.markAsFailedByIds(retryEntry.getValue(), owner, messageEntry.getKey(), nextAttemptAt, now);
+            }
+        }
+
+        // 최대 재시도 횟수 초과 이벤트는 DLQ로 이동
+        List<Long> failedIds = failedEvents.stream().map(OutboxEvent::getId).toList();
+        int dlqCount = outboxEventRepository.markAsDlqByIdsExceedingRetries(failedIds, outboxRetryPolicy.getMaxRetries(), now);
+        if (dlqCount > 0) {
+            log.warn("최대 재시도 횟수 초과로 DLQ 이동: {} 개", dlqCount);
+            outboxMetrics.recordDlq(dlqCount);
+        }
+
+        return failedCount;
     }
 
     /**
-     * 이벤트를 DLQ 상태로 변경합니다.
-     * 
-     * @param eventId 이벤트 ID
-     * @param errorMessage 오류 메시지
-     * @return 업데이트된 Outbox 이벤트
+     * 재시도 대기 시간이 지난 실패 이벤트를 한 번의 UPDATE로 발행 준비 상태로 재등록합니다.
+     * 한 번에 batchSize 개까지만 조회하므로 테이블 크기와 무관하게 메모리 사용량이 일정합니다.
+     * 트랜잭션이 커밋되면 릴레이 워커를 깨워 즉시 발행합니다.
+     *
+     * @param batchSize 재등록할 최대 이벤트 수
+     * @return 재등록된 이벤트 수
      */
     @Transactional
-    public OutboxEvent markAsDlq(Long eventId, String errorMessage) {
-        OutboxEvent event = outboxEventRepository.findById(eventId)
-                .orElseThrow(() -> new RuntimeException("이벤트를 찾을 수 없음: " + eventId));
-        event.markAsDlq(errorMessage);
-        return outboxEventRepository.save(event);
+    public int rearmFailedEvents(int batchSize) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> eventIds = outboxEventRepository.findRetryableFailedIds(outboxRetryPolicy.getMaxRetries(), now, batchSize);
+        if (eventIds.isEmpty()) {
+            return 0;
+        }
+
+        int rearmedCount = outboxEventRepository.rearmFailedByIds(eventIds, now);
+        outboxRelaySignal.signalAfterCommit();
+        return rearmedCount;
     }
 }
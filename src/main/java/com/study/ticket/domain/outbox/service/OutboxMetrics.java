@@ -0,0 +1,150 @@
+package com.study.ticket.domain.outbox.service;
+
+import com.study.ticket.domain.outbox.domain.entity.OutboxEvent;
+import com.study.ticket.domain.outbox.domain.enums.EventStatus;
+import com.study.ticket.domain.outbox.domain.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Outbox 메트릭
+ * 릴레이 워커 수를 산정하고 발행 지연이 사용자에게 보이기 전에 적체를 감지하기 위한 메트릭을 기록합니다.
+ * - outbox.backlog: 상태별 미발행 이벤트 수 (주기적으로 갱신)
+ * - outbox.backlog.oldest.age: 가장 오래된 발행 대기 이벤트의 대기 시간 (초)
+ * - outbox.event.age: 이벤트 생성부터 발행 완료까지의 시간
+ * - outbox.publish.batch.size, outbox.publish.latency: 발행 배치 크기와 배치 발행 소요 시간
+ * - outbox.publish.errors: 토픽별 Kafka 전송 실패 수
+ * - outbox.dlq: 최대 재시도 횟수를 넘어 DLQ로 이동한 이벤트 수
+ */
+@Component
+@Slf4j
+public class OutboxMetrics {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<EventStatus, AtomicLong> backlog = new EnumMap<>(EventStatus.class);
+    private final AtomicLong oldestPendingAgeSeconds = new AtomicLong();
+
+    private final Timer eventAgeTimer;
+    private final DistributionSummary batchSizeSummary;
+    private final Timer publishLatencyTimer;
+    private final Counter dlqCounter;
+
+    public OutboxMetrics(OutboxEventRepository outboxEventRepository, MeterRegistry meterRegistry) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.meterRegistry = meterRegistry;
+
+        for (EventStatus status : EventStatus.values()) {
+            if (status == EventStatus.PUBLISHED) {
+                continue;
+            }
+            AtomicLong count = new AtomicLong();
+            backlog.put(status, count);
+            Gauge.builder("outbox.backlog", count, AtomicLong::get)
+                    .description("상태별 미발행 Outbox 이벤트 수")
+                    .tag("status", status.name())
+                    .register(meterRegistry);
+        }
+        Gauge.builder("outbox.backlog.oldest.age", oldestPendingAgeSeconds, AtomicLong::get)
+                .description("가장 오래된 발행 대기 Outbox 이벤트의 대기 시간")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+
+        this.eventAgeTimer = Timer.builder("outbox.event.age")
+                .description("Outbox 이벤트 생성부터 발행 완료까지의 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("outbox.publish.batch.size")
+                .description("한 번에 선점하여 발행한 Outbox 이벤트 수")
+                .baseUnit("events")
+                .register(meterRegistry);
+        this.publishLatencyTimer = Timer.builder("outbox.publish.latency")
+                .description("Outbox 배치 전송부터 상태 변경까지의 소요 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.dlqCounter = Counter.builder("outbox.dlq")
+                .description("최대 재시도 횟수를 넘어 DLQ로 이동한 Outbox 이벤트 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 상태별 미발행 이벤트 수와 가장 오래된 대기 이벤트의 대기 시간을 갱신합니다.
+     */
+    @Scheduled(fixedDelayString = "${outbox.metrics.backlog-interval:10000}", initialDelayString = "${outbox.metrics.backlog-interval:10000}")
+    public void refreshBacklog() {
+        try {
+            Map<EventStatus, Long> counts = new EnumMap<>(EventStatus.class);
+            for (Object[] row : outboxEventRepository.countUnpublishedByStatus()) {
+                counts.put((EventStatus) row[0], (Long) row[1]);
+            }
+            backlog.forEach((status, count) -> count.set(counts.getOrDefault(status, 0L)));
+
+            LocalDateTime oldestCreatedAt = outboxEventRepository.findOldestPendingCreatedAt();
+            oldestPendingAgeSeconds.set(oldestCreatedAt == null
+                    ? 0L
+                    : Math.max(0L, Duration.between(oldestCreatedAt, LocalDateTime.now()).toSeconds()));
+        } catch (Exception e) {
+            log.warn("Outbox 적체 메트릭 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 발행 배치 결과를 기록합니다.
+     * @param batchSize 선점한 이벤트 수
+     * @param elapsedNanos 배치 발행 소요 시간 (ns)
+     */
+    public void recordBatch(int batchSize, long elapsedNanos) {
+        batchSizeSummary.record(batchSize);
+        publishLatencyTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 발행 완료된 이벤트의 생성부터 발행까지의 시간을 기록합니다.
+     * @param events 발행 완료된 이벤트 목록
+     */
+    public void recordPublished(Collection<OutboxEvent> events) {
+        LocalDateTime now = LocalDateTime.now();
+        for (OutboxEvent event : events) {
+            if (event.getCreatedAt() != null) {
+                eventAgeTimer.record(Duration.between(event.getCreatedAt(), now));
+            }
+        }
+    }
+
+    /**
+     * Kafka 전송 실패를 기록합니다.
+     * @param event 전송에 실패한 이벤트
+     * @param cause 실패 원인 (결과 대기 시간 초과이면 null)
+     */
+    public void recordSendError(OutboxEvent event, Throwable cause) {
+        Counter.builder("outbox.publish.errors")
+                .description("토픽별 Outbox 이벤트 Kafka 전송 실패 수")
+                .tag("topic", event.getTopic())
+                .tag("exception", cause == null ? "Timeout" : cause.getClass().getSimpleName())
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * DLQ로 이동한 이벤트 수를 기록합니다.
+     * @param count 이벤트 수
+     */
+    public void recordDlq(int count) {
+        dlqCounter.increment(count);
+    }
+}
@@ -0,0 +1,67 @@
+package com.study.ticket.domain.outbox.service;
+
+import com.study.ticket.domain.outbox.domain.entity.OutboxEvent;
+import com.study.ticket.domain.outbox.domain.enums.RetentionMode;
+import com.study.ticket.domain.outbox.domain.repository.OutboxEventArchiveRepository;
+import com.study.ticket.domain.outbox.domain.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Outbox 보존 정책 서비스
+ * 보존 기간이 지난 발행 완료 이벤트를 작은 배치 단위로 삭제하거나 아카이브합니다.
+ * 배치마다 트랜잭션을 분리하여 락을 오래 잡지 않고, 대상 조회는 SKIP LOCKED로 다른 노드가 정리 중인 행을 건너뜁니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxRetentionService {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxEventArchiveRepository outboxEventArchiveRepository;
+
+    /**
+     * 기준 시간 이전에 발행 완료된 이벤트 한 배치를 정리합니다.
+     * 아카이브 모드에서는 아카이브 테이블로 복사한 뒤 삭제합니다.
+     * @param before 기준 시간
+     * @param batchSize 배치 크기
+     * @param mode 보존 정책
+     * @return 정리된 이벤트 수
+     */
+    @Transactional
+    public int purgePublishedEvents(LocalDateTime before, int batchSize, RetentionMode mode) {
+        // 다른 노드가 정리 중인 배치는 건너뛰고 잠근 행만 정리
+        List<Long> eventIds = outboxEventRepository.findPublishedEventsBeforeSkipLocked(before, batchSize).stream()
+                .map(OutboxEvent::getId)
+                .toList();
+        if (eventIds.isEmpty()) {
+            return 0;
+        }
+
+        if (mode == RetentionMode.ARCHIVE) {
+            outboxEventArchiveRepository.archiveByIds(eventIds, LocalDateTime.now());
+        }
+        return outboxEventRepository.deleteByIds(eventIds);
+    }
+
+    /**
+     * 기준 시간 이전에 아카이브된 이벤트 한 배치를 삭제합니다.
+     * 아카이브 테이블을 파티션으로 운영하지 않는 환경에서 사용합니다.
+     * @param before 기준 시간
+     * @param batchSize 배치 크기
+     * @return 삭제된 이벤트 수
+     */
+    @Transactional
+    public int purgeArchivedEvents(LocalDateTime before, int batchSize) {
+        List<Long> eventIds = outboxEventArchiveRepository.findIdsArchivedBefore(before, batchSize);
+        if (eventIds.isEmpty()) {
+            return 0;
+        }
+        return outboxEventArchiveRepository.deleteByIds(eventIds);
+    }
+}
@@ -0,0 +1,57 @@
+package com.study.ticket.domain.outbox.service;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Outbox 재시도 정책
+ * 실패 횟수에 따라 지수적으로 증가하는 재시도 지연 시간을 계산합니다.
+ * 지연 시간의 절반은 고정, 나머지 절반은 무작위(jitter)로 두어 여러 릴레이의 재시도가 한꺼번에 몰리지 않도록 합니다.
+ */
+@Component
+@Getter
+public class OutboxRetryPolicy {
+
+    /**
+     * 최대 재시도 횟수
+     */
+    @Value("${outbox.retry.max-retries:3}")
+    private int maxRetries;
+
+    /**
+     * 첫 재시도 지연 시간 (ms)
+     */
+    @Value("${outbox.retry.initial-delay:1000}")
+    private long initialDelayMs;
+
+    /**
+     * 재시도 지연 시간 배수
+     */
+    @Value("${outbox.retry.multiplier:2.0}")
+    private double multiplier;
+
+    /**
+     * 최대 재시도 지연 시간 (ms)
+     */
+    @Value("${outbox.retry.max-delay:300000}")
+    private long maxDelayMs;
+
+    /**
+     * 다음 재시도 가능 시간을 계산합니다.
+     * @param retryCount 증가된 재시도 횟수 (1부터 시작)
+     * @param now 현재 시간
+     * @return 다음 재시도 가능 시간
+     */
+    public LocalDateTime nextAttemptAt(int retryCount, LocalDateTime now) {
+        double delay = initialDelayMs * Math.pow(multiplier, Math.max(0, retryCount - 1));
+        long cappedDelayMs = (long) Math.min(delay, maxDelayMs);
+        long jitterMs = ThreadLocalRandom.current().nextLong(cappedDelayMs / 2 + 1);
+        return now.plus(cappedDelayMs - cappedDelayMs / 2 + jitterMs, ChronoUnit.MILLIS);
+    }
+
+}
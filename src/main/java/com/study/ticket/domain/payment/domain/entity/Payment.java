@@ -4,12 +4,12 @@ import com.study.ticket.domain.order.domain.entity.Order;
 import com.study.ticket.domain.payment.domain.enums.PaymentMethod;
 import com.study.ticket.domain.payment.domain.enums.PaymentStatus;
 import com.study.ticket.global.entity.BaseEntity;
+import com.study.ticket.global.id.IdGenerators;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.Comment;
 
 import java.time.LocalDateTime;
-import java.util.UUID;
 
 /**
  * 결제 엔티티
@@ -22,7 +22,8 @@ import java.util.UUID;
 public class Payment extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "paymentIdGenerator")
+    @SequenceGenerator(name = "paymentIdGenerator", sequenceName = "PAYMENTS_SEQ", allocationSize = 50)
     @Column(name = "PAYMENT_ID")
     @Comment("결제 ID")
     private Long id;
@@ -80,8 +81,9 @@ public class Payment extends BaseEntity {
      */
     @PrePersist
     public void prePersist() {
+        super.prePersist();
         if (paymentNumber == null) {
-            paymentNumber = UUID.randomUUID().toString();
+            paymentNumber = IdGenerators.nextKey();
         }
         if (status == null) {
             status = PaymentStatus.PENDING;
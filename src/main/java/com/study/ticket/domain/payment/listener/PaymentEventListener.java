@@ -3,8 +3,11 @@ package com.study.ticket.domain.payment.listener;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.study.ticket.domain.event.service.ProcessedEventService;
 import com.study.ticket.domain.payment.event.PaymentApprovedEvent;
-import com.study.ticket.domain.ticket.service.TicketService;
-import lombok.RequiredArgsConstructor;
+import com.study.ticket.domain.saga.domain.enums.SagaType;
+import com.study.ticket.domain.saga.service.SagaOrchestrator;
+import com.study.ticket.global.event.AbstractBatchEventListener;
+import com.study.ticket.global.event.Event;
+import com.study.ticket.global.event.KeyOrderedEventExecutor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.support.Acknowledgment;
@@ -13,89 +16,73 @@ import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 /**
  * 결제 이벤트 리스너
  * Kafka에서 결제 관련 이벤트를 수신하고 처리하는 역할을 담당합니다.
  */
 @Component
-@RequiredArgsConstructor
 @Slf4j
-public class PaymentEventListener {
+public class PaymentEventListener extends AbstractBatchEventListener {
 
-    private final ProcessedEventService processedEventService;
-    private final ObjectMapper objectMapper;
-    private final TicketService ticketService;
+    private final SagaOrchestrator sagaOrchestrator;
     
     private static final String CONSUMER_GROUP = "payment-service";
 
+    public PaymentEventListener(ProcessedEventService processedEventService, ObjectMapper objectMapper,
+                                KeyOrderedEventExecutor keyOrderedEventExecutor, SagaOrchestrator sagaOrchestrator) {
+        super(processedEventService, objectMapper, keyOrderedEventExecutor);
+        this.sagaOrchestrator = sagaOrchestrator;
+    }
+
     /**
-     * 결제 이벤트를 수신합니다.
-     * @param payload 이벤트 페이로드
-     * @param key 메시지 키
-     * @param partition 파티션
-     * @param topic 토픽
+     * 결제 이벤트를 배치로 수신합니다.
+     * 한 번의 poll로 받은 결제 이벤트를 메시지 키(주문 ID)별 레인으로 나누어 병렬로 처리하고, 레인마다 한 트랜잭션으로 처리합니다.
+     * @param payloads 이벤트 페이로드 목록
+     * @param keys 메시지 키 목록
      * @param acknowledgment 확인자
      */
     @KafkaListener(
             topics = "${kafka.topics.payment-events}",
             groupId = CONSUMER_GROUP,
-            containerFactory = "errorHandlingKafkaListenerContainerFactory"
+            containerFactory = "batchErrorHandlingKafkaListenerContainerFactory"
     )
-    public void consumePaymentEvent(
-            @Payload String payload,
-            @Header(KafkaHeaders.RECEIVED_KEY) String key,
-            @Header(KafkaHeaders.RECEIVED_PARTITION) int partition,
-            @Header(KafkaHeaders.RECEIVED_TOPIC) String topic,
+    public void consumePaymentEvents(
+            @Payload List<String> payloads,
+            @Header(KafkaHeaders.RECEIVED_KEY) List<String> keys,
             Acknowledgment acknowledgment
     ) {
-        log.info("결제 이벤트 수신: topic={}, partition={}, key={}", topic, partition, key);
-        
-        try {
-            // JSON을 이벤트 객체로 변환
-            PaymentApprovedEvent event = objectMapper.readValue(payload, PaymentApprovedEvent.class);
-            
-            // 이벤트 키 추출
-            String eventKey = event.getEventKey();
-            String eventType = event.getEventType();
-            
-            // 멱등성 검사
-            if (processedEventService.isEventProcessed(eventKey, CONSUMER_GROUP)) {
-                log.info("이벤트 중복 수신, 무시: {}", eventKey);
-                acknowledgment.acknowledge();
-                return;
-            }
-            
-            // 이벤트 타입에 따른 처리
-            switch (eventType) {
-                case "PAYMENT_APPROVED":
-                    handlePaymentApprovedEvent(event);
-                    break;
-                default:
-                    log.warn("알 수 없는 이벤트 타입: {}", eventType);
-            }
-            
-            // 이벤트 처리 완료 기록
-            processedEventService.markEventAsProcessed(eventKey, eventType, CONSUMER_GROUP);
-            
-            // 메시지 확인 (수동 커밋)
-            acknowledgment.acknowledge();
-            
-        } catch (Exception e) {
-            log.error("이벤트 처리 실패: {}", e.getMessage(), e);
-            // 재시도를 위해 ack하지 않음
-        }
+        log.info("결제 이벤트 수신: {} 개", payloads.size());
+        processEventsInKeyOrder(payloads, keys, PaymentApprovedEvent.class, CONSUMER_GROUP, acknowledgment);
     }
     
+    /**
+     * 이벤트 타입에 따라 이벤트를 처리합니다.
+     * @param event 이벤트
+     * @throws Exception 이벤트 처리 중 발생한 예외
+     */
+    @Override
+    protected <T extends Event> void handleEvent(T event) throws Exception {
+        if (event instanceof PaymentApprovedEvent paymentApprovedEvent
+                && "PAYMENT_APPROVED".equals(paymentApprovedEvent.getEventType())) {
+            handlePaymentApprovedEvent(paymentApprovedEvent);
+        } else {
+            log.warn("알 수 없는 이벤트 타입: {}", event.getEventType());
+        }
+    }
+
     /**
      * 결제 승인 이벤트를 처리합니다.
+     * 주문 처리 Saga의 다음 단계(티켓 발급)를 실행하며, 그 사이 주문이 취소되어 보상된 Saga는 실행하지 않습니다.
      * @param event 결제 승인 이벤트
      */
     private void handlePaymentApprovedEvent(PaymentApprovedEvent event) {
         log.info("결제 승인 이벤트 처리: paymentId={}, orderId={}", event.getPaymentId(), event.getOrderId());
         
         try {
-            // 결제 승인 후 티켓 발급 프로세스 시작
-            ticketService.issueTickets(event.getOrderId());
+            // 결제 승인 후 주문 처리 Saga 진행 (티켓 발급)
+            sagaOrchestrator.proceed(SagaType.ORDER_PROCESSING, event.getOrderId().toString());
             
             log.info("결제 승인 이벤트 처리 완료: paymentId={}", event.getPaymentId());
         } catch (Exception e) {
@@ -15,12 +15,18 @@ import com.study.ticket.domain.payment.dto.PaymentDetailDto;
 import com.study.ticket.domain.payment.dto.PaymentSaveDto;
 import com.study.ticket.domain.payment.event.PaymentApprovedEvent;
 import com.study.ticket.domain.payment.event.PaymentCancelledEvent;
+import com.study.ticket.domain.saga.definition.OrderProcessingSagaDefinition;
+import com.study.ticket.domain.saga.domain.enums.SagaType;
+import com.study.ticket.domain.saga.service.SagaMetrics;
+import com.study.ticket.domain.saga.service.SagaOrchestrator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Optional;
+
 /**
  * 결제 서비스
  */
@@ -33,6 +39,8 @@ public class PaymentService {
     private final OrderRepository orderRepository;
     private final OrderService orderService;
     private final OutboxEventService outboxEventService;
+    private final SagaMetrics sagaMetrics;
+    private final SagaOrchestrator sagaOrchestrator;
     
     @Value("${kafka.topics.payment-events}")
     private String paymentEventsTopic;
@@ -44,6 +52,8 @@ public class PaymentService {
      */
     @Transactional
     public void createPayment(PaymentSaveDto paymentSaveDto) {
+        sagaMetrics.startStep(SagaType.PAYMENT_PROCESSING, "create_payment");
+
         // 주문 조회
         Order order = orderRepository.findById(paymentSaveDto.getOrderId())
                 .orElseThrow(() -> new RuntimeException("주문을 찾을 수 없음: " + paymentSaveDto.getOrderId()));
@@ -97,6 +107,8 @@ public class PaymentService {
      */
     @Transactional
     public void approvePayment(Long paymentId, PaymentApproveDto paymentApproveDto) {
+        sagaMetrics.startStep(SagaType.PAYMENT_PROCESSING, "approve_payment");
+
         Payment payment = paymentRepository.findById(paymentId)
                         .orElseThrow(() -> new RuntimeException("결제를 찾을 수 없음: " + paymentId));
 
@@ -113,6 +125,9 @@ public class PaymentService {
         order.completePayment();
         orderRepository.save(order);
 
+        // 주문 처리 Saga 결제 승인 단계 완료 (보상 중이거나 종료된 Saga면 승인을 롤백)
+        sagaOrchestrator.complete(SagaType.ORDER_PROCESSING, order.getId().toString(), OrderProcessingSagaDefinition.APPROVE_PAYMENT);
+
         // 결제 저장
         Payment savedPayment = paymentRepository.save(payment);
 
@@ -135,6 +150,8 @@ public class PaymentService {
      */
     @Transactional
     public void cancelPayment(Long paymentId, PaymentCancelDto paymentCancelDto) {
+        sagaMetrics.startStep(SagaType.PAYMENT_REFUND, "cancel_payment");
+
         Payment payment = paymentRepository.findById(paymentId)
                         .orElseThrow(() -> new RuntimeException("결제를 찾을 수 없음: " + paymentId));
 
@@ -144,14 +161,45 @@ public class PaymentService {
             throw new RuntimeException("취소 가능한 상태가 아닙니다: " + payment.getStatus());
         }
 
+        cancel(payment, paymentCancelDto.getReason());
+
+        // 티켓 발급 전 환불이면 주문 처리 Saga 보상 (주문 취소와 좌석 해제)
+        sagaOrchestrator.compensate(SagaType.ORDER_PROCESSING, payment.getOrder().getId().toString(), "결제 취소");
+    }
+
+    /**
+     * 주문 처리 Saga의 보상으로 주문의 결제를 환불합니다.
+     * 결제가 없거나 승인된 결제가 아니면 건너뜁니다.
+     * @param orderId 주문 ID
+     * @param reason 환불 사유
+     */
+    @Transactional
+    public void refundPayment(Long orderId, String reason) {
+        Order order = orderRepository.findById(orderId)
+                .orElseThrow(() -> new RuntimeException("주문을 찾을 수 없음: " + orderId));
+        Optional<Payment> payment = paymentRepository.findByOrder(order);
+        if (payment.isEmpty() || payment.get().getStatus() != PaymentStatus.COMPLETED) {
+            return;
+        }
+
+        sagaMetrics.startStep(SagaType.PAYMENT_REFUND, "refund_payment");
+        cancel(payment.get(), reason);
+    }
+
+    /**
+     * 결제를 취소하고 결제 취소 이벤트를 발행합니다.
+     * @param payment 결제
+     * @param reason 취소 사유
+     */
+    private void cancel(Payment payment, String reason) {
         // 결제 취소
-        payment.cancel(paymentCancelDto.getReason());
+        payment.cancel(reason);
 
         // 결제 저장
         Payment savedPayment = paymentRepository.save(payment);
 
         // 결제 취소 이벤트 발행
-        PaymentCancelledEvent event = new PaymentCancelledEvent(savedPayment, paymentCancelDto.getReason());
+        PaymentCancelledEvent event = new PaymentCancelledEvent(savedPayment, reason);
         outboxEventService.saveEvent(
                 event,
                 "PAYMENT",
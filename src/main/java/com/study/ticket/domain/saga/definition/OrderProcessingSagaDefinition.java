@@ -0,0 +1,75 @@
+package com.study.ticket.domain.saga.definition;
+
+import com.study.ticket.domain.order.service.OrderService;
+import com.study.ticket.domain.payment.service.PaymentService;
+import com.study.ticket.domain.saga.domain.enums.SagaType;
+import com.study.ticket.domain.ticket.service.TicketService;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 주문 처리 Saga 정의
+ * 1. create_order: 주문 생성과 좌석 선점 (OrderService.createOrder에서 Saga 시작) / 보상: 주문 취소와 좌석 해제
+ * 2. approve_payment: 결제 승인 (PaymentService.approvePayment에서 완료) / 보상: 결제 환불
+ * 3. issue_tickets: 티켓 발급 (결제 승인 이벤트 수신 시 오케스트레이터가 실행)
+ *
+ * 결제 대기 제한 시간은 좌석 홀드 만료(결제 마감 시간)가 먼저 처리하도록 결제 마감보다 길게 잡으며,
+ * 좌석 홀드 만료로 주문이 취소되면 Saga도 함께 보상 완료됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderProcessingSagaDefinition implements SagaDefinition {
+
+    public static final String CREATE_ORDER = "create_order";
+    public static final String APPROVE_PAYMENT = "approve_payment";
+    public static final String ISSUE_TICKETS = "issue_tickets";
+
+    private final OrderService orderService;
+    private final PaymentService paymentService;
+    private final TicketService ticketService;
+
+    /**
+     * 결제 승인 대기 제한 시간 (ms)
+     */
+    @Value("${saga.order-processing.payment-timeout:2100000}")
+    private long paymentTimeoutMs;
+
+    /**
+     * 결제 승인 후 티켓 발급 제한 시간 (ms)
+     */
+    @Value("${saga.order-processing.ticket-timeout:600000}")
+    private long ticketTimeoutMs;
+
+    private List<SagaStep> steps;
+
+    @PostConstruct
+    public void init() {
+        steps = List.of(
+                SagaStep.external(CREATE_ORDER,
+                        orderId -> orderService.compensateOrder(Long.valueOf(orderId), "주문 처리 Saga 보상"),
+                        null),
+                SagaStep.external(APPROVE_PAYMENT,
+                        orderId -> paymentService.refundPayment(Long.valueOf(orderId), "주문 처리 Saga 보상"),
+                        Duration.ofMillis(paymentTimeoutMs)),
+                SagaStep.local(ISSUE_TICKETS,
+                        orderId -> ticketService.issueTickets(Long.valueOf(orderId)),
+                        null,
+                        Duration.ofMillis(ticketTimeoutMs))
+        );
+    }
+
+    @Override
+    public SagaType sagaType() {
+        return SagaType.ORDER_PROCESSING;
+    }
+
+    @Override
+    public List<SagaStep> steps() {
+        return steps;
+    }
+}
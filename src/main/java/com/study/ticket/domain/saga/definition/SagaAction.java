@@ -0,0 +1,15 @@
+package com.study.ticket.domain.saga.definition;
+
+/**
+ * Saga 단계의 실행/보상 동작
+ * 호출한 트랜잭션 안에서 실행되며, 예외를 던지면 트랜잭션과 함께 Saga 상태 변경도 롤백됩니다.
+ */
+@FunctionalInterface
+public interface SagaAction {
+
+    /**
+     * 동작을 실행합니다.
+     * @param aggregateId 집계 ID
+     */
+    void execute(String aggregateId);
+}
@@ -0,0 +1,39 @@
+package com.study.ticket.domain.saga.definition;
+
+import com.study.ticket.domain.saga.domain.enums.SagaType;
+
+import java.util.List;
+
+/**
+ * Saga 정의
+ * Saga 타입별 단계 순서를 정의합니다. 빈으로 등록하면 SagaOrchestrator가 타입별로 찾아 사용합니다.
+ */
+public interface SagaDefinition {
+
+    /**
+     * Saga 타입
+     * @return Saga 타입
+     */
+    SagaType sagaType();
+
+    /**
+     * 실행 순서대로 정렬된 단계 목록
+     * @return 단계 목록
+     */
+    List<SagaStep> steps();
+
+    /**
+     * 단계 이름으로 단계 순번을 찾습니다.
+     * @param stepName 단계 이름
+     * @return 단계 순번, 없으면 -1
+     */
+    default int indexOf(String stepName) {
+        List<SagaStep> steps = steps();
+        for (int i = 0; i < steps.size(); i++) {
+            if (steps.get(i).name().equals(stepName)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
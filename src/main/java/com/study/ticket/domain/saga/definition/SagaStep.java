@@ -0,0 +1,48 @@
+package com.study.ticket.domain.saga.definition;
+
+import java.time.Duration;
+
+/**
+ * Saga 단계 정의
+ * - action: 오케스트레이터가 실행하는 동작, null이면 외부(요청 처리 등)에서 수행하고 완료를 알려주는 단계
+ * - compensation: 이후 단계가 실패하거나 Saga가 취소될 때 실행하는 보상 동작, null이면 보상하지 않음
+ * - timeout: 이 단계에 머물 수 있는 최대 시간, null이면 제한 없음. 시간이 지나면 완료된 단계를 역순으로 보상합니다.
+ *
+ * @param name 단계 이름
+ * @param action 실행 동작
+ * @param compensation 보상 동작
+ * @param timeout 제한 시간
+ */
+public record SagaStep(String name, SagaAction action, SagaAction compensation, Duration timeout) {
+
+    /**
+     * 외부에서 수행하는 단계를 생성합니다.
+     * @param name 단계 이름
+     * @param compensation 보상 동작
+     * @param timeout 제한 시간
+     * @return 단계 정의
+     */
+    public static SagaStep external(String name, SagaAction compensation, Duration timeout) {
+        return new SagaStep(name, null, compensation, timeout);
+    }
+
+    /**
+     * 오케스트레이터가 실행하는 단계를 생성합니다.
+     * @param name 단계 이름
+     * @param action 실행 동작
+     * @param compensation 보상 동작
+     * @param timeout 제한 시간
+     * @return 단계 정의
+     */
+    public static SagaStep local(String name, SagaAction action, SagaAction compensation, Duration timeout) {
+        return new SagaStep(name, action, compensation, timeout);
+    }
+
+    /**
+     * 오케스트레이터가 실행하는 단계인지 확인합니다.
+     * @return 오케스트레이터 실행 여부
+     */
+    public boolean isLocal() {
+        return action != null;
+    }
+}
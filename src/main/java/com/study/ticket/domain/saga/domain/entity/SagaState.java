@@ -14,14 +14,17 @@ import java.time.LocalDateTime;
  * 분산 트랜잭션의 상태를 관리하는 엔티티
  */
 @Entity
-@Table(name = "SAGA_STATES")
+@Table(name = "SAGA_STATES", indexes = {
+    @Index(name = "idx_saga_states_status_timeout", columnList = "STATUS, TIMEOUT_AT")
+})
 @Builder
 @Getter @Setter
 @AllArgsConstructor @NoArgsConstructor
 public class SagaState extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sagaStateIdGenerator")
+    @SequenceGenerator(name = "sagaStateIdGenerator", sequenceName = "SAGA_STATES_SEQ", allocationSize = 50)
     @Column(name = "SAGA_ID")
     @Comment("Saga ID")
     private Long id;
@@ -35,6 +38,10 @@ public class SagaState extends BaseEntity {
     @Enumerated(EnumType.STRING)
     private SagaType sagaType;
 
+    @Column(name = "AGGREGATE_ID", nullable = false)
+    @Comment("집계 ID")
+    private String aggregateId;
+
     @Column(name = "CURRENT_STEP", nullable = false)
     @Comment("현재 단계")
     private Integer currentStep;
@@ -56,6 +63,10 @@ public class SagaState extends BaseEntity {
     @Comment("오류 메시지")
     private String errorMessage;
 
+    @Column(name = "TIMEOUT_AT")
+    @Comment("현재 단계 제한 시간")
+    private LocalDateTime timeoutAt;
+
     @Column(name = "COMPLETED_AT")
     @Comment("완료 시간")
     private LocalDateTime completedAt;
@@ -67,9 +78,11 @@ public class SagaState extends BaseEntity {
 
     /**
      * Saga를 생성합니다.
+     * BaseEntity의 콜백을 재정의하므로 생성/수정 시간도 함께 설정합니다.
      */
     @PrePersist
     public void prePersist() {
+        super.prePersist();
         if (status == null) {
             status = SagaStatus.STARTED;
         }
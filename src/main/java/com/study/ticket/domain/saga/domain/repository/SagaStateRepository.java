@@ -60,4 +60,13 @@ public interface SagaStateRepository extends JpaRepository<SagaState, Long> {
      */
     @Query("SELECT s FROM SagaState s WHERE s.createdAt > :startTime AND s.status = 'FAILED'")
     List<SagaState> findFailedSagasStartedAfter(@Param("startTime") LocalDateTime startTime);
+
+    /**
+     * 현재 단계의 제한 시간이 지난 진행 중 Saga 상태 목록을 제한 시간 순으로 조회합니다.
+     * @param now 기준 시간
+     * @param pageable 페이지 정보 (조회 건수)
+     * @return Saga 상태 목록
+     */
+    @Query("SELECT s FROM SagaState s WHERE s.status IN ('STARTED', 'IN_PROGRESS') AND s.timeoutAt <= :now ORDER BY s.timeoutAt")
+    List<SagaState> findTimedOutSagas(@Param("now") LocalDateTime now, Pageable pageable);
 }
@@ -0,0 +1,67 @@
+package com.study.ticket.domain.saga.scheduler;
+
+import com.study.ticket.domain.saga.service.SagaOrchestrator;
+import com.study.ticket.domain.saga.state.SagaInstance;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Saga 제한 시간 스케줄러
+ * 현재 단계의 제한 시간이 지난 Saga를 제한 시간 인덱스(STATUS, TIMEOUT_AT)로 배치 조회하여 보상합니다.
+ * 배치 전체를 한 트랜잭션으로 보상하고, 실패하면 Saga별 트랜잭션으로 전환하여 보상에 실패한 Saga만 실패 상태로 변경합니다.
+ * 여러 노드가 같은 Saga를 동시에 보상하면 낙관적 락으로 한 노드만 반영됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SagaTimeoutScheduler {
+
+    private final SagaOrchestrator sagaOrchestrator;
+
+    @Value("${saga.timeout.batch-size:100}")
+    private int batchSize;
+
+    /**
+     * 제한 시간이 지난 Saga를 보상합니다.
+     */
+    @Scheduled(fixedDelayString = "${saga.timeout.interval:5000}")
+    public void compensateTimedOutSagas() {
+        List<SagaInstance> timedOutSagas = sagaOrchestrator.findTimedOut(batchSize);
+        if (timedOutSagas.isEmpty()) {
+            return;
+        }
+
+        try {
+            int compensatedCount = sagaOrchestrator.compensateTimedOut(timedOutSagas);
+            log.info("Saga 시간 초과 보상: {} 개 중 {} 개", timedOutSagas.size(), compensatedCount);
+            return;
+        } catch (Exception e) {
+            log.warn("Saga 시간 초과 배치 보상 실패, Saga별 보상으로 전환: {}", e.getMessage());
+        }
+
+        // Saga별 보상
+        int compensatedCount = 0;
+        for (SagaInstance timedOutSaga : timedOutSagas) {
+            try {
+                compensatedCount += sagaOrchestrator.compensateTimedOut(List.of(timedOutSaga));
+            } catch (ObjectOptimisticLockingFailureException e) {
+                // 다른 트랜잭션이 먼저 진행/보상한 경우, 다음 주기에 다시 확인
+                log.info("Saga 시간 초과 보상 충돌: {}", timedOutSaga.sagaKey());
+            } catch (Exception e) {
+                log.error("Saga 시간 초과 보상 실패: {}, {}", timedOutSaga.sagaKey(), e.getMessage(), e);
+                try {
+                    sagaOrchestrator.fail(timedOutSaga.sagaKey(), "보상 실패: " + e.getMessage());
+                } catch (ObjectOptimisticLockingFailureException conflict) {
+                    log.info("Saga 실패 처리 충돌: {}", timedOutSaga.sagaKey());
+                }
+            }
+        }
+        log.info("Saga 시간 초과 보상: {} 개 중 {} 개", timedOutSagas.size(), compensatedCount);
+    }
+}
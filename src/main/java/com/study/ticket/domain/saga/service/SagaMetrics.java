@@ -0,0 +1,119 @@
+package com.study.ticket.domain.saga.service;
+
+import com.study.ticket.domain.saga.domain.enums.SagaType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Saga 메트릭
+ * - saga.step: Saga 타입/단계별 처리 시간과 결과 (트랜잭션 커밋까지 포함)
+ * - saga.duration: 주문 생성부터 티켓 발급 커밋까지 Saga 전체 소요 시간
+ * - saga.compensations: Saga 타입/계기(cancel, timeout)별 보상 결과
+ *
+ * 단계는 트랜잭션 안에서 시작하고, 트랜잭션이 끝나면 커밋 여부에 따라 success/failure로 기록합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SagaMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Saga 단계를 시작합니다.
+     * 현재 트랜잭션이 끝나면 시작부터 완료까지의 시간을 기록하며, 트랜잭션이 없으면 기록하지 않습니다.
+     * @param sagaType Saga 타입
+     * @param step 단계 이름
+     */
+    public void startStep(SagaType sagaType, String step) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        long startNanos = System.nanoTime();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                recordStep(sagaType, step, status == STATUS_COMMITTED, System.nanoTime() - startNanos);
+            }
+        });
+    }
+
+    /**
+     * Saga 전체 소요 시간을 현재 트랜잭션이 커밋되면 기록합니다.
+     * 트랜잭션이 없으면 즉시 기록합니다.
+     * @param sagaType Saga 타입
+     * @param startedAt Saga 시작 시간
+     */
+    public void recordCompletion(SagaType sagaType, LocalDateTime startedAt) {
+        if (startedAt == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            recordDuration(sagaType, startedAt);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recordDuration(sagaType, startedAt);
+            }
+        });
+    }
+
+    /**
+     * Saga 보상 결과를 현재 트랜잭션이 끝나면 기록합니다.
+     * 트랜잭션이 없으면 즉시 기록합니다.
+     * @param sagaType Saga 타입
+     * @param trigger 보상 계기 (cancel, timeout)
+     */
+    public void recordCompensation(SagaType sagaType, String trigger) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            incrementCompensation(sagaType, trigger, true);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                incrementCompensation(sagaType, trigger, status == STATUS_COMMITTED);
+            }
+        });
+    }
+
+    private void incrementCompensation(SagaType sagaType, String trigger, boolean success) {
+        Counter.builder("saga.compensations")
+                .description("Saga 보상 수")
+                .tag("sagaType", sagaType.name())
+                .tag("trigger", trigger)
+                .tag("outcome", success ? "success" : "failure")
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private void recordStep(SagaType sagaType, String step, boolean success, long elapsedNanos) {
+        Timer.builder("saga.step")
+                .description("Saga 단계별 처리 시간")
+                .tag("sagaType", sagaType.name())
+                .tag("step", step)
+                .tag("outcome", success ? "success" : "failure")
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private void recordDuration(SagaType sagaType, LocalDateTime startedAt) {
+        Timer.builder("saga.duration")
+                .description("Saga 시작부터 완료까지의 시간")
+                .tag("sagaType", sagaType.name())
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(Duration.between(startedAt, LocalDateTime.now()));
+    }
+}
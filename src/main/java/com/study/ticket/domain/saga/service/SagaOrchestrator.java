@@ -0,0 +1,271 @@
+package com.study.ticket.domain.saga.service;
+
+import com.study.ticket.domain.saga.definition.SagaDefinition;
+import com.study.ticket.domain.saga.definition.SagaStep;
+import com.study.ticket.domain.saga.domain.enums.SagaStatus;
+import com.study.ticket.domain.saga.domain.enums.SagaType;
+import com.study.ticket.domain.saga.state.SagaInstance;
+import com.study.ticket.domain.saga.state.SagaStateStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Saga 오케스트레이터
+ * Saga 타입별 단계 정의({@link SagaDefinition})에 따라 단계를 진행하고, 실패/취소/시간 초과 시 완료된 단계를 역순으로 보상합니다.
+ * - start: 첫 단계를 수행한 트랜잭션에서 Saga를 시작
+ * - complete: 외부에서 수행하는 단계의 완료를 기록
+ * - proceed: 현재 단계부터 오케스트레이터가 실행하는 단계를 차례로 실행
+ * - compensate: 완료된 단계를 역순으로 보상
+ *
+ * 모든 동작은 호출한 트랜잭션에 참여하므로 단계의 업무 변경과 Saga 상태 변경이 함께 커밋/롤백됩니다.
+ * 상태는 SagaStateStore가 캐시하고 트랜잭션마다 한 번에 기록합니다.
+ * Saga 도입 전에 생성되어 Saga가 없는 기존 주문은 Saga 없이 예전 흐름대로 처리합니다. (complete는 무시, proceed는 단계 바로 실행)
+ *
+ * 단계 정의는 각 도메인 서비스에 의존하고 도메인 서비스는 오케스트레이터에 의존하므로, 정의는 처음 사용할 때 찾습니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SagaOrchestrator {
+
+    private static final String TRIGGER_CANCEL = "cancel";
+    private static final String TRIGGER_TIMEOUT = "timeout";
+    private static final int ERROR_MESSAGE_MAX_LENGTH = 255;
+
+    private final SagaStateStore sagaStateStore;
+    private final SagaMetrics sagaMetrics;
+    private final ObjectProvider<SagaDefinition> sagaDefinitionProvider;
+
+    private volatile Map<SagaType, SagaDefinition> definitions;
+
+    /**
+     * Saga를 시작합니다.
+     * 호출한 트랜잭션이 첫 단계를 수행한 것으로 보고 첫 단계를 완료한 상태로 생성합니다.
+     * @param sagaType Saga 타입
+     * @param aggregateId 집계 ID
+     */
+    @Transactional
+    public void start(SagaType sagaType, String aggregateId) {
+        SagaDefinition definition = definition(sagaType);
+        SagaInstance instance = advance(definition, SagaInstance.create(sagaType, aggregateId, definition.steps().size()));
+        sagaStateStore.save(instance);
+        log.debug("Saga 시작: {}", instance.sagaKey());
+    }
+
+    /**
+     * 외부에서 수행한 단계의 완료를 기록합니다.
+     * 이미 지난 단계면 무시하고, 보상 중이거나 종료된 Saga면 예외를 던져 호출한 트랜잭션을 롤백합니다.
+     * Saga가 없는 기존 주문이면 기록할 상태가 없으므로 무시합니다.
+     * @param sagaType Saga 타입
+     * @param aggregateId 집계 ID
+     * @param stepName 단계 이름
+     */
+    @Transactional
+    public void complete(SagaType sagaType, String aggregateId, String stepName) {
+        SagaDefinition definition = definition(sagaType);
+        int stepIndex = definition.indexOf(stepName);
+        if (stepIndex < 0) {
+            throw new RuntimeException("정의되지 않은 Saga 단계: " + sagaType + "." + stepName);
+        }
+
+        String sagaKey = SagaInstance.key(sagaType, aggregateId);
+        Optional<SagaInstance> found = sagaStateStore.find(sagaKey);
+        if (found.isEmpty()) {
+            log.info("Saga가 없는 기존 집계의 단계 완료는 기록하지 않음: {}, {}", sagaKey, stepName);
+            return;
+        }
+
+        SagaInstance instance = found.get();
+        if (instance.status() == SagaStatus.COMPENSATING || instance.status() == SagaStatus.COMPENSATED
+                || instance.status() == SagaStatus.FAILED) {
+            throw new RuntimeException("진행할 수 없는 Saga 상태입니다: " + instance.sagaKey() + ", " + instance.status());
+        }
+        if (instance.currentStep() > stepIndex) {
+            log.debug("이미 완료된 Saga 단계: {}, {}", instance.sagaKey(), stepName);
+            return;
+        }
+        if (instance.currentStep() < stepIndex) {
+            throw new RuntimeException("Saga 단계 순서가 올바르지 않음: " + instance.sagaKey() + ", " + stepName);
+        }
+
+        sagaStateStore.save(advance(definition, instance));
+    }
+
+    /**
+     * 현재 단계부터 오케스트레이터가 실행하는 단계를 차례로 실행합니다.
+     * 외부에서 수행하는 단계를 만나거나 Saga가 끝나면 멈추고, 보상 중이거나 종료된 Saga는 실행하지 않습니다.
+     * 단계 실행이 실패하면 예외가 전파되어 트랜잭션이 롤백되고(이벤트 재수신으로 재시도), 끝내 실행되지 않으면 제한 시간이 지난 뒤 보상됩니다.
+     * Saga가 없는 기존 주문이면 Saga 도입 전처럼 오케스트레이터가 실행하는 단계를 상태 기록 없이 바로 실행합니다.
+     * @param sagaType Saga 타입
+     * @param aggregateId 집계 ID
+     */
+    @Transactional
+    public void proceed(SagaType sagaType, String aggregateId) {
+        SagaDefinition definition = definition(sagaType);
+        String sagaKey = SagaInstance.key(sagaType, aggregateId);
+        Optional<SagaInstance> found = sagaStateStore.find(sagaKey);
+        if (found.isEmpty()) {
+            log.info("Saga가 없는 기존 집계는 단계를 바로 실행: {}", sagaKey);
+            for (SagaStep step : definition.steps()) {
+                if (step.isLocal()) {
+                    step.action().execute(aggregateId);
+                }
+            }
+            return;
+        }
+
+        SagaInstance instance = found.get();
+        if (!instance.isActive()) {
+            log.info("진행 중이 아닌 Saga는 실행하지 않음: {}, {}", instance.sagaKey(), instance.status());
+            return;
+        }
+
+        SagaInstance current = instance;
+        while (current.isActive()) {
+            SagaStep step = definition.steps().get(current.currentStep());
+            if (!step.isLocal()) {
+                break;
+            }
+            step.action().execute(aggregateId);
+            current = advance(definition, current);
+        }
+        if (current != instance) {
+            sagaStateStore.save(current);
+        }
+    }
+
+    /**
+     * 완료된 단계를 역순으로 보상합니다. (주문 취소 등)
+     * Saga가 없거나 진행 중이 아니면 보상하지 않습니다.
+     * @param sagaType Saga 타입
+     * @param aggregateId 집계 ID
+     * @param reason 보상 사유
+     * @return 보상 여부
+     */
+    @Transactional
+    public boolean compensate(SagaType sagaType, String aggregateId, String reason) {
+        Optional<SagaInstance> instance = sagaStateStore.find(SagaInstance.key(sagaType, aggregateId));
+        if (instance.isEmpty()) {
+            log.warn("보상할 Saga를 찾을 수 없음: {}", SagaInstance.key(sagaType, aggregateId));
+            return false;
+        }
+        return compensate(definition(sagaType), instance.get(), reason, TRIGGER_CANCEL);
+    }
+
+    /**
+     * 현재 단계의 제한 시간이 지난 진행 중 Saga를 조회합니다.
+     * @param limit 최대 조회 건수
+     * @return Saga 상태 목록
+     */
+    public List<SagaInstance> findTimedOut(int limit) {
+        return sagaStateStore.findTimedOut(LocalDateTime.now(), limit);
+    }
+
+    /**
+     * 제한 시간이 지난 Saga를 한 트랜잭션으로 보상합니다.
+     * 조회 이후 진행되었거나 이미 보상된 Saga는 건너뜁니다.
+     * @param timedOutSagas 제한 시간이 지난 Saga 목록
+     * @return 보상한 Saga 수
+     */
+    @Transactional
+    public int compensateTimedOut(List<SagaInstance> timedOutSagas) {
+        LocalDateTime now = LocalDateTime.now();
+        int compensatedCount = 0;
+        for (SagaInstance timedOut : timedOutSagas) {
+            Optional<SagaInstance> instance = sagaStateStore.find(timedOut.sagaKey());
+            if (instance.isEmpty() || !instance.get().isTimedOut(now)) {
+                continue;
+            }
+            SagaDefinition definition = definition(timedOut.sagaType());
+            String stepName = definition.steps().get(instance.get().currentStep()).name();
+            if (compensate(definition, instance.get(), "단계 시간 초과: " + stepName, TRIGGER_TIMEOUT)) {
+                compensatedCount++;
+            }
+        }
+        return compensatedCount;
+    }
+
+    /**
+     * 보상에 실패한 Saga를 실패 상태로 변경합니다. 실패한 Saga는 수동으로 처리해야 합니다.
+     * @param sagaKey Saga 키
+     * @param errorMessage 오류 메시지
+     */
+    @Transactional
+    public void fail(String sagaKey, String errorMessage) {
+        String message = errorMessage != null && errorMessage.length() > ERROR_MESSAGE_MAX_LENGTH
+                ? errorMessage.substring(0, ERROR_MESSAGE_MAX_LENGTH)
+                : errorMessage;
+        sagaStateStore.find(sagaKey)
+                .filter(instance -> !instance.isFinished())
+                .ifPresent(instance -> {
+                    sagaStateStore.save(instance.fail(message));
+                    log.error("Saga 실패: {}, {}", sagaKey, errorMessage);
+                });
+    }
+
+    private boolean compensate(SagaDefinition definition, SagaInstance instance, String reason, String trigger) {
+        if (!instance.isActive()) {
+            return false;
+        }
+
+        // 보상 동작이 다시 보상을 요청하더라도 중복 실행되지 않도록 보상 중 상태를 먼저 기록
+        SagaInstance compensating = instance.startCompensation(reason);
+        sagaStateStore.save(compensating);
+        sagaMetrics.recordCompensation(instance.sagaType(), trigger);
+
+        List<SagaStep> steps = definition.steps();
+        for (int i = instance.currentStep() - 1; i >= 0; i--) {
+            SagaStep step = steps.get(i);
+            if (step.compensation() != null) {
+                step.compensation().execute(instance.aggregateId());
+            }
+        }
+
+        sagaStateStore.save(compensating.completeCompensation());
+        log.info("Saga 보상 완료: {}, {}", instance.sagaKey(), reason);
+        return true;
+    }
+
+    /**
+     * 현재 단계를 완료하고 다음 단계의 제한 시간을 설정합니다.
+     * 마지막 단계였다면 Saga 전체 소요 시간을 기록합니다.
+     */
+    private SagaInstance advance(SagaDefinition definition, SagaInstance instance) {
+        int nextStep = instance.currentStep() + 1;
+        LocalDateTime nextTimeoutAt = null;
+        if (nextStep < definition.steps().size() && definition.steps().get(nextStep).timeout() != null) {
+            nextTimeoutAt = LocalDateTime.now().plus(definition.steps().get(nextStep).timeout());
+        }
+
+        SagaInstance advanced = instance.nextStep(nextTimeoutAt);
+        if (advanced.status() == SagaStatus.COMPLETED) {
+            sagaMetrics.recordCompletion(advanced.sagaType(), advanced.createdAt());
+        }
+        return advanced;
+    }
+
+    private SagaDefinition definition(SagaType sagaType) {
+        Map<SagaType, SagaDefinition> resolved = definitions;
+        if (resolved == null) {
+            resolved = new EnumMap<>(SagaType.class);
+            for (SagaDefinition definition : sagaDefinitionProvider) {
+                resolved.put(definition.sagaType(), definition);
+            }
+            definitions = resolved;
+        }
+        SagaDefinition definition = resolved.get(sagaType);
+        if (definition == null) {
+            throw new RuntimeException("정의되지 않은 Saga 타입: " + sagaType);
+        }
+        return definition;
+    }
+}
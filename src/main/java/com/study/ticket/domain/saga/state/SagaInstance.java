@@ -0,0 +1,173 @@
+package com.study.ticket.domain.saga.state;
+
+import com.study.ticket.domain.saga.domain.entity.SagaState;
+import com.study.ticket.domain.saga.domain.enums.SagaStatus;
+import com.study.ticket.domain.saga.domain.enums.SagaType;
+
+import java.time.LocalDateTime;
+
+/**
+ * Saga 상태 스냅샷
+ * SagaState 엔티티의 불변 사본으로, 상태 캐시에 보관하고 상태 변경 시 새 스냅샷을 만듭니다.
+ * version은 마지막으로 읽거나 기록한 DB 버전이며, 변경을 기록할 때 낙관적 락 조건으로 사용합니다.
+ *
+ * @param id Saga ID (아직 저장되지 않았으면 null)
+ * @param sagaKey Saga 키
+ * @param sagaType Saga 타입
+ * @param aggregateId 집계 ID
+ * @param currentStep 현재 단계 (완료된 단계 수)
+ * @param totalSteps 전체 단계 수
+ * @param status 상태
+ * @param errorMessage 오류 메시지 (보상/실패 사유)
+ * @param timeoutAt 현재 단계 제한 시간
+ * @param completedAt 완료 시간
+ * @param createdAt 생성 시간
+ * @param version 버전
+ */
+public record SagaInstance(
+        Long id,
+        String sagaKey,
+        SagaType sagaType,
+        String aggregateId,
+        int currentStep,
+        int totalSteps,
+        SagaStatus status,
+        String errorMessage,
+        LocalDateTime timeoutAt,
+        LocalDateTime completedAt,
+        LocalDateTime createdAt,
+        Long version
+) {
+
+    /**
+     * Saga 키를 생성합니다. (Saga 타입:집계 ID)
+     * @param sagaType Saga 타입
+     * @param aggregateId 집계 ID
+     * @return Saga 키
+     */
+    public static String key(SagaType sagaType, String aggregateId) {
+        return sagaType.name() + ':' + aggregateId;
+    }
+
+    /**
+     * 새 Saga를 생성합니다.
+     * @param sagaType Saga 타입
+     * @param aggregateId 집계 ID
+     * @param totalSteps 전체 단계 수
+     * @return 저장 전 Saga
+     */
+    public static SagaInstance create(SagaType sagaType, String aggregateId, int totalSteps) {
+        return new SagaInstance(null, key(sagaType, aggregateId), sagaType, aggregateId, 0, totalSteps,
+                SagaStatus.STARTED, null, null, null, LocalDateTime.now(), null);
+    }
+
+    /**
+     * 엔티티로부터 스냅샷을 생성합니다.
+     * @param sagaState Saga 상태 엔티티
+     * @return 스냅샷
+     */
+    public static SagaInstance from(SagaState sagaState) {
+        return new SagaInstance(sagaState.getId(), sagaState.getSagaKey(), sagaState.getSagaType(), sagaState.getAggregateId(),
+                sagaState.getCurrentStep(), sagaState.getTotalSteps(), sagaState.getStatus(), sagaState.getErrorMessage(),
+                sagaState.getTimeoutAt(), sagaState.getCompletedAt(), sagaState.getCreatedAt(), sagaState.getVersion());
+    }
+
+    /**
+     * 저장할 엔티티를 생성합니다.
+     * @return Saga 상태 엔티티
+     */
+    public SagaState toEntity() {
+        return SagaState.builder()
+                .sagaKey(sagaKey)
+                .sagaType(sagaType)
+                .aggregateId(aggregateId)
+                .currentStep(currentStep)
+                .totalSteps(totalSteps)
+                .status(status)
+                .errorMessage(errorMessage)
+                .timeoutAt(timeoutAt)
+                .completedAt(completedAt)
+                .build();
+    }
+
+    /**
+     * 현재 단계를 완료하고 다음 단계로 진행합니다.
+     * 마지막 단계였다면 완료 상태가 됩니다.
+     * @param nextTimeoutAt 다음 단계 제한 시간
+     * @return 변경된 스냅샷
+     */
+    public SagaInstance nextStep(LocalDateTime nextTimeoutAt) {
+        int nextStep = currentStep + 1;
+        if (nextStep >= totalSteps) {
+            return new SagaInstance(id, sagaKey, sagaType, aggregateId, nextStep, totalSteps, SagaStatus.COMPLETED,
+                    errorMessage, null, LocalDateTime.now(), createdAt, version);
+        }
+        return new SagaInstance(id, sagaKey, sagaType, aggregateId, nextStep, totalSteps, SagaStatus.IN_PROGRESS,
+                errorMessage, nextTimeoutAt, completedAt, createdAt, version);
+    }
+
+    /**
+     * 보상을 시작합니다.
+     * @param reason 보상 사유
+     * @return 변경된 스냅샷
+     */
+    public SagaInstance startCompensation(String reason) {
+        return new SagaInstance(id, sagaKey, sagaType, aggregateId, currentStep, totalSteps, SagaStatus.COMPENSATING,
+                reason, null, completedAt, createdAt, version);
+    }
+
+    /**
+     * 보상을 완료합니다.
+     * @return 변경된 스냅샷
+     */
+    public SagaInstance completeCompensation() {
+        return new SagaInstance(id, sagaKey, sagaType, aggregateId, currentStep, totalSteps, SagaStatus.COMPENSATED,
+                errorMessage, null, LocalDateTime.now(), createdAt, version);
+    }
+
+    /**
+     * 실패 상태로 변경합니다. 보상까지 실패해 수동 처리가 필요한 경우입니다.
+     * @param errorMessage 오류 메시지
+     * @return 변경된 스냅샷
+     */
+    public SagaInstance fail(String errorMessage) {
+        return new SagaInstance(id, sagaKey, sagaType, aggregateId, currentStep, totalSteps, SagaStatus.FAILED,
+                errorMessage, null, LocalDateTime.now(), createdAt, version);
+    }
+
+    /**
+     * 저장된 뒤의 스냅샷을 생성합니다.
+     * @param savedId 저장된 ID
+     * @param savedVersion 저장된 버전
+     * @return 변경된 스냅샷
+     */
+    public SagaInstance saved(Long savedId, Long savedVersion) {
+        return new SagaInstance(savedId, sagaKey, sagaType, aggregateId, currentStep, totalSteps, status,
+                errorMessage, timeoutAt, completedAt, createdAt, savedVersion);
+    }
+
+    /**
+     * 더 이상 진행하지 않는 상태(완료, 보상 완료, 실패)인지 확인합니다.
+     * @return 종료 여부
+     */
+    public boolean isFinished() {
+        return status == SagaStatus.COMPLETED || status == SagaStatus.COMPENSATED || status == SagaStatus.FAILED;
+    }
+
+    /**
+     * 진행 중(시작, 진행 중)인지 확인합니다.
+     * @return 진행 중 여부
+     */
+    public boolean isActive() {
+        return status == SagaStatus.STARTED || status == SagaStatus.IN_PROGRESS;
+    }
+
+    /**
+     * 현재 단계의 제한 시간이 지났는지 확인합니다.
+     * @param now 기준 시간
+     * @return 시간 초과 여부
+     */
+    public boolean isTimedOut(LocalDateTime now) {
+        return isActive() && timeoutAt != null && !timeoutAt.isAfter(now);
+    }
+}
@@ -0,0 +1,276 @@
+package com.study.ticket.domain.saga.state;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.study.ticket.domain.saga.domain.entity.SagaState;
+import com.study.ticket.domain.saga.domain.repository.SagaStateRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Saga 상태 저장소
+ * 진행 중인 Saga 상태를 메모리에 캐시하고, 상태 변경은 트랜잭션 단위로 모아 커밋 직전에 한 번에 기록합니다.
+ * - 조회: 현재 트랜잭션에서 변경한 상태 → 캐시 → DB 순으로 찾으므로 단계마다 SAGA_STATES를 다시 읽지 않습니다.
+ * - 생성: 엔티티로 저장 (pooled-lo 시퀀스 ID로 JDBC 배치 INSERT)
+ * - 변경: 캐시된 버전을 조건으로 한 번의 JDBC 배치 UPDATE (VERSION = VERSION + 1 WHERE VERSION = ?)
+ *   다른 노드/스레드가 먼저 변경해 갱신된 행이 없으면 낙관적 락 예외로 트랜잭션을 롤백하고 캐시에서 제거하므로,
+ *   재시도 시 DB에서 최신 상태를 다시 읽습니다.
+ *   드라이버가 배치를 재작성해 행별 결과 대신 SUCCESS_NO_INFO를 반환하면 해당 행의 버전을 다시 읽어 확인합니다.
+ *
+ * 캐시는 최대 개수와 마지막 접근 후 만료 시간으로 크기를 제한하고, 종료된 Saga는 커밋 후 바로 제거합니다.
+ * 캐시에서 밀려난 Saga는 다음 단계에서 DB로 한 번 다시 읽을 뿐이므로 노드당 진행 중 Saga 수와 무관하게 메모리가 일정합니다.
+ * 캐시 크기와 적중률은 cache.size, cache.gets{cache=saga.state} 메트릭으로 확인할 수 있습니다.
+ */
+@Component
+@Slf4j
+public class SagaStateStore {
+
+    private static final String UPDATE_SQL = "UPDATE SAGA_STATES SET CURRENT_STEP = ?, STATUS = ?, ERROR_MESSAGE = ?, TIMEOUT_AT = ?, "
+            + "COMPLETED_AT = ?, UPDATED_AT = ?, VERSION = VERSION + 1 WHERE SAGA_ID = ? AND VERSION = ?";
+    private static final String VERIFY_SQL = "SELECT SAGA_ID, VERSION FROM SAGA_STATES WHERE UPDATED_AT = ? AND SAGA_ID IN (%s)";
+
+    private final SagaStateRepository sagaStateRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final Cache<String, SagaInstance> cache;
+
+    public SagaStateStore(
+            SagaStateRepository sagaStateRepository,
+            JdbcTemplate jdbcTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${saga.cache.maximum-size:100000}") long maximumSize,
+            @Value("${saga.cache.expire-after-access:1800000}") long expireAfterAccessMillis
+    ) {
+        this.sagaStateRepository = sagaStateRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(Duration.ofMillis(expireAfterAccessMillis))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "saga.state");
+    }
+
+    /**
+     * Saga 상태를 조회합니다.
+     * 현재 트랜잭션에서 변경한 상태가 있으면 그 상태를, 없으면 캐시를, 캐시에도 없으면 DB를 조회합니다.
+     * @param sagaKey Saga 키
+     * @return Saga 상태 (Optional)
+     */
+    public Optional<SagaInstance> find(String sagaKey) {
+        PendingWrites pendingWrites = currentPendingWrites();
+        if (pendingWrites != null && pendingWrites.instances.containsKey(sagaKey)) {
+            return Optional.of(pendingWrites.instances.get(sagaKey));
+        }
+
+        SagaInstance cached = cache.getIfPresent(sagaKey);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        Optional<SagaInstance> loaded = sagaStateRepository.findBySagaKey(sagaKey).map(SagaInstance::from);
+        loaded.filter(instance -> !instance.isFinished()).ifPresent(this::cacheLoaded);
+        return loaded;
+    }
+
+    /**
+     * 현재 단계의 제한 시간이 지난 진행 중 Saga를 제한 시간 순으로 조회하고 캐시에 반영합니다.
+     * @param now 기준 시간
+     * @param limit 최대 조회 건수
+     * @return Saga 상태 목록
+     */
+    public List<SagaInstance> findTimedOut(LocalDateTime now, int limit) {
+        List<SagaInstance> instances = sagaStateRepository.findTimedOutSagas(now, PageRequest.of(0, limit)).stream()
+                .map(SagaInstance::from)
+                .toList();
+        instances.forEach(this::cacheLoaded);
+        return instances;
+    }
+
+    /**
+     * Saga 상태 변경을 현재 트랜잭션에 기록합니다.
+     * 같은 트랜잭션에서 같은 Saga를 여러 번 변경하면 마지막 상태만 커밋 직전에 한 번 기록합니다.
+     * @param instance 변경된 Saga 상태
+     */
+    public void save(SagaInstance instance) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Saga 상태는 트랜잭션 안에서 변경해야 합니다: " + instance.sagaKey());
+        }
+        PendingWrites pendingWrites = currentPendingWrites();
+        if (pendingWrites == null) {
+            pendingWrites = new PendingWrites();
+            TransactionSynchronizationManager.registerSynchronization(pendingWrites);
+        }
+        pendingWrites.instances.put(instance.sagaKey(), instance);
+    }
+
+    /**
+     * 현재 트랜잭션에 등록된 변경 목록을 찾습니다.
+     * 리소스 바인딩 대신 동기화 목록에서 찾으므로 REQUIRES_NEW로 트랜잭션이 중첩되어도 트랜잭션별로 분리됩니다.
+     */
+    private PendingWrites currentPendingWrites() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof PendingWrites pendingWrites) {
+                return pendingWrites;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * DB에서 읽은 상태를 캐시에 반영합니다. 이미 더 최신 버전이 캐시되어 있으면 유지합니다.
+     */
+    private void cacheLoaded(SagaInstance loaded) {
+        cache.asMap().merge(loaded.sagaKey(), loaded,
+                (cached, candidate) -> cached.version() != null && cached.version() >= candidate.version() ? cached : candidate);
+    }
+
+    /**
+     * 변경 목록을 기록합니다.
+     * 새 Saga는 엔티티로 저장하고, 기존 Saga는 버전 조건 UPDATE를 한 번의 JDBC 배치로 실행합니다.
+     * @return 기록된 상태 목록 (ID, 버전 반영)
+     */
+    private List<SagaInstance> flush(Map<String, SagaInstance> instances) {
+        List<SagaInstance> written = new ArrayList<>(instances.size());
+        List<SagaInstance> inserts = new ArrayList<>();
+        List<SagaInstance> updates = new ArrayList<>();
+        for (SagaInstance instance : instances.values()) {
+            if (instance.id() == null) {
+                inserts.add(instance);
+            } else {
+                updates.add(instance);
+            }
+        }
+
+        if (!inserts.isEmpty()) {
+            // ID와 버전은 persist 시 할당되고, INSERT는 커밋 시 플러시에서 배치로 실행
+            List<SagaState> entities = sagaStateRepository.saveAll(inserts.stream().map(SagaInstance::toEntity).toList());
+            for (int i = 0; i < entities.size(); i++) {
+                SagaState entity = entities.get(i);
+                written.add(inserts.get(i).saved(entity.getId(), entity.getVersion()));
+            }
+        }
+
+        if (!updates.isEmpty()) {
+            // 재확인 시 DB에 저장된 값과 그대로 비교할 수 있도록 DATETIME(6) 정밀도로 맞춤
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
+            List<Object[]> batchArgs = new ArrayList<>(updates.size());
+            for (SagaInstance instance : updates) {
+                batchArgs.add(new Object[]{
+                        instance.currentStep(),
+                        instance.status().name(),
+                        instance.errorMessage(),
+                        toTimestamp(instance.timeoutAt()),
+                        toTimestamp(instance.completedAt()),
+                        now,
+                        instance.id(),
+                        instance.version()
+                });
+            }
+            int[] counts = jdbcTemplate.batchUpdate(UPDATE_SQL, batchArgs);
+            List<SagaInstance> unverified = new ArrayList<>();
+            for (int i = 0; i < counts.length; i++) {
+                SagaInstance instance = updates.get(i);
+                if (counts[i] == 0) {
+                    throw new ObjectOptimisticLockingFailureException(SagaState.class, instance.id());
+                }
+                // 드라이버가 배치를 재작성하면 행별 결과 대신 SUCCESS_NO_INFO(-2)를 반환하므로 갱신 여부를 알 수 없음
+                if (counts[i] == Statement.SUCCESS_NO_INFO) {
+                    unverified.add(instance);
+                }
+                written.add(instance.saved(instance.id(), instance.version() + 1));
+            }
+            if (!unverified.isEmpty()) {
+                verifyUpdated(unverified, now);
+            }
+        }
+
+        log.debug("Saga 상태 기록: 생성 {} 개, 변경 {} 개", inserts.size(), updates.size());
+        return written;
+    }
+
+    /**
+     * 갱신 결과를 알 수 없는 행을 다시 읽어 이번 UPDATE로 버전이 증가했는지 확인합니다.
+     * 같은 트랜잭션 안이므로 자신이 변경한 행을 읽으며, 다른 트랜잭션이 먼저 같은 버전으로 올린 경우와 구분하기 위해
+     * 이번에 기록한 수정 시간도 함께 비교합니다.
+     * @param instances 확인할 Saga 상태 (UPDATE 전 버전)
+     * @param updatedAt 이번 UPDATE의 수정 시간
+     * @throws ObjectOptimisticLockingFailureException 버전이 증가하지 않은 행이 있는 경우
+     */
+    private void verifyUpdated(List<SagaInstance> instances, Timestamp updatedAt) {
+        List<Object> args = new ArrayList<>(instances.size() + 1);
+        args.add(updatedAt);
+        instances.forEach(instance -> args.add(instance.id()));
+
+        Map<Long, Long> versions = new HashMap<>();
+        jdbcTemplate.query(String.format(VERIFY_SQL, String.join(", ", Collections.nCopies(instances.size(), "?"))),
+                (rs, rowNum) -> Map.entry(rs.getLong("SAGA_ID"), rs.getLong("VERSION")), args.toArray())
+                .forEach(entry -> versions.put(entry.getKey(), entry.getValue()));
+
+        for (SagaInstance instance : instances) {
+            Long version = versions.get(instance.id());
+            if (version == null || version != instance.version() + 1) {
+                throw new ObjectOptimisticLockingFailureException(SagaState.class, instance.id());
+            }
+        }
+    }
+
+    private static Timestamp toTimestamp(LocalDateTime dateTime) {
+        return dateTime != null ? Timestamp.valueOf(dateTime) : null;
+    }
+
+    /**
+     * 트랜잭션별 Saga 상태 변경 목록
+     * 커밋 직전에 한 번에 기록하고, 커밋되면 캐시에 반영하며 롤백되면 캐시에서 제거합니다.
+     */
+    private final class PendingWrites implements TransactionSynchronization {
+
+        private final Map<String, SagaInstance> instances = new LinkedHashMap<>();
+        private List<SagaInstance> written = List.of();
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            if (!instances.isEmpty()) {
+                written = flush(instances);
+            }
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            if (status != STATUS_COMMITTED) {
+                cache.invalidateAll(instances.keySet());
+                return;
+            }
+            for (SagaInstance instance : written) {
+                if (instance.isFinished()) {
+                    cache.invalidate(instance.sagaKey());
+                } else {
+                    cache.put(instance.sagaKey(), instance);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.study.ticket.domain.screening.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.study.ticket.domain.screening.dto.ScreeningCondDto;
+import com.study.ticket.domain.screening.dto.ScreeningDetailDto;
+import com.study.ticket.domain.screening.dto.ScreeningListDto;
+import com.study.ticket.domain.screening.seat.SeatMapEngine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.OptionalInt;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 상영 조회 캐시
+ * 상영 상세와 상영 목록 페이지를 메모리에 두고 조회 쿼리(목록은 count + 페이지 쿼리)를 생략합니다.
+ * 캐시는 상영 생성/수정 이벤트로 무효화되며, 자주 바뀌는 가용 좌석 수는 조회할 때마다 좌석 맵 엔진의 값으로 덮어씁니다.
+ *
+ * 캐시에 없는 항목은 Caffeine의 계산 함수(get(key, loader)) 밖에서 불러옵니다.
+ * 계산 함수 안의 JPA 조회는 캐시 내부 잠금을 잡은 채 블로킹되어 가상 스레드를 캐리어 스레드에 고정시키기 때문입니다.
+ * 같은 항목을 여러 스레드가 동시에 불러올 수 있지만 먼저 저장된 값을 사용합니다.
+ */
+@Component
+@Slf4j
+public class ScreeningQueryCache {
+
+    private final SeatMapEngine seatMapEngine;
+    private final Cache<Long, ScreeningDetailDto> detailCache;
+    private final Cache<ListKey, Page<ScreeningListDto>> listCache;
+
+    /**
+     * 무효화 횟수
+     * 불러오는 중에 무효화된 항목을 저장하지 않기 위해 사용합니다.
+     */
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    public ScreeningQueryCache(
+            SeatMapEngine seatMapEngine,
+            @Value("${screening.cache.detail.maximum-size:10000}") long detailMaximumSize,
+            @Value("${screening.cache.list.maximum-size:1000}") long listMaximumSize,
+            @Value("${screening.cache.ttl:60000}") long ttlMillis
+    ) {
+        this.seatMapEngine = seatMapEngine;
+        this.detailCache = Caffeine.newBuilder()
+                .maximumSize(detailMaximumSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMillis))
+                .build();
+        this.listCache = Caffeine.newBuilder()
+                .maximumSize(listMaximumSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMillis))
+                .build();
+    }
+
+    /**
+     * 상영 상세를 캐시에서 조회하고, 없으면 불러와 캐시에 저장합니다.
+     * @param screeningId 상영 ID
+     * @param loader 상영 상세 조회 함수
+     * @return 가용 좌석 수가 최신 값으로 반영된 상영 상세
+     */
+    public ScreeningDetailDto getDetail(Long screeningId, Function<Long, ScreeningDetailDto> loader) {
+        ScreeningDetailDto cached = getOrLoad(detailCache, screeningId, () -> loader.apply(screeningId));
+        OptionalInt availableSeats = seatMapEngine.findAvailableSeats(screeningId);
+        if (availableSeats.isEmpty()) {
+            return cached;
+        }
+        return new ScreeningDetailDto(cached.getId(), cached.getMovieId(), cached.getMovieTitle(), cached.getScreenName(),
+                cached.getStartTime(), cached.getEndTime(), cached.getTotalSeats(), availableSeats.getAsInt(), cached.getPrice());
+    }
+
+    /**
+     * 상영 목록 페이지를 캐시에서 조회하고, 없으면 불러와 캐시에 저장합니다.
+     * @param screeningCondDto 조회 조건
+     * @param pageable 페이지 정보
+     * @param loader 상영 목록 조회 함수
+     * @return 가용 좌석 수가 최신 값으로 반영된 상영 목록 페이지
+     */
+    public Page<ScreeningListDto> getList(ScreeningCondDto screeningCondDto, Pageable pageable, Supplier<Page<ScreeningListDto>> loader) {
+        ListKey key = new ListKey(
+                screeningCondDto.getMovieId(),
+                screeningCondDto.getDate(),
+                pageable.isPaged() ? pageable.getPageNumber() : -1,
+                pageable.isPaged() ? pageable.getPageSize() : -1,
+                pageable.getSort().toString()
+        );
+        Page<ScreeningListDto> cached = getOrLoad(listCache, key, loader);
+        return new PageImpl<>(cached.getContent().stream().map(this::withLiveAvailableSeats).toList(),
+                cached.getPageable(), cached.getTotalElements());
+    }
+
+    /**
+     * 상영 상세 캐시와 목록 캐시 전체를 무효화합니다.
+     * 상영 시간이나 영화가 바뀌면 어느 목록 페이지에 속하는지도 바뀌므로 목록은 모두 무효화합니다.
+     * @param screeningId 상영 ID
+     */
+    public void evict(Long screeningId) {
+        evictionCount.incrementAndGet();
+        if (screeningId != null) {
+            detailCache.invalidate(screeningId);
+        }
+        listCache.invalidateAll();
+        log.debug("상영 조회 캐시 무효화: 상영 ID {}", screeningId);
+    }
+
+    /**
+     * 캐시에서 조회하고, 없으면 계산 함수 밖에서 불러와 저장합니다.
+     * 불러오는 동안 무효화되었으면 저장한 값을 다시 제거하여 무효화 이전 값이 남지 않게 합니다.
+     * @param cache 캐시
+     * @param key 캐시 키
+     * @param loader 조회 함수
+     * @return 캐시된 값 또는 불러온 값
+     */
+    private <K, V> V getOrLoad(Cache<K, V> cache, K key, Supplier<V> loader) {
+        V cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        long generation = evictionCount.get();
+        V loaded = loader.get();
+        V previous = cache.asMap().putIfAbsent(key, loaded);
+        if (previous != null) {
+            return previous;
+        }
+        if (evictionCount.get() != generation) {
+            cache.asMap().remove(key, loaded);
+        }
+        return loaded;
+    }
+
+    private ScreeningListDto withLiveAvailableSeats(ScreeningListDto dto) {
+        OptionalInt availableSeats = seatMapEngine.findAvailableSeats(dto.getId());
+        if (availableSeats.isEmpty()) {
+            return dto;
+        }
+        return new ScreeningListDto(dto.getId(), dto.getMovieId(), dto.getMovieTitle(), dto.getScreenName(),
+                dto.getStartTime(), dto.getEndTime(), dto.getTotalSeats(), availableSeats.getAsInt(), dto.getPrice());
+    }
+
+    /**
+     * 상영 목록 캐시 키 (조회 조건 + 페이지)
+     */
+    private record ListKey(Long movieId, LocalDate date, int page, int size, String sort) {
+    }
+}
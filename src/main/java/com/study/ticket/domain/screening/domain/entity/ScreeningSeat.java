@@ -0,0 +1,41 @@
+package com.study.ticket.domain.screening.domain.entity;
+
+import com.study.ticket.global.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Comment;
+
+/**
+ * 상영 좌석 엔티티
+ * 상영별로 예약된 좌석을 기록합니다.
+ * 주문 트랜잭션에서 좌석 행을 기록하며, 같은 좌석의 중복 예약은 (SCREENING_ID, SEAT_NUMBER) 유니크 인덱스가 막습니다.
+ */
+@Entity
+@Table(name = "SCREENING_SEATS", indexes = {
+    @Index(name = "idx_screening_seats_screening_seat", columnList = "SCREENING_ID, SEAT_NUMBER", unique = true)
+})
+@Builder
+@Getter @Setter
+@AllArgsConstructor @NoArgsConstructor
+public class ScreeningSeat extends BaseEntity {
+
+    // JdbcTemplate 배치 INSERT가 ID를 지정하지 않고 저장하므로 자동 증가(IDENTITY) 유지
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "SCREENING_SEAT_ID")
+    @Comment("상영 좌석 ID")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "SCREENING_ID", nullable = false)
+    @Comment("상영 ID (FK)")
+    private Screening screening;
+
+    @Column(name = "SEAT_NUMBER", nullable = false)
+    @Comment("좌석 번호")
+    private String seatNumber;
+
+    @Column(name = "ORDER_ID", nullable = false)
+    @Comment("주문 ID")
+    private Long orderId;
+}
@@ -0,0 +1,22 @@
+package com.study.ticket.domain.screening.domain.repository;
+
+import com.study.ticket.domain.screening.domain.entity.ScreeningSeat;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+/**
+ * 상영 좌석 리포지토리 인터페이스
+ */
+public interface ScreeningSeatRepository extends JpaRepository<ScreeningSeat, Long> {
+
+    /**
+     * 상영의 예약된 좌석 번호를 조회합니다.
+     * @param screeningId 상영 ID
+     * @return 좌석 번호 목록
+     */
+    @Query("SELECT s.seatNumber FROM ScreeningSeat s WHERE s.screening.id = :screeningId")
+    List<String> findSeatNumbersByScreeningId(@Param("screeningId") Long screeningId);
+}
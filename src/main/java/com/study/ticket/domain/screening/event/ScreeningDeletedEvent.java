@@ -0,0 +1,48 @@
+package com.study.ticket.domain.screening.event;
+
+import com.study.ticket.domain.screening.domain.entity.Screening;
+import com.study.ticket.global.event.BaseEvent;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상영 삭제 이벤트
+ */
+@Getter
+@NoArgsConstructor
+public class ScreeningDeletedEvent extends BaseEvent {
+
+    private static final String EVENT_TYPE = "SCREENING_DELETED";
+    private static final String AGGREGATE_TYPE = "SCREENING";
+
+    /**
+     * 상영 ID
+     */
+    private Long screeningId;
+
+    /**
+     * 영화 ID
+     */
+    private Long movieId;
+
+    /**
+     * 삭제 시간
+     */
+    private LocalDateTime deletedAt;
+
+    /**
+     * 상영 삭제 이벤트 생성자
+     * @param screening 상영 엔티티
+     */
+    public ScreeningDeletedEvent(Screening screening) {
+        super(EVENT_TYPE);
+        this.screeningId = screening.getId();
+        this.movieId = screening.getMovie().getId();
+        this.deletedAt = LocalDateTime.now();
+
+        // 이벤트 키 생성
+        setEventKey(generateEventKey(AGGREGATE_TYPE, screening.getId().toString()));
+    }
+}
@@ -0,0 +1,57 @@
+package com.study.ticket.domain.screening.listener;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.ticket.domain.screening.cache.ScreeningQueryCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상영 조회 캐시 무효화 리스너
+ * 상영 생성/수정/삭제 이벤트를 수신하여 상영 조회 캐시를 무효화합니다.
+ * 모든 인스턴스가 각자의 캐시를 무효화해야 하므로 인스턴스마다 다른 컨슈머 그룹(screening.cache.consumer-group)으로 수신합니다.
+ * 그룹 ID는 호스트 이름(파드 이름)처럼 재기동해도 바뀌지 않는 값을 사용하여 기동할 때마다 컨슈머 그룹이 늘어나지 않도록 합니다.
+ * 처음 기동한 인스턴스는 기동 이후의 이벤트만 수신합니다. 무효화는 멱등이므로 처리 이벤트 기록을 남기지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ScreeningCacheInvalidationListener {
+
+    private final ScreeningQueryCache screeningQueryCache;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 상영 이벤트를 수신하여 캐시를 무효화합니다.
+     * @param payload 이벤트 페이로드
+     * @param acknowledgment 확인자
+     */
+    @KafkaListener(
+            topics = "${kafka.topics.screening-events}",
+            groupId = "${screening.cache.consumer-group:screening-cache-${HOSTNAME:local}}",
+            containerFactory = "errorHandlingKafkaListenerContainerFactory",
+            properties = "auto.offset.reset=latest"
+    )
+    public void consumeScreeningEvent(
+            @Payload String payload,
+            Acknowledgment acknowledgment
+    ) {
+        try {
+            JsonNode event = objectMapper.readTree(payload);
+            String eventType = event.path("eventType").asText();
+            if ("SCREENING_CREATED".equals(eventType) || "SCREENING_UPDATED".equals(eventType)
+                    || "SCREENING_DELETED".equals(eventType)) {
+                JsonNode screeningId = event.path("screeningId");
+                screeningQueryCache.evict(screeningId.canConvertToLong() ? screeningId.asLong() : null);
+            }
+        } catch (JsonProcessingException e) {
+            log.error("상영 이벤트 역직렬화 실패: {}", e.getMessage(), e);
+        }
+        acknowledgment.acknowledge();
+    }
+}
@@ -0,0 +1,73 @@
+package com.study.ticket.domain.screening.seat;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 좌석 배치
+ * 좌석 번호(열 문자 + 번호, 예: A1, B12)와 좌석 맵 인덱스를 변환합니다.
+ * 모든 상영관은 열당 좌석 수가 같고, A열부터 순서대로 총 좌석 수만큼 채워진다고 가정합니다.
+ */
+@Component
+public class SeatLayout {
+
+    /**
+     * 열당 좌석 수
+     */
+    @Value("${seat.layout.seats-per-row:10}")
+    private int seatsPerRow;
+
+    /**
+     * 좌석 번호를 좌석 인덱스로 변환합니다.
+     * @param seatNumber 좌석 번호
+     * @param totalSeats 총 좌석 수
+     * @return 좌석 인덱스
+     */
+    public int toIndex(String seatNumber, int totalSeats) {
+        int split = 0;
+        while (split < seatNumber.length() && Character.isLetter(seatNumber.charAt(split))) {
+            split++;
+        }
+        if (split == 0 || split == seatNumber.length()) {
+            throw new RuntimeException("잘못된 좌석 번호: " + seatNumber);
+        }
+
+        int row = 0;
+        for (int i = 0; i < split; i++) {
+            char c = Character.toUpperCase(seatNumber.charAt(i));
+            if (c < 'A' || c > 'Z') {
+                throw new RuntimeException("잘못된 좌석 번호: " + seatNumber);
+            }
+            row = row * 26 + (c - 'A' + 1);
+        }
+
+        int column;
+        try {
+            column = Integer.parseInt(seatNumber.substring(split));
+        } catch (NumberFormatException e) {
+            throw new RuntimeException("잘못된 좌석 번호: " + seatNumber);
+        }
+
+        long index = (long) (row - 1) * seatsPerRow + (column - 1);
+        if (column < 1 || column > seatsPerRow || index >= totalSeats) {
+            throw new RuntimeException("존재하지 않는 좌석: " + seatNumber);
+        }
+        return (int) index;
+    }
+
+    /**
+     * 좌석 인덱스를 좌석 번호로 변환합니다.
+     * @param seatIndex 좌석 인덱스
+     * @return 좌석 번호
+     */
+    public String toSeatNumber(int seatIndex) {
+        int row = seatIndex / seatsPerRow + 1;
+        StringBuilder rowLabel = new StringBuilder();
+        while (row > 0) {
+            row--;
+            rowLabel.insert(0, (char) ('A' + row % 26));
+            row /= 26;
+        }
+        return rowLabel.toString() + (seatIndex % seatsPerRow + 1);
+    }
+}
@@ -0,0 +1,101 @@
+package com.study.ticket.domain.screening.seat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 상영 좌석 맵
+ * 좌석별 점유 여부를 비트로 표현하고 CAS로 선점/해제합니다.
+ * 락 없이 여러 스레드가 동시에 좌석을 선점해도 같은 좌석이 두 번 선점되지 않습니다.
+ */
+public class SeatMap {
+
+    private final AtomicLongArray bits;
+    private final int totalSeats;
+    private final AtomicInteger reservedCount = new AtomicInteger();
+
+    public SeatMap(int totalSeats) {
+        this.totalSeats = totalSeats;
+        this.bits = new AtomicLongArray((totalSeats + 63) >>> 6);
+    }
+
+    /**
+     * 좌석을 모두 선점합니다.
+     * 하나라도 이미 선점된 좌석이 있으면 이번에 선점한 좌석을 되돌리고 실패합니다.
+     * @param seatIndexes 오름차순으로 정렬된 좌석 인덱스
+     * @return 선점 성공 여부
+     */
+    public boolean claim(int[] seatIndexes) {
+        for (int i = 0; i < seatIndexes.length; i++) {
+            if (!trySet(seatIndexes[i])) {
+                for (int j = 0; j < i; j++) {
+                    clear(seatIndexes[j]);
+                }
+                return false;
+            }
+        }
+        reservedCount.addAndGet(seatIndexes.length);
+        return true;
+    }
+
+    /**
+     * 좌석을 해제합니다.
+     * @param seatIndexes 좌석 인덱스
+     */
+    public void release(int[] seatIndexes) {
+        int releasedCount = 0;
+        for (int seatIndex : seatIndexes) {
+            if (clear(seatIndex)) {
+                releasedCount++;
+            }
+        }
+        reservedCount.addAndGet(-releasedCount);
+    }
+
+    /**
+     * 좌석이 선점되었는지 확인합니다.
+     * @param seatIndex 좌석 인덱스
+     * @return 선점 여부
+     */
+    public boolean isReserved(int seatIndex) {
+        return (bits.get(seatIndex >>> 6) & (1L << seatIndex)) != 0;
+    }
+
+    /**
+     * 예약 가능한 좌석 수를 반환합니다.
+     * @return 예약 가능한 좌석 수
+     */
+    public int getAvailableSeats() {
+        return totalSeats - reservedCount.get();
+    }
+
+    public int getTotalSeats() {
+        return totalSeats;
+    }
+
+    private boolean trySet(int seatIndex) {
+        int word = seatIndex >>> 6;
+        long mask = 1L << seatIndex;
+        long value;
+        do {
+            value = bits.get(word);
+            if ((value & mask) != 0) {
+                return false;
+            }
+        } while (!bits.compareAndSet(word, value, value | mask));
+        return true;
+    }
+
+    private boolean clear(int seatIndex) {
+        int word = seatIndex >>> 6;
+        long mask = 1L << seatIndex;
+        long value;
+        do {
+            value = bits.get(word);
+            if ((value & mask) == 0) {
+                return false;
+            }
+        } while (!bits.compareAndSet(word, value, value & ~mask));
+        return true;
+    }
+}
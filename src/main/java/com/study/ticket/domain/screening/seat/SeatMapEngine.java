@@ -0,0 +1,335 @@
+package com.study.ticket.domain.screening.seat;
+
+import com.study.ticket.domain.screening.domain.entity.Screening;
+import com.study.ticket.domain.screening.domain.repository.ScreeningSeatRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 좌석 맵 엔진
+ * 상영별 좌석 맵을 메모리에 두고, 이미 선점된 좌석을 요청하면 DB에 접근하기 전에 빠르게 거절합니다.
+ * 좌석 점유의 최종 판단은 SCREENING_SEATS의 (SCREENING_ID, SEAT_NUMBER) 유니크 인덱스가 합니다.
+ * - 예약: 주문 트랜잭션 안에서 좌석 행을 INSERT하고, 다른 주문(다른 인스턴스 포함)이 먼저 예약한 좌석이면 유니크 키 위반으로 실패합니다.
+ * - 해제: 주문 취소 트랜잭션 안에서 좌석 행을 DELETE합니다.
+ * - 잔여 좌석 수: 좌석이 변경된 상영만 모아 스케줄러가 좌석 행 수로 다시 계산하므로 인스턴스마다 다른 메모리 값으로 덮어쓰지 않습니다.
+ *
+ * 좌석 맵은 인스턴스마다 따로 불러오므로 다른 인스턴스의 예약/해제가 바로 반영되지 않습니다.
+ * 다른 인스턴스가 먼저 예약한 좌석은 INSERT 실패 시 좌석 맵을 버리고 다시 불러오며,
+ * 다른 인스턴스가 해제한 좌석은 선점에 실패했을 때 좌석 맵을 불러온 지 갱신 주기가 지났으면 다시 불러와 한 번 더 확인합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SeatMapEngine {
+
+    private static final String INSERT_SEAT_SQL =
+            "INSERT INTO SCREENING_SEATS (SCREENING_ID, SEAT_NUMBER, ORDER_ID, CREATED_AT, UPDATED_AT) VALUES (?, ?, ?, ?, ?)";
+
+    private static final String DELETE_SEAT_SQL =
+            "DELETE FROM SCREENING_SEATS WHERE SCREENING_ID = ? AND SEAT_NUMBER = ? AND ORDER_ID = ?";
+
+    private static final String UPDATE_AVAILABLE_SEATS_SQL =
+            "UPDATE SCREENINGS SET AVAILABLE_SEATS = TOTAL_SEATS - "
+                    + "(SELECT COUNT(*) FROM SCREENING_SEATS WHERE SCREENING_SEATS.SCREENING_ID = ?), UPDATED_AT = ? "
+                    + "WHERE SCREENING_ID = ?";
+
+    private final ScreeningSeatRepository screeningSeatRepository;
+    private final SeatLayout seatLayout;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 선점 실패 시 좌석 맵을 다시 불러오기 위한 최소 경과 시간 (ms)
+     */
+    @Value("${seat.map.refresh-interval:5000}")
+    private long refreshIntervalMillis;
+
+    private final ConcurrentHashMap<Long, LoadedSeatMap> seatMaps = new ConcurrentHashMap<>();
+
+    /**
+     * 잔여 좌석 수를 다시 계산할 상영 ID
+     */
+    private final Set<Long> changedScreeningIds = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 반영 작업 잠금
+     * JDBC 호출 중 가상 스레드가 캐리어 스레드에 고정되지 않도록 synchronized 대신 사용합니다.
+     */
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    /**
+     * 좌석 맵에서 좌석을 선점합니다.
+     * 좌석 행은 주문 저장 후 {@link #confirm(SeatReservation, Long)}에서 기록하며,
+     * 트랜잭션이 롤백되거나 주문에 연결되지 않은 채 끝나면 선점한 좌석을 자동으로 해제합니다.
+     * @param screening 상영
+     * @param seatNumbers 좌석 번호 목록
+     * @return 좌석 선점 결과
+     */
+    public SeatReservation reserve(Screening screening, List<String> seatNumbers) {
+        LoadedSeatMap loaded = getSeatMap(screening);
+        int[] seatIndexes = toSeatIndexes(seatNumbers, screening.getTotalSeats());
+
+        SeatMap seatMap = loaded.seatMap();
+        if (!seatMap.claim(seatIndexes)) {
+            // 다른 인스턴스가 해제한 좌석일 수 있으므로 오래된 좌석 맵이면 다시 불러와 한 번 더 확인
+            LoadedSeatMap reloaded = reloadIfStale(screening, loaded);
+            if (reloaded == null || !reloaded.seatMap().claim(seatIndexes)) {
+                throw new RuntimeException("좌석 예약 불가: 이미 예약된 좌석 포함 " + seatNumbers);
+            }
+            seatMap = reloaded.seatMap();
+        }
+
+        SeatReservation reservation = new SeatReservation(screening.getId(), List.copyOf(seatNumbers), seatIndexes);
+        SeatMap claimedSeatMap = seatMap;
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_COMMITTED && reservation.getOrderId() != null) {
+                        changedScreeningIds.add(reservation.getScreeningId());
+                    } else {
+                        claimedSeatMap.release(seatIndexes);
+                    }
+                }
+            });
+        } else {
+            log.warn("트랜잭션 밖에서 좌석 선점: 상영 ID {}, 좌석 {}", screening.getId(), seatNumbers);
+        }
+        return reservation;
+    }
+
+    /**
+     * 선점한 좌석을 주문에 연결하고 좌석 행을 기록합니다.
+     * 다른 주문이 먼저 기록한 좌석이 있으면 유니크 키 위반을 좌석 예약 실패로 바꿔 던지므로 주문 트랜잭션이 롤백됩니다.
+     * @param reservation 좌석 선점 결과
+     * @param orderId 주문 ID
+     */
+    public void confirm(SeatReservation reservation, Long orderId) {
+        reservation.assignOrder(orderId);
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> args = new ArrayList<>(reservation.getSeatNumbers().size());
+        for (String seatNumber : reservation.getSeatNumbers()) {
+            args.add(new Object[]{reservation.getScreeningId(), seatNumber, orderId, now, now});
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SEAT_SQL, args);
+        } catch (DataIntegrityViolationException e) {
+            // 이 인스턴스의 좌석 맵이 다른 인스턴스의 예약을 모르는 상태이므로 다음 요청에서 다시 불러옴
+            seatMaps.remove(reservation.getScreeningId());
+            log.info("좌석 예약 충돌: 상영 ID {}, 좌석 {}, 주문 ID {}",
+                    reservation.getScreeningId(), reservation.getSeatNumbers(), orderId);
+            throw new RuntimeException("좌석 예약 불가: 이미 예약된 좌석 포함 " + reservation.getSeatNumbers());
+        }
+    }
+
+    /**
+     * 주문의 좌석을 해제합니다.
+     * 좌석 행은 호출한 트랜잭션에서 삭제하고, 좌석 맵은 커밋된 뒤에 해제합니다.
+     * @param screening 상영
+     * @param orderId 주문 ID
+     * @param seatNumbers 좌석 번호 목록
+     */
+    public void release(Screening screening, Long orderId, List<String> seatNumbers) {
+        int[] seatIndexes = toSeatIndexes(seatNumbers, screening.getTotalSeats());
+
+        List<Object[]> args = new ArrayList<>(seatNumbers.size());
+        for (String seatNumber : seatNumbers) {
+            args.add(new Object[]{screening.getId(), seatNumber, orderId});
+        }
+        jdbcTemplate.batchUpdate(DELETE_SEAT_SQL, args);
+
+        Runnable releaseSeats = () -> {
+            LoadedSeatMap loaded = seatMaps.get(screening.getId());
+            if (loaded != null) {
+                loaded.seatMap().release(seatIndexes);
+            }
+            changedScreeningIds.add(screening.getId());
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    releaseSeats.run();
+                }
+            });
+        } else {
+            releaseSeats.run();
+        }
+    }
+
+    /**
+     * 상영의 예약 가능한 좌석 수를 반환합니다.
+     * @param screening 상영
+     * @return 예약 가능한 좌석 수
+     */
+    public int getAvailableSeats(Screening screening) {
+        return getSeatMap(screening).seatMap().getAvailableSeats();
+    }
+
+    /**
+     * 이미 불러온 좌석 맵의 예약 가능한 좌석 수를 반환합니다.
+     * 좌석 맵을 불러오지 않은 상영은 이 인스턴스에서 예약이 없었으므로 DB 값을 그대로 사용하도록 빈 값을 반환합니다.
+     * @param screeningId 상영 ID
+     * @return 예약 가능한 좌석 수
+     */
+    public OptionalInt findAvailableSeats(Long screeningId) {
+        LoadedSeatMap loaded = seatMaps.get(screeningId);
+        return loaded != null ? OptionalInt.of(loaded.seatMap().getAvailableSeats()) : OptionalInt.empty();
+    }
+
+    /**
+     * 좌석이 변경된 상영의 잔여 좌석 수를 좌석 행 수로 다시 계산합니다.
+     * 좌석 행은 주문 트랜잭션에서 이미 기록되었으므로, 여러 인스턴스가 같은 상영을 갱신해도 같은 값이 됩니다.
+     */
+    @Scheduled(fixedDelayString = "${seat.write-behind.interval:200}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            flushAvailableSeats();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void flushAvailableSeats() {
+        if (changedScreeningIds.isEmpty()) {
+            return;
+        }
+        List<Long> screeningIds = new ArrayList<>(changedScreeningIds);
+        changedScreeningIds.removeAll(screeningIds);
+
+        try {
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            List<Object[]> args = new ArrayList<>(screeningIds.size());
+            for (Long screeningId : screeningIds) {
+                args.add(new Object[]{screeningId, now, screeningId});
+            }
+            jdbcTemplate.batchUpdate(UPDATE_AVAILABLE_SEATS_SQL, args);
+            log.debug("잔여 좌석 수 갱신 완료: 상영 {} 개", screeningIds.size());
+        } catch (Exception e) {
+            log.error("잔여 좌석 수 갱신 실패, 다음 주기에 재시도: 상영 {} 개, {}", screeningIds.size(), e.getMessage(), e);
+            changedScreeningIds.addAll(screeningIds);
+        }
+    }
+
+    /**
+     * 종료 전에 남은 잔여 좌석 수를 갱신합니다.
+     */
+    @PreDestroy
+    public void flushAll() {
+        flush();
+        if (!changedScreeningIds.isEmpty()) {
+            log.warn("잔여 좌석 수 갱신 중단: 상영 {} 개 미반영", changedScreeningIds.size());
+        }
+    }
+
+    /**
+     * 상영의 좌석 맵을 조회하고, 없으면 DB에서 불러옵니다.
+     * DB 조회는 맵 갱신 함수 밖에서 실행하여, 조회 중 가상 스레드가 캐리어 스레드에 고정되지 않게 합니다.
+     * 여러 스레드가 동시에 불러오면 먼저 등록된 좌석 맵을 사용합니다.
+     * @param screening 상영
+     * @return 좌석 맵
+     */
+    private LoadedSeatMap getSeatMap(Screening screening) {
+        LoadedSeatMap loaded = seatMaps.get(screening.getId());
+        if (loaded != null) {
+            return loaded;
+        }
+        LoadedSeatMap created = load(screening);
+        LoadedSeatMap previous = seatMaps.putIfAbsent(screening.getId(), created);
+        return previous != null ? previous : created;
+    }
+
+    /**
+     * 좌석 맵을 불러온 지 갱신 주기가 지났으면 다시 불러와 교체합니다.
+     * 다른 스레드가 이미 교체했으면 교체된 좌석 맵을 사용합니다.
+     * @param screening 상영
+     * @param loaded 선점에 실패한 좌석 맵
+     * @return 다시 불러온 좌석 맵 (갱신 주기가 지나지 않았으면 null)
+     */
+    private LoadedSeatMap reloadIfStale(Screening screening, LoadedSeatMap loaded) {
+        LoadedSeatMap current = seatMaps.get(screening.getId());
+        if (current != null && current != loaded) {
+            return current;
+        }
+        if (System.nanoTime() - loaded.loadedAtNanos() < TimeUnit.MILLISECONDS.toNanos(refreshIntervalMillis)) {
+            return null;
+        }
+        LoadedSeatMap reloaded = load(screening);
+        if (seatMaps.replace(screening.getId(), loaded, reloaded)) {
+            return reloaded;
+        }
+        LoadedSeatMap replaced = seatMaps.get(screening.getId());
+        return replaced != null ? replaced : reloaded;
+    }
+
+    /**
+     * 좌석 행을 읽어 좌석 맵을 만듭니다.
+     * @param screening 상영
+     * @return 좌석 맵
+     */
+    private LoadedSeatMap load(Screening screening) {
+        SeatMap seatMap = new SeatMap(screening.getTotalSeats());
+        List<String> reservedSeatNumbers = screeningSeatRepository.findSeatNumbersByScreeningId(screening.getId());
+        for (String seatNumber : reservedSeatNumbers) {
+            try {
+                seatMap.claim(new int[]{seatLayout.toIndex(seatNumber, seatMap.getTotalSeats())});
+            } catch (RuntimeException e) {
+                log.warn("좌석 맵 로딩 중 잘못된 좌석 무시: 상영 ID {}, 좌석 {}", screening.getId(), seatNumber);
+            }
+        }
+        log.info("좌석 맵 로딩 완료: 상영 ID {}, 예약 좌석 {} 개", screening.getId(), reservedSeatNumbers.size());
+        return new LoadedSeatMap(seatMap, System.nanoTime());
+    }
+
+    /**
+     * 좌석 번호를 정렬된 좌석 인덱스로 변환합니다.
+     * 여러 요청이 같은 순서로 좌석을 선점하도록 오름차순으로 정렬합니다.
+     * @param seatNumbers 좌석 번호 목록
+     * @param totalSeats 총 좌석 수
+     * @return 좌석 인덱스
+     */
+    private int[] toSeatIndexes(List<String> seatNumbers, int totalSeats) {
+        if (seatNumbers == null || seatNumbers.isEmpty()) {
+            throw new RuntimeException("좌석 예약 불가: 좌석 미선택");
+        }
+        int[] seatIndexes = new int[seatNumbers.size()];
+        for (int i = 0; i < seatIndexes.length; i++) {
+            seatIndexes[i] = seatLayout.toIndex(seatNumbers.get(i), totalSeats);
+        }
+        Arrays.sort(seatIndexes);
+        for (int i = 1; i < seatIndexes.length; i++) {
+            if (seatIndexes[i] == seatIndexes[i - 1]) {
+                throw new RuntimeException("좌석 예약 불가: 중복된 좌석 " + seatLayout.toSeatNumber(seatIndexes[i]));
+            }
+        }
+        return seatIndexes;
+    }
+
+    /**
+     * 불러온 좌석 맵과 불러온 시각
+     */
+    private record LoadedSeatMap(SeatMap seatMap, long loadedAtNanos) {
+    }
+}
@@ -0,0 +1,32 @@
+package com.study.ticket.domain.screening.seat;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 좌석 선점 결과
+ * 선점한 좌석 인덱스와, 주문 저장 후 연결되는 주문 ID를 보관합니다.
+ */
+@Getter
+public class SeatReservation {
+
+    private final Long screeningId;
+    private final List<String> seatNumbers;
+    private final int[] seatIndexes;
+    private volatile Long orderId;
+
+    SeatReservation(Long screeningId, List<String> seatNumbers, int[] seatIndexes) {
+        this.screeningId = screeningId;
+        this.seatNumbers = seatNumbers;
+        this.seatIndexes = seatIndexes;
+    }
+
+    /**
+     * 선점한 좌석을 주문에 연결합니다.
+     * @param orderId 주문 ID
+     */
+    void assignOrder(Long orderId) {
+        this.orderId = orderId;
+    }
+}
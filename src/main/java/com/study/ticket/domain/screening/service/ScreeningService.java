@@ -3,10 +3,12 @@ package com.study.ticket.domain.screening.service;
 import com.study.ticket.domain.movie.domain.entity.Movie;
 import com.study.ticket.domain.movie.domain.repository.MovieRepository;
 import com.study.ticket.domain.outbox.service.OutboxEventService;
+import com.study.ticket.domain.screening.cache.ScreeningQueryCache;
 import com.study.ticket.domain.screening.domain.entity.Screening;
 import com.study.ticket.domain.screening.domain.repository.ScreeningRepository;
 import com.study.ticket.domain.screening.dto.*;
 import com.study.ticket.domain.screening.event.ScreeningCreatedEvent;
+import com.study.ticket.domain.screening.event.ScreeningDeletedEvent;
 import com.study.ticket.domain.screening.event.ScreeningUpdatedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -15,6 +17,8 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -30,6 +34,7 @@ public class ScreeningService {
     private final ScreeningRepository screeningRepository;
     private final MovieRepository movieRepository;
     private final OutboxEventService outboxEventService;
+    private final ScreeningQueryCache screeningQueryCache;
     
     @Value("${kafka.topics.screening-events}")
     private String screeningEventsTopic;
@@ -68,25 +73,28 @@ public class ScreeningService {
     
     /**
      * 상영을 조회합니다.
+     * 상영 조회 캐시를 먼저 확인하고, 가용 좌석 수는 좌석 맵 엔진의 최신 값을 반영합니다.
      * @param screeningId 상영 ID
      * @return 상영
      */
     @Transactional(readOnly = true)
     public ScreeningDetailDto findScreeningDetail(Long screeningId) {
-        return screeningRepository.findScreeningDetail(screeningId)
-                .orElseThrow(() -> new RuntimeException("상영을 찾을 수 없음: " + screeningId));
+        return screeningQueryCache.getDetail(screeningId, id -> screeningRepository.findScreeningDetail(id)
+                .orElseThrow(() -> new RuntimeException("상영을 찾을 수 없음: " + id)));
     }
 
 
     /**
      * 상영 목록을 조회합니다.
+     * 조회 조건과 페이지별로 상영 조회 캐시를 먼저 확인하고, 가용 좌석 수는 좌석 맵 엔진의 최신 값을 반영합니다.
      * @param ScreeningCondDto screeningCondDto
      * @param Pageable pageable
      * @return 상영
      */
     @Transactional(readOnly = true)
     public Page<ScreeningListDto> findScreeningListWithPaging(ScreeningCondDto screeningCondDto, Pageable pageable) {
-        return screeningRepository.findScreeningListWithPaging(screeningCondDto, pageable);
+        return screeningQueryCache.getList(screeningCondDto, pageable,
+                () -> screeningRepository.findScreeningListWithPaging(screeningCondDto, pageable));
     }
 
     
@@ -142,6 +150,23 @@ public class ScreeningService {
         }
 
         screeningRepository.delete(screening);
+
+        // 상영 삭제 이벤트 발행 (다른 인스턴스는 이벤트를 수신하여 캐시 무효화)
+        ScreeningDeletedEvent event = new ScreeningDeletedEvent(screening);
+        outboxEventService.saveEvent(
+                event,
+                "SCREENING",
+                screeningId.toString(),
+                screeningEventsTopic
+        );
+
+        // 이 인스턴스는 이벤트 수신을 기다리지 않고 커밋 후 바로 무효화
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                screeningQueryCache.evict(screeningId);
+            }
+        });
         log.info("상영 삭제 완료: ID={}", screeningId);
     }
 }
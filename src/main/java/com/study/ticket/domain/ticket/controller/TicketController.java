@@ -10,7 +10,6 @@ import com.study.ticket.domain.ticket.service.TicketService;
 import com.study.ticket.global.common.response.ResponseDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
@@ -140,20 +139,26 @@ public class TicketController {
      * 사용자의 티켓 목록을 조회합니다.
      * @param userId 사용자 ID
      * @param pageable 페이지 정보
+     * @param cursor 커서 토큰 (파라미터가 있으면 커서 기반으로 조회, 빈 값이면 첫 페이지)
+     * @param withCount 커서 조회 시 전체 건수 조회 여부
      * @return 티켓 페이지
      */
     @GetMapping("/user/{userId}")
-    public ResponseEntity<ResponseDto<Page<TicketListDto>>> findTicketListWithPaging(
+    public ResponseEntity<ResponseDto<?>> findTicketListWithPaging(
             @PathVariable Long userId,
             @ModelAttribute TicketCondDto ticketCondDto,
-            @PageableDefault(size = 10) Pageable pageable
+            @PageableDefault(size = 10) Pageable pageable,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean withCount
     ) {
         try {
             log.info("사용자별 티켓 목록 조회 요청: {}", userId);
 
-            Page<TicketListDto> tickets = ticketService.findTicketListWithPaging(userId, ticketCondDto, pageable);
+            Object tickets = (cursor != null)
+                ? ticketService.findTicketListWithCursor(userId, ticketCondDto, cursor, pageable.getPageSize(), withCount)
+                : ticketService.findTicketListWithPaging(userId, ticketCondDto, pageable);
 
-            ResponseDto<Page<TicketListDto>> responseDto = ResponseDto.<Page<TicketListDto>>builder()
+            ResponseDto<?> responseDto = ResponseDto.builder()
                 .responseCode(TICKET_LIST_SUCCESS)
                 .responseMessage("사용자별 티켓 목록 조회에 성공했습니다.")
                 .data(tickets)
@@ -163,7 +168,7 @@ public class TicketController {
         } catch (Exception e) {
             log.error("사용자별 티켓 목록 조회 실패: {}", e.getMessage(), e);
 
-            ResponseDto<Page<TicketListDto>> errorResponse = ResponseDto.<Page<TicketListDto>>builder()
+            ResponseDto<?> errorResponse = ResponseDto.builder()
                 .responseCode(TICKET_LIST_FAILED)
                 .responseMessage("사용자별 티켓 목록 조회에 실패했습니다: " + e.getMessage())
                 .build();
@@ -5,6 +5,7 @@ import com.study.ticket.domain.screening.domain.entity.Screening;
 import com.study.ticket.domain.ticket.domain.enums.TicketStatus;
 import com.study.ticket.domain.user.domain.entity.User;
 import com.study.ticket.global.entity.BaseEntity;
+import com.study.ticket.global.id.IdGenerators;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.Comment;
@@ -16,14 +17,19 @@ import java.util.UUID;
  * 영화 티켓 엔티티
  */
 @Entity
-@Table(name = "MOVIE_TICKETS")
+@Table(name = "MOVIE_TICKETS", indexes = {
+    @Index(name = "idx_movie_tickets_user_created_at", columnList = "USER_ID, CREATED_AT, TICKET_ID")
+})
 @Builder
 @Getter @Setter
 @AllArgsConstructor @NoArgsConstructor
 public class MovieTicket extends BaseEntity {
 
+    // IDENTITY는 INSERT마다 생성 키를 받아야 해서 JDBC 배치가 비활성화되므로,
+    // 시퀀스 값을 allocationSize 만큼 미리 할당(pooled-lo)받아 단체 예매 티켓을 배치 INSERT
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "movieTicketIdGenerator")
+    @SequenceGenerator(name = "movieTicketIdGenerator", sequenceName = "MOVIE_TICKETS_SEQ", allocationSize = 50)
     @Column(name = "TICKET_ID")
     @Comment("티켓 ID")
     private Long id;
@@ -77,8 +83,9 @@ public class MovieTicket extends BaseEntity {
      */
     @PrePersist
     public void prePersist() {
+        super.prePersist();
         if (ticketNumber == null) {
-            ticketNumber = UUID.randomUUID().toString();
+            ticketNumber = IdGenerators.nextKey();
         }
         if (status == null) {
             status = TicketStatus.ISSUED;
@@ -93,6 +100,7 @@ public class MovieTicket extends BaseEntity {
 
     /**
      * QR 코드를 생성합니다.
+     * 입장 확인에 쓰이므로 추측할 수 없도록 시간 순서 ID가 아닌 무작위 UUID를 사용합니다.
      * @return 생성된 QR 코드
      */
     private String generateQrCode() {
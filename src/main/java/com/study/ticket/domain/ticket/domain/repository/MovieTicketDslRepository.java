@@ -6,6 +6,8 @@ import com.study.ticket.domain.payment.dto.PaymentDetailDto;
 import com.study.ticket.domain.ticket.dto.TicketCondDto;
 import com.study.ticket.domain.ticket.dto.TicketDetailDto;
 import com.study.ticket.domain.ticket.dto.TicketListDto;
+import com.study.ticket.global.common.cursor.Cursor;
+import com.study.ticket.global.common.cursor.CursorPage;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -15,6 +17,7 @@ import java.util.Optional;
 public interface MovieTicketDslRepository {
 
     Page<TicketListDto> findTicketListWithPaging(Long userId, TicketCondDto ticketCondDto, Pageable pageable);
+    CursorPage<TicketListDto> findTicketListWithCursor(Long userId, TicketCondDto ticketCondDto, Cursor cursor, int size, boolean withCount);
     Optional<TicketDetailDto> findTicketDetailByTicketId(Long id);
     Optional<TicketDetailDto> findTicketDetailByTicketNumber(String ticketNumber);
     List<TicketListDto> findTicketListByOrderId(Long orderId);
@@ -9,6 +9,8 @@ import com.study.ticket.domain.order.dto.QOrderListDto;
 import com.study.ticket.domain.payment.dto.PaymentDetailDto;
 import com.study.ticket.domain.payment.dto.QPaymentDetailDto;
 import com.study.ticket.domain.ticket.dto.*;
+import com.study.ticket.global.common.cursor.Cursor;
+import com.study.ticket.global.common.cursor.CursorPage;
 import com.study.ticket.global.util.QueryUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -50,6 +52,21 @@ public class MovieTicketDslRepositoryImpl implements MovieTicketDslRepository {
 
     }
 
+    @Override
+    public CursorPage<TicketListDto> findTicketListWithCursor(Long userId, TicketCondDto ticketCondDto, Cursor cursor, int size, boolean withCount) {
+        // 전체 카운트 조회 (요청한 경우에만)
+        final Long totalCount = withCount ? findTicketListCount(userId, ticketCondDto).fetchOne() : null;
+
+        // 커서 이후 데이터 조회 (다음 페이지 존재 여부 확인을 위해 1개 더 조회)
+        final List<TicketListDto> rows = findTicketList(userId, ticketCondDto)
+                .where(QueryUtils.afterCursor(cursor, movieTicket.createdAt, movieTicket.id))
+                .orderBy(movieTicket.createdAt.desc(), movieTicket.id.desc())
+                .limit(size + 1L)
+                .fetch();
+
+        return CursorPage.of(rows, size, row -> new Cursor(row.getCreatedAt(), row.getId()), totalCount);
+    }
+
     // findTicketListWithPaging 전체 카운트 조회
     private JPAQuery<Long> findTicketListCount(Long userId, TicketCondDto ticketCondDto){
         return queryFactory
@@ -75,7 +92,8 @@ public class MovieTicketDslRepositoryImpl implements MovieTicketDslRepository {
                         movieTicket.status,
                         movieTicket.issueTime,
                         movieTicket.usedTime,
-                        movieTicket.qrCode
+                        movieTicket.qrCode,
+                        movieTicket.createdAt
                 ))
                 .from(movieTicket)
                 .where(orderListSearchCondition(userId, ticketCondDto));
@@ -180,7 +198,8 @@ public class MovieTicketDslRepositoryImpl implements MovieTicketDslRepository {
                         movieTicket.status,
                         movieTicket.issueTime,
                         movieTicket.usedTime,
-                        movieTicket.qrCode
+                        movieTicket.qrCode,
+                        movieTicket.createdAt
                 ))
                 .from(movieTicket)
                 .where(movieTicket.order.id.eq(orderId))
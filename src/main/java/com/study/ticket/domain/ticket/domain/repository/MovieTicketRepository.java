@@ -34,6 +34,13 @@ public interface MovieTicketRepository extends JpaRepository<MovieTicket, Long>
      */
     List<MovieTicket> findByOrder(Order order);
 
+    /**
+     * 주문에 발급된 티켓이 있는지 확인합니다.
+     * @param order 주문
+     * @return 발급된 티켓 존재 여부
+     */
+    boolean existsByOrder(Order order);
+
     /**
      * 사용자의 티켓 목록을 조회합니다.
      * @param user 사용자
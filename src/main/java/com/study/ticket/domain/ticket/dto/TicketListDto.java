@@ -86,10 +86,13 @@ public class TicketListDto {
      */
     private String qrCode;
 
-
+    /**
+     * 생성 시간
+     */
+    private LocalDateTime createdAt;
 
     @QueryProjection
-    public TicketListDto(Long id, String ticketNumber, Long orderId, Long userId, Long screeningId, String movieTitle, String screenName, LocalDateTime startTime, LocalDateTime endTime, String seatNumber, TicketStatus status, LocalDateTime issueTime, LocalDateTime usedTime, String qrCode){
+    public TicketListDto(Long id, String ticketNumber, Long orderId, Long userId, Long screeningId, String movieTitle, String screenName, LocalDateTime startTime, LocalDateTime endTime, String seatNumber, TicketStatus status, LocalDateTime issueTime, LocalDateTime usedTime, String qrCode, LocalDateTime createdAt){
         this.id = id;
         this.ticketNumber = ticketNumber;
         this.orderId = orderId;
@@ -104,6 +107,7 @@ public class TicketListDto {
         this.issueTime = issueTime;
         this.usedTime = usedTime;
         this.qrCode = qrCode;
+        this.createdAt = createdAt;
 
     }
 }
@@ -5,6 +5,8 @@ import com.study.ticket.domain.order.domain.entity.OrderItem;
 import com.study.ticket.domain.order.domain.repository.OrderRepository;
 import com.study.ticket.domain.order.service.OrderService;
 import com.study.ticket.domain.outbox.service.OutboxEventService;
+import com.study.ticket.domain.saga.domain.enums.SagaType;
+import com.study.ticket.domain.saga.service.SagaMetrics;
 import com.study.ticket.domain.ticket.domain.entity.MovieTicket;
 import com.study.ticket.domain.ticket.domain.enums.TicketStatus;
 import com.study.ticket.domain.ticket.domain.repository.MovieTicketRepository;
@@ -13,6 +15,8 @@ import com.study.ticket.domain.ticket.dto.TicketDetailDto;
 import com.study.ticket.domain.ticket.dto.TicketListDto;
 import com.study.ticket.domain.ticket.event.TicketIssuedEvent;
 import com.study.ticket.domain.ticket.event.TicketUsedEvent;
+import com.study.ticket.global.common.cursor.Cursor;
+import com.study.ticket.global.common.cursor.CursorPage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -37,54 +41,55 @@ public class TicketService {
     private final OrderRepository orderRepository;
     private final OrderService orderService;
     private final OutboxEventService outboxEventService;
+    private final SagaMetrics sagaMetrics;
     
     @Value("${kafka.topics.ticket-events}")
     private String ticketEventsTopic;
     
     /**
-     * 티켓을 발급합니다.
+     * 주문 항목별로 티켓을 일괄 발급합니다.
+     * 티켓은 시퀀스 ID를 미리 할당받아 JDBC 배치로 INSERT하고, 티켓 발급 이벤트도 한 번의 배치 INSERT로 저장하며,
+     * 이미 조회한 주문을 그대로 완료 처리하므로 단체 예매도 좌석 수와 무관한 왕복 횟수로 발급됩니다.
+     * 주문 처리 Saga의 티켓 발급 단계로 SagaOrchestrator가 실행합니다.
      * @param orderId 주문 ID
      */
     @Transactional
     public void issueTickets(Long orderId) {
+        sagaMetrics.startStep(SagaType.TICKET_ISSUANCE, "issue_tickets");
+
         // 주문 조회
         Order order = orderRepository.findById(orderId)
                 .orElseThrow(() -> new RuntimeException("주문을 찾을 수 없음: " + orderId));
         
         // 이미 티켓이 발급되었는지 확인
-        List<MovieTicket> existingTickets = movieTicketRepository.findByOrder(order);
-        if (!existingTickets.isEmpty()) {
+        if (movieTicketRepository.existsByOrder(order)) {
             log.warn("이미 티켓이 발급되었습니다: {}", orderId);
             return ;
         }
         
-        List<MovieTicket> tickets = new ArrayList<>();
-        
-        // 주문 항목별로 티켓 발급
+        // 주문 항목별로 티켓 생성
+        LocalDateTime issueTime = LocalDateTime.now();
+        List<MovieTicket> tickets = new ArrayList<>(order.getOrderItems().size());
         for (OrderItem orderItem : order.getOrderItems()) {
-            MovieTicket ticket = MovieTicket.builder()
+            tickets.add(MovieTicket.builder()
                     .order(order)
                     .user(order.getUser())
                     .screening(order.getScreening())
                     .seatNumber(orderItem.getSeatNumber())
                     .status(TicketStatus.ISSUED)
-                    .issueTime(LocalDateTime.now())
-                    .build();
-            
-            tickets.add(movieTicketRepository.save(ticket));
-            
-            // 티켓 발급 이벤트 발행
-            TicketIssuedEvent event = new TicketIssuedEvent(ticket);
-            outboxEventService.saveEvent(
-                    event,
-                    "TICKET",
-                    ticket.getId().toString(),
-                    ticketEventsTopic
-            );
+                    .issueTime(issueTime)
+                    .build());
         }
         
+        // 티켓 일괄 저장 (ID는 저장 시 할당, INSERT는 플러시 시 배치 실행)
+        movieTicketRepository.saveAll(tickets);
+        
+        // 티켓 발급 이벤트 일괄 발행
+        List<TicketIssuedEvent> events = tickets.stream().map(TicketIssuedEvent::new).toList();
+        outboxEventService.saveEvents(events, "TICKET", event -> event.getTicketId().toString(), ticketEventsTopic);
+        
         // 주문 상태 업데이트
-        orderService.completeOrder(orderId);
+        orderService.completeOrder(order);
         
         log.info("티켓 발급 완료: 주문 ID={}, 티켓 수={}", orderId, tickets.size());
     }
@@ -134,6 +139,20 @@ public class TicketService {
     public Page<TicketListDto> findTicketListWithPaging(Long userId, TicketCondDto ticketCondDto, Pageable pageable) {
         return movieTicketRepository.findTicketListWithPaging(userId,ticketCondDto , pageable);
     }
+
+    /**
+     * 사용자의 티켓 목록을 커서 기반으로 조회합니다.
+     * @param userId 사용자 ID
+     * @param ticketCondDto 조회 조건
+     * @param cursor 커서 토큰 (비어 있으면 첫 페이지)
+     * @param size 페이지 크기
+     * @param withCount 전체 건수 조회 여부
+     * @return 티켓 커서 페이지
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<TicketListDto> findTicketListWithCursor(Long userId, TicketCondDto ticketCondDto, String cursor, int size, boolean withCount) {
+        return movieTicketRepository.findTicketListWithCursor(userId, ticketCondDto, Cursor.decode(cursor), CursorPage.normalizeSize(size), withCount);
+    }
     
 
     /**
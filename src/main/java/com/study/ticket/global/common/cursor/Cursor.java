@@ -0,0 +1,57 @@
+package com.study.ticket.global.common.cursor;
+
+import com.study.ticket.global.error.CustomException;
+import com.study.ticket.global.error.ErrorCode;
+import org.springframework.http.HttpStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 커서 페이지 위치
+ * 목록의 마지막 항목의 (생성 시간, ID)를 나타내며, 다음 페이지는 이 위치 이후부터 조회합니다.
+ * offset 없이 인덱스를 따라 바로 이어서 조회하므로 페이지가 깊어져도 조회 비용이 일정합니다.
+ * 생성 시간이 없는 행의 커서는 생성 시간 없이 ID만 담습니다.
+ * @param createdAt 생성 시간 (없으면 null)
+ * @param id ID
+ */
+public record Cursor(LocalDateTime createdAt, Long id) {
+
+    private static final String SEPARATOR = "_";
+    private static final String NULL_CREATED_AT = "null";
+
+    /**
+     * 커서를 URL에 안전한 토큰으로 변환합니다.
+     * @return 커서 토큰
+     */
+    public String encode() {
+        String raw = (createdAt != null ? createdAt.toString() : "") + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 토큰을 커서로 변환합니다.
+     * @param token 커서 토큰 (비어 있으면 첫 페이지)
+     * @return 커서, 첫 페이지이면 null
+     * @throws CustomException 토큰 형식이 잘못된 경우 (400)
+     */
+    public static Cursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separatorIndex = raw.lastIndexOf(SEPARATOR);
+            String createdAt = raw.substring(0, separatorIndex);
+            // 이전에 발급된 생성 시간 없는 커서는 "null"로 인코딩되어 있음
+            return new Cursor(
+                    createdAt.isEmpty() || NULL_CREATED_AT.equals(createdAt) ? null : LocalDateTime.parse(createdAt),
+                    Long.parseLong(raw.substring(separatorIndex + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new CustomException(HttpStatus.BAD_REQUEST, ErrorCode.INVALID_CURSOR, "잘못된 커서: " + token);
+        }
+    }
+}
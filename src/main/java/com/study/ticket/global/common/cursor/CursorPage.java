@@ -0,0 +1,71 @@
+package com.study.ticket.global.common.cursor;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 페이지 응답
+ * @param <T> 항목 타입
+ */
+@Getter
+@AllArgsConstructor
+public class CursorPage<T> {
+
+    /**
+     * 최대 페이지 크기
+     */
+    public static final int MAX_SIZE = 100;
+
+    /**
+     * 페이지 항목
+     */
+    private List<T> content;
+
+    /**
+     * 페이지 크기
+     */
+    private int size;
+
+    /**
+     * 다음 페이지 존재 여부
+     */
+    private boolean hasNext;
+
+    /**
+     * 다음 페이지 커서 토큰 (다음 페이지가 없으면 null)
+     */
+    private String nextCursor;
+
+    /**
+     * 전체 항목 수 (요청한 경우에만 조회, 그 외 null)
+     */
+    private Long totalCount;
+
+    /**
+     * 요청한 페이지 크기를 1 ~ MAX_SIZE 범위로 보정합니다.
+     * @param size 요청한 페이지 크기
+     * @return 보정된 페이지 크기
+     */
+    public static int normalizeSize(int size) {
+        return Math.max(1, Math.min(size, MAX_SIZE));
+    }
+
+    /**
+     * 페이지 크기보다 하나 더 조회한 결과로 커서 페이지를 생성합니다.
+     * @param rows 페이지 크기 + 1 개까지 조회한 항목
+     * @param size 페이지 크기
+     * @param cursorOf 항목의 커서 추출 함수
+     * @param totalCount 전체 항목 수 (조회하지 않았으면 null)
+     * @param <T> 항목 타입
+     * @return 커서 페이지
+     */
+    public static <T> CursorPage<T> of(List<T> rows, int size, Function<T, Cursor> cursorOf, Long totalCount) {
+        boolean hasNext = rows.size() > size;
+        List<T> content = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(content.get(content.size() - 1)).encode() : null;
+        return new CursorPage<>(content, size, hasNext, nextCursor, totalCount);
+    }
+}
@@ -0,0 +1,70 @@
+package com.study.ticket.global.config;
+
+import com.study.ticket.global.id.IdGenerator;
+import com.study.ticket.global.id.IdGeneratorType;
+import com.study.ticket.global.id.IdGenerators;
+import com.study.ticket.global.id.RandomUuidIdGenerator;
+import com.study.ticket.global.id.SnowflakeIdGenerator;
+import com.study.ticket.global.id.UuidV7IdGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * ID 생성기 설정 클래스
+ * 주문/결제/티켓 번호와 이벤트 ID에 사용할 ID 생성기를 생성하고 {@link IdGenerators}에 등록합니다.
+ */
+@Configuration
+@Slf4j
+public class IdGeneratorConfig {
+
+    /**
+     * 노드 ID를 프로세스 이름에서 계산해도 되는 프로필 (단일 인스턴스로 실행하는 로컬/테스트 환경)
+     */
+    private static final Profiles DERIVED_NODE_ID_PROFILES = Profiles.of("default", "local", "test");
+
+    /**
+     * ID 생성기 종류
+     */
+    @Value("${id.generator.type:SNOWFLAKE}")
+    private IdGeneratorType type;
+
+    /**
+     * Snowflake 노드 ID (0 ~ 1023), 인스턴스마다 다른 값을 지정해야 합니다.
+     * 음수(미설정)는 로컬/테스트 프로필에서만 허용되어 프로세스 이름(pid@host)에서 계산하며,
+     * 그 외 프로필에서는 인스턴스 간 노드 ID 충돌(ID 중복)을 막기 위해 기동에 실패합니다.
+     */
+    @Value("${id.generator.node-id:-1}")
+    private long nodeId;
+
+    @Bean
+    public IdGenerator idGenerator(Environment environment) {
+        IdGenerator idGenerator = switch (type) {
+            case SNOWFLAKE -> new SnowflakeIdGenerator(resolveNodeId(environment));
+            case UUID_V7 -> new UuidV7IdGenerator();
+            case RANDOM_UUID -> new RandomUuidIdGenerator();
+        };
+        IdGenerators.install(idGenerator);
+        log.info("ID 생성기 설정: {}", type);
+        return idGenerator;
+    }
+
+    private long resolveNodeId(Environment environment) {
+        if (nodeId >= 0) {
+            return nodeId;
+        }
+        // 해시 계산 값은 인스턴스 간 충돌할 수 있으므로 운영 환경에서는 명시적인 노드 ID 필수
+        if (!environment.acceptsProfiles(DERIVED_NODE_ID_PROFILES)) {
+            throw new IllegalStateException("Snowflake 노드 ID가 설정되지 않았습니다. id.generator.node-id(ID_NODE_ID)를 인스턴스마다 다르게 지정하세요: "
+                    + String.join(",", environment.getActiveProfiles()));
+        }
+        long derivedNodeId = Math.floorMod(ManagementFactory.getRuntimeMXBean().getName().hashCode(), SnowflakeIdGenerator.MAX_NODE_ID + 1);
+        log.warn("Snowflake 노드 ID가 설정되지 않아 프로세스 이름으로 계산합니다: {} (인스턴스 간 충돌 가능, id.generator.node-id 설정 권장)", derivedNodeId);
+        return derivedNodeId;
+    }
+}
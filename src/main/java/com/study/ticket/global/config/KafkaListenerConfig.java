@@ -1,18 +1,27 @@
 package com.study.ticket.global.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.ticket.domain.event.filter.ProcessedEventFilter;
+import com.study.ticket.domain.event.service.EventConsumerMetrics;
 import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.listener.CommonErrorHandler;
+import org.springframework.kafka.listener.ConsumerAwareRebalanceListener;
 import org.springframework.kafka.listener.ContainerProperties;
 import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
 import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.util.backoff.FixedBackOff;
 
+import java.util.Collection;
+
 /**
  * 카프카 리스너 공통 설정 클래스
  */
@@ -23,6 +32,14 @@ public class KafkaListenerConfig {
     private final ConsumerFactory<String, Object> consumerFactory;
     private final KafkaTemplate<String, Object> kafkaTemplate;
     private final ObjectMapper objectMapper;
+    private final ProcessedEventFilter processedEventFilter;
+    private final EventConsumerMetrics eventConsumerMetrics;
+
+    /**
+     * 가상 스레드 실행 모드 여부
+     */
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreadsEnabled;
     
     /**
      * 카프카 리스너 컨테이너 팩토리를 생성합니다.
@@ -30,18 +47,51 @@ public class KafkaListenerConfig {
      */
     @Bean(name = "errorHandlingKafkaListenerContainerFactory")
     public ConcurrentKafkaListenerContainerFactory<String, Object> errorHandlingKafkaListenerContainerFactory() {
+        // 배치 리스닝 비활성화 (개별 메시지 처리)
+        return createListenerContainerFactory(false);
+    }
+
+    /**
+     * 배치 카프카 리스너 컨테이너 팩토리를 생성합니다.
+     * 한 번의 poll로 받은 레코드 전체를 리스너에 전달합니다.
+     * @return 배치 카프카 리스너 컨테이너 팩토리
+     */
+    @Bean(name = "batchErrorHandlingKafkaListenerContainerFactory")
+    public ConcurrentKafkaListenerContainerFactory<String, Object> batchErrorHandlingKafkaListenerContainerFactory() {
+        return createListenerContainerFactory(true);
+    }
+
+    /**
+     * 공통 설정으로 카프카 리스너 컨테이너 팩토리를 생성합니다.
+     * @param batchListener 배치 리스닝 여부
+     * @return 카프카 리스너 컨테이너 팩토리
+     */
+    private ConcurrentKafkaListenerContainerFactory<String, Object> createListenerContainerFactory(boolean batchListener) {
         ConcurrentKafkaListenerContainerFactory<String, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(consumerFactory);
-        
-        // 배치 리스닝 비활성화 (개별 메시지 처리)
-        factory.setBatchListener(false);
+        factory.setBatchListener(batchListener);
         
         // 동시성 설정
         factory.setConcurrency(3);
         
         // 수동 커밋 설정
         factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL_IMMEDIATE);
-        
+
+        // 가상 스레드 모드에서는 컨슈머 스레드를 가상 스레드로 실행
+        if (virtualThreadsEnabled) {
+            SimpleAsyncTaskExecutor listenerTaskExecutor = new SimpleAsyncTaskExecutor(batchListener ? "kafka-batch-listener-" : "kafka-listener-");
+            listenerTaskExecutor.setVirtualThreads(true);
+            factory.getContainerProperties().setListenerTaskExecutor(listenerTaskExecutor);
+        }
+
+        // 파티션 재할당 시 재전달 이벤트는 DB로 멱등성 검사
+        factory.getContainerProperties().setConsumerRebalanceListener(new ConsumerAwareRebalanceListener() {
+            @Override
+            public void onPartitionsAssigned(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+                processedEventFilter.startWarmup();
+            }
+        });
+
         // 에러 핸들러 설정
         factory.setCommonErrorHandler(kafkaErrorHandler());
         
@@ -64,8 +114,11 @@ public class KafkaListenerConfig {
                 });
         
         // 에러 핸들러 설정
-        // 최대 3번 재시도, 재시도 간격 5초
-        DefaultErrorHandler errorHandler = new DefaultErrorHandler(recoverer, new FixedBackOff(5000L, 3));
+        // 최대 3번 재시도, 재시도 간격 5초, DLT 전송 수는 메트릭으로 기록
+        DefaultErrorHandler errorHandler = new DefaultErrorHandler((record, exception) -> {
+            eventConsumerMetrics.recordDeadLetter(record.topic(), exception);
+            recoverer.accept(record, exception);
+        }, new FixedBackOff(5000L, 3));
         
         // 특정 예외는 재시도하지 않음
         errorHandler.addNotRetryableExceptions(
@@ -1,6 +1,7 @@
 package com.study.ticket.global.config;
 
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -40,6 +41,8 @@ public class KafkaProducerConfig {
         props.put(ProducerConfig.RETRIES_CONFIG, 3);
         // 배치 크기
         props.put(ProducerConfig.BATCH_SIZE_CONFIG, 16384);
+        // 배치 발행 시 레코드를 모아 보내기 위한 대기 시간
+        props.put(ProducerConfig.LINGER_MS_CONFIG, 5);
         // 압축 타입
         props.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, "snappy");
         // 버퍼 메모리
@@ -64,4 +67,25 @@ public class KafkaProducerConfig {
     public KafkaTemplate<String, Object> kafkaTemplate() {
         return new KafkaTemplate<>(producerFactory());
     }
+
+    /**
+     * 직렬화된 바이트를 그대로 전송하는 카프카 프로듀서 팩토리를 생성합니다.
+     * Outbox 페이로드처럼 이미 JSON으로 직렬화된 값을 다시 직렬화하지 않고 전송할 때 사용합니다.
+     * @return 프로듀서 팩토리
+     */
+    @Bean
+    public ProducerFactory<String, byte[]> byteArrayProducerFactory() {
+        Map<String, Object> props = new HashMap<>(producerConfigs());
+        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
+        return new DefaultKafkaProducerFactory<>(props);
+    }
+
+    /**
+     * 직렬화된 바이트를 그대로 전송하는 카프카 템플릿을 생성합니다.
+     * @return 카프카 템플릿
+     */
+    @Bean
+    public KafkaTemplate<String, byte[]> byteArrayKafkaTemplate() {
+        return new KafkaTemplate<>(byteArrayProducerFactory());
+    }
 }
@@ -0,0 +1,88 @@
+package com.study.ticket.global.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.ticket.domain.event.service.ProcessedEventService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * 추상 배치 이벤트 리스너
+ * 한 번의 poll로 받은 레코드 전체를 한 트랜잭션으로 처리하는 리스너의 공통 기능을 제공합니다.
+ * 배치 처리가 실패하면 레코드별 처리로 전환하여 실패한 레코드부터 다시 수신합니다.
+ * 키 순서 병렬 처리({@link #processEventsInKeyOrder})를 사용하면 레인별로 한 트랜잭션씩 처리합니다.
+ */
+@Slf4j
+public abstract class AbstractBatchEventListener extends AbstractEventListener {
+
+    protected AbstractBatchEventListener(ProcessedEventService processedEventService, ObjectMapper objectMapper) {
+        super(processedEventService, objectMapper);
+    }
+
+    protected AbstractBatchEventListener(ProcessedEventService processedEventService, ObjectMapper objectMapper,
+                                         KeyOrderedEventExecutor keyOrderedEventExecutor) {
+        super(processedEventService, objectMapper, keyOrderedEventExecutor);
+    }
+
+    /**
+     * 이벤트 배치를 처리합니다.
+     * 중복 검사는 한 번의 IN 조회로, 처리 기록은 한 번의 배치 INSERT로 수행하고 배치 전체를 한 번만 확인합니다.
+     * @param payloads 이벤트 페이로드 목록
+     * @param eventClass 이벤트 클래스
+     * @param consumerGroup 컨슈머 그룹
+     * @param acknowledgment 확인자
+     * @param <T> 이벤트 타입
+     */
+    protected <T extends Event> void processEvents(
+            List<String> payloads,
+            Class<T> eventClass,
+            String consumerGroup,
+            Acknowledgment acknowledgment
+    ) {
+        List<Integer> recordIndexes = IntStream.range(0, payloads.size()).boxed().toList();
+        acknowledge(acknowledgment, payloads, processRecords(payloads, recordIndexes, eventClass, consumerGroup));
+    }
+
+    /**
+     * 레코드를 한 트랜잭션으로 일괄 처리합니다.
+     * 일괄 처리가 실패하면 레코드별 처리로 전환하여 실패한 레코드를 찾습니다.
+     * @param payloads 이벤트 페이로드 목록
+     * @param recordIndexes 처리할 레코드 인덱스 (오름차순)
+     * @param eventClass 이벤트 클래스
+     * @param consumerGroup 컨슈머 그룹
+     * @param <T> 이벤트 타입
+     * @return 처리에 실패한 첫 레코드 인덱스, 모두 처리하면 -1
+     */
+    @Override
+    protected <T extends Event> int processRecords(
+            List<String> payloads,
+            List<Integer> recordIndexes,
+            Class<T> eventClass,
+            String consumerGroup
+    ) {
+        // JSON을 이벤트 객체로 변환 (파싱 실패는 재시도해도 동일하므로 건너뜀)
+        List<T> events = new ArrayList<>(recordIndexes.size());
+        for (int recordIndex : recordIndexes) {
+            try {
+                events.add(objectMapper.readValue(payloads.get(recordIndex), eventClass));
+            } catch (JsonProcessingException e) {
+                log.error("이벤트 역직렬화 실패: {}", e.getMessage(), e);
+            }
+        }
+
+        try {
+            List<T> processedEvents = processedEventService.processAllIfAbsent(events, consumerGroup, this::handleEvent);
+            log.info("이벤트 배치 처리 완료: 수신 {} 개, 처리 {} 개", recordIndexes.size(), processedEvents.size());
+            return -1;
+        } catch (Exception e) {
+            log.warn("이벤트 배치 처리 실패, 레코드별 처리로 전환: {}", e.getMessage());
+        }
+
+        // 레코드별 처리
+        return super.processRecords(payloads, recordIndexes, eventClass, consumerGroup);
+    }
+}
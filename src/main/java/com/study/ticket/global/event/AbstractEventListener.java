@@ -2,10 +2,16 @@ package com.study.ticket.global.event;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.study.ticket.domain.event.service.ProcessedEventService;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.listener.BatchListenerFailedException;
 import org.springframework.kafka.support.Acknowledgment;
 
+import java.time.Duration;
+import java.util.List;
+
 /**
  * 추상 이벤트 리스너
  * 모든 이벤트 리스너의 공통 기능을 제공합니다.
@@ -13,60 +19,136 @@ import org.springframework.kafka.support.Acknowledgment;
 @Slf4j
 public abstract class AbstractEventListener {
 
+    /**
+     * 실패한 레코드를 다시 수신하기 전 대기 시간
+     */
+    protected static final Duration NACK_SLEEP = Duration.ofSeconds(1);
+
+    /**
+     * 실패한 레코드를 nack으로 다시 수신하며 처리하는 최대 횟수
+     * 넘으면 에러 핸들러에 맡겨 재시도 간격을 늘리고 끝내 실패하면 DLT로 보냅니다.
+     */
+    protected static final int MAX_NACK_ATTEMPTS = 3;
+
     protected final ProcessedEventService processedEventService;
     protected final ObjectMapper objectMapper;
+    protected final KeyOrderedEventExecutor keyOrderedEventExecutor;
+
+    /**
+     * 레코드(페이로드)별 처리 실패 횟수
+     * 실패한 레코드만 기록하며, 처리에 성공하거나 일정 시간이 지나면 제거합니다.
+     */
+    private final Cache<String, Integer> failedAttempts = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(Duration.ofMinutes(10))
+            .build();
 
     protected AbstractEventListener(ProcessedEventService processedEventService, ObjectMapper objectMapper) {
+        this(processedEventService, objectMapper, null);
+    }
+
+    protected AbstractEventListener(ProcessedEventService processedEventService, ObjectMapper objectMapper,
+                                    KeyOrderedEventExecutor keyOrderedEventExecutor) {
         this.processedEventService = processedEventService;
         this.objectMapper = objectMapper;
+        this.keyOrderedEventExecutor = keyOrderedEventExecutor;
     }
 
     /**
-     * 이벤트를 처리합니다.
-     * @param payload 이벤트 페이로드
+     * 이벤트 배치를 메시지 키(집계 ID)별 순서를 지키며 병렬로 처리합니다.
+     * 모든 레코드를 처리하면 배치 전체를 확인하고, 실패가 있으면 가장 앞선 실패 레코드 직전까지만 커밋한 뒤 나머지를 다시 수신합니다.
+     * 같은 레코드가 계속 실패하면 {@link #acknowledge}가 에러 핸들러에 넘겨 DLT로 보냅니다.
+     * 다시 수신된 레코드 중 이미 처리된 레코드는 멱등성 검사로 무시됩니다.
+     * @param payloads 이벤트 페이로드 목록
+     * @param keys 메시지 키 목록
      * @param eventClass 이벤트 클래스
      * @param consumerGroup 컨슈머 그룹
      * @param acknowledgment 확인자
      * @param <T> 이벤트 타입
      */
-    protected <T extends Event> void processEvent(
-            String payload,
+    protected <T extends Event> void processEventsInKeyOrder(
+            List<String> payloads,
+            List<String> keys,
             Class<T> eventClass,
             String consumerGroup,
             Acknowledgment acknowledgment
     ) {
+        if (keyOrderedEventExecutor == null) {
+            throw new IllegalStateException("키 순서 병렬 실행기가 설정되지 않았습니다.");
+        }
+        int failedIndex;
         try {
-            // JSON을 이벤트 객체로 변환
-            T event = objectMapper.readValue(payload, eventClass);
-            
-            // 이벤트 키 추출
-            String eventKey = event.getEventKey();
-            String eventType = event.getEventType();
-            
-            // 멱등성 검사
-            if (processedEventService.isEventProcessed(eventKey, consumerGroup)) {
-                log.info("이벤트 중복 수신, 무시: {}", eventKey);
-                acknowledgment.acknowledge();
-                return;
+            failedIndex = keyOrderedEventExecutor.execute(keys,
+                    recordIndexes -> processRecords(payloads, recordIndexes, eventClass, consumerGroup));
+        } catch (InterruptedException e) {
+            // 종료 중 인터럽트는 레코드 실패가 아니므로 실패 횟수를 세지 않고 배치 전체를 다시 수신
+            Thread.currentThread().interrupt();
+            log.warn("이벤트 레인 처리 대기 중 인터럽트 발생, 배치 다시 수신");
+            acknowledgment.nack(0, NACK_SLEEP);
+            return;
+        }
+        acknowledge(acknowledgment, payloads, failedIndex);
+    }
+
+    /**
+     * 레코드를 순서대로 하나씩 처리합니다.
+     * 처리에 실패하면 이후 레코드는 처리하지 않고 실패한 레코드 인덱스를 반환합니다.
+     * @param payloads 이벤트 페이로드 목록
+     * @param recordIndexes 처리할 레코드 인덱스 (오름차순)
+     * @param eventClass 이벤트 클래스
+     * @param consumerGroup 컨슈머 그룹
+     * @param <T> 이벤트 타입
+     * @return 처리에 실패한 첫 레코드 인덱스, 모두 처리하면 -1
+     */
+    protected <T extends Event> int processRecords(
+            List<String> payloads,
+            List<Integer> recordIndexes,
+            Class<T> eventClass,
+            String consumerGroup
+    ) {
+        for (int recordIndex : recordIndexes) {
+            try {
+                T event = objectMapper.readValue(payloads.get(recordIndex), eventClass);
+                if (processedEventService.isRecentlyProcessed(event.getEventKey(), consumerGroup)
+                        || !processedEventService.processIfAbsent(event.getEventKey(), event.getEventType(), consumerGroup, () -> handleEvent(event))) {
+                    log.info("이벤트 중복 수신, 무시: {}", event.getEventKey());
+                }
+            } catch (JsonProcessingException e) {
+                // JSON 파싱 오류는 재시도해도 동일한 오류가 발생하므로 건너뜀
+                log.error("이벤트 역직렬화 실패: {}", e.getMessage(), e);
+            } catch (Exception e) {
+                log.error("이벤트 처리 실패: {}", e.getMessage(), e);
+                return recordIndex;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 배치 처리 결과에 따라 메시지를 확인합니다.
+     * 실패한 레코드는 직전까지만 커밋하고 다시 수신하되, 같은 레코드가 {@link #MAX_NACK_ATTEMPTS}번 실패하면
+     * BatchListenerFailedException을 던져 에러 핸들러의 재시도(백오프)와 DLT 전송에 맡깁니다.
+     * 에러 핸들러도 실패한 레코드 직전까지 커밋하므로, 처리에 실패한 레코드 하나가 파티션을 계속 막지 않습니다.
+     * @param acknowledgment 확인자
+     * @param payloads 이벤트 페이로드 목록
+     * @param failedIndex 처리에 실패한 가장 앞선 레코드 인덱스, 없으면 -1
+     */
+    protected void acknowledge(Acknowledgment acknowledgment, List<String> payloads, int failedIndex) {
+        if (failedIndex < 0) {
+            if (failedAttempts.estimatedSize() > 0) {
+                failedAttempts.invalidateAll(payloads);
             }
-            
-            // 이벤트 처리
-            handleEvent(event);
-            
-            // 이벤트 처리 완료 기록
-            processedEventService.markEventAsProcessed(eventKey, eventType, consumerGroup);
-            
-            // 메시지 확인 (수동 커밋)
-            acknowledgment.acknowledge();
-            
-        } catch (JsonProcessingException e) {
-            log.error("이벤트 역직렬화 실패: {}", e.getMessage(), e);
-            // JSON 파싱 오류는 재시도해도 동일한 오류가 발생하므로 ack
             acknowledgment.acknowledge();
-        } catch (Exception e) {
-            log.error("이벤트 처리 실패: {}", e.getMessage(), e);
-            // 재시도를 위해 ack하지 않음
+            return;
+        }
+
+        int attempts = failedAttempts.asMap().merge(payloads.get(failedIndex), 1, Integer::sum);
+        if (attempts >= MAX_NACK_ATTEMPTS) {
+            throw new BatchListenerFailedException("이벤트 처리 " + attempts + "회 실패", failedIndex);
         }
+        // 실패한 레코드 이전까지만 커밋하고 나머지는 다시 수신
+        log.warn("이벤트 처리 실패, 다시 수신: 레코드 {}, {}회 실패", failedIndex, attempts);
+        acknowledgment.nack(failedIndex, NACK_SLEEP);
     }
 
     /**
@@ -0,0 +1,122 @@
+package com.study.ticket.global.event;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 키 순서 보장 병렬 이벤트 실행기
+ * 한 번의 poll로 받은 레코드를 메시지 키(집계 ID) 해시로 레인에 나누어 워커 풀에서 병렬로 처리합니다.
+ * 같은 키의 레코드는 항상 같은 레인에서 수신 순서대로 처리되므로 집계별 순서가 유지되고,
+ * 토픽 파티션 수와 관계없이 워커 수만큼 병렬로 처리할 수 있습니다.
+ */
+@Component
+@Slf4j
+public class KeyOrderedEventExecutor {
+
+    /**
+     * 레인(워커) 수
+     */
+    @Value("${event.consumer.parallelism:16}")
+    private int parallelism;
+
+    /**
+     * 가상 스레드 실행 모드 여부
+     */
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreadsEnabled;
+
+    private ExecutorService executorService;
+
+    @PostConstruct
+    public void init() {
+        executorService = virtualThreadsEnabled
+                ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("event-lane-", 0).factory())
+                : Executors.newFixedThreadPool(parallelism, Thread.ofPlatform().name("event-lane-", 0).daemon(true).factory());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executorService.shutdown();
+    }
+
+    /**
+     * 레코드를 키별 레인으로 나누어 병렬로 처리하고, 모든 레인이 끝날 때까지 기다립니다.
+     * 레인은 실패한 레코드에서 멈추므로 같은 키의 이후 레코드는 처리되지 않습니다.
+     * 반환된 인덱스 이전의 레코드는 모두 처리가 끝났으므로 그 직전까지 오프셋을 커밋할 수 있습니다.
+     * 레인 처리기가 예외를 던지면 그 레인의 첫 레코드를 실패한 레코드로 봅니다.
+     * @param keys 레코드별 메시지 키 (키가 없으면 순서 보장 없이 분산)
+     * @param laneProcessor 레인 처리기
+     * @return 처리에 실패한 가장 앞선 레코드 인덱스, 모두 처리하면 -1
+     * @throws InterruptedException 레인 처리를 기다리는 중 인터럽트된 경우 (레코드 처리 실패가 아니므로 재시도 횟수에 포함하지 않음)
+     */
+    public int execute(List<String> keys, LaneProcessor laneProcessor) throws InterruptedException {
+        Map<Integer, List<Integer>> lanes = new LinkedHashMap<>();
+        for (int i = 0; i < keys.size(); i++) {
+            String key = keys.get(i);
+            int lane = Math.floorMod(key != null ? key.hashCode() : i, parallelism);
+            lanes.computeIfAbsent(lane, k -> new ArrayList<>()).add(i);
+        }
+
+        // 레인이 하나면 호출 스레드에서 바로 처리
+        if (lanes.isEmpty()) {
+            return -1;
+        }
+        if (lanes.size() == 1) {
+            List<Integer> recordIndexes = lanes.values().iterator().next();
+            try {
+                return laneProcessor.process(recordIndexes);
+            } catch (RuntimeException e) {
+                log.error("이벤트 레인 처리 중 오류 발생: {}", e.getMessage(), e);
+                return recordIndexes.get(0);
+            }
+        }
+
+        List<Future<Integer>> futures = new ArrayList<>(lanes.size());
+        List<Integer> laneFirstIndexes = new ArrayList<>(lanes.size());
+        for (List<Integer> recordIndexes : lanes.values()) {
+            futures.add(executorService.submit(() -> laneProcessor.process(recordIndexes)));
+            laneFirstIndexes.add(recordIndexes.get(0));
+        }
+
+        int failedIndex = -1;
+        for (int i = 0; i < futures.size(); i++) {
+            int laneFailedIndex;
+            try {
+                laneFailedIndex = futures.get(i).get();
+            } catch (ExecutionException e) {
+                log.error("이벤트 레인 처리 중 오류 발생: {}", e.getCause().getMessage(), e.getCause());
+                laneFailedIndex = laneFirstIndexes.get(i);
+            }
+            if (laneFailedIndex >= 0 && (failedIndex < 0 || laneFailedIndex < failedIndex)) {
+                failedIndex = laneFailedIndex;
+            }
+        }
+        return failedIndex;
+    }
+
+    /**
+     * 레인 처리기
+     */
+    @FunctionalInterface
+    public interface LaneProcessor {
+
+        /**
+         * 레인에 배정된 레코드를 순서대로 처리합니다.
+         * @param recordIndexes 레인에 배정된 레코드 인덱스 (오름차순)
+         * @return 처리에 실패한 첫 레코드 인덱스, 모두 처리하면 -1
+         */
+        int process(List<Integer> recordIndexes);
+    }
+}
@@ -0,0 +1,15 @@
+package com.study.ticket.global.id;
+
+/**
+ * ID 생성기 인터페이스
+ * 주문/결제/티켓 번호와 이벤트 ID처럼 유니크 인덱스가 걸린 문자열 키를 생성합니다.
+ * 생성된 키는 같은 노드에서 시간 순서대로 증가하므로 B-tree 인덱스의 오른쪽 끝에 추가되어 페이지 분할이 적습니다.
+ */
+public interface IdGenerator {
+
+    /**
+     * 다음 키를 생성합니다.
+     * @return 키
+     */
+    String nextKey();
+}
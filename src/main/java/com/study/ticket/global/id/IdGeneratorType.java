@@ -0,0 +1,21 @@
+package com.study.ticket.global.id;
+
+/**
+ * ID 생성기 종류
+ */
+public enum IdGeneratorType {
+    /**
+     * Snowflake 방식 64비트 ID (시간 41비트 + 노드 10비트 + 순번 12비트), 13자 Crockford Base32 문자열
+     */
+    SNOWFLAKE,
+
+    /**
+     * UUID 버전 7 (밀리초 시간 + 순번 + 난수), 36자 UUID 문자열
+     */
+    UUID_V7,
+
+    /**
+     * UUID 버전 4 (UUID.randomUUID), 이전 방식과 비교용
+     */
+    RANDOM_UUID
+}
@@ -0,0 +1,31 @@
+package com.study.ticket.global.id;
+
+/**
+ * ID 생성기 보관소
+ * 엔티티의 @PrePersist와 이벤트 생성자처럼 스프링 빈을 주입받을 수 없는 곳에서 설정된 ID 생성기를 사용하기 위한 정적 접근점입니다.
+ * 애플리케이션이 시작되면 {@link com.study.ticket.global.config.IdGeneratorConfig}가 설정된 생성기로 교체하며,
+ * 그 전(단위 테스트, 벤치마크)에는 노드 ID 0의 Snowflake 생성기를 사용합니다.
+ */
+public final class IdGenerators {
+
+    private static volatile IdGenerator generator = new SnowflakeIdGenerator(0);
+
+    private IdGenerators() {
+    }
+
+    /**
+     * 다음 키를 생성합니다.
+     * @return 키
+     */
+    public static String nextKey() {
+        return generator.nextKey();
+    }
+
+    /**
+     * 사용할 ID 생성기를 설정합니다.
+     * @param idGenerator ID 생성기
+     */
+    public static void install(IdGenerator idGenerator) {
+        generator = idGenerator;
+    }
+}
@@ -0,0 +1,15 @@
+package com.study.ticket.global.id;
+
+import java.util.UUID;
+
+/**
+ * 무작위 UUID 생성기
+ * 키가 무작위로 분포하여 인덱스 삽입 위치가 흩어지므로 비교용으로만 사용합니다.
+ */
+public class RandomUuidIdGenerator implements IdGenerator {
+
+    @Override
+    public String nextKey() {
+        return UUID.randomUUID().toString();
+    }
+}
@@ -0,0 +1,94 @@
+package com.study.ticket.global.id;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Snowflake 방식 ID 생성기
+ * [시간(ms, 41비트) | 노드 ID(10비트) | 순번(12비트)] 구조의 64비트 ID를 락 없이 CAS로 생성합니다.
+ * 같은 밀리초에 순번 4096개를 다 쓰거나 시계가 뒤로 가면 대기하지 않고 마지막 값에서 이어서 증가하므로,
+ * 노드 안에서는 항상 단조 증가합니다. 시간 41비트는 기준 시점(2025-01-01)부터 약 69년을 표현합니다.
+ * 문자열 키는 고정 길이 13자 Crockford Base32로 인코딩하여 문자열 정렬 순서와 ID 순서가 같습니다.
+ */
+public class SnowflakeIdGenerator implements IdGenerator {
+
+    private static final long EPOCH_MILLIS = Instant.parse("2025-01-01T00:00:00Z").toEpochMilli();
+
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    /**
+     * 최대 노드 ID
+     */
+    public static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+
+    private static final char[] BASE32 = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+    private static final int KEY_LENGTH = 13;
+
+    private final long nodeBits;
+    private final LongSupplier currentTimeMillis;
+
+    /**
+     * 마지막 발급 상태 [시간(ms) | 순번(12비트)]
+     */
+    private final AtomicLong state = new AtomicLong();
+
+    /**
+     * @param nodeId 노드 ID (0 ~ 1023), 인스턴스마다 달라야 합니다.
+     */
+    public SnowflakeIdGenerator(long nodeId) {
+        this(nodeId, System::currentTimeMillis);
+    }
+
+    /**
+     * @param nodeId 노드 ID (0 ~ 1023)
+     * @param currentTimeMillis 현재 시각 (epoch ms) 공급자, 테스트에서 시계를 고정할 때 사용
+     */
+    SnowflakeIdGenerator(long nodeId, LongSupplier currentTimeMillis) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("노드 ID는 0 ~ " + MAX_NODE_ID + " 사이여야 합니다: " + nodeId);
+        }
+        this.nodeBits = nodeId << SEQUENCE_BITS;
+        this.currentTimeMillis = currentTimeMillis;
+    }
+
+    /**
+     * 다음 ID를 생성합니다.
+     * @return 64비트 ID (양수)
+     */
+    public long nextId() {
+        long next;
+        while (true) {
+            long last = state.get();
+            long timestamp = currentTimeMillis.getAsLong() - EPOCH_MILLIS;
+            // 새 밀리초면 순번 0부터, 아니면 마지막 값 + 1 (순번이 넘치면 다음 밀리초로 이어짐)
+            next = timestamp > (last >>> SEQUENCE_BITS) ? timestamp << SEQUENCE_BITS : last + 1;
+            if (state.compareAndSet(last, next)) {
+                break;
+            }
+        }
+        return ((next >>> SEQUENCE_BITS) << (NODE_BITS + SEQUENCE_BITS)) | nodeBits | (next & SEQUENCE_MASK);
+    }
+
+    @Override
+    public String nextKey() {
+        return encode(nextId());
+    }
+
+    /**
+     * ID를 고정 길이 13자 Crockford Base32 문자열로 인코딩합니다.
+     * @param id ID
+     * @return 인코딩된 문자열
+     */
+    public static String encode(long id) {
+        byte[] chars = new byte[KEY_LENGTH];
+        for (int i = KEY_LENGTH - 1; i >= 0; i--) {
+            chars[i] = (byte) BASE32[(int) (id & 0x1F)];
+            id >>>= 5;
+        }
+        return new String(chars, StandardCharsets.ISO_8859_1);
+    }
+}
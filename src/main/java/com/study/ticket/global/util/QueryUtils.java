@@ -6,6 +6,7 @@ import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.dsl.*;
+import com.study.ticket.global.common.cursor.Cursor;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -480,4 +481,27 @@ public class QueryUtils {
     public static boolean isYes(String value) {
         return "Y".equalsIgnoreCase(value);
     }
+
+    /**
+     * (생성 시간, ID) 내림차순 목록에서 커서 이후 항목 조건 (null 안전)
+     * createdAt < 커서 생성 시간 OR (createdAt = 커서 생성 시간 AND id < 커서 ID) OR createdAt IS NULL
+     * 생성 시간이 없는 행은 내림차순 정렬에서 가장 뒤에 오므로(MySQL/H2는 NULL을 가장 작은 값으로 정렬),
+     * 커서의 생성 시간이 없으면 생성 시간이 없는 행 안에서 ID로만 이어서 조회합니다.
+     * 
+     * @param cursor 커서
+     * @param createdAt 생성 시간 필드 표현식
+     * @param id ID 필드 표현식
+     * @return 조건식 (커서가 null이면 null 반환)
+     */
+    public static BooleanExpression afterCursor(Cursor cursor, DateTimePath<LocalDateTime> createdAt, NumberPath<Long> id) {
+        if (cursor == null) {
+            return null;
+        }
+        if (cursor.createdAt() == null) {
+            return createdAt.isNull().and(id.lt(cursor.id()));
+        }
+        return createdAt.lt(cursor.createdAt())
+                .or(createdAt.eq(cursor.createdAt()).and(id.lt(cursor.id())))
+                .or(createdAt.isNull());
+    }
 }
@@ -0,0 +1,12 @@
+-- Outbox 아카이브 테이블 월별 RANGE 파티션 초기 구성 (MySQL)
+-- 파티션 키는 모든 유니크 키에 포함되어야 하므로 기본 키를 (EVENT_ID, ARCHIVED_AT)으로 변경합니다.
+-- 이후 월별 파티션 생성/삭제는 OutboxArchivePartitionManager가 수행합니다. (outbox.retention.partition.enabled=true)
+
+ALTER TABLE OUTBOX_EVENTS_ARCHIVE
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (EVENT_ID, ARCHIVED_AT);
+
+ALTER TABLE OUTBOX_EVENTS_ARCHIVE
+    PARTITION BY RANGE (TO_DAYS(ARCHIVED_AT)) (
+        PARTITION p_future VALUES LESS THAN MAXVALUE
+    );
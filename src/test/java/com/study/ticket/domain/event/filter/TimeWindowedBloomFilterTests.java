@@ -0,0 +1,99 @@
+package com.study.ticket.domain.event.filter;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 시간 윈도우 블룸 필터의 조회, 오탐률, 세대 교체 경계를 고정 시계로 검증합니다.
+ * 운영 코드({@link ProcessedEventFilter})와 같이 {@link BinaryEventKey}의 하위 64비트를 해시로 사용합니다.
+ */
+class TimeWindowedBloomFilterTests {
+
+	private static final String CONSUMER_GROUP = "ticket-service";
+	private static final long WINDOW_MILLIS = 1000;
+	private static final long WINDOW_NANOS = WINDOW_MILLIS * 1_000_000L;
+
+	private final AtomicLong nanoTime = new AtomicLong(1_000_000_000L);
+	private TimeWindowedBloomFilter filter;
+
+	@BeforeEach
+	void setUp() {
+		filter = new TimeWindowedBloomFilter(10_000, 0.01, WINDOW_MILLIS, nanoTime::get);
+	}
+
+	@Test
+	void addedKeysAreAlwaysFound() {
+		for (int i = 0; i < 10_000; i++) {
+			filter.put(hash("event-" + i));
+		}
+
+		for (int i = 0; i < 10_000; i++) {
+			assertThat(filter.mightContain(hash("event-" + i))).isTrue();
+		}
+	}
+
+	@Test
+	void falsePositiveRateStaysNearConfiguredRate() {
+		for (int i = 0; i < 10_000; i++) {
+			filter.put(hash("event-" + i));
+		}
+
+		int falsePositives = 0;
+		for (int i = 0; i < 100_000; i++) {
+			if (filter.mightContain(hash("other-" + i))) {
+				falsePositives++;
+			}
+		}
+		assertThat(falsePositives).isLessThan(2_000);
+	}
+
+	@Test
+	void keySurvivesOneRotationAndExpiresAfterTwo() {
+		filter.put(hash("event-1"));
+
+		// 윈도우 직전까지는 교체되지 않음
+		nanoTime.addAndGet(WINDOW_NANOS - 1);
+		filter.put(hash("event-2"));
+		assertThat(filter.mightContain(hash("event-1"))).isTrue();
+
+		// 첫 교체: 이전 세대로 남아 계속 조회됨
+		nanoTime.addAndGet(1);
+		assertThat(filter.mightContain(hash("event-1"))).isTrue();
+		assertThat(filter.mightContain(hash("event-2"))).isTrue();
+
+		// 두 번째 교체: 두 윈도우 전에 추가한 키는 사라짐
+		nanoTime.addAndGet(WINDOW_NANOS);
+		assertThat(filter.mightContain(hash("event-1"))).isFalse();
+		assertThat(filter.mightContain(hash("event-2"))).isFalse();
+	}
+
+	@Test
+	void keyAddedAgainIsKeptForAnotherWindow() {
+		filter.put(hash("event-1"));
+		nanoTime.addAndGet(WINDOW_NANOS);
+		filter.put(hash("event-1"));
+
+		nanoTime.addAndGet(WINDOW_NANOS);
+
+		assertThat(filter.mightContain(hash("event-1"))).isTrue();
+	}
+
+	@Test
+	void longIdleRotatesOnlyOnce() {
+		filter.put(hash("event-1"));
+
+		// 여러 윈도우가 지나도 조회 시점에 한 번만 교체되므로 마지막으로 추가한 키는 남음
+		nanoTime.addAndGet(WINDOW_NANOS * 10);
+
+		assertThat(filter.mightContain(hash("event-1"))).isTrue();
+		assertThat(filter.mightContain(hash("event-2"))).isFalse();
+	}
+
+	private static long hash(String eventKey) {
+		return BinaryEventKey.of(eventKey, CONSUMER_GROUP).low();
+	}
+}
@@ -0,0 +1,146 @@
+package com.study.ticket.domain.event.service;
+
+import com.study.ticket.domain.event.domain.repository.ProcessedEventRepository;
+import com.study.ticket.domain.event.filter.ProcessedEventFilter;
+import com.study.ticket.global.event.Event;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 배치 멱등성 검사가 메모리 필터(LRU, 블룸 필터)를 먼저 사용하고,
+ * INSERT IGNORE로 기록되지 않은 이벤트는 처리하지 않는지 검증합니다.
+ * 트랜잭션 없이 호출하므로 처리한 이벤트는 바로 필터에 기록됩니다.
+ */
+class ProcessedEventServiceTests {
+
+	private static final String CONSUMER_GROUP = "payment-service";
+
+	private ProcessedEventRepository processedEventRepository;
+	private JdbcTemplate jdbcTemplate;
+	private ProcessedEventFilter processedEventFilter;
+	private ProcessedEventService processedEventService;
+
+	@BeforeEach
+	void setUp() {
+		processedEventRepository = mock(ProcessedEventRepository.class);
+		jdbcTemplate = mock(JdbcTemplate.class);
+		// 워밍업 없이 블룸 필터 판단 사용
+		processedEventFilter = new ProcessedEventFilter(new SimpleMeterRegistry(), 10_000L, 0.01, 3_600_000L, 10_000L, 0L);
+		processedEventService = new ProcessedEventService(processedEventRepository, processedEventFilter, jdbcTemplate,
+				new EventConsumerMetrics(new SimpleMeterRegistry()));
+	}
+
+	@Test
+	void definitelyNewEventsSkipProcessedEventLookup() throws Exception {
+		givenInsertCounts(1, 1);
+		List<String> handled = new ArrayList<>();
+
+		List<TestEvent> processed = processedEventService.processAllIfAbsent(
+				List.of(new TestEvent("a"), new TestEvent("b")), CONSUMER_GROUP, event -> handled.add(event.getEventKey()));
+
+		assertThat(processed).extracting(TestEvent::getEventKey).containsExactly("a", "b");
+		assertThat(handled).containsExactly("a", "b");
+		verify(processedEventRepository, never()).findProcessedEventKeys(anyCollection(), anyString());
+	}
+
+	@Test
+	void recentlyProcessedAndBatchDuplicateEventsAreSkipped() throws Exception {
+		givenInsertCounts(1);
+		processedEventService.processAllIfAbsent(List.of(new TestEvent("a")), CONSUMER_GROUP, event -> { });
+		givenInsertCounts(1);
+		List<String> handled = new ArrayList<>();
+
+		List<TestEvent> processed = processedEventService.processAllIfAbsent(
+				List.of(new TestEvent("a"), new TestEvent("b"), new TestEvent("b")), CONSUMER_GROUP,
+				event -> handled.add(event.getEventKey()));
+
+		assertThat(processed).extracting(TestEvent::getEventKey).containsExactly("b");
+		assertThat(handled).containsExactly("b");
+	}
+
+	@Test
+	void eventsNotInsertedAreNotHandled() throws Exception {
+		// 블룸 필터는 이 인스턴스가 처리한 키만 알므로, 다른 인스턴스가 처리한 이벤트는 INSERT IGNORE 결과로 거름
+		givenInsertCounts(0, 1);
+		List<String> handled = new ArrayList<>();
+
+		List<TestEvent> processed = processedEventService.processAllIfAbsent(
+				List.of(new TestEvent("a"), new TestEvent("b")), CONSUMER_GROUP, event -> handled.add(event.getEventKey()));
+
+		assertThat(processed).extracting(TestEvent::getEventKey).containsExactly("b");
+		assertThat(handled).containsExactly("b");
+		assertThat(processedEventService.isRecentlyProcessed("a", CONSUMER_GROUP)).isTrue();
+	}
+
+	@Test
+	void eventsAreCheckedInDatabaseDuringWarmup() throws Exception {
+		// 파티션 재할당 직후에는 다른 인스턴스가 처리한 이벤트가 재전달될 수 있어 블룸 필터 판단을 사용하지 않음
+		ProcessedEventFilter warmingUpFilter = new ProcessedEventFilter(new SimpleMeterRegistry(), 10_000L, 0.01, 3_600_000L, 10_000L, 60_000L);
+		processedEventService = new ProcessedEventService(processedEventRepository, warmingUpFilter, jdbcTemplate,
+				new EventConsumerMetrics(new SimpleMeterRegistry()));
+		given(processedEventRepository.findProcessedEventKeys(eq(Set.of("a", "b")), eq(CONSUMER_GROUP))).willReturn(List.of("a"));
+		givenInsertCounts(1);
+		List<String> handled = new ArrayList<>();
+
+		List<TestEvent> processed = processedEventService.processAllIfAbsent(
+				List.of(new TestEvent("a"), new TestEvent("b")), CONSUMER_GROUP, event -> handled.add(event.getEventKey()));
+
+		assertThat(processed).extracting(TestEvent::getEventKey).containsExactly("b");
+		assertThat(handled).containsExactly("b");
+		assertThat(processedEventService.isRecentlyProcessed("a", CONSUMER_GROUP)).isTrue();
+	}
+
+	@SuppressWarnings("unchecked")
+	private void givenInsertCounts(int... counts) {
+		given(jdbcTemplate.batchUpdate(anyString(), any(Collection.class), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+				.willReturn(new int[][]{counts});
+	}
+
+	private record TestEvent(String eventKey) implements Event {
+
+		@Override
+		public String getEventId() {
+			return eventKey;
+		}
+
+		@Override
+		public String getEventType() {
+			return "TEST";
+		}
+
+		@Override
+		public LocalDateTime getOccurredAt() {
+			return LocalDateTime.now();
+		}
+
+		@Override
+		public String getEventKey() {
+			return eventKey;
+		}
+
+		@Override
+		public String getEventVersion() {
+			return "1.0";
+		}
+	}
+}
@@ -0,0 +1,155 @@
+package com.study.ticket.domain.movie.search;
+
+import com.study.ticket.domain.movie.domain.entity.Movie;
+import com.study.ticket.domain.movie.domain.enums.Genre;
+import com.study.ticket.domain.movie.domain.repository.MovieRepository;
+import com.study.ticket.domain.movie.dto.MovieCondDto;
+import com.study.ticket.global.common.cursor.Cursor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 영화 검색 인덱스의 재색인 중 변경 반영, 검색 결과 정렬, 조건 필터와 페이징을 검증합니다.
+ */
+class MovieSearchIndexTests {
+
+	private static final LocalDate TODAY = LocalDate.of(2026, 10, 17);
+	private static final LocalDateTime CREATED_AT = LocalDateTime.of(2026, 10, 1, 12, 0);
+
+	private MovieRepository movieRepository;
+	private MovieSearchIndex movieSearchIndex;
+
+	@BeforeEach
+	void setUp() {
+		movieRepository = mock(MovieRepository.class);
+		movieSearchIndex = new MovieSearchIndex(movieRepository);
+	}
+
+	@Test
+	void rebuildReplaysUpdatesMadeDuringFullLoad() {
+		given(movieRepository.findAll()).willReturn(List.of(movie(1L, "기생충"), movie(2L, "괴물")));
+		movieSearchIndex.rebuild();
+
+		// 전체 조회 이후(조회 결과에는 반영되지 않은 시점)에 다른 요청이 영화를 등록/수정/삭제
+		given(movieRepository.findAll()).willAnswer(invocation -> {
+			List<Movie> snapshot = List.of(movie(1L, "기생충"), movie(2L, "괴물"));
+			movieSearchIndex.index(movie(3L, "마더"));
+			movieSearchIndex.index(movie(1L, "살인의 추억"));
+			movieSearchIndex.remove(2L);
+			return snapshot;
+		});
+		movieSearchIndex.rebuild();
+
+		assertThat(movieSearchIndex.size()).isEqualTo(2);
+		assertThat(search("마더")).containsExactly(3L);
+		assertThat(search("추억")).containsExactly(1L);
+		assertThat(search("기생충")).isEmpty();
+		assertThat(search("괴물")).isEmpty();
+	}
+
+	@Test
+	void updatesAfterRebuildAreNotRecordedAgain() {
+		given(movieRepository.findAll()).willReturn(List.of(movie(1L, "기생충")));
+		movieSearchIndex.rebuild();
+		movieSearchIndex.remove(1L);
+
+		given(movieRepository.findAll()).willReturn(List.of(movie(1L, "기생충")));
+		movieSearchIndex.rebuild();
+
+		// 직전 재색인이 끝난 뒤의 삭제는 다음 재색인의 조회 결과를 덮어쓰지 않음
+		assertThat(search("기생충")).containsExactly(1L);
+	}
+
+	@Test
+	void searchReturnsEveryMatchInRelevanceOrder() {
+		List<Movie> movies = new ArrayList<>();
+		for (long id = 1; id <= 1500; id++) {
+			movies.add(movie(id, "영화 " + id));
+		}
+		movies.add(movie(2000L, "영화"));
+		given(movieRepository.findAll()).willReturn(movies);
+		movieSearchIndex.rebuild();
+
+		List<Long> result = search("영화");
+
+		assertThat(result).hasSize(1501);
+		assertThat(result.get(0)).isEqualTo(2000L);
+	}
+
+	@Test
+	void searchFiltersByConditionAndPagesInsideIndex() {
+		List<Movie> movies = new ArrayList<>();
+		for (long id = 1; id <= 30; id++) {
+			Movie movie = movie(id, "영화 " + id);
+			movie.setGenre(id % 3 == 0 ? Genre.ACTION : Genre.DRAMA);
+			movie.setReleaseDate(id % 2 == 0 ? TODAY.minusDays(10) : TODAY.plusDays(10));
+			movie.setEndDate(TODAY.plusDays(20));
+			movies.add(movie);
+		}
+		given(movieRepository.findAll()).willReturn(movies);
+		movieSearchIndex.rebuild();
+
+		// 액션(3의 배수) 중 상영 중(짝수) = 6, 12, 18, 24, 30
+		MovieCondDto cond = MovieCondDto.builder().title("영화").genre(Genre.ACTION).nowPlayingFlag("Y").build();
+		MovieSearchIndex.SearchPage page = movieSearchIndex.search(cond, TODAY, 2, 2);
+
+		// 같은 점수는 제목이 짧은 순, 최근 등록(ID 큰) 순: 6, 30, 24, 18, 12
+		assertThat(page.totalCount()).isEqualTo(5);
+		assertThat(page.movieIds()).containsExactly(24L, 18L);
+
+		MovieCondDto upComing = MovieCondDto.builder().title("영화").genre(Genre.ACTION).upComingFlag("Y").build();
+		assertThat(movieSearchIndex.search(upComing, TODAY, 0, 10).movieIds()).containsExactly(9L, 3L, 27L, 21L, 15L);
+	}
+
+	@Test
+	void searchAfterContinuesFromCursorInCreatedOrder() {
+		List<Movie> movies = new ArrayList<>();
+		for (long id = 1; id <= 5; id++) {
+			Movie movie = movie(id, "영화 " + id);
+			movie.setCreatedAt(CREATED_AT.plusMinutes(id));
+			movies.add(movie);
+		}
+		// 같은 등록 시간은 ID 역순, 등록 시간이 없는 영화는 가장 뒤
+		Movie sameTime = movie(6L, "영화 6");
+		sameTime.setCreatedAt(CREATED_AT.plusMinutes(5));
+		movies.add(sameTime);
+		movies.add(movie(7L, "영화 7"));
+		given(movieRepository.findAll()).willReturn(movies);
+		movieSearchIndex.rebuild();
+
+		MovieCondDto cond = MovieCondDto.builder().title("영화").build();
+		MovieSearchIndex.SearchPage first = movieSearchIndex.searchAfter(cond, TODAY, null, 3);
+		assertThat(first.movieIds()).containsExactly(6L, 5L, 4L);
+		assertThat(first.totalCount()).isEqualTo(7);
+
+		MovieSearchIndex.SearchHit last = first.hits().get(2);
+		MovieSearchIndex.SearchPage next = movieSearchIndex.searchAfter(cond, TODAY, new Cursor(last.createdAt(), last.movieId()), 3);
+		assertThat(next.movieIds()).containsExactly(3L, 2L, 1L);
+
+		MovieSearchIndex.SearchPage tail = movieSearchIndex.searchAfter(cond, TODAY, new Cursor(CREATED_AT.plusMinutes(1), 1L), 3);
+		assertThat(tail.movieIds()).containsExactly(7L);
+	}
+
+	private List<Long> search(String keyword) {
+		MovieCondDto cond = MovieCondDto.builder().title(keyword).build();
+		return movieSearchIndex.search(cond, TODAY, 0, Integer.MAX_VALUE).movieIds();
+	}
+
+	private static Movie movie(Long id, String title) {
+		return Movie.builder()
+				.id(id)
+				.title(title)
+				.director("")
+				.actors("")
+				.build();
+	}
+}
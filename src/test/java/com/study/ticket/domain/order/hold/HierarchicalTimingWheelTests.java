@@ -0,0 +1,119 @@
+package com.study.ticket.domain.order.hold;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 계층형 타이밍 휠의 만료 시점, 단계 경계에서의 하강, 범위 밖 항목, 취소를 검증합니다.
+ * tick 10ms, 휠당 4슬롯, 3단계(단계별 1, 4, 16 tick, 최대 64 tick)로 경계를 작게 잡고 tick 단위로 시계를 전진시킵니다.
+ */
+class HierarchicalTimingWheelTests {
+
+	private static final long TICK_MS = 10;
+
+	private final HierarchicalTimingWheel<Long> timingWheel = new HierarchicalTimingWheel<>(TICK_MS, 4, 3, 0);
+
+	@Test
+	void itemsExpireExactlyAtDeadlineAcrossLevelBoundaries() {
+		// 각 단계의 슬롯/휠 경계 앞뒤와 최상위 휠 범위(64 tick) 밖
+		long[] deadlineTicks = {1, 2, 3, 4, 5, 15, 16, 17, 20, 31, 32, 63, 64, 65, 100, 130};
+		for (long deadlineTick : deadlineTicks) {
+			timingWheel.add(deadlineTick, deadlineTick * TICK_MS);
+		}
+
+		Map<Long, Long> expiredAt = advanceTickByTick(0, 140);
+
+		assertThat(expiredAt).hasSize(deadlineTicks.length);
+		expiredAt.forEach((deadlineTick, tick) -> assertThat(tick).as("deadline %d", deadlineTick).isEqualTo(deadlineTick));
+		assertThat(timingWheel.size()).isZero();
+	}
+
+	@Test
+	void itemsAddedAtUnalignedTickExpireExactlyAtDeadline() {
+		timingWheel.advance(7 * TICK_MS, item -> {
+		});
+
+		// 현재 tick 7 기준 남은 tick 1, 4, 5, 16, 17, 64(범위 밖)
+		long[] deadlineTicks = {8, 11, 12, 23, 24, 71};
+		for (long deadlineTick : deadlineTicks) {
+			timingWheel.add(deadlineTick, deadlineTick * TICK_MS);
+		}
+
+		Map<Long, Long> expiredAt = advanceTickByTick(7, 80);
+
+		assertThat(expiredAt).hasSize(deadlineTicks.length);
+		expiredAt.forEach((deadlineTick, tick) -> assertThat(tick).as("deadline %d", deadlineTick).isEqualTo(deadlineTick));
+	}
+
+	@Test
+	void itemNeverExpiresBeforeExpirationTime() {
+		timingWheel.add(1L, 25);
+		List<Long> expired = new ArrayList<>();
+
+		timingWheel.advance(29, expired::add);
+		assertThat(expired).isEmpty();
+
+		timingWheel.advance(30, expired::add);
+		assertThat(expired).containsExactly(1L);
+	}
+
+	@Test
+	void alreadyExpiredItemIsNotAdded() {
+		timingWheel.advance(50, item -> {
+		});
+
+		assertThat(timingWheel.add(1L, 50)).isNull();
+		assertThat(timingWheel.add(2L, 41)).isNull();
+		assertThat(timingWheel.add(3L, 51)).isNotNull();
+		assertThat(timingWheel.size()).isEqualTo(1);
+	}
+
+	@Test
+	void cancelledItemsAreSkippedAndRemovedWhenTheirSlotIsReached() {
+		HierarchicalTimingWheel.Timeout<Long> lowLevel = timingWheel.add(3L, 3 * TICK_MS);
+		HierarchicalTimingWheel.Timeout<Long> upperLevel = timingWheel.add(40L, 40 * TICK_MS);
+		HierarchicalTimingWheel.Timeout<Long> overflow = timingWheel.add(100L, 100 * TICK_MS);
+		timingWheel.add(41L, 41 * TICK_MS);
+		lowLevel.cancel();
+		upperLevel.cancel();
+		overflow.cancel();
+
+		// 취소된 항목은 슬롯에 도달할 때까지 크기에 포함
+		assertThat(timingWheel.size()).isEqualTo(4);
+
+		Map<Long, Long> expiredAt = advanceTickByTick(0, 120);
+
+		assertThat(expiredAt).containsOnlyKeys(41L);
+		assertThat(timingWheel.size()).isZero();
+	}
+
+	@Test
+	void largeAdvanceExpiresItemsInDeadlineOrder() {
+		long[] deadlineTicks = {65, 3, 17, 40, 1};
+		for (long deadlineTick : deadlineTicks) {
+			timingWheel.add(deadlineTick, deadlineTick * TICK_MS);
+		}
+		List<Long> expired = new ArrayList<>();
+
+		int expiredCount = timingWheel.advance(1000 * TICK_MS, expired::add);
+
+		assertThat(expiredCount).isEqualTo(5);
+		assertThat(expired).containsExactly(1L, 3L, 17L, 40L, 65L);
+	}
+
+	// fromTick 다음 tick부터 toTick까지 한 tick씩 전진하며 항목별 만료 tick 기록
+	private Map<Long, Long> advanceTickByTick(long fromTick, long toTick) {
+		Map<Long, Long> expiredAt = new HashMap<>();
+		for (long tick = fromTick + 1; tick <= toTick; tick++) {
+			long currentTick = tick;
+			timingWheel.advance(tick * TICK_MS, item -> assertThat(expiredAt.put(item, currentTick)).isNull());
+		}
+		return expiredAt;
+	}
+}
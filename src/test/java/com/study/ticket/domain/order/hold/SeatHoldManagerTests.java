@@ -0,0 +1,134 @@
+package com.study.ticket.domain.order.hold;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 좌석 홀드 관리자의 만료, 해제, 재등록, 만료 처리 실패 후 재시도를 고정 시계로 검증합니다.
+ */
+class SeatHoldManagerTests {
+
+	private static final Instant START = Instant.parse("2026-01-01T00:00:00Z");
+
+	private MutableClock clock;
+	private SeatHoldManager seatHoldManager;
+
+	@BeforeEach
+	void setUp() {
+		clock = new MutableClock(START);
+		seatHoldManager = new SeatHoldManager(clock);
+		ReflectionTestUtils.setField(seatHoldManager, "tickMs", 1000L);
+		ReflectionTestUtils.setField(seatHoldManager, "wheelSize", 8);
+		ReflectionTestUtils.setField(seatHoldManager, "levels", 3);
+		seatHoldManager.init();
+	}
+
+	@Test
+	void holdExpiresAtPaymentDeadline() {
+		seatHoldManager.hold(1L, deadlineAfter(Duration.ofMinutes(10)));
+
+		clock.advance(Duration.ofMinutes(10).minusMillis(1));
+		assertThat(seatHoldManager.pollExpired()).isEmpty();
+
+		clock.advance(Duration.ofMillis(1));
+		assertThat(seatHoldManager.pollExpired()).extracting(SeatHold::orderId).containsExactly(1L);
+		assertThat(seatHoldManager.getHoldCount()).isZero();
+	}
+
+	@Test
+	void releasedHoldDoesNotExpire() {
+		seatHoldManager.hold(1L, deadlineAfter(Duration.ofSeconds(30)));
+		seatHoldManager.release(1L);
+
+		clock.advance(Duration.ofMinutes(1));
+
+		assertThat(seatHoldManager.pollExpired()).isEmpty();
+		assertThat(seatHoldManager.getHoldCount()).isZero();
+	}
+
+	@Test
+	void holdingAgainReplacesPreviousDeadline() {
+		seatHoldManager.hold(1L, deadlineAfter(Duration.ofSeconds(30)));
+		seatHoldManager.hold(1L, deadlineAfter(Duration.ofSeconds(90)));
+
+		clock.advance(Duration.ofSeconds(30));
+		assertThat(seatHoldManager.pollExpired()).isEmpty();
+
+		clock.advance(Duration.ofSeconds(60));
+		assertThat(seatHoldManager.pollExpired()).extracting(SeatHold::orderId).containsExactly(1L);
+	}
+
+	@Test
+	void expiredHoldHeldAgainIsRetriedOnNextTick() {
+		LocalDateTime deadline = deadlineAfter(Duration.ofSeconds(5));
+		seatHoldManager.hold(1L, deadline);
+		clock.advance(Duration.ofSeconds(5));
+		assertThat(seatHoldManager.pollExpired()).hasSize(1);
+
+		// 만료 처리에 실패하면 스케줄러가 지난 결제 마감 시간 그대로 다시 등록
+		seatHoldManager.hold(1L, deadline);
+		assertThat(seatHoldManager.pollExpired()).isEmpty();
+
+		clock.advance(Duration.ofSeconds(1));
+		assertThat(seatHoldManager.pollExpired()).extracting(SeatHold::paymentDeadline).containsExactly(deadline);
+		assertThat(seatHoldManager.pollExpired()).isEmpty();
+	}
+
+	@Test
+	void holdBeyondWheelRangeExpiresAtDeadline() {
+		// 1초, 8슬롯, 3단계 휠의 범위(512초)를 넘는 결제 마감 시간
+		seatHoldManager.hold(1L, deadlineAfter(Duration.ofSeconds(1500)));
+
+		for (int second = 1; second < 1500; second++) {
+			clock.advance(Duration.ofSeconds(1));
+			assertThat(seatHoldManager.pollExpired()).as("%d초", second).isEmpty();
+		}
+		clock.advance(Duration.ofSeconds(1));
+		assertThat(seatHoldManager.pollExpired()).extracting(SeatHold::orderId).containsExactly(1L);
+	}
+
+	private LocalDateTime deadlineAfter(Duration duration) {
+		return LocalDateTime.ofInstant(clock.instant().plus(duration), clock.getZone());
+	}
+
+	/**
+	 * 테스트에서 직접 전진시키는 시계
+	 */
+	private static final class MutableClock extends Clock {
+
+		private Instant instant;
+
+		private MutableClock(Instant instant) {
+			this.instant = instant;
+		}
+
+		private void advance(Duration duration) {
+			instant = instant.plus(duration);
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Instant instant() {
+			return instant;
+		}
+	}
+}
@@ -0,0 +1,72 @@
+package com.study.ticket.domain.outbox.relay;
+
+import com.study.ticket.domain.outbox.service.OutboxEventPublisher;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Outbox 릴레이 워커가 신호를 받으면 선점할 이벤트가 없을 때까지 발행을 반복하고,
+ * 신호가 없어도 최대 대기 시간마다 한 번 선점을 시도하는지 검증합니다.
+ */
+class OutboxRelayWorkerTests {
+
+	private static final int BATCH_SIZE = 100;
+
+	private OutboxEventPublisher outboxEventPublisher;
+	private OutboxRelaySignal outboxRelaySignal;
+	private OutboxRelayWorker outboxRelayWorker;
+
+	@BeforeEach
+	void setUp() {
+		outboxEventPublisher = mock(OutboxEventPublisher.class);
+		outboxRelaySignal = new OutboxRelaySignal();
+		outboxRelayWorker = new OutboxRelayWorker(outboxEventPublisher, outboxRelaySignal);
+		ReflectionTestUtils.setField(outboxRelayWorker, "batchSize", BATCH_SIZE);
+	}
+
+	@AfterEach
+	void tearDown() {
+		outboxRelayWorker.stop();
+	}
+
+	@Test
+	void signalledWorkerKeepsClaimingAfterPartialBatchUntilNothingIsClaimed() {
+		ReflectionTestUtils.setField(outboxRelayWorker, "idleTimeoutMs", 60_000L);
+		// 앞선 이벤트 1건 발행 후 같은 파티션 키의 다음 이벤트가 선점 가능해짐
+		given(outboxEventPublisher.publishEvents(BATCH_SIZE)).willReturn(1, 1, 0);
+		outboxRelayWorker.start();
+
+		outboxRelaySignal.signal();
+
+		verify(outboxEventPublisher, timeout(1_000).times(3)).publishEvents(BATCH_SIZE);
+		verify(outboxEventPublisher, after(200).times(3)).publishEvents(anyInt());
+	}
+
+	@Test
+	void idleTimeoutRunsClaimPassWithoutSignal() {
+		ReflectionTestUtils.setField(outboxRelayWorker, "idleTimeoutMs", 50L);
+		given(outboxEventPublisher.publishEvents(BATCH_SIZE)).willReturn(0);
+		outboxRelayWorker.start();
+
+		verify(outboxEventPublisher, timeout(1_000).atLeast(2)).publishEvents(BATCH_SIZE);
+	}
+
+	@Test
+	void workerWaitsForSignalWithinIdleTimeout() {
+		ReflectionTestUtils.setField(outboxRelayWorker, "idleTimeoutMs", 60_000L);
+		outboxRelayWorker.start();
+
+		verify(outboxEventPublisher, after(200).never()).publishEvents(anyInt());
+		outboxRelaySignal.signal();
+		verify(outboxEventPublisher, timeout(1_000).times(1)).publishEvents(BATCH_SIZE);
+	}
+}
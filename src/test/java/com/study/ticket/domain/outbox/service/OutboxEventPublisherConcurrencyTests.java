@@ -0,0 +1,127 @@
+package com.study.ticket.domain.outbox.service;
+
+import com.study.ticket.domain.outbox.domain.entity.OutboxEvent;
+import com.study.ticket.domain.outbox.domain.enums.EventStatus;
+import com.study.ticket.domain.outbox.domain.enums.EventType;
+import com.study.ticket.domain.outbox.domain.repository.OutboxEventRepository;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * 여러 릴레이가 동시에 Outbox 이벤트를 선점/발행할 때
+ * 중복 발행이 없고 파티션 키별 발행 순서가 유지되는지 검증합니다.
+ */
+@SpringBootTest(properties = "outbox.relay.enabled=false")
+class OutboxEventPublisherConcurrencyTests {
+
+	private static final String TOPIC = "order-events";
+	private static final int RELAY_COUNT = 4;
+	private static final int AGGREGATE_COUNT = 20;
+	private static final int EVENTS_PER_AGGREGATE = 10;
+	private static final int BATCH_SIZE = 7;
+
+	@Autowired
+	private OutboxEventPublisher outboxEventPublisher;
+
+	@Autowired
+	private OutboxEventRepository outboxEventRepository;
+
+	@MockitoBean
+	private KafkaTemplate<String, byte[]> byteArrayKafkaTemplate;
+
+	@Test
+	void concurrentRelaysPublishEachEventOnceInPartitionKeyOrder() throws Exception {
+		List<String> sent = Collections.synchronizedList(new ArrayList<>());
+		given(byteArrayKafkaTemplate.send(ArgumentMatchers.<ProducerRecord<String, byte[]>>any())).willAnswer(invocation -> {
+			ProducerRecord<String, byte[]> record = invocation.getArgument(0);
+			String payload = new String(record.value(), StandardCharsets.UTF_8);
+			sent.add(record.key() + ":" + payload.replaceAll("\\D", ""));
+			return CompletableFuture.completedFuture(null);
+		});
+
+		// 집계별 이벤트를 섞어서 저장
+		List<OutboxEvent> events = new ArrayList<>();
+		for (int seq = 0; seq < EVENTS_PER_AGGREGATE; seq++) {
+			for (int aggregate = 0; aggregate < AGGREGATE_COUNT; aggregate++) {
+				String aggregateId = "relay-test-" + aggregate;
+				events.add(OutboxEvent.builder()
+						.aggregateType("ORDER")
+						.aggregateId(aggregateId)
+						.eventType(EventType.ORDER_CREATED)
+						.eventKey(aggregateId + "-" + seq)
+						.payload("{\"seq\":" + seq + "}")
+						.status(EventStatus.CREATED)
+						.topic(TOPIC)
+						.partitionKey(aggregateId)
+						.build());
+			}
+		}
+		outboxEventRepository.saveAll(events);
+		int total = events.size();
+
+		// 여러 릴레이를 동시에 실행
+		ExecutorService executor = Executors.newFixedThreadPool(RELAY_COUNT);
+		CountDownLatch startLatch = new CountDownLatch(1);
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+		List<Future<?>> relays = new ArrayList<>();
+		for (int i = 0; i < RELAY_COUNT; i++) {
+			relays.add(executor.submit(() -> {
+				startLatch.await();
+				while (sent.size() < total && System.nanoTime() < deadline) {
+					if (outboxEventPublisher.publishEvents(BATCH_SIZE) == 0) {
+						Thread.sleep(5);
+					}
+				}
+				return null;
+			}));
+		}
+		startLatch.countDown();
+		for (Future<?> relay : relays) {
+			relay.get(60, TimeUnit.SECONDS);
+		}
+		executor.shutdown();
+
+		// 중복 발행 없음
+		List<String> sentSnapshot;
+		synchronized (sent) {
+			sentSnapshot = new ArrayList<>(sent);
+		}
+		assertThat(sentSnapshot).hasSize(total);
+		assertThat(new HashSet<>(sentSnapshot)).hasSize(total);
+
+		// 파티션 키별 발행 순서 유지
+		Map<String, List<Integer>> sequencesByKey = new LinkedHashMap<>();
+		for (String record : sentSnapshot) {
+			String[] parts = record.split(":");
+			sequencesByKey.computeIfAbsent(parts[0], key -> new ArrayList<>()).add(Integer.parseInt(parts[1]));
+		}
+		assertThat(sequencesByKey).hasSize(AGGREGATE_COUNT);
+		sequencesByKey.values().forEach(sequences -> assertThat(sequences).isSorted());
+
+		// 모든 이벤트가 발행 완료 상태
+		assertThat(outboxEventRepository.findAllById(events.stream().map(OutboxEvent::getId).toList()))
+				.allMatch(event -> event.getStatus() == EventStatus.PUBLISHED);
+	}
+}
@@ -0,0 +1,107 @@
+package com.study.ticket.domain.outbox.service;
+
+import com.study.ticket.domain.outbox.domain.entity.OutboxEvent;
+import com.study.ticket.domain.outbox.domain.entity.OutboxEventArchive;
+import com.study.ticket.domain.outbox.domain.enums.EventStatus;
+import com.study.ticket.domain.outbox.domain.enums.EventType;
+import com.study.ticket.domain.outbox.domain.enums.RetentionMode;
+import com.study.ticket.domain.outbox.domain.repository.OutboxEventArchiveRepository;
+import com.study.ticket.domain.outbox.domain.repository.OutboxEventRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 보존 기간이 지난 발행 완료 이벤트가 배치 단위로 삭제/아카이브되고,
+ * 보존 기간 이내이거나 발행되지 않은 이벤트는 남는지 검증합니다.
+ */
+@SpringBootTest(properties = {"outbox.relay.enabled=false", "outbox.retention.enabled=false"})
+class OutboxRetentionServiceTests {
+
+	private static final int BATCH_SIZE = 3;
+
+	@Autowired
+	private OutboxRetentionService outboxRetentionService;
+
+	@Autowired
+	private OutboxEventRepository outboxEventRepository;
+
+	@Autowired
+	private OutboxEventArchiveRepository outboxEventArchiveRepository;
+
+	@MockitoBean
+	private KafkaTemplate<String, byte[]> byteArrayKafkaTemplate;
+
+	@Test
+	void deleteModePurgesExpiredPublishedEventsInBatches() {
+		LocalDateTime now = LocalDateTime.now();
+		List<Long> expiredIds = saveEvents("retention-delete", 5, EventStatus.PUBLISHED, now.minusDays(10));
+		List<Long> recentIds = saveEvents("retention-delete-recent", 2, EventStatus.PUBLISHED, now);
+		List<Long> pendingIds = saveEvents("retention-delete-pending", 2, EventStatus.CREATED, null);
+
+		List<Integer> purged = purgeAll(now.minusDays(1), RetentionMode.DELETE);
+
+		// 배치 크기만큼 나누어 정리하고 더 이상 대상이 없으면 0
+		assertThat(purged).containsExactly(3, 2, 0);
+		assertThat(outboxEventRepository.findAllById(expiredIds)).isEmpty();
+		assertThat(outboxEventRepository.findAllById(recentIds)).hasSize(2);
+		assertThat(outboxEventRepository.findAllById(pendingIds)).hasSize(2);
+		assertThat(outboxEventArchiveRepository.findAllById(expiredIds)).isEmpty();
+	}
+
+	@Test
+	void archiveModeCopiesExpiredEventsBeforeDeleting() {
+		LocalDateTime now = LocalDateTime.now();
+		List<Long> expiredIds = saveEvents("retention-archive", 4, EventStatus.PUBLISHED, now.minusDays(10));
+
+		List<Integer> purged = purgeAll(now.minusDays(1), RetentionMode.ARCHIVE);
+
+		assertThat(purged).containsExactly(3, 1, 0);
+		assertThat(outboxEventRepository.findAllById(expiredIds)).isEmpty();
+		List<OutboxEventArchive> archived = outboxEventArchiveRepository.findAllById(expiredIds);
+		assertThat(archived).hasSize(4);
+		assertThat(archived).allSatisfy(archive -> assertThat(archive.getArchivedAt()).isNotNull());
+
+		// 아카이브 보존 기간이 지나면 아카이브 테이블에서도 배치로 삭제
+		assertThat(outboxRetentionService.purgeArchivedEvents(LocalDateTime.now().plusMinutes(1), BATCH_SIZE)).isEqualTo(3);
+		assertThat(outboxRetentionService.purgeArchivedEvents(LocalDateTime.now().plusMinutes(1), BATCH_SIZE)).isEqualTo(1);
+		assertThat(outboxEventArchiveRepository.findAllById(expiredIds)).isEmpty();
+	}
+
+	// 대상이 없을 때까지 배치 정리를 반복하고 배치별 정리 건수를 반환
+	private List<Integer> purgeAll(LocalDateTime before, RetentionMode mode) {
+		List<Integer> purged = new ArrayList<>();
+		int count;
+		do {
+			count = outboxRetentionService.purgePublishedEvents(before, BATCH_SIZE, mode);
+			purged.add(count);
+		} while (count > 0);
+		return purged;
+	}
+
+	private List<Long> saveEvents(String aggregateId, int count, EventStatus status, LocalDateTime publishedAt) {
+		List<OutboxEvent> events = new ArrayList<>();
+		for (int seq = 0; seq < count; seq++) {
+			events.add(OutboxEvent.builder()
+					.aggregateType("ORDER")
+					.aggregateId(aggregateId)
+					.eventType(EventType.ORDER_CREATED)
+					.eventKey(aggregateId + "-" + seq + "-" + System.nanoTime())
+					.payload("{\"seq\":" + seq + "}")
+					.status(status)
+					.topic("order-events")
+					.partitionKey(aggregateId)
+					.publishedAt(publishedAt)
+					.build());
+		}
+		return outboxEventRepository.saveAll(events).stream().map(OutboxEvent::getId).toList();
+	}
+}
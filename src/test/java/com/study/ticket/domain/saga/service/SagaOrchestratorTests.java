@@ -0,0 +1,169 @@
+package com.study.ticket.domain.saga.service;
+
+import com.study.ticket.domain.saga.definition.SagaDefinition;
+import com.study.ticket.domain.saga.definition.SagaStep;
+import com.study.ticket.domain.saga.domain.enums.SagaStatus;
+import com.study.ticket.domain.saga.domain.enums.SagaType;
+import com.study.ticket.domain.saga.state.SagaInstance;
+import com.study.ticket.domain.saga.state.SagaStateStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Saga 오케스트레이터의 단계 진행, 기존 주문(Saga 없음) 처리, 역순 보상을 검증합니다.
+ */
+class SagaOrchestratorTests {
+
+	private static final SagaType SAGA_TYPE = SagaType.ORDER_PROCESSING;
+	private static final String AGGREGATE_ID = "1";
+	private static final String SAGA_KEY = SagaInstance.key(SAGA_TYPE, AGGREGATE_ID);
+
+	private final List<String> executed = new ArrayList<>();
+
+	private SagaStateStore sagaStateStore;
+	private SagaOrchestrator sagaOrchestrator;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		sagaStateStore = mock(SagaStateStore.class);
+		SagaDefinition definition = new SagaDefinition() {
+			private final List<SagaStep> steps = List.of(
+					SagaStep.external("reserve", id -> executed.add("compensate:reserve"), null),
+					SagaStep.external("pay", id -> executed.add("compensate:pay"), Duration.ofMinutes(30)),
+					SagaStep.local("issue", id -> executed.add("issue:" + id), null, Duration.ofMinutes(10))
+			);
+
+			@Override
+			public SagaType sagaType() {
+				return SAGA_TYPE;
+			}
+
+			@Override
+			public List<SagaStep> steps() {
+				return steps;
+			}
+		};
+		ObjectProvider<SagaDefinition> sagaDefinitionProvider = mock(ObjectProvider.class);
+		given(sagaDefinitionProvider.iterator()).willAnswer(invocation -> List.of(definition).iterator());
+		sagaOrchestrator = new SagaOrchestrator(sagaStateStore, mock(SagaMetrics.class), sagaDefinitionProvider);
+	}
+
+	@Test
+	void completeWithoutSagaIsIgnoredForLegacyAggregate() {
+		given(sagaStateStore.find(SAGA_KEY)).willReturn(Optional.empty());
+
+		sagaOrchestrator.complete(SAGA_TYPE, AGGREGATE_ID, "pay");
+
+		verify(sagaStateStore, never()).save(any());
+	}
+
+	@Test
+	void proceedWithoutSagaRunsLocalStepsDirectly() {
+		given(sagaStateStore.find(SAGA_KEY)).willReturn(Optional.empty());
+
+		sagaOrchestrator.proceed(SAGA_TYPE, AGGREGATE_ID);
+
+		assertThat(executed).containsExactly("issue:" + AGGREGATE_ID);
+		verify(sagaStateStore, never()).save(any());
+	}
+
+	@Test
+	void completeAdvancesCurrentStep() {
+		given(sagaStateStore.find(SAGA_KEY)).willReturn(Optional.of(instance(1, SagaStatus.IN_PROGRESS)));
+
+		sagaOrchestrator.complete(SAGA_TYPE, AGGREGATE_ID, "pay");
+
+		ArgumentCaptor<SagaInstance> saved = ArgumentCaptor.forClass(SagaInstance.class);
+		verify(sagaStateStore).save(saved.capture());
+		assertThat(saved.getValue().currentStep()).isEqualTo(2);
+		assertThat(saved.getValue().timeoutAt()).isNotNull();
+	}
+
+	@Test
+	void completeIgnoresStepAlreadyPassed() {
+		given(sagaStateStore.find(SAGA_KEY)).willReturn(Optional.of(instance(2, SagaStatus.IN_PROGRESS)));
+
+		sagaOrchestrator.complete(SAGA_TYPE, AGGREGATE_ID, "pay");
+
+		verify(sagaStateStore, never()).save(any());
+	}
+
+	@Test
+	void completeRejectsCompensatedSaga() {
+		given(sagaStateStore.find(SAGA_KEY)).willReturn(Optional.of(instance(1, SagaStatus.COMPENSATED)));
+
+		assertThatThrownBy(() -> sagaOrchestrator.complete(SAGA_TYPE, AGGREGATE_ID, "pay"))
+				.isInstanceOf(RuntimeException.class)
+				.hasMessageContaining("진행할 수 없는 Saga 상태");
+	}
+
+	@Test
+	void proceedRunsLocalStepsAndCompletesSaga() {
+		given(sagaStateStore.find(SAGA_KEY)).willReturn(Optional.of(instance(2, SagaStatus.IN_PROGRESS)));
+
+		sagaOrchestrator.proceed(SAGA_TYPE, AGGREGATE_ID);
+
+		ArgumentCaptor<SagaInstance> saved = ArgumentCaptor.forClass(SagaInstance.class);
+		verify(sagaStateStore).save(saved.capture());
+		assertThat(executed).containsExactly("issue:" + AGGREGATE_ID);
+		assertThat(saved.getValue().status()).isEqualTo(SagaStatus.COMPLETED);
+	}
+
+	@Test
+	void proceedStopsAtExternalStep() {
+		given(sagaStateStore.find(SAGA_KEY)).willReturn(Optional.of(instance(1, SagaStatus.IN_PROGRESS)));
+
+		sagaOrchestrator.proceed(SAGA_TYPE, AGGREGATE_ID);
+
+		assertThat(executed).isEmpty();
+		verify(sagaStateStore, never()).save(any());
+	}
+
+	@Test
+	void compensateRunsCompletedStepsInReverseOrder() {
+		given(sagaStateStore.find(SAGA_KEY)).willReturn(Optional.of(instance(2, SagaStatus.IN_PROGRESS)));
+
+		boolean compensated = sagaOrchestrator.compensate(SAGA_TYPE, AGGREGATE_ID, "주문 취소");
+
+		ArgumentCaptor<SagaInstance> saved = ArgumentCaptor.forClass(SagaInstance.class);
+		verify(sagaStateStore, times(2)).save(saved.capture());
+		assertThat(compensated).isTrue();
+		assertThat(executed).containsExactly("compensate:pay", "compensate:reserve");
+		assertThat(saved.getAllValues()).extracting(SagaInstance::status)
+				.containsExactly(SagaStatus.COMPENSATING, SagaStatus.COMPENSATED);
+	}
+
+	@Test
+	void compensateSkipsFinishedSaga() {
+		given(sagaStateStore.find(SAGA_KEY)).willReturn(Optional.of(instance(3, SagaStatus.COMPLETED)));
+
+		boolean compensated = sagaOrchestrator.compensate(SAGA_TYPE, AGGREGATE_ID, "주문 취소");
+
+		assertThat(compensated).isFalse();
+		assertThat(executed).isEmpty();
+		verify(sagaStateStore, never()).save(any());
+	}
+
+	private static SagaInstance instance(int currentStep, SagaStatus status) {
+		return new SagaInstance(10L, SAGA_KEY, SAGA_TYPE, AGGREGATE_ID, currentStep, 3, status,
+				null, null, null, LocalDateTime.now(), 1L);
+	}
+}
@@ -0,0 +1,184 @@
+package com.study.ticket.domain.saga.state;
+
+import com.study.ticket.domain.saga.domain.entity.SagaState;
+import com.study.ticket.domain.saga.domain.enums.SagaStatus;
+import com.study.ticket.domain.saga.domain.enums.SagaType;
+import com.study.ticket.domain.saga.domain.repository.SagaStateRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Saga 상태 저장소의 트랜잭션 단위 배치 UPDATE와 버전 조건(낙관적 락) 검사를 검증합니다.
+ * 트랜잭션 동기화를 직접 초기화하고 커밋/롤백 콜백을 호출합니다.
+ */
+class SagaStateStoreTests {
+
+	private static final String FIRST_KEY = SagaInstance.key(SagaType.ORDER_PROCESSING, "1");
+	private static final String SECOND_KEY = SagaInstance.key(SagaType.ORDER_PROCESSING, "2");
+
+	private SagaStateRepository sagaStateRepository;
+	private JdbcTemplate jdbcTemplate;
+	private SagaStateStore sagaStateStore;
+
+	@BeforeEach
+	void setUp() {
+		sagaStateRepository = mock(SagaStateRepository.class);
+		jdbcTemplate = mock(JdbcTemplate.class);
+		sagaStateStore = new SagaStateStore(sagaStateRepository, jdbcTemplate, new SimpleMeterRegistry(), 100L, 60_000L);
+		given(sagaStateRepository.findBySagaKey(FIRST_KEY)).willReturn(Optional.of(sagaState(1L, "1", 3L)));
+		given(sagaStateRepository.findBySagaKey(SECOND_KEY)).willReturn(Optional.of(sagaState(2L, "2", 7L)));
+	}
+
+	@AfterEach
+	void tearDown() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	@Test
+	void updatesInOneTransactionAreWrittenInOneBatchWithCachedVersions() {
+		given(jdbcTemplate.batchUpdate(anyString(), anyList())).willReturn(new int[]{1, 1});
+
+		TransactionSynchronizationManager.initSynchronization();
+		SagaInstance first = sagaStateStore.find(FIRST_KEY).orElseThrow();
+		sagaStateStore.save(first.nextStep(null));
+		sagaStateStore.save(sagaStateStore.find(FIRST_KEY).orElseThrow().nextStep(null));
+		sagaStateStore.save(sagaStateStore.find(SECOND_KEY).orElseThrow().nextStep(null));
+		commit();
+
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<Object[]>> batchArgs = ArgumentCaptor.forClass(List.class);
+		verify(jdbcTemplate).batchUpdate(anyString(), batchArgs.capture());
+		// 같은 Saga의 여러 변경은 마지막 상태 한 행으로, 버전 조건은 DB에서 읽은 버전
+		assertThat(batchArgs.getValue()).hasSize(2);
+		assertThat(batchArgs.getValue().get(0)[0]).isEqualTo(3);
+		assertThat(batchArgs.getValue().get(0)[7]).isEqualTo(3L);
+		assertThat(batchArgs.getValue().get(1)[7]).isEqualTo(7L);
+
+		// 커밋 후 캐시에는 증가한 버전이 반영되어 DB를 다시 읽지 않음
+		assertThat(sagaStateStore.find(FIRST_KEY).orElseThrow().version()).isEqualTo(4L);
+		verify(sagaStateRepository).findBySagaKey(FIRST_KEY);
+	}
+
+	@Test
+	void staleVersionThrowsOptimisticLockAndEvictsCachedState() {
+		given(jdbcTemplate.batchUpdate(anyString(), anyList())).willReturn(new int[]{1, 0});
+
+		TransactionSynchronizationManager.initSynchronization();
+		sagaStateStore.save(sagaStateStore.find(FIRST_KEY).orElseThrow().nextStep(null));
+		sagaStateStore.save(sagaStateStore.find(SECOND_KEY).orElseThrow().nextStep(null));
+
+		assertThatThrownBy(this::commit).isInstanceOf(ObjectOptimisticLockingFailureException.class);
+		rollback();
+
+		// 롤백된 Saga는 캐시에서 제거되어 재시도 시 DB에서 최신 상태를 다시 읽음
+		sagaStateStore.find(FIRST_KEY);
+		sagaStateStore.find(SECOND_KEY);
+		verify(sagaStateRepository, times(2)).findBySagaKey(FIRST_KEY);
+		verify(sagaStateRepository, times(2)).findBySagaKey(SECOND_KEY);
+	}
+
+	@Test
+	void successNoInfoIsVerifiedByReadingIncrementedVersion() {
+		given(jdbcTemplate.batchUpdate(anyString(), anyList())).willReturn(new int[]{Statement.SUCCESS_NO_INFO, 1});
+		given(jdbcTemplate.query(anyString(), ArgumentMatchers.<RowMapper<Map.Entry<Long, Long>>>any(), any(Object[].class)))
+				.willReturn(List.of(Map.entry(1L, 4L)));
+
+		TransactionSynchronizationManager.initSynchronization();
+		sagaStateStore.save(sagaStateStore.find(FIRST_KEY).orElseThrow().nextStep(null));
+		sagaStateStore.save(sagaStateStore.find(SECOND_KEY).orElseThrow().nextStep(null));
+		commit();
+
+		// 결과를 알 수 없는 행만 수정 시간과 ID로 다시 조회
+		ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+		verify(jdbcTemplate).query(anyString(), ArgumentMatchers.<RowMapper<Map.Entry<Long, Long>>>any(), args.capture());
+		assertThat(args.getValue()).hasSize(2);
+		assertThat(args.getValue()[1]).isEqualTo(1L);
+		assertThat(sagaStateStore.find(FIRST_KEY).orElseThrow().version()).isEqualTo(4L);
+	}
+
+	@Test
+	void successNoInfoWithoutIncrementedVersionThrowsOptimisticLock() {
+		given(jdbcTemplate.batchUpdate(anyString(), anyList())).willReturn(new int[]{Statement.SUCCESS_NO_INFO});
+		// 다른 트랜잭션이 먼저 변경해 이번 수정 시간으로 기록된 행이 없음
+		given(jdbcTemplate.query(anyString(), ArgumentMatchers.<RowMapper<Map.Entry<Long, Long>>>any(), any(Object[].class)))
+				.willReturn(List.of());
+
+		TransactionSynchronizationManager.initSynchronization();
+		sagaStateStore.save(sagaStateStore.find(FIRST_KEY).orElseThrow().nextStep(null));
+
+		assertThatThrownBy(this::commit).isInstanceOf(ObjectOptimisticLockingFailureException.class);
+	}
+
+	@Test
+	void finishedSagaIsRemovedFromCacheAfterCommit() {
+		given(jdbcTemplate.batchUpdate(anyString(), anyList())).willReturn(new int[]{1});
+
+		TransactionSynchronizationManager.initSynchronization();
+		SagaInstance instance = sagaStateStore.find(FIRST_KEY).orElseThrow();
+		sagaStateStore.save(instance.startCompensation("주문 취소").completeCompensation());
+		commit();
+
+		sagaStateStore.find(FIRST_KEY);
+		verify(sagaStateRepository, times(2)).findBySagaKey(FIRST_KEY);
+	}
+
+	@Test
+	void saveOutsideTransactionIsRejected() {
+		SagaInstance instance = sagaStateStore.find(FIRST_KEY).orElseThrow();
+
+		assertThatThrownBy(() -> sagaStateStore.save(instance.nextStep(null)))
+				.isInstanceOf(IllegalStateException.class);
+	}
+
+	private void commit() {
+		List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+		synchronizations.forEach(synchronization -> synchronization.beforeCommit(false));
+		TransactionSynchronizationManager.clearSynchronization();
+		synchronizations.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+	}
+
+	private void rollback() {
+		List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+		TransactionSynchronizationManager.clearSynchronization();
+		synchronizations.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+	}
+
+	private static SagaState sagaState(Long id, String aggregateId, Long version) {
+		return SagaState.builder()
+				.id(id)
+				.sagaKey(SagaInstance.key(SagaType.ORDER_PROCESSING, aggregateId))
+				.sagaType(SagaType.ORDER_PROCESSING)
+				.aggregateId(aggregateId)
+				.currentStep(1)
+				.totalSteps(5)
+				.status(SagaStatus.IN_PROGRESS)
+				.version(version)
+				.build();
+	}
+}
@@ -0,0 +1,82 @@
+package com.study.ticket.domain.screening.cache;
+
+import com.study.ticket.domain.screening.dto.ScreeningDetailDto;
+import com.study.ticket.domain.screening.seat.SeatMapEngine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.OptionalInt;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 상영 조회 캐시의 적재, 무효화, 가용 좌석 수 덮어쓰기를 검증합니다.
+ */
+class ScreeningQueryCacheTests {
+
+	private static final Long SCREENING_ID = 1L;
+
+	private SeatMapEngine seatMapEngine;
+	private ScreeningQueryCache screeningQueryCache;
+
+	@BeforeEach
+	void setUp() {
+		seatMapEngine = mock(SeatMapEngine.class);
+		given(seatMapEngine.findAvailableSeats(SCREENING_ID)).willReturn(OptionalInt.empty());
+		screeningQueryCache = new ScreeningQueryCache(seatMapEngine, 100L, 100L, 60_000L);
+	}
+
+	@Test
+	void loadsOnceAndServesFromCache() {
+		AtomicInteger loads = new AtomicInteger();
+
+		screeningQueryCache.getDetail(SCREENING_ID, id -> detail(id, loads.incrementAndGet()));
+		ScreeningDetailDto cached = screeningQueryCache.getDetail(SCREENING_ID, id -> detail(id, loads.incrementAndGet()));
+
+		assertThat(loads).hasValue(1);
+		assertThat(cached.getAvailableSeats()).isEqualTo(1);
+	}
+
+	@Test
+	void entryEvictedWhileLoadingIsNotCached() {
+		AtomicInteger loads = new AtomicInteger();
+
+		// 불러오는 중에 상영이 수정되어 무효화됨
+		screeningQueryCache.getDetail(SCREENING_ID, id -> {
+			screeningQueryCache.evict(id);
+			return detail(id, loads.incrementAndGet());
+		});
+		ScreeningDetailDto reloaded = screeningQueryCache.getDetail(SCREENING_ID, id -> detail(id, loads.incrementAndGet()));
+
+		assertThat(loads).hasValue(2);
+		assertThat(reloaded.getAvailableSeats()).isEqualTo(2);
+	}
+
+	@Test
+	void loaderMayReadCacheWithoutDeadlock() {
+		// 계산 함수 밖에서 불러오므로 조회 함수가 같은 캐시를 다시 조회해도 재귀 갱신 오류가 나지 않음
+		ScreeningDetailDto detail = screeningQueryCache.getDetail(SCREENING_ID,
+				id -> screeningQueryCache.getDetail(2L, otherId -> detail(otherId, 3)));
+
+		assertThat(detail.getId()).isEqualTo(2L);
+	}
+
+	@Test
+	void overridesAvailableSeatsWithSeatMapValue() {
+		given(seatMapEngine.findAvailableSeats(SCREENING_ID)).willReturn(OptionalInt.of(42));
+
+		ScreeningDetailDto detail = screeningQueryCache.getDetail(SCREENING_ID, id -> detail(id, 100));
+
+		assertThat(detail.getAvailableSeats()).isEqualTo(42);
+		assertThat(detail.getTotalSeats()).isEqualTo(100);
+	}
+
+	private static ScreeningDetailDto detail(Long id, int availableSeats) {
+		LocalDateTime startTime = LocalDateTime.of(2026, 1, 1, 10, 0);
+		return new ScreeningDetailDto(id, 10L, "영화", "1관", startTime, startTime.plusHours(2), 100, availableSeats, 10000);
+	}
+}
@@ -0,0 +1,54 @@
+package com.study.ticket.domain.screening.listener;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.ticket.domain.screening.cache.ScreeningQueryCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.Acknowledgment;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 상영 조회 캐시 무효화 리스너가 생성/수정/삭제 이벤트로 캐시를 무효화하는지 검증합니다.
+ */
+class ScreeningCacheInvalidationListenerTests {
+
+	private ScreeningQueryCache screeningQueryCache;
+	private Acknowledgment acknowledgment;
+	private ScreeningCacheInvalidationListener listener;
+
+	@BeforeEach
+	void setUp() {
+		screeningQueryCache = mock(ScreeningQueryCache.class);
+		acknowledgment = mock(Acknowledgment.class);
+		listener = new ScreeningCacheInvalidationListener(screeningQueryCache, new ObjectMapper());
+	}
+
+	@Test
+	void deletedEventEvictsScreening() {
+		listener.consumeScreeningEvent("{\"eventType\":\"SCREENING_DELETED\",\"screeningId\":7}", acknowledgment);
+
+		verify(screeningQueryCache).evict(7L);
+		verify(acknowledgment).acknowledge();
+	}
+
+	@Test
+	void updatedEventEvictsScreening() {
+		listener.consumeScreeningEvent("{\"eventType\":\"SCREENING_UPDATED\",\"screeningId\":3}", acknowledgment);
+
+		verify(screeningQueryCache).evict(3L);
+	}
+
+	@Test
+	void unrelatedOrMalformedEventIsAcknowledgedWithoutEviction() {
+		listener.consumeScreeningEvent("{\"eventType\":\"TICKET_ISSUED\",\"screeningId\":3}", acknowledgment);
+		listener.consumeScreeningEvent("not-json", acknowledgment);
+
+		verify(screeningQueryCache, never()).evict(any());
+		verify(acknowledgment, times(2)).acknowledge();
+	}
+}
@@ -0,0 +1,54 @@
+package com.study.ticket.domain.screening.seat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 좌석 번호와 좌석 인덱스 변환을 검증합니다.
+ */
+class SeatLayoutTests {
+
+	private SeatLayout seatLayout;
+
+	@BeforeEach
+	void setUp() {
+		seatLayout = new SeatLayout();
+		ReflectionTestUtils.setField(seatLayout, "seatsPerRow", 10);
+	}
+
+	@Test
+	void convertsSeatNumberToIndex() {
+		assertThat(seatLayout.toIndex("A1", 100)).isEqualTo(0);
+		assertThat(seatLayout.toIndex("A10", 100)).isEqualTo(9);
+		assertThat(seatLayout.toIndex("b3", 100)).isEqualTo(12);
+		assertThat(seatLayout.toIndex("J10", 100)).isEqualTo(99);
+		assertThat(seatLayout.toIndex("AA1", 300)).isEqualTo(260);
+	}
+
+	@Test
+	void seatNumberRoundTrips() {
+		for (int seatIndex = 0; seatIndex < 1000; seatIndex++) {
+			assertThat(seatLayout.toIndex(seatLayout.toSeatNumber(seatIndex), 1000)).isEqualTo(seatIndex);
+		}
+	}
+
+	@Test
+	void rejectsMalformedSeatNumber() {
+		for (String seatNumber : new String[]{"", "A", "1", "A1B", "가1", "A1.5"}) {
+			assertThatThrownBy(() -> seatLayout.toIndex(seatNumber, 100))
+					.as(seatNumber)
+					.hasMessageStartingWith("잘못된 좌석 번호");
+		}
+	}
+
+	@Test
+	void rejectsSeatOutsideScreen() {
+		assertThatThrownBy(() -> seatLayout.toIndex("A0", 100)).hasMessageStartingWith("존재하지 않는 좌석");
+		assertThatThrownBy(() -> seatLayout.toIndex("A11", 100)).hasMessageStartingWith("존재하지 않는 좌석");
+		assertThatThrownBy(() -> seatLayout.toIndex("K1", 100)).hasMessageStartingWith("존재하지 않는 좌석");
+	}
+}
@@ -0,0 +1,183 @@
+package com.study.ticket.domain.screening.seat;
+
+import com.study.ticket.domain.screening.domain.entity.Screening;
+import com.study.ticket.domain.screening.domain.repository.ScreeningSeatRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 좌석 맵 엔진의 선점, 좌석 행 기록, 해제, 잔여 좌석 수 재계산을 검증합니다.
+ * 트랜잭션 없이 호출하므로 선점한 좌석은 자동으로 해제되지 않습니다.
+ */
+class SeatMapEngineTests {
+
+	private static final long SCREENING_ID = 1L;
+
+	private ScreeningSeatRepository screeningSeatRepository;
+	private JdbcTemplate jdbcTemplate;
+	private SeatMapEngine seatMapEngine;
+	private Screening screening;
+
+	@BeforeEach
+	void setUp() {
+		screeningSeatRepository = mock(ScreeningSeatRepository.class);
+		jdbcTemplate = mock(JdbcTemplate.class);
+		SeatLayout seatLayout = new SeatLayout();
+		ReflectionTestUtils.setField(seatLayout, "seatsPerRow", 10);
+
+		seatMapEngine = new SeatMapEngine(screeningSeatRepository, seatLayout, jdbcTemplate);
+		ReflectionTestUtils.setField(seatMapEngine, "refreshIntervalMillis", 60_000L);
+
+		screening = Screening.builder()
+				.id(SCREENING_ID)
+				.totalSeats(100)
+				.availableSeats(100)
+				.price(10000)
+				.build();
+	}
+
+	@Test
+	void reserveRejectsSeatsAlreadyInSeatTable() {
+		given(screeningSeatRepository.findSeatNumbersByScreeningId(SCREENING_ID)).willReturn(List.of("A1"));
+
+		assertThatThrownBy(() -> seatMapEngine.reserve(screening, List.of("A1", "A2")))
+				.hasMessageStartingWith("좌석 예약 불가");
+
+		SeatReservation reservation = seatMapEngine.reserve(screening, List.of("A2"));
+		assertThat(reservation.getSeatNumbers()).containsExactly("A2");
+		assertThat(seatMapEngine.getAvailableSeats(screening)).isEqualTo(98);
+	}
+
+	@Test
+	void reserveRejectsDuplicatedSeatNumbers() {
+		given(screeningSeatRepository.findSeatNumbersByScreeningId(SCREENING_ID)).willReturn(List.of());
+
+		assertThatThrownBy(() -> seatMapEngine.reserve(screening, List.of("A1", "a1")))
+				.hasMessageStartingWith("좌석 예약 불가: 중복된 좌석");
+		assertThat(seatMapEngine.getAvailableSeats(screening)).isEqualTo(100);
+	}
+
+	@Test
+	void reserveDoesNotReloadFreshSeatMap() {
+		given(screeningSeatRepository.findSeatNumbersByScreeningId(SCREENING_ID)).willReturn(List.of());
+		seatMapEngine.reserve(screening, List.of("A1"));
+
+		assertThatThrownBy(() -> seatMapEngine.reserve(screening, List.of("A1")))
+				.hasMessageStartingWith("좌석 예약 불가");
+
+		verify(screeningSeatRepository, times(1)).findSeatNumbersByScreeningId(SCREENING_ID);
+	}
+
+	@Test
+	void reserveReloadsStaleSeatMapOnConflict() {
+		ReflectionTestUtils.setField(seatMapEngine, "refreshIntervalMillis", 0L);
+		// 처음 불러올 때는 예약된 좌석이었지만 이후 다른 인스턴스가 해제
+		given(screeningSeatRepository.findSeatNumbersByScreeningId(SCREENING_ID))
+				.willReturn(List.of("A1"))
+				.willReturn(List.of());
+		assertThat(seatMapEngine.getAvailableSeats(screening)).isEqualTo(99);
+
+		SeatReservation reservation = seatMapEngine.reserve(screening, List.of("A1"));
+
+		assertThat(reservation.getSeatNumbers()).containsExactly("A1");
+		assertThat(seatMapEngine.getAvailableSeats(screening)).isEqualTo(99);
+		verify(screeningSeatRepository, times(2)).findSeatNumbersByScreeningId(SCREENING_ID);
+	}
+
+	@Test
+	void confirmInsertsSeatRowsForOrder() {
+		given(screeningSeatRepository.findSeatNumbersByScreeningId(SCREENING_ID)).willReturn(List.of());
+		SeatReservation reservation = seatMapEngine.reserve(screening, List.of("A1", "A2"));
+
+		seatMapEngine.confirm(reservation, 10L);
+
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<Object[]>> args = ArgumentCaptor.forClass(List.class);
+		verify(jdbcTemplate).batchUpdate(startsWith("INSERT INTO SCREENING_SEATS"), args.capture());
+		assertThat(reservation.getOrderId()).isEqualTo(10L);
+		assertThat(args.getValue()).hasSize(2);
+		assertThat(args.getValue().get(0)).startsWith(SCREENING_ID, "A1", 10L);
+		assertThat(args.getValue().get(1)).startsWith(SCREENING_ID, "A2", 10L);
+	}
+
+	@Test
+	void confirmTurnsUniqueKeyViolationIntoSeatTakenAndReloadsSeatMap() {
+		// 이 인스턴스는 모르는, 다른 인스턴스가 먼저 기록한 좌석
+		given(screeningSeatRepository.findSeatNumbersByScreeningId(SCREENING_ID))
+				.willReturn(List.of())
+				.willReturn(List.of("A1"));
+		given(jdbcTemplate.batchUpdate(startsWith("INSERT INTO SCREENING_SEATS"), ArgumentMatchers.<Object[]>anyList()))
+				.willThrow(new DuplicateKeyException("Duplicate entry '1-A1'"));
+		SeatReservation reservation = seatMapEngine.reserve(screening, List.of("A1"));
+
+		assertThatThrownBy(() -> seatMapEngine.confirm(reservation, 10L))
+				.hasMessageStartingWith("좌석 예약 불가");
+
+		assertThatThrownBy(() -> seatMapEngine.reserve(screening, List.of("A1")))
+				.hasMessageStartingWith("좌석 예약 불가");
+		verify(screeningSeatRepository, times(2)).findSeatNumbersByScreeningId(SCREENING_ID);
+	}
+
+	@Test
+	void releaseDeletesSeatRowsAndFreesSeatMap() {
+		given(screeningSeatRepository.findSeatNumbersByScreeningId(SCREENING_ID)).willReturn(List.of());
+		SeatReservation reservation = seatMapEngine.reserve(screening, List.of("A1", "A2"));
+		seatMapEngine.confirm(reservation, 10L);
+
+		seatMapEngine.release(screening, 10L, List.of("A1", "A2"));
+
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<Object[]>> args = ArgumentCaptor.forClass(List.class);
+		verify(jdbcTemplate).batchUpdate(startsWith("DELETE FROM SCREENING_SEATS"), args.capture());
+		assertThat(args.getValue()).hasSize(2);
+		assertThat(args.getValue().get(0)).containsExactly(SCREENING_ID, "A1", 10L);
+		assertThat(seatMapEngine.getAvailableSeats(screening)).isEqualTo(100);
+		seatMapEngine.reserve(screening, List.of("A1"));
+	}
+
+	@Test
+	void flushRecountsAvailableSeatsOfChangedScreenings() {
+		given(screeningSeatRepository.findSeatNumbersByScreeningId(SCREENING_ID)).willReturn(List.of());
+		seatMapEngine.release(screening, 10L, List.of("A1"));
+
+		seatMapEngine.flush();
+		seatMapEngine.flush();
+
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<Object[]>> args = ArgumentCaptor.forClass(List.class);
+		verify(jdbcTemplate, times(1)).batchUpdate(contains("COUNT(*)"), args.capture());
+		assertThat(args.getValue()).hasSize(1);
+		assertThat(args.getValue().get(0)[0]).isEqualTo(SCREENING_ID);
+		assertThat(args.getValue().get(0)[2]).isEqualTo(SCREENING_ID);
+	}
+
+	@Test
+	void flushRetriesAfterFailure() {
+		seatMapEngine.release(screening, 10L, List.of("A1"));
+		given(jdbcTemplate.batchUpdate(contains("COUNT(*)"), ArgumentMatchers.<Object[]>anyList()))
+				.willThrow(new IllegalStateException("connection closed"))
+				.willReturn(new int[]{1});
+
+		seatMapEngine.flush();
+		seatMapEngine.flush();
+		seatMapEngine.flush();
+
+		verify(jdbcTemplate, times(2)).batchUpdate(contains("COUNT(*)"), ArgumentMatchers.<Object[]>anyList());
+	}
+}
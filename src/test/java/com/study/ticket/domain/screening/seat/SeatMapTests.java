@@ -0,0 +1,90 @@
+package com.study.ticket.domain.screening.seat;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 좌석 맵의 선점/해제와 잔여 좌석 수를 검증합니다.
+ */
+class SeatMapTests {
+
+	@Test
+	void claimAndReleaseUpdateAvailableSeats() {
+		SeatMap seatMap = new SeatMap(100);
+
+		assertThat(seatMap.claim(new int[]{0, 1, 63, 64, 99})).isTrue();
+		assertThat(seatMap.getAvailableSeats()).isEqualTo(95);
+		assertThat(seatMap.isReserved(63)).isTrue();
+		assertThat(seatMap.isReserved(64)).isTrue();
+		assertThat(seatMap.isReserved(2)).isFalse();
+
+		seatMap.release(new int[]{1, 64});
+		assertThat(seatMap.getAvailableSeats()).isEqualTo(97);
+		assertThat(seatMap.isReserved(1)).isFalse();
+		assertThat(seatMap.isReserved(64)).isFalse();
+	}
+
+	@Test
+	void claimRollsBackWhenAnySeatIsTaken() {
+		SeatMap seatMap = new SeatMap(100);
+		assertThat(seatMap.claim(new int[]{5})).isTrue();
+
+		assertThat(seatMap.claim(new int[]{3, 4, 5, 6})).isFalse();
+
+		assertThat(seatMap.isReserved(3)).isFalse();
+		assertThat(seatMap.isReserved(4)).isFalse();
+		assertThat(seatMap.isReserved(6)).isFalse();
+		assertThat(seatMap.getAvailableSeats()).isEqualTo(99);
+	}
+
+	@Test
+	void releasingFreeSeatDoesNotChangeAvailableSeats() {
+		SeatMap seatMap = new SeatMap(10);
+		assertThat(seatMap.claim(new int[]{1})).isTrue();
+
+		seatMap.release(new int[]{1, 2});
+		seatMap.release(new int[]{1});
+
+		assertThat(seatMap.getAvailableSeats()).isEqualTo(10);
+	}
+
+	@Test
+	void concurrentClaimsOfSameSeatSucceedOnce() throws Exception {
+		int threadCount = 16;
+		SeatMap seatMap = new SeatMap(128);
+		CountDownLatch start = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+		try {
+			List<Future<Boolean>> results = new ArrayList<>();
+			for (int i = 0; i < threadCount; i++) {
+				// 모든 요청이 62~65번 좌석을 겹쳐서 선점 (두 워드에 걸친 좌석)
+				Callable<Boolean> claim = () -> {
+					start.await();
+					return seatMap.claim(new int[]{62, 63, 64, 65});
+				};
+				results.add(executor.submit(claim));
+			}
+			start.countDown();
+
+			int succeeded = 0;
+			for (Future<Boolean> result : results) {
+				if (result.get()) {
+					succeeded++;
+				}
+			}
+			assertThat(succeeded).isEqualTo(1);
+			assertThat(seatMap.getAvailableSeats()).isEqualTo(124);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+}
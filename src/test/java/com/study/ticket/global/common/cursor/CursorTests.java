@@ -0,0 +1,61 @@
+package com.study.ticket.global.common.cursor;
+
+import com.study.ticket.global.error.CustomException;
+import com.study.ticket.global.error.ErrorCode;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 커서 토큰 인코딩/디코딩을 검증합니다.
+ */
+class CursorTests {
+
+	@Test
+	void roundTripsCursor() {
+		Cursor cursor = new Cursor(LocalDateTime.of(2026, 3, 1, 12, 30, 15, 123_000_000), 42L);
+
+		assertThat(Cursor.decode(cursor.encode())).isEqualTo(cursor);
+	}
+
+	@Test
+	void roundTripsCursorWithoutCreatedAt() {
+		Cursor cursor = new Cursor(null, 42L);
+
+		assertThat(Cursor.decode(cursor.encode())).isEqualTo(cursor);
+	}
+
+	@Test
+	void decodesPreviouslyIssuedNullCreatedAtToken() {
+		String token = Base64.getUrlEncoder().withoutPadding().encodeToString("null_42".getBytes(StandardCharsets.UTF_8));
+
+		assertThat(Cursor.decode(token)).isEqualTo(new Cursor(null, 42L));
+	}
+
+	@Test
+	void blankTokenMeansFirstPage() {
+		assertThat(Cursor.decode(null)).isNull();
+		assertThat(Cursor.decode(" ")).isNull();
+	}
+
+	@Test
+	void malformedTokenIsBadRequest() {
+		String noSeparator = Base64.getUrlEncoder().withoutPadding().encodeToString("42".getBytes(StandardCharsets.UTF_8));
+		String badDate = Base64.getUrlEncoder().withoutPadding().encodeToString("yesterday_42".getBytes(StandardCharsets.UTF_8));
+
+		for (String token : new String[]{"%%%", noSeparator, badDate}) {
+			assertThatThrownBy(() -> Cursor.decode(token))
+					.as(token)
+					.isInstanceOfSatisfying(CustomException.class, e -> {
+						assertThat(e.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST);
+						assertThat(e.getErrorCode()).isEqualTo(ErrorCode.INVALID_CURSOR);
+					});
+		}
+	}
+}
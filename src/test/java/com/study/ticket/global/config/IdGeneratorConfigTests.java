@@ -0,0 +1,53 @@
+package com.study.ticket.global.config;
+
+import com.study.ticket.global.id.IdGeneratorType;
+import com.study.ticket.global.id.SnowflakeIdGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Snowflake 노드 ID 미설정 시 로컬/테스트 프로필에서만 계산 값을 허용하고 그 외 프로필에서는 기동에 실패하는지 검증합니다.
+ */
+class IdGeneratorConfigTests {
+
+	private IdGeneratorConfig idGeneratorConfig;
+
+	@BeforeEach
+	void setUp() {
+		idGeneratorConfig = new IdGeneratorConfig();
+		ReflectionTestUtils.setField(idGeneratorConfig, "type", IdGeneratorType.SNOWFLAKE);
+		ReflectionTestUtils.setField(idGeneratorConfig, "nodeId", -1L);
+	}
+
+	@Test
+	void missingNodeIdFailsStartupOutsideLocalProfiles() {
+		MockEnvironment environment = new MockEnvironment();
+		environment.setActiveProfiles("prod");
+
+		assertThatThrownBy(() -> idGeneratorConfig.idGenerator(environment))
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessageContaining("id.generator.node-id");
+	}
+
+	@Test
+	void configuredNodeIdIsUsedInAnyProfile() {
+		MockEnvironment environment = new MockEnvironment();
+		environment.setActiveProfiles("prod");
+		ReflectionTestUtils.setField(idGeneratorConfig, "nodeId", 7L);
+
+		assertThat(idGeneratorConfig.idGenerator(environment)).isInstanceOf(SnowflakeIdGenerator.class);
+	}
+
+	@Test
+	void missingNodeIdIsDerivedInLocalProfile() {
+		MockEnvironment environment = new MockEnvironment();
+		environment.setActiveProfiles("local");
+
+		assertThat(idGeneratorConfig.idGenerator(environment)).isInstanceOf(SnowflakeIdGenerator.class);
+	}
+}
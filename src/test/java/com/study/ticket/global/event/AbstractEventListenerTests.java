@@ -0,0 +1,89 @@
+package com.study.ticket.global.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.ticket.domain.event.service.ProcessedEventService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 처리에 실패한 레코드를 정해진 횟수만큼 nack으로 다시 수신한 뒤 에러 핸들러에 넘기는지 검증합니다.
+ */
+class AbstractEventListenerTests {
+
+	private static final List<String> PAYLOADS = List.of("{\"eventKey\":\"a\"}", "{\"eventKey\":\"b\"}", "{\"eventKey\":\"c\"}");
+
+	private AbstractEventListener listener;
+	private Acknowledgment acknowledgment;
+
+	@BeforeEach
+	void setUp() {
+		listener = new AbstractEventListener(mock(ProcessedEventService.class), new ObjectMapper()) {
+			@Override
+			protected <T extends Event> void handleEvent(T event) {
+			}
+		};
+		acknowledgment = mock(Acknowledgment.class);
+	}
+
+	@Test
+	void acknowledgesBatchWithoutFailure() {
+		listener.acknowledge(acknowledgment, PAYLOADS, -1);
+
+		verify(acknowledgment).acknowledge();
+		verify(acknowledgment, never()).nack(anyInt(), any(Duration.class));
+	}
+
+	@Test
+	void nacksFailedRecordUntilAttemptsExhaustedThenThrowsWithIndex() {
+		for (int attempt = 1; attempt < AbstractEventListener.MAX_NACK_ATTEMPTS; attempt++) {
+			listener.acknowledge(acknowledgment, PAYLOADS, 1);
+		}
+		verify(acknowledgment, times(AbstractEventListener.MAX_NACK_ATTEMPTS - 1)).nack(1, AbstractEventListener.NACK_SLEEP);
+
+		assertThatThrownBy(() -> listener.acknowledge(acknowledgment, PAYLOADS, 1))
+				.isInstanceOfSatisfying(BatchListenerFailedException.class,
+						e -> assertThat(e.getIndex()).isEqualTo(1));
+
+		// 에러 핸들러가 다시 보낸 레코드도 바로 넘겨 백오프와 DLT 전송이 적용되게 함
+		assertThatThrownBy(() -> listener.acknowledge(acknowledgment, PAYLOADS.subList(1, 3), 0))
+				.isInstanceOf(BatchListenerFailedException.class);
+	}
+
+	@Test
+	void countsAttemptsPerRecord() {
+		for (int attempt = 1; attempt < AbstractEventListener.MAX_NACK_ATTEMPTS; attempt++) {
+			listener.acknowledge(acknowledgment, PAYLOADS, 1);
+		}
+
+		// 다른 레코드의 실패는 따로 센다
+		listener.acknowledge(acknowledgment, PAYLOADS, 2);
+
+		verify(acknowledgment).nack(2, AbstractEventListener.NACK_SLEEP);
+	}
+
+	@Test
+	void successfulRedeliveryResetsAttempts() {
+		for (int attempt = 1; attempt < AbstractEventListener.MAX_NACK_ATTEMPTS; attempt++) {
+			listener.acknowledge(acknowledgment, PAYLOADS, 1);
+		}
+		listener.acknowledge(acknowledgment, PAYLOADS, -1);
+
+		listener.acknowledge(acknowledgment, PAYLOADS, 1);
+
+		verify(acknowledgment, times(AbstractEventListener.MAX_NACK_ATTEMPTS)).nack(1, AbstractEventListener.NACK_SLEEP);
+	}
+}
@@ -0,0 +1,124 @@
+package com.study.ticket.global.event;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 키 순서 보장 병렬 실행기의 레인 배정 순서와 실패 인덱스 선택을 검증합니다.
+ */
+class KeyOrderedEventExecutorTests {
+
+	private static final int PARALLELISM = 4;
+
+	private KeyOrderedEventExecutor executor;
+
+	@BeforeEach
+	void setUp() {
+		executor = new KeyOrderedEventExecutor();
+		ReflectionTestUtils.setField(executor, "parallelism", PARALLELISM);
+		executor.init();
+	}
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdown();
+	}
+
+	@Test
+	void recordsWithSameKeyAreProcessedInOrderOnOneLane() throws Exception {
+		List<String> keys = new ArrayList<>();
+		for (int i = 0; i < 200; i++) {
+			keys.add("order-" + (i % 13));
+		}
+		List<List<Integer>> laneCalls = Collections.synchronizedList(new ArrayList<>());
+		List<Integer> processed = Collections.synchronizedList(new ArrayList<>());
+
+		int failedIndex = executor.execute(keys, recordIndexes -> {
+			laneCalls.add(recordIndexes);
+			processed.addAll(recordIndexes);
+			return -1;
+		});
+
+		assertThat(failedIndex).isEqualTo(-1);
+		assertThat(laneCalls).hasSizeGreaterThan(1).hasSizeLessThanOrEqualTo(PARALLELISM);
+		assertThat(processed).hasSize(keys.size()).doesNotHaveDuplicates();
+
+		// 같은 키의 레코드는 모두 한 레인에 수신 순서대로 배정
+		Map<String, Integer> laneOfKey = new HashMap<>();
+		for (int lane = 0; lane < laneCalls.size(); lane++) {
+			List<Integer> recordIndexes = laneCalls.get(lane);
+			assertThat(recordIndexes).isSorted();
+			for (int recordIndex : recordIndexes) {
+				Integer previousLane = laneOfKey.putIfAbsent(keys.get(recordIndex), lane);
+				assertThat(previousLane == null || previousLane == lane).isTrue();
+			}
+		}
+	}
+
+	@Test
+	void returnsSmallestFailedIndexAcrossLanes() throws Exception {
+		List<String> keys = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			keys.add("order-" + (i % 10));
+		}
+		Set<Integer> failingIndexes = Set.of(57, 23, 91);
+
+		int failedIndex = executor.execute(keys, recordIndexes -> {
+			for (int recordIndex : recordIndexes) {
+				if (failingIndexes.contains(recordIndex)) {
+					return recordIndex;
+				}
+			}
+			return -1;
+		});
+
+		assertThat(failedIndex).isEqualTo(23);
+	}
+
+	@Test
+	void laneExceptionFailsFromFirstRecordOfLane() throws Exception {
+		List<String> keys = List.of("a", "b", "c", "d", "a", "b", "c", "d");
+		int throwingLaneFirstIndex = 2;
+
+		int failedIndex = executor.execute(keys, recordIndexes -> {
+			if (recordIndexes.contains(throwingLaneFirstIndex)) {
+				throw new IllegalStateException("lane failure");
+			}
+			return -1;
+		});
+
+		// 키 "c"의 레인(2번, 6번 레코드)이 예외를 던지면 그 레인의 첫 레코드부터 다시 수신
+		assertThat(failedIndex).isEqualTo(throwingLaneFirstIndex);
+	}
+
+	@Test
+	void singleLaneRunsOnCallingThread() throws Exception {
+		Thread caller = Thread.currentThread();
+		List<Thread> laneThreads = new ArrayList<>();
+
+		int failedIndex = executor.execute(List.of("order-1", "order-1", "order-1"), recordIndexes -> {
+			laneThreads.add(Thread.currentThread());
+			assertThat(recordIndexes).containsExactly(0, 1, 2);
+			return 1;
+		});
+
+		assertThat(failedIndex).isEqualTo(1);
+		assertThat(laneThreads).containsExactly(caller);
+	}
+
+	@Test
+	void emptyBatchHasNoFailure() throws Exception {
+		assertThat(executor.execute(List.of(), recordIndexes -> 0)).isEqualTo(-1);
+	}
+}
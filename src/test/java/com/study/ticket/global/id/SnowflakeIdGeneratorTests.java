@@ -0,0 +1,113 @@
+package com.study.ticket.global.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Snowflake ID 생성기의 단조 증가, 순번 넘침, 시계 역행, 키 인코딩 순서를 고정 시계로 검증합니다.
+ */
+class SnowflakeIdGeneratorTests {
+
+	private static final long EPOCH_MILLIS = Instant.parse("2025-01-01T00:00:00Z").toEpochMilli();
+	private static final long NODE_ID = 5;
+	private static final int SEQUENCE_PER_MILLIS = 4096;
+
+	private final AtomicLong currentTimeMillis = new AtomicLong(EPOCH_MILLIS + 1_000);
+	private final SnowflakeIdGenerator generator = new SnowflakeIdGenerator(NODE_ID, currentTimeMillis::get);
+
+	@Test
+	void idsInSameMillisecondIncreaseBySequence() {
+		long first = generator.nextId();
+		long second = generator.nextId();
+
+		assertThat(timestamp(first)).isEqualTo(1_000);
+		assertThat(sequence(first)).isZero();
+		assertThat(sequence(second)).isEqualTo(1);
+		assertThat(nodeId(first)).isEqualTo(NODE_ID);
+		assertThat(second).isGreaterThan(first);
+	}
+
+	@Test
+	void sequenceOverflowContinuesInNextMillisecond() {
+		long last = 0;
+		for (int i = 0; i < SEQUENCE_PER_MILLIS; i++) {
+			long id = generator.nextId();
+			assertThat(id).isGreaterThan(last);
+			last = id;
+		}
+		assertThat(sequence(last)).isEqualTo(SEQUENCE_PER_MILLIS - 1);
+
+		// 같은 밀리초에 4096개를 넘기면 대기하지 않고 다음 밀리초의 순번을 미리 사용
+		long overflowed = generator.nextId();
+		assertThat(timestamp(overflowed)).isEqualTo(1_001);
+		assertThat(sequence(overflowed)).isZero();
+		assertThat(nodeId(overflowed)).isEqualTo(NODE_ID);
+
+		// 시계가 따라와도 이미 사용한 순번을 다시 발급하지 않음
+		currentTimeMillis.incrementAndGet();
+		long next = generator.nextId();
+		assertThat(timestamp(next)).isEqualTo(1_001);
+		assertThat(sequence(next)).isEqualTo(1);
+	}
+
+	@Test
+	void clockGoingBackwardsStaysMonotonic() {
+		long before = generator.nextId();
+
+		currentTimeMillis.addAndGet(-500);
+		long after = generator.nextId();
+
+		assertThat(after).isEqualTo(before + 1);
+	}
+
+	@Test
+	void newMillisecondRestartsSequence() {
+		generator.nextId();
+		generator.nextId();
+
+		currentTimeMillis.addAndGet(3);
+		long id = generator.nextId();
+
+		assertThat(timestamp(id)).isEqualTo(1_003);
+		assertThat(sequence(id)).isZero();
+	}
+
+	@Test
+	void keysSortInIdOrder() {
+		String previousKey = "";
+		for (int i = 0; i < 10_000; i++) {
+			if (i % 1_000 == 0) {
+				currentTimeMillis.addAndGet(1);
+			}
+			String key = generator.nextKey();
+			assertThat(key).hasSize(13);
+			assertThat(key).isGreaterThan(previousKey);
+			previousKey = key;
+		}
+	}
+
+	@Test
+	void nodeIdOutOfRangeIsRejected() {
+		assertThatThrownBy(() -> new SnowflakeIdGenerator(SnowflakeIdGenerator.MAX_NODE_ID + 1))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> new SnowflakeIdGenerator(-1))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private static long timestamp(long id) {
+		return id >>> 22;
+	}
+
+	private static long nodeId(long id) {
+		return (id >>> 12) & SnowflakeIdGenerator.MAX_NODE_ID;
+	}
+
+	private static long sequence(long id) {
+		return id & (SEQUENCE_PER_MILLIS - 1);
+	}
+}
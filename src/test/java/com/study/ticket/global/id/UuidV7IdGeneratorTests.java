@@ -0,0 +1,85 @@
+package com.study.ticket.global.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * UUID 버전 7 생성기의 형식, 단조 증가, 순번 넘침, 시계 역행을 고정 시계로 검증합니다.
+ */
+class UuidV7IdGeneratorTests {
+
+	private static final long NOW_MILLIS = 1_767_225_600_000L;
+	private static final int SEQUENCE_PER_MILLIS = 4096;
+
+	private final AtomicLong currentTimeMillis = new AtomicLong(NOW_MILLIS);
+	private final UuidV7IdGenerator generator = new UuidV7IdGenerator(currentTimeMillis::get);
+
+	@Test
+	void uuidHasVersion7LayoutWithUnixTimestamp() {
+		UUID uuid = generator.nextUuid();
+
+		assertThat(uuid.version()).isEqualTo(7);
+		assertThat(uuid.variant()).isEqualTo(2);
+		assertThat(timestamp(uuid)).isEqualTo(NOW_MILLIS);
+		assertThat(sequence(uuid)).isZero();
+		assertThat(UUID.fromString(generator.nextKey()).version()).isEqualTo(7);
+	}
+
+	@Test
+	void sequenceOverflowContinuesInNextMillisecond() {
+		UUID last = generator.nextUuid();
+		for (int i = 1; i < SEQUENCE_PER_MILLIS; i++) {
+			UUID uuid = generator.nextUuid();
+			assertThat(Long.compareUnsigned(uuid.getMostSignificantBits(), last.getMostSignificantBits())).isPositive();
+			last = uuid;
+		}
+		assertThat(sequence(last)).isEqualTo(SEQUENCE_PER_MILLIS - 1);
+
+		UUID overflowed = generator.nextUuid();
+		assertThat(timestamp(overflowed)).isEqualTo(NOW_MILLIS + 1);
+		assertThat(sequence(overflowed)).isZero();
+		assertThat(overflowed.version()).isEqualTo(7);
+
+		// 시계가 따라와도 이미 사용한 순번을 다시 발급하지 않음
+		currentTimeMillis.incrementAndGet();
+		UUID next = generator.nextUuid();
+		assertThat(timestamp(next)).isEqualTo(NOW_MILLIS + 1);
+		assertThat(sequence(next)).isEqualTo(1);
+	}
+
+	@Test
+	void clockGoingBackwardsStaysMonotonic() {
+		UUID before = generator.nextUuid();
+
+		currentTimeMillis.addAndGet(-500);
+		UUID after = generator.nextUuid();
+
+		assertThat(timestamp(after)).isEqualTo(NOW_MILLIS);
+		assertThat(sequence(after)).isEqualTo(sequence(before) + 1);
+	}
+
+	@Test
+	void stringKeysSortInGenerationOrder() {
+		String previousKey = "";
+		for (int i = 0; i < 10_000; i++) {
+			if (i % 1_000 == 0) {
+				currentTimeMillis.addAndGet(1);
+			}
+			String key = generator.nextKey();
+			assertThat(key).isGreaterThan(previousKey);
+			previousKey = key;
+		}
+	}
+
+	private static long timestamp(UUID uuid) {
+		return uuid.getMostSignificantBits() >>> 16;
+	}
+
+	private static long sequence(UUID uuid) {
+		return uuid.getMostSignificantBits() & (SEQUENCE_PER_MILLIS - 1);
+	}
+}